@@ -155,6 +155,16 @@ class AssetLoadingTask implements AsyncTask<Void> {
 	public void unload () {
 		if (loader instanceof AsynchronousAssetLoader)
 			((AsynchronousAssetLoader)loader).unloadAsync(manager, assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
+		else if (dependenciesLoaded)
+			((SynchronousAssetLoader)loader).unload(manager, assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
+	}
+
+	/** Cancels this task because it or one of its dependencies failed to load. Does nothing if it is already cancelled. */
+	void failed () {
+		if (cancel) return;
+		cancel = true;
+		if (loader instanceof SynchronousAssetLoader && dependenciesLoaded)
+			((SynchronousAssetLoader)loader).unload(manager, assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
 	}
 
 	private FileHandle resolve (AssetLoader loader, AssetDescriptor assetDesc) {
@@ -28,12 +28,16 @@ import java.nio.ShortBuffer;
 
 import com.badlogic.gdx.math.Matrix3;
 import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
 import com.google.gwt.core.client.GWT;
 
 /** Class with static helper methods to increase the speed of array/direct buffer and direct buffer/direct buffer transfers
  * 
  * @author mzechner */
 public final class BufferUtils {
+	/** Unused on GWT, ranges are always transformed on the calling thread. */
+	static public int transformChunkSize = 8192;
+
 	/** Copies numFloats floats from src starting at offset to dst. Dst is assumed to be a direct {@link Buffer}. The method will
 	 * crash if that is not the case. The position and limit of the buffer are ignored, the copy is placed at position 0 in the
 	 * buffer. After the copying process the position of the buffer is set to 0 and its limit is set to numFloats * 4 if it is a
@@ -418,6 +422,76 @@ public final class BufferUtils {
 		buffer.position(pos);
 	}
 
+	/** Multiplies the float vectors in multiple ranges of the buffer with the specified matrix. The {@link Buffer#position()} is
+	 * added to the offset of each range. On GWT all ranges are transformed on the calling thread, the executor is ignored.
+	 * @param ranges Pairs of the offset in bytes to the first vector of a range and the number of vectors in the range.
+	 * @param executor Ignored. */
+	public static void transform (Buffer data, int dimensions, int strideInBytes, int[] ranges, int rangeCount, Matrix4 matrix,
+		@Null AsyncExecutor executor) {
+		FloatBuffer buffer = asFloatBuffer(data);
+		final int pos = buffer.position();
+		float[] arr = asFloatArray(buffer);
+		transform(arr, dimensions, strideInBytes, ranges, rangeCount, matrix, executor);
+		buffer.put(arr);
+		buffer.position(pos);
+	}
+
+	/** Multiplies the float vectors in multiple ranges of the array with the specified matrix on the calling thread.
+	 * @see #transform(Buffer, int, int, int[], int, Matrix4, AsyncExecutor) */
+	public static void transform (float[] data, int dimensions, int strideInBytes, int[] ranges, int rangeCount, Matrix4 matrix,
+		@Null AsyncExecutor executor) {
+		if (dimensions < 2 || dimensions > 4) throw new IllegalArgumentException();
+		int stride = strideInBytes / 4;
+		float[] m = matrix.val;
+		for (int r = 0, n = rangeCount << 1; r < n; r += 2) {
+			for (int i = 0, idx = ranges[r] / 4, count = ranges[r + 1]; i < count; i++, idx += stride) {
+				final float x = data[idx];
+				final float y = data[idx + 1];
+				final float z = dimensions >= 3 ? data[idx + 2] : 0f;
+				final float w = dimensions >= 4 ? data[idx + 3] : 1f;
+				data[idx] = x * m[0] + y * m[4] + z * m[8] + w * m[12];
+				data[idx + 1] = x * m[1] + y * m[5] + z * m[9] + w * m[13];
+				if (dimensions >= 3) {
+					data[idx + 2] = x * m[2] + y * m[6] + z * m[10] + w * m[14];
+					if (dimensions >= 4) data[idx + 3] = x * m[3] + y * m[7] + z * m[11] + w * m[15];
+				}
+			}
+		}
+	}
+
+	/** Multiplies the float vectors in multiple ranges of the buffer with the specified matrix on the calling thread.
+	 * @param dimensions The number of components (x, y, z) of the vector (2 for xy or 3 for xyz)
+	 * @see #transform(Buffer, int, int, int[], int, Matrix4, AsyncExecutor) */
+	public static void transform (Buffer data, int dimensions, int strideInBytes, int[] ranges, int rangeCount, Matrix3 matrix,
+		@Null AsyncExecutor executor) {
+		FloatBuffer buffer = asFloatBuffer(data);
+		final int pos = buffer.position();
+		float[] arr = asFloatArray(buffer);
+		transform(arr, dimensions, strideInBytes, ranges, rangeCount, matrix, executor);
+		buffer.put(arr);
+		buffer.position(pos);
+	}
+
+	/** Multiplies the float vectors in multiple ranges of the array with the specified matrix on the calling thread.
+	 * @param dimensions The number of components (x, y, z) of the vector (2 for xy or 3 for xyz)
+	 * @see #transform(Buffer, int, int, int[], int, Matrix4, AsyncExecutor) */
+	public static void transform (float[] data, int dimensions, int strideInBytes, int[] ranges, int rangeCount, Matrix3 matrix,
+		@Null AsyncExecutor executor) {
+		if (dimensions < 2 || dimensions > 3) throw new IllegalArgumentException();
+		int stride = strideInBytes / 4;
+		float[] m = matrix.val;
+		for (int r = 0, n = rangeCount << 1; r < n; r += 2) {
+			for (int i = 0, idx = ranges[r] / 4, count = ranges[r + 1]; i < count; i++, idx += stride) {
+				final float x = data[idx];
+				final float y = data[idx + 1];
+				final float z = dimensions >= 3 ? data[idx + 2] : 1f;
+				data[idx] = x * m[0] + y * m[3] + z * m[6];
+				data[idx + 1] = x * m[1] + y * m[4] + z * m[7];
+				if (dimensions >= 3) data[idx + 2] = x * m[2] + y * m[5] + z * m[8];
+			}
+		}
+	}
+
 	public static long findFloats (Buffer vertex, int strideInBytes, Buffer vertices, int numVertices) {
 		return findFloats(asFloatArray(asFloatBuffer(vertex)), strideInBytes, asFloatArray(asFloatBuffer(vertices)), numVertices);
 	}
@@ -52,4 +52,31 @@ public final class NumberUtils {
 	public static double longBitsToDouble (long value) {
 		return Numbers.longBitsToDouble(value);
 	}
+
+	/** Converts the float to the bits of an IEEE 754 half precision float, rounding to the nearest half float and to even on
+	 * ties. Values too large for a half float become infinity and values too small become zero or subnormal. */
+	public static short floatToHalf (float value) {
+		int bits = Numbers.floatToIntBits(value);
+		int sign = bits >>> 16 & 0x8000, abs = bits & 0x7fffffff;
+		if (abs >= 0x7f800000) return (short)(sign | 0x7c00 | (abs > 0x7f800000 ? 0x200 : 0)); // Infinity or NaN.
+		if (abs >= 0x477ff000) return (short)(sign | 0x7c00); // Rounds past 65504, the largest half float.
+		if (abs >= 0x38800000) { // Normal.
+			int rebiased = abs - 0x38000000;
+			return (short)(sign | rebiased + 0xfff + (rebiased >>> 13 & 1) >>> 13);
+		}
+		if (abs <= 0x33000000) return (short)sign; // Rounds to zero.
+		int shift = 126 - (abs >>> 23), mantissa = abs & 0x7fffff | 0x800000;
+		int half = mantissa >>> shift, remainder = mantissa & (1 << shift) - 1, tie = 1 << shift - 1;
+		if (remainder > tie || (remainder == tie && (half & 1) != 0)) half++;
+		return (short)(sign | half);
+	}
+
+	/** Converts the bits of an IEEE 754 half precision float to a float, which is exact. */
+	public static float halfToFloat (short half) {
+		int sign = (half & 0x8000) << 16, exponent = half >>> 10 & 0x1f, mantissa = half & 0x3ff;
+		if (exponent == 0x1f) return Numbers.intBitsToFloat(sign | 0x7f800000 | mantissa << 13);
+		if (exponent != 0) return Numbers.intBitsToFloat(sign | exponent + 112 << 23 | mantissa << 13);
+		float subnormal = mantissa * 5.9604645e-8f; // 2^-24
+		return sign == 0 ? subnormal : -subnormal;
+	}
 }
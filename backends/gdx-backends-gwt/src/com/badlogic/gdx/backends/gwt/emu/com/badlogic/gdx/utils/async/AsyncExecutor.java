@@ -22,14 +22,18 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
 /** GWT emulation of AsynchExecutor, will call tasks immediately :D
  * @author badlogic */
 public class AsyncExecutor implements Disposable {
+	private final int maxConcurrent;
+
 	/** Creates a new AsynchExecutor with the name "AsynchExecutor-Thread". */
 	public AsyncExecutor (int maxConcurrent) {
+		this.maxConcurrent = maxConcurrent;
 	}
 
 	/** Creates a new AsynchExecutor that allows maxConcurrent {@link Runnable} instances to run in parallel.
 	 * @param maxConcurrent
 	 * @param name The name of the threads. */
 	public AsyncExecutor (int maxConcurrent, String name) {
+		this.maxConcurrent = maxConcurrent;
 	}
 
 	/** Submits a {@link Runnable} to be executed asynchronously. If maxConcurrent runnables are already running, the runnable will
@@ -45,9 +49,28 @@ public class AsyncExecutor implements Disposable {
 		return new AsyncResult(result);
 	}
 
+	public int getMaxConcurrent () {
+		return maxConcurrent;
+	}
+
+	/** Always false, tasks are run on the calling thread when submitted. */
+	public boolean isExecutorThread () {
+		return false;
+	}
+
+	/** Runs the task for all indices on the calling thread. */
+	public void parallelFor (int count, int chunkSize, RangeTask task) {
+		if (count > 0) task.run(0, count);
+	}
+
 	/** Waits for running {@link AsyncTask} instances to finish, then destroys any resources like threads. Can not be used after
 	 * this method is called. */
 	@Override
 	public void dispose () {
 	}
+
+	/** A task run for ranges of indices by {@link AsyncExecutor#parallelFor(int, int, RangeTask)}. */
+	static public interface RangeTask {
+		public void run (int start, int end);
+	}
 }
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.json.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/** Generates a <code>Json.FieldAccessor</code> for each class annotated with <code>JsonAccessor</code>, so Json can get and set
+ * the class' fields without reflection. The accessor is plain Java source in the annotated class' package, so it works on every
+ * backend, including GWT, where it is compiled with the rest of the game's sources. Private, static, final and transient fields
+ * are left out, Json uses reflection for private and final fields and skips the others. */
+@SupportedAnnotationTypes(FieldAccessorProcessor.annotationName)
+public class FieldAccessorProcessor extends AbstractProcessor {
+	static final String annotationName = "com.badlogic.gdx.utils.JsonAccessor";
+	static final String accessorSuffix = "_FieldAccessor";
+
+	public SourceVersion getSupportedSourceVersion () {
+		return SourceVersion.latestSupported();
+	}
+
+	public boolean process (Set<? extends TypeElement> annotations, RoundEnvironment round) {
+		for (TypeElement annotation : annotations) {
+			for (Element element : round.getElementsAnnotatedWith(annotation)) {
+				if (element.getKind() != ElementKind.CLASS) {
+					error(element, "@JsonAccessor can only be used on classes.");
+					continue;
+				}
+				TypeElement type = (TypeElement)element;
+				if (!isAccessible(type)) {
+					error(type, "@JsonAccessor classes and their enclosing classes must not be private or local: " + type);
+					continue;
+				}
+				try {
+					write(type);
+				} catch (IOException ex) {
+					error(type, "Error writing field accessor for " + type + ": " + ex.getMessage());
+				}
+			}
+		}
+		return true;
+	}
+
+	/** Returns true if code in the class' package can refer to the class by name. */
+	private boolean isAccessible (TypeElement type) {
+		for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+			TypeElement enclosing = (TypeElement)element;
+			if (enclosing.getNestingKind() != NestingKind.TOP_LEVEL && enclosing.getNestingKind() != NestingKind.MEMBER)
+				return false;
+			if (enclosing.getModifiers().contains(Modifier.PRIVATE)) return false;
+		}
+		return true;
+	}
+
+	private void write (TypeElement type) throws IOException {
+		String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		String accessorName = accessorName(type);
+		String typeName = processingEnv.getTypeUtils().erasure(type.asType()).toString();
+
+		ArrayList<VariableElement> fields = new ArrayList();
+		for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+			Set<Modifier> modifiers = field.getModifiers();
+			if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)
+				|| modifiers.contains(Modifier.TRANSIENT)) continue;
+			fields.add(field);
+		}
+
+		StringBuilder buffer = new StringBuilder(1024);
+		buffer.append("// Generated by ").append(FieldAccessorProcessor.class.getName()).append(" for ").append(typeName)
+			.append(". Do not edit.\n");
+		if (!packageName.isEmpty()) buffer.append("package ").append(packageName).append(";\n");
+		buffer.append('\n');
+		buffer.append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n");
+		buffer.append("public final class ").append(accessorName).append(" implements com.badlogic.gdx.utils.Json.FieldAccessor<")
+			.append(typeName).append("> {\n");
+
+		buffer.append("\tstatic private final String[] names = {");
+		for (int i = 0, n = fields.size(); i < n; i++) {
+			if (i > 0) buffer.append(", ");
+			buffer.append('"').append(fields.get(i).getSimpleName()).append('"');
+		}
+		buffer.append("};\n\n");
+
+		buffer.append("\tpublic String[] getFieldNames () {\n");
+		buffer.append("\t\treturn names;\n");
+		buffer.append("\t}\n\n");
+
+		buffer.append("\tpublic Object get (").append(typeName).append(" object, int index) {\n");
+		buffer.append("\t\tswitch (index) {\n");
+		for (int i = 0, n = fields.size(); i < n; i++) {
+			buffer.append("\t\tcase ").append(i).append(":\n");
+			buffer.append("\t\t\treturn object.").append(fields.get(i).getSimpleName()).append(";\n");
+		}
+		buffer.append("\t\t}\n");
+		buffer.append("\t\tthrow new IndexOutOfBoundsException(String.valueOf(index));\n");
+		buffer.append("\t}\n\n");
+
+		buffer.append("\tpublic void set (").append(typeName).append(" object, int index, Object value) {\n");
+		buffer.append("\t\tswitch (index) {\n");
+		for (int i = 0, n = fields.size(); i < n; i++) {
+			VariableElement field = fields.get(i);
+			buffer.append("\t\tcase ").append(i).append(":\n");
+			buffer.append("\t\t\tobject.").append(field.getSimpleName()).append(" = (").append(castType(field.asType()))
+				.append(")value;\n");
+			buffer.append("\t\t\treturn;\n");
+		}
+		buffer.append("\t\t}\n");
+		buffer.append("\t\tthrow new IndexOutOfBoundsException(String.valueOf(index));\n");
+		buffer.append("\t}\n");
+		buffer.append("}\n");
+
+		String qualifiedName = packageName.isEmpty() ? accessorName : packageName + '.' + accessorName;
+		JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+		Writer writer = file.openWriter();
+		try {
+			writer.write(buffer.toString());
+		} finally {
+			writer.close();
+		}
+	}
+
+	/** Returns the type a value is cast to before it is assigned to a field of the specified type. Primitive values arrive
+	 * boxed. */
+	private String castType (TypeMirror type) {
+		if (type.getKind().isPrimitive())
+			return processingEnv.getTypeUtils().boxedClass((PrimitiveType)type).getQualifiedName().toString();
+		return processingEnv.getTypeUtils().erasure(type).toString();
+	}
+
+	/** Returns the simple name of the accessor, which includes the names of any enclosing classes. */
+	static String accessorName (TypeElement type) {
+		String name = type.getSimpleName().toString();
+		for (Element element = type.getEnclosingElement(); element instanceof TypeElement; element = element.getEnclosingElement())
+			name = element.getSimpleName() + "_" + name;
+		return name + accessorSuffix;
+	}
+
+	private void error (Element element, String message) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+}
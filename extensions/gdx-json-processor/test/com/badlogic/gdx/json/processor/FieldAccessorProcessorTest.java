@@ -0,0 +1,118 @@
+package com.badlogic.gdx.json.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.Json.FieldAccessor;
+
+/** Compiles annotated classes with {@link FieldAccessorProcessor} and checks Json reads and writes them the same with the
+ * generated accessors as with reflection. */
+public class FieldAccessorProcessorTest {
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	static private final String source = "package test;\n" //
+		+ "import com.badlogic.gdx.utils.Array;\n" //
+		+ "import com.badlogic.gdx.utils.JsonAccessor;\n" //
+		+ "@JsonAccessor\n" //
+		+ "public class Sample<T> extends Base {\n" //
+		+ "	public int i = 1;\n" //
+		+ "	protected float f = 2.5f;\n" //
+		+ "	long l = 3;\n" //
+		+ "	public boolean bool = true;\n" //
+		+ "	public char c = 'c';\n" //
+		+ "	public String string = \"s\";\n" //
+		+ "	public int[] ints = {4, 5};\n" //
+		+ "	public Array<String> strings = new Array();\n" //
+		+ "	public T generic;\n" //
+		+ "	private short hidden = 6;\n" //
+		+ "	public final byte constant = 7;\n" //
+		+ "	public transient int skipped = 8;\n" //
+		+ "	static public int shared = 9;\n" //
+		+ "	@JsonAccessor\n" //
+		+ "	static public class Inner {\n" //
+		+ "		public double d = 10;\n" //
+		+ "	}\n" //
+		+ "}\n" //
+		+ "class Base {\n" //
+		+ "	public String base = \"b\";\n" //
+		+ "}\n";
+
+	@Test
+	public void testGeneratedAccessors () throws Exception {
+		ClassLoader loader = compile();
+		Class sample = loader.loadClass("test.Sample");
+		FieldAccessor accessor = (FieldAccessor)loader.loadClass("test.Sample_FieldAccessor").newInstance();
+		Assert.assertEquals(Arrays.asList("i", "f", "l", "bool", "c", "string", "ints", "strings", "generic"),
+			Arrays.asList(accessor.getFieldNames()));
+		Assert.assertEquals(Arrays.asList("d"),
+			Arrays.asList(((FieldAccessor)loader.loadClass("test.Sample_Inner_FieldAccessor").newInstance()).getFieldNames()));
+
+		Object object = sample.newInstance();
+		Assert.assertEquals(1, accessor.get(object, 0));
+		accessor.set(object, 0, 11);
+		accessor.set(object, 2, 13L);
+		Assert.assertEquals(11, sample.getField("i").get(object));
+		Assert.assertEquals(13L, accessor.get(object, 2));
+
+		Json reflective = new Json();
+		reflective.setUsePrototypes(false);
+		Json generated = new Json();
+		generated.setUsePrototypes(false);
+		final FieldAccessor delegate = accessor;
+		final int[] calls = new int[1];
+		generated.setFieldAccessor(sample, new FieldAccessor() {
+			public String[] getFieldNames () {
+				return delegate.getFieldNames();
+			}
+
+			public Object get (Object object, int index) {
+				calls[0]++;
+				return delegate.get(object, index);
+			}
+
+			public void set (Object object, int index, Object value) {
+				calls[0]++;
+				delegate.set(object, index, value);
+			}
+		});
+		generated.setCacheFields(true);
+		sample.getField("generic").set(object, "g");
+		String json = reflective.toJson(object);
+		Assert.assertEquals(json, generated.toJson(object));
+		Assert.assertEquals(9, calls[0]);
+		Assert.assertTrue(json.contains("hidden") && json.contains("base"));
+		Assert.assertEquals(json, reflective.toJson(generated.fromJson(sample, json)));
+		Assert.assertEquals(18, calls[0]);
+	}
+
+	private ClassLoader compile () throws IOException {
+		File sourceDir = folder.newFolder("src"), classDir = folder.newFolder("classes");
+		File file = new File(sourceDir, "test/Sample.java");
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		StringWriter output = new StringWriter();
+		boolean success = compiler.getTask(output, null, null,
+			Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d", classDir.getPath(), "-s", classDir.getPath(),
+				"-processor", FieldAccessorProcessor.class.getName()),
+			null, compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8).getJavaFileObjects(file)).call();
+		Assert.assertTrue(output.toString(), success);
+		return new URLClassLoader(new URL[] {classDir.toURI().toURL()}, getClass().getClassLoader());
+	}
+}
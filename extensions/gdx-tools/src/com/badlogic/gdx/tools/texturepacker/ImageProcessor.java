@@ -56,6 +56,19 @@ public class ImageProcessor {
 	/** The image won't be kept in-memory during packing if {@link Settings#limitMemory} is true.
 	 * @param rootPath Used to strip the root directory prefix from image file names, can be null. */
 	public Rect addImage (File file, String rootPath) {
+		return addPrepared(prepareImage(file, rootPath));
+	}
+
+	/** The image will be kept in-memory during packing.
+	 * @see #addImage(File, String) */
+	public Rect addImage (BufferedImage image, String name) {
+		return addPrepared(prepareImage(image, name, null));
+	}
+
+	/** Loads and processes the image without modifying this image processor, so it is safe to call from multiple threads. The
+	 * result must be passed to {@link #addPrepared(PreparedImage)}.
+	 * @param rootPath Used to strip the root directory prefix from image file names, can be null. */
+	public PreparedImage prepareImage (File file, String rootPath) {
 		BufferedImage image;
 		try {
 			image = ImageIO.read(file);
@@ -82,24 +95,32 @@ public class ImageProcessor {
 		int dotIndex = name.lastIndexOf('.');
 		if (dotIndex != -1) name = name.substring(0, dotIndex);
 
-		Rect rect = addImage(image, name);
-		if (rect != null && settings.limitMemory) rect.unloadImage(file);
-		return rect;
+		return prepareImage(image, name, file);
 	}
 
-	/** The image will be kept in-memory during packing.
-	 * @see #addImage(File, String) */
-	public Rect addImage (BufferedImage image, String name) {
-		Rect rect = processImage(image, name);
+	/** @param file If not null and {@link Settings#limitMemory} is true, the image is unloaded once added.
+	 * @see #prepareImage(File, String) */
+	public PreparedImage prepareImage (BufferedImage image, String name, File file) {
+		PreparedImage prepared = new PreparedImage();
+		prepared.name = name;
+		prepared.file = file;
+		prepared.rect = processImage(image, name);
+		if (prepared.rect != null && settings.alias) prepared.hash = hash(prepared.rect.getImage(this));
+		return prepared;
+	}
 
+	/** Adds an image returned by {@link #prepareImage(File, String)}, detecting aliases of images previously added. Images must be
+	 * added in the same order to produce the same output.
+	 * @return The rect, or null if the image is blank or an alias of another image. */
+	public Rect addPrepared (PreparedImage prepared) {
+		Rect rect = prepared.rect;
 		if (rect == null) {
-			if (!settings.silent) System.out.println("Ignoring blank input image: " + name);
+			if (!settings.silent) System.out.println("Ignoring blank input image: " + prepared.name);
 			return null;
 		}
 
 		if (settings.alias) {
-			String crc = hash(rect.getImage(this));
-			Rect existing = crcs.get(crc);
+			Rect existing = crcs.get(prepared.hash);
 			if (existing != null) {
 				if (!settings.silent) {
 					String rectName = rect.name + (rect.index != -1 ? "_" + rect.index : "");
@@ -109,10 +130,11 @@ public class ImageProcessor {
 				existing.aliases.add(new Alias(rect));
 				return null;
 			}
-			crcs.put(crc, rect);
+			crcs.put(prepared.hash, rect);
 		}
 
 		rects.add(rect);
+		if (prepared.file != null && settings.limitMemory) rect.unloadImage(prepared.file);
 		return rect;
 	}
 
@@ -469,4 +491,12 @@ public class ImageProcessor {
 		digest.update((byte)(value >> 8));
 		digest.update((byte)value);
 	}
+
+	/** An input image that has been loaded and processed but not yet added to an {@link ImageProcessor}.
+	 * @see ImageProcessor#prepareImage(File, String) */
+	static public class PreparedImage {
+		String name, hash;
+		Rect rect;
+		File file;
+	}
 }
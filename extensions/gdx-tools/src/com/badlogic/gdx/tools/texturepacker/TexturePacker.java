@@ -16,16 +16,21 @@
 
 package com.badlogic.gdx.tools.texturepacker;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
@@ -34,17 +39,28 @@ import javax.imageio.ImageWriter;
 import javax.imageio.stream.ImageOutputStream;
 
 import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Pixmap.Format;
 import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.Texture.TextureWrap;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Region;
+import com.badlogic.gdx.graphics.glutils.ETC1;
+import com.badlogic.gdx.graphics.glutils.ETC1.ETC1Data;
+import com.badlogic.gdx.graphics.glutils.KTXTextureData;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tools.texturepacker.ImageProcessor.PreparedImage;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.DataOutput;
 import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxNativesLoader;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
@@ -53,12 +69,15 @@ import java.awt.image.BufferedImage;
 
 /** @author Nathan Sweet */
 public class TexturePacker {
+	static private final byte[] ktxHeader = {(byte)0xAB, 'K', 'T', 'X', ' ', '1', '1', (byte)0xBB, '\r', '\n', 0x1A, '\n'};
+
 	String rootPath;
 	private final Settings settings;
 	private Packer packer;
 	private final ImageProcessor imageProcessor;
 	private final Array<InputImage> inputImages = new Array();
 	private ProgressListener progress;
+	private @Null AsyncExecutor executor;
 
 	/** @param rootDir See {@link #setRootDir(File)}. */
 	public TexturePacker (File rootDir, Settings settings) {
@@ -144,6 +163,19 @@ public class TexturePacker {
 			};
 		}
 
+		int threads = settings.threads > 0 ? settings.threads : Runtime.getRuntime().availableProcessors();
+		if (threads > 1) executor = new AsyncExecutor(threads, "TexturePacker");
+		try {
+			pack(outputDir, packFileName, threads);
+		} finally {
+			if (executor != null) {
+				executor.dispose();
+				executor = null;
+			}
+		}
+	}
+
+	private void pack (File outputDir, String packFileName, int threads) {
 		progress.start(1);
 		int n = settings.scale.length;
 		for (int i = 0; i < n; i++) {
@@ -157,14 +189,17 @@ public class TexturePacker {
 			progress.start(0.35f);
 			progress.count = 0;
 			progress.total = inputImages.size;
-			for (int ii = 0, nn = inputImages.size; ii < nn; ii++, progress.count++) {
-				InputImage inputImage = inputImages.get(ii);
-				if (inputImage.file != null)
-					imageProcessor.addImage(inputImage.file, inputImage.rootPath);
-				else
-					imageProcessor.addImage(inputImage.image, inputImage.name);
-				if (progress.update(ii + 1, nn)) return;
-			}
+			if (executor == null) {
+				for (int ii = 0, nn = inputImages.size; ii < nn; ii++, progress.count++) {
+					InputImage inputImage = inputImages.get(ii);
+					if (inputImage.file != null)
+						imageProcessor.addImage(inputImage.file, inputImage.rootPath);
+					else
+						imageProcessor.addImage(inputImage.image, inputImage.name);
+					if (progress.update(ii + 1, nn)) return;
+				}
+			} else if (addImagesAsync(threads * 4)) //
+				return;
 			progress.end();
 
 			progress.start(0.35f);
@@ -183,6 +218,12 @@ public class TexturePacker {
 			progress.start(0.01f);
 			try {
 				writePackFile(outputDir, scaledPackFileName, pages);
+				if (settings.binary) {
+					File packFile = new File(outputDir, scaledPackFileName + settings.atlasExtension);
+					FileHandle packFileHandle = new FileHandle(packFile);
+					writeBinaryPackFile(new TextureAtlasData(packFileHandle, packFileHandle.parent(), false),
+						new File(outputDir, scaledPackFileName + settings.atlasExtension + "b"));
+				}
 			} catch (IOException ex) {
 				throw new RuntimeException("Error writing pack file.", ex);
 			}
@@ -196,11 +237,38 @@ public class TexturePacker {
 		progress.end();
 	}
 
+	/** Loads and processes the input images on the executor, then adds them to the image processor in order so aliases and rects
+	 * are the same as when adding them on a single thread.
+	 * @param window The maximum number of images processed ahead of the images added, to bound memory usage.
+	 * @return true if cancelled. */
+	private boolean addImagesAsync (int window) {
+		int nn = inputImages.size;
+		AsyncResult<PreparedImage>[] results = new AsyncResult[nn];
+		int submitted = 0;
+		for (int ii = 0; ii < nn; ii++, progress.count++) {
+			for (; submitted < nn && submitted - ii < window; submitted++) {
+				final InputImage inputImage = inputImages.get(submitted);
+				results[submitted] = executor.submit(new AsyncTask<PreparedImage>() {
+					public PreparedImage call () {
+						if (inputImage.file != null) return imageProcessor.prepareImage(inputImage.file, inputImage.rootPath);
+						return imageProcessor.prepareImage(inputImage.image, inputImage.name, null);
+					}
+				});
+			}
+			imageProcessor.addPrepared(results[ii].get());
+			results[ii] = null;
+			if (progress.update(ii + 1, nn)) return true;
+		}
+		return false;
+	}
+
 	private void writeImages (File outputDir, String scaledPackFileName, Array<Page> pages) {
 		File packFileNoExt = new File(outputDir, scaledPackFileName);
 		File packDir = packFileNoExt.getParentFile();
 		String imageName = packFileNoExt.getName();
 
+		// Output file names are chosen before any page is written, so pages can be written in any order.
+		File[] outputFiles = new File[pages.size];
 		int fileIndex = 1;
 		for (int p = 0, pn = pages.size; p < pn; p++) {
 			Page page = pages.get(p);
@@ -250,119 +318,290 @@ public class TexturePacker {
 			}
 			new FileHandle(outputFile).parent().mkdirs();
 			page.imageName = outputFile.getName();
+			outputFiles[p] = outputFile;
+		}
 
-			BufferedImage canvas = new BufferedImage(width, height, getBufferedImageType(settings.format));
-			Graphics2D g = (Graphics2D)canvas.getGraphics();
+		if (executor == null) {
+			for (int p = 0, pn = pages.size; p < pn; p++) {
+				Page page = pages.get(p);
+				if (!settings.silent) System.out.println("Writing " + page.imageWidth + "x" + page.imageHeight + ": " + outputFiles[p]);
 
-			if (!settings.silent) System.out.println("Writing " + canvas.getWidth() + "x" + canvas.getHeight() + ": " + outputFile);
+				progress.start(1 / (float)pn);
+				if (!writeImage(page, outputFiles[p], true)) return;
+				progress.end();
 
-			progress.start(1 / (float)pn);
-			for (int r = 0, rn = page.outputRects.size; r < rn; r++) {
-				Rect rect = page.outputRects.get(r);
-				BufferedImage image = rect.getImage(imageProcessor);
-				int iw = image.getWidth();
-				int ih = image.getHeight();
-				int rectX = page.x + rect.x, rectY = page.y + page.height - rect.y - (rect.height - settings.paddingY);
-				if (settings.duplicatePadding) {
-					int amountX = settings.paddingX / 2;
-					int amountY = settings.paddingY / 2;
-					if (rect.rotated) {
-						// Copy corner pixels to fill corners of the padding.
-						for (int i = 1; i <= amountX; i++) {
-							for (int j = 1; j <= amountY; j++) {
-								plot(canvas, rectX - j, rectY + iw - 1 + i, image.getRGB(0, 0));
-								plot(canvas, rectX + ih - 1 + j, rectY + iw - 1 + i, image.getRGB(0, ih - 1));
-								plot(canvas, rectX - j, rectY - i, image.getRGB(iw - 1, 0));
-								plot(canvas, rectX + ih - 1 + j, rectY - i, image.getRGB(iw - 1, ih - 1));
-							}
-						}
-						// Copy edge pixels into padding.
-						for (int i = 1; i <= amountY; i++) {
-							for (int j = 0; j < iw; j++) {
-								plot(canvas, rectX - i, rectY + iw - 1 - j, image.getRGB(j, 0));
-								plot(canvas, rectX + ih - 1 + i, rectY + iw - 1 - j, image.getRGB(j, ih - 1));
-							}
-						}
-						for (int i = 1; i <= amountX; i++) {
-							for (int j = 0; j < ih; j++) {
-								plot(canvas, rectX + j, rectY - i, image.getRGB(iw - 1, j));
-								plot(canvas, rectX + j, rectY + iw - 1 + i, image.getRGB(0, j));
-							}
+				if (progress.update(p + 1, pn)) return;
+				progress.count++;
+			}
+		} else {
+			// Pages are composed, bled and encoded in parallel, progress is reported as pages complete in order.
+			AsyncResult<Void>[] results = new AsyncResult[pages.size];
+			for (int p = 0, pn = pages.size; p < pn; p++) {
+				final Page page = pages.get(p);
+				final File outputFile = outputFiles[p];
+				if (!settings.silent) System.out.println("Writing " + page.imageWidth + "x" + page.imageHeight + ": " + outputFile);
+				results[p] = executor.submit(new AsyncTask<Void>() {
+					public Void call () {
+						writeImage(page, outputFile, false);
+						return null;
+					}
+				});
+			}
+			for (int p = 0, pn = pages.size; p < pn; p++) {
+				results[p].get();
+				if (progress.update(p + 1, pn)) return;
+				progress.count++;
+			}
+		}
+	}
+
+	/** @param reportProgress If false, the progress listener is only checked for cancellation, allowing pages to be written on
+	 *           other threads.
+	 * @return false if cancelled. */
+	private boolean writeImage (Page page, File outputFile, boolean reportProgress) {
+		int width = page.imageWidth, height = page.imageHeight;
+		BufferedImage canvas = new BufferedImage(width, height, getBufferedImageType(settings.format));
+		Graphics2D g = (Graphics2D)canvas.getGraphics();
+
+		for (int r = 0, rn = page.outputRects.size; r < rn; r++) {
+			Rect rect = page.outputRects.get(r);
+			BufferedImage image = rect.getImage(imageProcessor);
+			int iw = image.getWidth();
+			int ih = image.getHeight();
+			int rectX = page.x + rect.x, rectY = page.y + page.height - rect.y - (rect.height - settings.paddingY);
+			if (settings.duplicatePadding) {
+				int amountX = settings.paddingX / 2;
+				int amountY = settings.paddingY / 2;
+				if (rect.rotated) {
+					// Copy corner pixels to fill corners of the padding.
+					for (int i = 1; i <= amountX; i++) {
+						for (int j = 1; j <= amountY; j++) {
+							plot(canvas, rectX - j, rectY + iw - 1 + i, image.getRGB(0, 0));
+							plot(canvas, rectX + ih - 1 + j, rectY + iw - 1 + i, image.getRGB(0, ih - 1));
+							plot(canvas, rectX - j, rectY - i, image.getRGB(iw - 1, 0));
+							plot(canvas, rectX + ih - 1 + j, rectY - i, image.getRGB(iw - 1, ih - 1));
 						}
-					} else {
-						// Copy corner pixels to fill corners of the padding.
-						for (int i = 1; i <= amountX; i++) {
-							for (int j = 1; j <= amountY; j++) {
-								plot(canvas, rectX - i, rectY - j, image.getRGB(0, 0));
-								plot(canvas, rectX - i, rectY + ih - 1 + j, image.getRGB(0, ih - 1));
-								plot(canvas, rectX + iw - 1 + i, rectY - j, image.getRGB(iw - 1, 0));
-								plot(canvas, rectX + iw - 1 + i, rectY + ih - 1 + j, image.getRGB(iw - 1, ih - 1));
-							}
+					}
+					// Copy edge pixels into padding.
+					for (int i = 1; i <= amountY; i++) {
+						for (int j = 0; j < iw; j++) {
+							plot(canvas, rectX - i, rectY + iw - 1 - j, image.getRGB(j, 0));
+							plot(canvas, rectX + ih - 1 + i, rectY + iw - 1 - j, image.getRGB(j, ih - 1));
 						}
-						// Copy edge pixels into padding.
-						for (int i = 1; i <= amountY; i++) {
-							copy(image, 0, 0, iw, 1, canvas, rectX, rectY - i, rect.rotated);
-							copy(image, 0, ih - 1, iw, 1, canvas, rectX, rectY + ih - 1 + i, rect.rotated);
+					}
+					for (int i = 1; i <= amountX; i++) {
+						for (int j = 0; j < ih; j++) {
+							plot(canvas, rectX + j, rectY - i, image.getRGB(iw - 1, j));
+							plot(canvas, rectX + j, rectY + iw - 1 + i, image.getRGB(0, j));
 						}
-						for (int i = 1; i <= amountX; i++) {
-							copy(image, 0, 0, 1, ih, canvas, rectX - i, rectY, rect.rotated);
-							copy(image, iw - 1, 0, 1, ih, canvas, rectX + iw - 1 + i, rectY, rect.rotated);
+					}
+				} else {
+					// Copy corner pixels to fill corners of the padding.
+					for (int i = 1; i <= amountX; i++) {
+						for (int j = 1; j <= amountY; j++) {
+							plot(canvas, rectX - i, rectY - j, image.getRGB(0, 0));
+							plot(canvas, rectX - i, rectY + ih - 1 + j, image.getRGB(0, ih - 1));
+							plot(canvas, rectX + iw - 1 + i, rectY - j, image.getRGB(iw - 1, 0));
+							plot(canvas, rectX + iw - 1 + i, rectY + ih - 1 + j, image.getRGB(iw - 1, ih - 1));
 						}
 					}
+					// Copy edge pixels into padding.
+					for (int i = 1; i <= amountY; i++) {
+						copy(image, 0, 0, iw, 1, canvas, rectX, rectY - i, rect.rotated);
+						copy(image, 0, ih - 1, iw, 1, canvas, rectX, rectY + ih - 1 + i, rect.rotated);
+					}
+					for (int i = 1; i <= amountX; i++) {
+						copy(image, 0, 0, 1, ih, canvas, rectX - i, rectY, rect.rotated);
+						copy(image, iw - 1, 0, 1, ih, canvas, rectX + iw - 1 + i, rectY, rect.rotated);
+					}
 				}
-				copy(image, 0, 0, iw, ih, canvas, rectX, rectY, rect.rotated);
-				if (settings.debug) {
-					g.setColor(Color.magenta);
-					g.drawRect(rectX, rectY, rect.width - settings.paddingX - 1, rect.height - settings.paddingY - 1);
-				}
-
-				if (progress.update(r + 1, rn)) return;
 			}
-			progress.end();
-
-			if (settings.bleed && !settings.premultiplyAlpha
-				&& !(settings.outputFormat.equalsIgnoreCase("jpg") || settings.outputFormat.equalsIgnoreCase("jpeg"))) {
-				canvas = new ColorBleedEffect().processImage(canvas, settings.bleedIterations);
-				g = (Graphics2D)canvas.getGraphics();
-			}
-
+			copy(image, 0, 0, iw, ih, canvas, rectX, rectY, rect.rotated);
 			if (settings.debug) {
 				g.setColor(Color.magenta);
-				g.drawRect(0, 0, width - 1, height - 1);
+				g.drawRect(rectX, rectY, rect.width - settings.paddingX - 1, rect.height - settings.paddingY - 1);
 			}
 
-			ImageOutputStream ios = null;
-			try {
-				if (settings.outputFormat.equalsIgnoreCase("jpg") || settings.outputFormat.equalsIgnoreCase("jpeg")) {
-					BufferedImage newImage = new BufferedImage(canvas.getWidth(), canvas.getHeight(), BufferedImage.TYPE_3BYTE_BGR);
-					newImage.getGraphics().drawImage(canvas, 0, 0, null);
-					canvas = newImage;
-
-					Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpg");
-					ImageWriter writer = writers.next();
-					ImageWriteParam param = writer.getDefaultWriteParam();
-					param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
-					param.setCompressionQuality(settings.jpegQuality);
-					ios = ImageIO.createImageOutputStream(outputFile);
-					writer.setOutput(ios);
-					writer.write(null, new IIOImage(canvas, null, null), param);
-				} else {
-					if (settings.premultiplyAlpha) canvas.getColorModel().coerceData(canvas.getRaster(), true);
-					ImageIO.write(canvas, "png", outputFile);
+			if (reportProgress ? progress.update(r + 1, rn) : progress.isCancelled()) return false;
+		}
+
+		if (settings.bleed && !settings.premultiplyAlpha
+			&& !(settings.outputFormat.equalsIgnoreCase("jpg") || settings.outputFormat.equalsIgnoreCase("jpeg"))) {
+			canvas = new ColorBleedEffect().processImage(canvas, settings.bleedIterations);
+			g = (Graphics2D)canvas.getGraphics();
+		}
+
+		if (settings.debug) {
+			g.setColor(Color.magenta);
+			g.drawRect(0, 0, width - 1, height - 1);
+		}
+
+		ImageOutputStream ios = null;
+		try {
+			if (settings.outputFormat.equalsIgnoreCase("jpg") || settings.outputFormat.equalsIgnoreCase("jpeg")) {
+				BufferedImage newImage = new BufferedImage(canvas.getWidth(), canvas.getHeight(), BufferedImage.TYPE_3BYTE_BGR);
+				newImage.getGraphics().drawImage(canvas, 0, 0, null);
+				canvas = newImage;
+
+				Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpg");
+				ImageWriter writer = writers.next();
+				ImageWriteParam param = writer.getDefaultWriteParam();
+				param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+				param.setCompressionQuality(settings.jpegQuality);
+				ios = ImageIO.createImageOutputStream(outputFile);
+				writer.setOutput(ios);
+				writer.write(null, new IIOImage(canvas, null, null), param);
+			} else if (settings.outputFormat.equalsIgnoreCase("ktx") || settings.outputFormat.equalsIgnoreCase("zktx")) {
+				if (settings.premultiplyAlpha) canvas.getColorModel().coerceData(canvas.getRaster(), true);
+				writeKTX(canvas, outputFile);
+			} else {
+				if (settings.premultiplyAlpha) canvas.getColorModel().coerceData(canvas.getRaster(), true);
+				ImageIO.write(canvas, "png", outputFile);
+			}
+		} catch (IOException ex) {
+			throw new RuntimeException("Error writing file: " + outputFile, ex);
+		} finally {
+			if (ios != null) {
+				try {
+					ios.close();
+				} catch (Exception ignored) {
 				}
-			} catch (IOException ex) {
-				throw new RuntimeException("Error writing file: " + outputFile, ex);
-			} finally {
-				if (ios != null) {
-					try {
-						ios.close();
-					} catch (Exception ignored) {
-					}
+			}
+		}
+
+		return true;
+	}
+
+	/** Writes a page as a KTX file, GZIP compressed if the file extension is "zktx", which {@link KTXTextureData} uploads without
+	 * decoding an image. If {@link Settings#filterMin} uses mipmaps, the whole mipmap chain is stored so it doesn't need to be
+	 * generated at runtime. */
+	void writeKTX (BufferedImage canvas, File outputFile) throws IOException {
+		int width = canvas.getWidth(), height = canvas.getHeight();
+		int levels = 1;
+		if (settings.filterMin.isMipMap()) {
+			if (!MathUtils.isPowerOfTwo(width) || !MathUtils.isPowerOfTwo(height))
+				throw new RuntimeException("KTX pages with mipmaps must have power of two sizes, see the pot setting: " + outputFile);
+			levels = Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(width, height));
+		}
+
+		boolean etc1 = settings.etc1, alpha = !etc1 && settings.format != Format.RGB888 && settings.format != Format.RGB565;
+		int glType, glFormat, glInternalFormat, glBaseInternalFormat;
+		if (etc1) {
+			GdxNativesLoader.load();
+			glType = glFormat = 0;
+			glInternalFormat = ETC1.ETC1_RGB8_OES;
+			glBaseInternalFormat = GL20.GL_RGB;
+		} else {
+			glType = GL20.GL_UNSIGNED_BYTE;
+			glFormat = glInternalFormat = glBaseInternalFormat = alpha ? GL20.GL_RGBA : GL20.GL_RGB;
+		}
+
+		byte[][] images = new byte[levels][];
+		int totalSize = 12 + 13 * 4;
+		BufferedImage image = canvas;
+		for (int level = 0; level < levels; level++) {
+			if (level > 0) image = downsample(image);
+			images[level] = etc1 ? encodeETC1(image) : getPixels(image, alpha, true);
+			totalSize += 4 + ((images[level].length + 3) & ~3);
+		}
+
+		DataOutputStream out;
+		if (outputFile.getName().toLowerCase().endsWith(".zktx")) {
+			out = new DataOutputStream(new GZIPOutputStream(new BufferedOutputStream(new FileOutputStream(outputFile))));
+			out.writeInt(totalSize);
+		} else
+			out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(outputFile)));
+		try {
+			out.write(ktxHeader);
+			out.writeInt(0x04030201);
+			out.writeInt(glType);
+			out.writeInt(1); // glTypeSize
+			out.writeInt(glFormat);
+			out.writeInt(glInternalFormat);
+			out.writeInt(glBaseInternalFormat);
+			out.writeInt(width);
+			out.writeInt(height);
+			out.writeInt(0); // pixelDepth
+			out.writeInt(0); // numberOfArrayElements
+			out.writeInt(1); // numberOfFaces
+			out.writeInt(levels);
+			out.writeInt(0); // bytesOfKeyValueData
+			for (int level = 0; level < levels; level++) {
+				byte[] bytes = images[level];
+				out.writeInt(bytes.length);
+				out.write(bytes);
+				for (int i = bytes.length, n = (bytes.length + 3) & ~3; i < n; i++)
+					out.write(0);
+			}
+		} finally {
+			out.close();
+		}
+	}
+
+	/** Returns an image half the size, averaging each 2x2 block of pixels. */
+	static private BufferedImage downsample (BufferedImage image) {
+		int width = image.getWidth(), height = image.getHeight();
+		int newWidth = Math.max(1, width / 2), newHeight = Math.max(1, height / 2);
+		int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+		int[] newPixels = new int[newWidth * newHeight];
+		for (int y = 0, i = 0; y < newHeight; y++) {
+			int row1 = y * 2 * width, row2 = Math.min(y * 2 + 1, height - 1) * width;
+			for (int x = 0; x < newWidth; x++, i++) {
+				int x1 = x * 2, x2 = Math.min(x1 + 1, width - 1);
+				int p1 = pixels[row1 + x1], p2 = pixels[row1 + x2], p3 = pixels[row2 + x1], p4 = pixels[row2 + x2];
+				int argb = 0;
+				for (int shift = 0; shift < 32; shift += 8) {
+					int sum = (p1 >>> shift & 0xff) + (p2 >>> shift & 0xff) + (p3 >>> shift & 0xff) + (p4 >>> shift & 0xff);
+					argb |= (sum + 2) >> 2 << shift;
 				}
+				newPixels[i] = argb;
 			}
+		}
+		BufferedImage newImage = new BufferedImage(newWidth, newHeight, BufferedImage.TYPE_INT_ARGB);
+		newImage.setRGB(0, 0, newWidth, newHeight, newPixels, 0, newWidth);
+		return newImage;
+	}
+
+	/** Returns RGBA or RGB bytes.
+	 * @param padRows If true, each row is padded to a multiple of 4 bytes, as KTX requires. Otherwise the rows are tightly
+	 *           packed, as a {@link Pixmap} requires. */
+	static private byte[] getPixels (BufferedImage image, boolean alpha, boolean padRows) {
+		int width = image.getWidth(), height = image.getHeight();
+		int pixelSize = alpha ? 4 : 3, rowSize = padRows ? (width * pixelSize + 3) & ~3 : width * pixelSize;
+		int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+		byte[] bytes = new byte[rowSize * height];
+		for (int y = 0, i = 0; y < height; y++) {
+			for (int x = 0, b = y * rowSize; x < width; x++, i++, b += pixelSize) {
+				int argb = pixels[i];
+				bytes[b] = (byte)(argb >> 16);
+				bytes[b + 1] = (byte)(argb >> 8);
+				bytes[b + 2] = (byte)argb;
+				if (alpha) bytes[b + 3] = (byte)(argb >>> 24);
+			}
+		}
+		return bytes;
+	}
 
-			if (progress.update(p + 1, pn)) return;
-			progress.count++;
+	static private byte[] encodeETC1 (BufferedImage image) {
+		int width = image.getWidth(), height = image.getHeight();
+		Pixmap pixmap = new Pixmap(width, height, Format.RGB888);
+		ETC1Data data;
+		try {
+			ByteBuffer buffer = pixmap.getPixels();
+			buffer.put(getPixels(image, false, false));
+			((Buffer)buffer).position(0);
+			data = ETC1.encodeImage(pixmap);
+		} finally {
+			pixmap.dispose();
+		}
+		try {
+			ByteBuffer compressed = data.compressedData;
+			byte[] bytes = new byte[compressed.limit() - data.dataOffset];
+			((Buffer)compressed).position(data.dataOffset);
+			compressed.get(bytes);
+			return bytes;
+		} finally {
+			data.dispose();
 		}
 	}
 
@@ -444,6 +683,56 @@ public class TexturePacker {
 		writer.close();
 	}
 
+	/** Writes texture atlas data in the binary format, which loads faster than the text format.
+	 * @see TextureAtlasData#loadBinary(byte[], FileHandle, FileHandle, boolean) */
+	static public void writeBinaryPackFile (TextureAtlasData data, File file) throws IOException {
+		file.getParentFile().mkdirs();
+		DataOutput output = new DataOutput(new BufferedOutputStream(new FileOutputStream(file)));
+		try {
+			output.write(new byte[] {0, 'A', 'T', 'L', 1});
+			Array<TextureAtlasData.Page> pages = data.getPages();
+			output.writeInt(pages.size, true);
+			for (TextureAtlasData.Page page : pages) {
+				output.writeString(page.name);
+				output.writeInt((int)page.width, true);
+				output.writeInt((int)page.height, true);
+				output.writeString(page.format.name());
+				output.writeString(page.minFilter.name());
+				output.writeString(page.magFilter.name());
+				output.writeString(page.uWrap.name());
+				output.writeString(page.vWrap.name());
+				output.writeBoolean(page.pma);
+			}
+			Array<Region> regions = data.getRegions();
+			output.writeInt(regions.size, true);
+			for (Region region : regions) {
+				output.writeInt(pages.indexOf(region.page, true), true);
+				output.writeString(region.name);
+				output.writeInt(region.index, false);
+				output.writeInt(region.left, true);
+				output.writeInt(region.top, true);
+				output.writeInt(region.width, true);
+				output.writeInt(region.height, true);
+				output.writeFloat(region.offsetX);
+				output.writeFloat(region.offsetY);
+				output.writeInt(region.originalWidth, true);
+				output.writeInt(region.originalHeight, true);
+				output.writeInt(region.degrees, true);
+				int valueCount = region.names == null ? 0 : region.names.length;
+				output.writeInt(valueCount, true);
+				for (int i = 0; i < valueCount; i++) {
+					output.writeString(region.names[i]);
+					int[] values = region.values[i];
+					output.writeInt(values.length, true);
+					for (int value : values)
+						output.writeInt(value, false);
+				}
+			}
+		} finally {
+			output.close();
+		}
+	}
+
 	private void writePage (OutputStreamWriter writer, boolean appending, Page page) throws IOException {
 		String tab = "", colon = ":", comma = ",";
 		if (settings.prettyPrint) {
@@ -600,7 +889,10 @@ public class TexturePacker {
 		}
 
 		public int compareTo (Alias o) {
-			return name.compareTo(o.name);
+			int compare = name.compareTo(o.name);
+			if (compare != 0) return compare;
+			// Aliases are stored in a hash set, so ties are broken to keep the output independent of iteration order.
+			return index - o.index;
 		}
 	}
 
@@ -932,6 +1224,18 @@ public class TexturePacker {
 		public String atlasExtension = ".atlas";
 		public boolean prettyPrint = true;
 		public boolean legacyOutput = true;
+		/** If true, the pack file is also written in a binary format that loads faster, using the atlas extension with "b"
+		 * appended. */
+		public boolean binary;
+		/** If true and {@link #outputFormat} is "ktx" or "zktx", pages are compressed with ETC1, dropping the alpha channel. */
+		public boolean etc1;
+		/** Number of threads used to load and process input images and to write page images. Output is the same regardless of
+		 * the number of threads. 0 uses the number of available processors. */
+		public int threads = 1;
+		/** If true, a manifest of the input image hashes and settings is written next to the pack file and packing is skipped when
+		 * they and the output files are unchanged. Settings that don't change the output, such as {@link #threads} and
+		 * {@link #silent}, are not compared. Only used from the root directory's settings. */
+		public boolean incremental;
 
 		public Settings () {
 		}
@@ -985,6 +1289,10 @@ public class TexturePacker {
 			atlasExtension = settings.atlasExtension;
 			prettyPrint = settings.prettyPrint;
 			legacyOutput = settings.legacyOutput;
+			binary = settings.binary;
+			etc1 = settings.etc1;
+			threads = settings.threads;
+			incremental = settings.incremental;
 		}
 
 		public String getScaledPackFileName (String packFileName, int scaleIndex) {
@@ -17,14 +17,19 @@
 package com.badlogic.gdx.tools.texturepacker;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.tools.FileProcessor;
 import com.badlogic.gdx.tools.texturepacker.TexturePacker.ProgressListener;
 import com.badlogic.gdx.tools.texturepacker.TexturePacker.Settings;
@@ -33,6 +38,8 @@ import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.OrderedMap;
+import com.badlogic.gdx.utils.StreamUtils;
 
 /** @author Nathan Sweet */
 public class TexturePackerFileProcessor extends FileProcessor {
@@ -45,6 +52,8 @@ public class TexturePackerFileProcessor extends FileProcessor {
 	ArrayList<File> ignoreDirs = new ArrayList();
 	boolean countOnly;
 	int packCount;
+	private Manifest manifest, oldManifest;
+	private final StringBuilder manifestSettings = new StringBuilder();
 
 	public TexturePackerFileProcessor () {
 		this(new Settings(), "pack.atlas", null);
@@ -107,16 +116,138 @@ public class TexturePackerFileProcessor extends FileProcessor {
 			dirToSettings.put(settingsFile.getParentFile(), settings);
 		}
 
-		// Count the number of texture packer invocations.
-		countOnly = true;
-		super.process(inputFile, outputRoot);
-		countOnly = false;
+		Settings rootSettings = dirToSettings.get(root);
+		if (rootSettings == null) rootSettings = defaultSettings;
+		File manifestFile = new File(outputRoot, packFileName + ".manifest");
+		if (rootSettings.incremental) {
+			if (manifestFile.exists()) oldManifest = readManifest(manifestFile);
+			manifest = new Manifest();
+		}
+		try {
+			// Count the number of texture packer invocations.
+			countOnly = true;
+			super.process(inputFile, outputRoot);
+			countOnly = false;
+
+			if (manifest != null) {
+				manifest.settings = hash(manifestSettings.toString());
+				if (oldManifest != null && isCurrent(oldManifest, outputRoot)) {
+					if (!rootSettings.silent) System.out.println("Skipping, inputs and settings unchanged: " + manifestFile);
+					return new ArrayList();
+				}
+				manifestFile.delete();
+				if (outputRoot.exists()) deleteOutput(outputRoot);
+			}
 
-		// Do actual processing.
-		if (progress != null) progress.start(1);
-		ArrayList<Entry> result = super.process(inputFile, outputRoot);
-		if (progress != null) progress.end();
-		return result;
+			// Do actual processing.
+			if (progress != null) progress.start(1);
+			ArrayList<Entry> result = super.process(inputFile, outputRoot);
+			if (progress != null) progress.end();
+
+			if (manifest != null) {
+				for (File file : getOutputFiles(outputRoot))
+					manifest.outputs.put(relativePath(outputRoot, file), new FileState(file));
+				json.toJson(manifest, new FileHandle(manifestFile));
+			}
+			return result;
+		} finally {
+			manifest = null;
+			oldManifest = null;
+			manifestSettings.setLength(0);
+		}
+	}
+
+	/** Returns true if the inputs and settings collected in {@link #manifest} match the old manifest and the output files recorded
+	 * in the old manifest have not been changed since it was written. */
+	private boolean isCurrent (Manifest oldManifest, File outputRoot) {
+		if (!manifest.settings.equals(oldManifest.settings)) return false;
+		if (oldManifest.inputs == null || oldManifest.inputs.size != manifest.inputs.size) return false;
+		for (ObjectMap.Entry<String, FileState> entry : manifest.inputs) {
+			FileState old = oldManifest.inputs.get(entry.key);
+			if (old == null || !entry.value.hash.equals(old.hash)) return false;
+		}
+		if (oldManifest.outputs == null || oldManifest.outputs.size == 0) return false;
+		for (ObjectMap.Entry<String, FileState> entry : oldManifest.outputs) {
+			File file = new File(outputRoot, entry.key);
+			if (!file.exists() || file.length() != entry.value.length || file.lastModified() != entry.value.modified) return false;
+		}
+		return true;
+	}
+
+	private Manifest readManifest (File manifestFile) {
+		try {
+			return json.fromJson(Manifest.class, new FileReader(manifestFile));
+		} catch (Exception ex) {
+			// A corrupt manifest only means everything is packed again.
+			return null;
+		}
+	}
+
+	/** Adds the settings and input images of a directory to {@link #manifest}. Input image hashes are reused from the old manifest
+	 * when the file length and modification time have not changed. */
+	private void addToManifest (Entry inputDir, Settings settings, ArrayList<Entry> files) throws IOException {
+		StringBuilder buffer = manifestSettings;
+		buffer.append(relativePath(root, inputDir.inputFile)).append('\n');
+		buffer.append(outputSettings(settings)).append('\n');
+		for (Entry entry : files) {
+			String path = relativePath(root, entry.inputFile);
+			buffer.append(path).append('\n');
+			if (manifest.inputs.containsKey(path)) continue;
+			FileState state = new FileState(entry.inputFile);
+			FileState old = oldManifest == null || oldManifest.inputs == null ? null : oldManifest.inputs.get(path);
+			if (old != null && old.length == state.length && old.modified == state.modified)
+				state.hash = old.hash;
+			else
+				state.hash = hash(entry.inputFile);
+			manifest.inputs.put(path, state);
+		}
+	}
+
+	/** Returns the settings as JSON, with the settings that don't change the output set to their defaults so changing them
+	 * doesn't cause packing. */
+	private String outputSettings (Settings settings) {
+		Settings defaults = new Settings(), output = new Settings(settings);
+		output.threads = defaults.threads;
+		output.incremental = defaults.incremental;
+		output.silent = defaults.silent;
+		output.limitMemory = defaults.limitMemory;
+		return json.toJson(output);
+	}
+
+	static String relativePath (File root, File file) {
+		String rootPath = root.getAbsolutePath(), path = file.getAbsolutePath();
+		if (path.startsWith(rootPath)) path = path.substring(rootPath.length());
+		path = path.replace('\\', '/');
+		if (path.startsWith("/")) path = path.substring(1);
+		return path;
+	}
+
+	static String hash (String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA1");
+			digest.update(value.getBytes("UTF-8"));
+			return new BigInteger(1, digest.digest()).toString(16);
+		} catch (Exception ex) {
+			throw new GdxRuntimeException(ex);
+		}
+	}
+
+	static String hash (File file) throws IOException {
+		InputStream input = new FileInputStream(file);
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA1");
+			byte[] buffer = new byte[StreamUtils.DEFAULT_BUFFER_SIZE];
+			while (true) {
+				int count = input.read(buffer);
+				if (count == -1) break;
+				digest.update(buffer, 0, count);
+			}
+			return new BigInteger(1, digest.digest()).toString(16);
+		} catch (Exception ex) {
+			throw new IOException("Error hashing file: " + file, ex);
+		} finally {
+			StreamUtils.closeQuietly(input);
+		}
 	}
 
 	void merge (Settings settings, File settingsFile) {
@@ -130,12 +261,18 @@ public class TexturePackerFileProcessor extends FileProcessor {
 	}
 
 	public ArrayList<Entry> process (File[] files, File outputRoot) throws Exception {
-		// Delete pack file and images.
-		if (countOnly && outputRoot.exists()) deleteOutput(outputRoot);
+		// Delete pack file and images. When incremental, they are only deleted if the manifest shows they need to be packed again.
+		if (countOnly && manifest == null && outputRoot.exists()) deleteOutput(outputRoot);
 		return super.process(files, outputRoot);
 	}
 
 	protected void deleteOutput (File outputRoot) throws Exception {
+		for (File file : getOutputFiles(outputRoot))
+			file.delete();
+	}
+
+	/** Returns the pack files and page images in the output directory for all scales. */
+	protected ArrayList<File> getOutputFiles (File outputRoot) throws Exception {
 		// Load root settings to get scale.
 		File settingsFile = new File(root, "pack.json");
 		Settings rootSettings = defaultSettings;
@@ -147,10 +284,11 @@ public class TexturePackerFileProcessor extends FileProcessor {
 		String atlasExtension = rootSettings.atlasExtension == null ? "" : rootSettings.atlasExtension;
 		atlasExtension = Pattern.quote(atlasExtension);
 
+		final ArrayList<File> outputFiles = new ArrayList();
 		for (int i = 0, n = rootSettings.scale.length; i < n; i++) {
 			FileProcessor deleteProcessor = new FileProcessor() {
 				protected void processFile (Entry inputFile) throws Exception {
-					inputFile.inputFile.delete();
+					outputFiles.add(inputFile.inputFile);
 				}
 			};
 			deleteProcessor.setRecursive(false);
@@ -161,8 +299,9 @@ public class TexturePackerFileProcessor extends FileProcessor {
 			String prefix = packFile.getName();
 			int dotIndex = prefix.lastIndexOf('.');
 			if (dotIndex != -1) prefix = prefix.substring(0, dotIndex);
-			deleteProcessor.addInputRegex("(?i)" + prefix + "-?\\d*\\.(png|jpg|jpeg)");
+			deleteProcessor.addInputRegex("(?i)" + prefix + "-?\\d*\\.(png|jpg|jpeg|ktx|zktx)");
 			deleteProcessor.addInputRegex("(?i)" + prefix + atlasExtension);
+			deleteProcessor.addInputRegex("(?i)" + prefix + atlasExtension + "b");
 
 			String dir = packFile.getParent();
 			if (dir == null)
@@ -170,6 +309,7 @@ public class TexturePackerFileProcessor extends FileProcessor {
 			else if (new File(outputRoot + "/" + dir).exists()) //
 				deleteProcessor.process(outputRoot + "/" + dir, null);
 		}
+		return outputFiles;
 	}
 
 	protected void processDir (final Entry inputDir, ArrayList<Entry> files) throws Exception {
@@ -214,6 +354,7 @@ public class TexturePackerFileProcessor extends FileProcessor {
 
 		if (countOnly) {
 			packCount++;
+			if (manifest != null) addToManifest(inputDir, settings, files);
 			return;
 		}
 
@@ -303,4 +444,26 @@ public class TexturePackerFileProcessor extends FileProcessor {
 	public ProgressListener getProgressListener () {
 		return progress;
 	}
+
+	/** Records the inputs and outputs of a pack, written next to the pack file when {@link Settings#incremental} is true. */
+	static public class Manifest {
+		/** Hash of the settings and input file names for every packed directory. */
+		public String settings;
+		public OrderedMap<String, FileState> inputs = new OrderedMap();
+		public OrderedMap<String, FileState> outputs = new OrderedMap();
+	}
+
+	static public class FileState {
+		public long length, modified;
+		/** Hash of the file contents, null for output files. */
+		public String hash;
+
+		public FileState () {
+		}
+
+		FileState (File file) {
+			length = file.length();
+			modified = file.lastModified();
+		}
+	}
 }
@@ -0,0 +1,131 @@
+package com.badlogic.gdx.tools.bmfont;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.tools.bmfont.BitmapFontWriter.FontInfo;
+import com.badlogic.gdx.tools.bmfont.BitmapFontWriter.OutputFormat;
+import com.badlogic.gdx.tools.bmfont.BitmapFontWriter.Padding;
+
+/** Writes a font in the text and binary formats and compares the loaded data. */
+public class BitmapFontWriterTest {
+	static private final String chars = "Agx\u00e9\u4e2d";
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	@After
+	public void tearDown () {
+		BitmapFontWriter.setOutputFormat(OutputFormat.Text);
+	}
+
+	@Test
+	public void testBinary () throws IOException {
+		FontInfo info = new FontInfo("Test", 16);
+		info.padding = new Padding(1, 2, 3, 4);
+		for (boolean flip : new boolean[] {false, true})
+			assertSameFont(createFont(flip), info, flip);
+	}
+
+	@Test
+	public void testBinaryMetrics () throws IOException {
+		BitmapFontData data = createFont(false);
+		data.ascent = 1.5f;
+		data.descent = -2.5f;
+		data.down = -20;
+		data.capHeight = 11;
+		data.lineHeight = 20;
+		data.spaceXadvance = 6;
+		data.xHeight = 7;
+		FontInfo info = new FontInfo("Test", 16);
+		info.overrideMetrics(data);
+		BitmapFontData loaded = assertSameFont(data, info, false);
+		Assert.assertEquals(1.5f, loaded.ascent, 0);
+		Assert.assertEquals(-2.5f, loaded.descent, 0);
+		Assert.assertEquals(-20, loaded.down, 0);
+		Assert.assertEquals(6, loaded.spaceXadvance, 0);
+	}
+
+	/** Writes the font in both formats and compares the fonts loaded from each.
+	 * @return The font loaded from the binary format. */
+	private BitmapFontData assertSameFont (BitmapFontData data, FontInfo info, boolean flip) throws IOException {
+		String[] pageRefs = {"test0.png", "test1.png"};
+		FileHandle textFile = new FileHandle(folder.newFile("text.fnt"));
+		FileHandle binaryFile = new FileHandle(folder.newFile("binary.fnt"));
+		BitmapFontWriter.setOutputFormat(OutputFormat.Text);
+		BitmapFontWriter.writeFont(data, pageRefs, textFile, info, 64, 64);
+		BitmapFontWriter.setOutputFormat(OutputFormat.Binary);
+		BitmapFontWriter.writeFont(data, pageRefs, binaryFile, info, 64, 64);
+		Assert.assertEquals('B', binaryFile.readBytes()[0]);
+
+		BitmapFontData expected = new BitmapFontData(textFile, flip), actual = new BitmapFontData(binaryFile, flip);
+		Assert.assertArrayEquals(expected.imagePaths, actual.imagePaths);
+		Assert.assertTrue(actual.imagePaths[1].endsWith("/test1.png"));
+		Assert.assertEquals(expected.padTop, actual.padTop, 0);
+		Assert.assertEquals(expected.padRight, actual.padRight, 0);
+		Assert.assertEquals(expected.padBottom, actual.padBottom, 0);
+		Assert.assertEquals(expected.padLeft, actual.padLeft, 0);
+		Assert.assertEquals(expected.lineHeight, actual.lineHeight, 0);
+		Assert.assertEquals(expected.capHeight, actual.capHeight, 0);
+		Assert.assertEquals(expected.ascent, actual.ascent, 0);
+		Assert.assertEquals(expected.descent, actual.descent, 0);
+		Assert.assertEquals(expected.down, actual.down, 0);
+		Assert.assertEquals(expected.spaceXadvance, actual.spaceXadvance, 0);
+		Assert.assertEquals(expected.xHeight, actual.xHeight, 0);
+		for (int i = 0; i < chars.length(); i++) {
+			char ch = chars.charAt(i);
+			Glyph expectedGlyph = expected.getGlyph(ch), actualGlyph = actual.getGlyph(ch);
+			Assert.assertNotNull(expectedGlyph);
+			Assert.assertNotNull(actualGlyph);
+			Assert.assertEquals(expectedGlyph.id, actualGlyph.id);
+			Assert.assertEquals(expectedGlyph.srcX, actualGlyph.srcX);
+			Assert.assertEquals(expectedGlyph.srcY, actualGlyph.srcY);
+			Assert.assertEquals(expectedGlyph.width, actualGlyph.width);
+			Assert.assertEquals(expectedGlyph.height, actualGlyph.height);
+			Assert.assertEquals(expectedGlyph.xoffset, actualGlyph.xoffset);
+			Assert.assertEquals(expectedGlyph.yoffset, actualGlyph.yoffset);
+			Assert.assertEquals(expectedGlyph.xadvance, actualGlyph.xadvance);
+			Assert.assertEquals(expectedGlyph.page, actualGlyph.page);
+			for (int ii = 0; ii < chars.length(); ii++) {
+				char second = chars.charAt(ii);
+				Assert.assertEquals(data.getGlyph(ch).getKerning(second), actualGlyph.getKerning(second));
+				Assert.assertEquals(expectedGlyph.getKerning(second), actualGlyph.getKerning(second));
+			}
+		}
+		textFile.delete();
+		binaryFile.delete();
+		return actual;
+	}
+
+	static private BitmapFontData createFont (boolean flip) {
+		BitmapFontData data = new BitmapFontData();
+		data.flipped = flip;
+		for (int i = 0; i < chars.length(); i++) {
+			Glyph glyph = new Glyph();
+			glyph.id = chars.charAt(i);
+			glyph.srcX = i * 10;
+			glyph.srcY = i;
+			glyph.width = 8;
+			glyph.height = 10 + i;
+			glyph.xoffset = i - 1;
+			glyph.yoffset = flip ? i : -12 - i;
+			glyph.xadvance = 9 + i;
+			glyph.page = i & 1;
+			data.setGlyph(glyph.id, glyph);
+		}
+		data.getGlyph('A').setKerning('g', -1);
+		data.getGlyph('x').setKerning('A', 2);
+		data.getGlyph('\u4e2d').setKerning('\u00e9', -3);
+		data.lineHeight = 18;
+		data.capHeight = 12;
+		data.ascent = -2;
+		return data;
+	}
+}
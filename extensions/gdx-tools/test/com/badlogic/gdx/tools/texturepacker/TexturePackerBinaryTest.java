@@ -0,0 +1,159 @@
+package com.badlogic.gdx.tools.texturepacker;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Page;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Region;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker.Settings;
+import com.badlogic.gdx.utils.Array;
+
+/** Writes atlases in the binary format and compares the loaded data to the data loaded from the text format. */
+public class TexturePackerBinaryTest {
+	static private final String atlas = "" //
+		+ "page0.png\n" //
+		+ "size: 64, 32\n" //
+		+ "format: RGB888\n" //
+		+ "filter: MipMapLinearLinear, Linear\n" //
+		+ "repeat: x\n" //
+		+ "pma: true\n" //
+		+ "button\n" //
+		+ "bounds: 2, 3, 10, 12\n" //
+		+ "offsets: 1, 2, 14, 16\n" //
+		+ "split: 1, 2, 3, 4\n" //
+		+ "pad: 0, 1, 2, 3\n" //
+		+ "walk\n" //
+		+ "index: 2\n" //
+		+ "bounds: 20, 3, 8, 6\n" //
+		+ "rotate: 90\n" //
+		+ "walk\n" //
+		+ "index: 1\n" //
+		+ "bounds: 30, 3, 8, 8\n" //
+		+ "custom: -5, 7\n" //
+		+ "\n" //
+		+ "page1.png\n" //
+		+ "size: 16, 16\n" //
+		+ "plain\n" //
+		+ "bounds: 0, 0, 4, 4\n";
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testWriteBinaryPackFile () throws IOException {
+		File textFile = folder.newFile("test.atlas"), binaryFile = new File(folder.getRoot(), "test.atlasb");
+		new FileHandle(textFile).writeString(atlas, false, "UTF-8");
+		FileHandle textHandle = new FileHandle(textFile), binaryHandle = new FileHandle(binaryFile);
+		for (boolean flip : new boolean[] {false, true}) {
+			TextureAtlasData expected = new TextureAtlasData(textHandle, textHandle.parent(), flip);
+			Assert.assertEquals(2, expected.getPages().size);
+			Assert.assertEquals(4, expected.getRegions().size);
+			TexturePacker.writeBinaryPackFile(expected, binaryFile);
+			Assert.assertTrue(TextureAtlasData.isBinary(binaryHandle.readBytes()));
+			assertSameData(expected, new TextureAtlasData(binaryHandle, binaryHandle.parent(), flip));
+		}
+	}
+
+	@Test
+	public void testProcess () throws IOException {
+		File input = folder.newFolder("input"), output = folder.newFolder("output");
+		writeImage(new File(input, "solid.png"), 10, 7, 0, 0);
+		writeImage(new File(input, "stripped.png"), 16, 12, 3, 2);
+		writeImage(new File(input, "anim_1.png"), 5, 9, 0, 1);
+		writeImage(new File(input, "anim_2.png"), 5, 9, 1, 0);
+		writeImage(new File(input, "button.9.png"), 12, 12, 0, 0);
+
+		Settings settings = new Settings();
+		settings.binary = true;
+		settings.rotation = true;
+		settings.maxWidth = 32;
+		settings.maxHeight = 32;
+		settings.filterMin = TextureFilter.Linear;
+		TexturePacker.process(settings, input.getAbsolutePath(), output.getAbsolutePath(), "pack");
+
+		FileHandle textHandle = new FileHandle(new File(output, "pack.atlas"));
+		FileHandle binaryHandle = new FileHandle(new File(output, "pack.atlasb"));
+		Assert.assertTrue(binaryHandle.exists());
+		Assert.assertTrue(binaryHandle.length() < textHandle.length());
+		TextureAtlasData expected = new TextureAtlasData(textHandle, textHandle.parent(), false);
+		Assert.assertEquals(5, expected.getRegions().size);
+		assertSameData(expected, new TextureAtlasData(binaryHandle, binaryHandle.parent(), false));
+	}
+
+	/** Writes an image with an opaque rectangle inset by the specified amount of transparent pixels. A ".9" image gets a
+	 * ninepatch border. */
+	static private void writeImage (File file, int width, int height, int insetX, int insetY) throws IOException {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		for (int y = insetY; y < height - insetY; y++)
+			for (int x = insetX; x < width - insetX; x++)
+				image.setRGB(x, y, 0xff000000 | x * 16 << 16 | y * 16);
+		if (file.getName().contains(".9.")) {
+			for (int x = 0; x < width; x++) {
+				image.setRGB(x, 0, x > 3 && x < 8 ? 0xff000000 : 0);
+				image.setRGB(x, height - 1, 0);
+			}
+			for (int y = 0; y < height; y++) {
+				image.setRGB(0, y, y > 3 && y < 8 ? 0xff000000 : 0);
+				image.setRGB(width - 1, y, 0);
+			}
+		}
+		ImageIO.write(image, "png", file);
+	}
+
+	static private void assertSameData (TextureAtlasData expected, TextureAtlasData actual) {
+		Array<Page> expectedPages = expected.getPages(), actualPages = actual.getPages();
+		Assert.assertEquals(expectedPages.size, actualPages.size);
+		for (int i = 0; i < expectedPages.size; i++) {
+			Page expectedPage = expectedPages.get(i), actualPage = actualPages.get(i);
+			Assert.assertEquals(expectedPage.name, actualPage.name);
+			Assert.assertEquals(expectedPage.textureFile.name(), actualPage.textureFile.name());
+			Assert.assertEquals(expectedPage.width, actualPage.width, 0);
+			Assert.assertEquals(expectedPage.height, actualPage.height, 0);
+			Assert.assertEquals(expectedPage.useMipMaps, actualPage.useMipMaps);
+			Assert.assertEquals(expectedPage.format, actualPage.format);
+			Assert.assertEquals(expectedPage.minFilter, actualPage.minFilter);
+			Assert.assertEquals(expectedPage.magFilter, actualPage.magFilter);
+			Assert.assertEquals(expectedPage.uWrap, actualPage.uWrap);
+			Assert.assertEquals(expectedPage.vWrap, actualPage.vWrap);
+			Assert.assertEquals(expectedPage.pma, actualPage.pma);
+		}
+
+		Array<Region> expectedRegions = expected.getRegions(), actualRegions = actual.getRegions();
+		Assert.assertEquals(expectedRegions.size, actualRegions.size);
+		for (int i = 0; i < expectedRegions.size; i++) {
+			Region expectedRegion = expectedRegions.get(i), actualRegion = actualRegions.get(i);
+			Assert.assertEquals(expectedPages.indexOf(expectedRegion.page, true), actualPages.indexOf(actualRegion.page, true));
+			Assert.assertEquals(expectedRegion.name, actualRegion.name);
+			Assert.assertEquals(expectedRegion.index, actualRegion.index);
+			Assert.assertEquals(expectedRegion.left, actualRegion.left);
+			Assert.assertEquals(expectedRegion.top, actualRegion.top);
+			Assert.assertEquals(expectedRegion.width, actualRegion.width);
+			Assert.assertEquals(expectedRegion.height, actualRegion.height);
+			Assert.assertEquals(expectedRegion.offsetX, actualRegion.offsetX, 0);
+			Assert.assertEquals(expectedRegion.offsetY, actualRegion.offsetY, 0);
+			Assert.assertEquals(expectedRegion.originalWidth, actualRegion.originalWidth);
+			Assert.assertEquals(expectedRegion.originalHeight, actualRegion.originalHeight);
+			Assert.assertEquals(expectedRegion.degrees, actualRegion.degrees);
+			Assert.assertEquals(expectedRegion.rotate, actualRegion.rotate);
+			Assert.assertEquals(expectedRegion.flip, actualRegion.flip);
+			Assert.assertArrayEquals(expectedRegion.names, actualRegion.names);
+			if (expectedRegion.values == null)
+				Assert.assertNull(actualRegion.values);
+			else {
+				Assert.assertEquals(expectedRegion.values.length, actualRegion.values.length);
+				for (int ii = 0; ii < expectedRegion.values.length; ii++)
+					Assert.assertArrayEquals(expectedRegion.values[ii], actualRegion.values[ii]);
+			}
+		}
+	}
+}
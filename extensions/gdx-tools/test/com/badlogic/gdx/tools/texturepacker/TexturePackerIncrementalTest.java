@@ -0,0 +1,65 @@
+package com.badlogic.gdx.tools.texturepacker;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.badlogic.gdx.tools.texturepacker.TexturePacker.Settings;
+
+/** Packs a directory with {@link Settings#incremental} and checks which changes cause it to be packed again. */
+public class TexturePackerIncrementalTest {
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testSkipsUnchanged () throws Exception {
+		File input = folder.newFolder("input"), output = folder.newFolder("output");
+		writeImage(new File(input, "red.png"), 0xffff0000);
+		writeImage(new File(input, "green.png"), 0xff00ff00);
+
+		Settings settings = new Settings();
+		settings.incremental = true;
+		settings.silent = true;
+		Assert.assertTrue(pack(settings, input, output));
+		Assert.assertFalse(pack(settings, input, output));
+
+		// Settings that don't change the output.
+		settings.threads = 4;
+		settings.silent = false;
+		settings.limitMemory = !settings.limitMemory;
+		Assert.assertFalse(pack(settings, input, output));
+
+		settings.paddingX = 4;
+		Assert.assertTrue(pack(settings, input, output));
+		Assert.assertFalse(pack(settings, input, output));
+
+		writeImage(new File(input, "green.png"), 0xff008000);
+		Assert.assertTrue(pack(settings, input, output));
+
+		new File(output, "pack.png").delete();
+		Assert.assertTrue(pack(settings, input, output));
+	}
+
+	/** Returns true if the input was packed, false if packing was skipped and the manifest was not written. */
+	static private boolean pack (Settings settings, File input, File output) throws Exception {
+		File manifest = new File(output, "pack.manifest");
+		if (manifest.exists()) manifest.setLastModified(0);
+		new TexturePackerFileProcessor(new Settings(settings), "pack", null).process(input, output);
+		Assert.assertTrue(manifest.exists());
+		return manifest.lastModified() != 0;
+	}
+
+	static private void writeImage (File file, int argb) throws IOException {
+		BufferedImage image = new BufferedImage(8, 8, BufferedImage.TYPE_INT_ARGB);
+		for (int y = 0; y < 8; y++)
+			for (int x = 0; x < 8; x++)
+				image.setRGB(x, y, argb);
+		ImageIO.write(image, "png", file);
+	}
+}
@@ -0,0 +1,219 @@
+package com.badlogic.gdx.tools.texturepacker;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.glutils.KTXTextureData;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker.Settings;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+
+/** Writes KTX pages and uploads them with {@link KTXTextureData} to a GL that records the uploaded levels. ETC1 levels are
+ * decoded by KTXTextureData because the recording graphics don't support ETC1. */
+public class TexturePackerKTXTest {
+	/** The maximum difference of a channel after ETC1 compression of a uniform 2x4 block. */
+	static private final int etc1Tolerance = 8;
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	private final Array<Upload> uploads = new Array<Upload>();
+	private int generateMipmapCalls;
+	private GL20 gl;
+	private Graphics graphics;
+
+	@BeforeClass
+	static public void loadNatives () {
+		GdxNativesLoader.load();
+	}
+
+	@Before
+	public void setUp () {
+		gl = Gdx.gl;
+		graphics = Gdx.graphics;
+		Gdx.gl = Gdx.gl20 = proxy(GL20.class, new InvocationHandler() {
+			public Object invoke (Object proxy, Method method, Object[] args) {
+				String name = method.getName();
+				if (name.equals("glGetIntegerv"))
+					((IntBuffer)args[1]).put(0, 4);
+				else if (name.equals("glGenerateMipmap"))
+					generateMipmapCalls++;
+				else if (name.equals("glTexImage2D")) {
+					ByteBuffer pixels = ((ByteBuffer)args[8]).duplicate();
+					byte[] bytes = new byte[pixels.remaining()];
+					pixels.get(bytes);
+					uploads.add(new Upload((Integer)args[1], (Integer)args[3], (Integer)args[4], (Integer)args[6], bytes));
+				} else if (name.equals("glCompressedTexImage2D")) //
+					Assert.fail("ETC1 should be decoded.");
+				return defaultValue(method.getReturnType());
+			}
+		});
+		Gdx.graphics = proxy(Graphics.class, new InvocationHandler() {
+			public Object invoke (Object proxy, Method method, Object[] args) {
+				return defaultValue(method.getReturnType());
+			}
+		});
+	}
+
+	@After
+	public void tearDown () {
+		Gdx.gl = Gdx.gl20 = gl;
+		Gdx.graphics = graphics;
+	}
+
+	@Test
+	public void testETC1 () throws IOException {
+		// Rows of 6 RGB pixels are 18 bytes, a KTX row would be padded to 20 bytes.
+		BufferedImage image = new BufferedImage(6, 5, BufferedImage.TYPE_INT_ARGB);
+		int[] colors = {0xffff0000, 0xff00ff00, 0xff0000ff};
+		for (int y = 0; y < 5; y++)
+			for (int x = 0; x < 6; x++)
+				image.setRGB(x, y, colors[x / 2]);
+
+		Settings settings = new Settings();
+		settings.etc1 = true;
+		upload(settings, image, false);
+		Assert.assertEquals(1, uploads.size);
+		assertUpload(uploads.first(), 0, image, GL20.GL_RGB, etc1Tolerance);
+		Assert.assertEquals(0, generateMipmapCalls);
+	}
+
+	@Test
+	public void testETC1MipMaps () throws IOException {
+		BufferedImage image = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+		for (int y = 0; y < 16; y++)
+			for (int x = 0; x < 16; x++)
+				image.setRGB(x, y, 0xff2080c0);
+
+		Settings settings = new Settings();
+		settings.etc1 = true;
+		settings.filterMin = TextureFilter.MipMapLinearLinear;
+		upload(settings, image, true);
+		Assert.assertEquals(5, uploads.size);
+		for (int level = 0; level < 5; level++) {
+			assertUpload(uploads.get(level), level, image, GL20.GL_RGB, etc1Tolerance);
+			image = downsample(image);
+		}
+		Assert.assertEquals(0, generateMipmapCalls);
+	}
+
+	@Test
+	public void testMipMaps () throws IOException {
+		BufferedImage image = new BufferedImage(8, 8, BufferedImage.TYPE_INT_ARGB);
+		for (int y = 0; y < 8; y++)
+			for (int x = 0; x < 8; x++)
+				image.setRGB(x, y, 0xff000000 | x * 32 << 16 | y * 32 << 8 | (x + y) * 16);
+
+		Settings settings = new Settings();
+		settings.format = Format.RGB888;
+		settings.filterMin = TextureFilter.MipMapNearestNearest;
+		upload(settings, image, true);
+		Assert.assertEquals(4, uploads.size);
+		for (int level = 0; level < 4; level++) {
+			Upload upload = uploads.get(level);
+			// Uncompressed levels are uploaded as stored, with rows padded to 4 bytes.
+			int rowSize = (upload.width * 3 + 3) & ~3;
+			Assert.assertEquals(rowSize * upload.height, upload.pixels.length);
+			assertUpload(upload, level, image, GL20.GL_RGB, 0);
+			image = downsample(image);
+		}
+		Assert.assertEquals(0, generateMipmapCalls);
+	}
+
+	private void upload (Settings settings, BufferedImage image, boolean mipMaps) throws IOException {
+		File file = folder.newFile("page.ktx");
+		new TexturePacker(settings).writeKTX(image, file);
+		KTXTextureData data = new KTXTextureData(new FileHandle(file), mipMaps);
+		data.prepare();
+		Assert.assertEquals(image.getWidth(), data.getWidth());
+		Assert.assertEquals(image.getHeight(), data.getHeight());
+		Assert.assertEquals(mipMaps, data.useMipMaps());
+		data.consumeCustomData(GL20.GL_TEXTURE_2D);
+	}
+
+	/** Compares the uploaded RGB pixels to the image. Rows of the upload may be padded to 4 bytes. */
+	static private void assertUpload (Upload upload, int level, BufferedImage image, int format, int tolerance) {
+		int width = image.getWidth(), height = image.getHeight();
+		Assert.assertEquals(level, upload.level);
+		Assert.assertEquals(width, upload.width);
+		Assert.assertEquals(height, upload.height);
+		Assert.assertEquals(format, upload.format);
+		int rowSize = upload.pixels.length / height;
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int argb = image.getRGB(x, y), i = y * rowSize + x * 3;
+				for (int c = 0; c < 3; c++) {
+					int expected = argb >> 16 - c * 8 & 0xff, actual = upload.pixels[i + c] & 0xff;
+					if (Math.abs(expected - actual) > tolerance)
+						Assert.fail("Level " + level + ", pixel " + x + "," + y + ", channel " + c + ": " + actual + " != " + expected);
+				}
+			}
+		}
+	}
+
+	/** Averages each 2x2 block of pixels, rounding like {@link TexturePacker}. */
+	static private BufferedImage downsample (BufferedImage image) {
+		int width = Math.max(1, image.getWidth() / 2), height = Math.max(1, image.getHeight() / 2);
+		BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int argb = 0;
+				for (int shift = 0; shift < 32; shift += 8) {
+					int sum = 0;
+					for (int i = 0; i < 4; i++) {
+						int sx = Math.min(x * 2 + (i & 1), image.getWidth() - 1), sy = Math.min(y * 2 + (i >> 1), image.getHeight() - 1);
+						sum += image.getRGB(sx, sy) >>> shift & 0xff;
+					}
+					argb |= (sum + 2) >> 2 << shift;
+				}
+				result.setRGB(x, y, argb);
+			}
+		}
+		return result;
+	}
+
+	static private <T> T proxy (Class<T> type, InvocationHandler handler) {
+		return (T)Proxy.newProxyInstance(type.getClassLoader(), new Class[] {type}, handler);
+	}
+
+	static private Object defaultValue (Class type) {
+		if (type == boolean.class) return false;
+		if (type == int.class) return 0;
+		if (type == long.class) return 0L;
+		if (type == float.class) return 0f;
+		if (type == double.class) return 0d;
+		return null;
+	}
+
+	static private class Upload {
+		final int level, width, height, format;
+		final byte[] pixels;
+
+		Upload (int level, int width, int height, int format, byte[] pixels) {
+			this.level = level;
+			this.width = width;
+			this.height = height;
+			this.format = format;
+			this.pixels = pixels;
+		}
+	}
+}
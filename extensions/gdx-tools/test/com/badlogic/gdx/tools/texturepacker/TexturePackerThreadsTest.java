@@ -0,0 +1,65 @@
+package com.badlogic.gdx.tools.texturepacker;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.badlogic.gdx.tools.texturepacker.TexturePacker.Settings;
+
+/** Packs the same images with one thread and with many threads and checks the output files are byte identical. */
+public class TexturePackerThreadsTest {
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testSameOutput () throws IOException {
+		File input = folder.newFolder("input");
+		for (int i = 0; i < 40; i++) {
+			int width = 4 + i * 7 % 29, height = 4 + i * 11 % 23;
+			writeImage(new File(input, "image" + i + ".png"), width, height, i % 3, i % 4, i);
+		}
+		for (int i = 1; i <= 6; i++)
+			writeImage(new File(input, "anim_" + i + ".png"), 12, 10, i % 2, 1, i * 5);
+
+		File single = pack(input, "single", 1), multiple = pack(input, "multiple", 8);
+		String[] files = single.list(), multipleFiles = multiple.list();
+		Arrays.sort(files);
+		Arrays.sort(multipleFiles);
+		Assert.assertArrayEquals(files, multipleFiles);
+		Assert.assertTrue("Expected multiple pages: " + Arrays.toString(files), files.length > 3);
+		for (String name : files) {
+			Assert.assertTrue(name, Arrays.equals(Files.readAllBytes(new File(single, name).toPath()),
+				Files.readAllBytes(new File(multiple, name).toPath())));
+		}
+	}
+
+	private File pack (File input, String name, int threads) throws IOException {
+		File output = folder.newFolder(name);
+		Settings settings = new Settings();
+		settings.threads = threads;
+		settings.maxWidth = 64;
+		settings.maxHeight = 64;
+		settings.rotation = true;
+		settings.alias = true;
+		settings.binary = true;
+		TexturePacker.process(settings, input.getAbsolutePath(), output.getAbsolutePath(), "pack");
+		return output;
+	}
+
+	/** Writes an image with an opaque rectangle inset by the specified amount of transparent pixels, colored by the seed. */
+	static private void writeImage (File file, int width, int height, int insetX, int insetY, int seed) throws IOException {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		for (int y = insetY; y < height - insetY; y++)
+			for (int x = insetX; x < width - insetX; x++)
+				image.setRGB(x, y, 0xff000000 | (x * 16 + seed) % 256 << 16 | (y * 16 + seed * 3) % 256 << 8 | seed * 37 % 256);
+		ImageIO.write(image, "png", file);
+	}
+}
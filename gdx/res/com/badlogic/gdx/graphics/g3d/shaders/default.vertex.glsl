@@ -20,7 +20,14 @@ attribute vec4 a_color;
 
 #ifdef normalFlag
 attribute vec3 a_normal;
+#ifdef instancedFlag
+attribute vec3 i_normalMatrix0;
+attribute vec3 i_normalMatrix1;
+attribute vec3 i_normalMatrix2;
+#define u_normalMatrix mat3(i_normalMatrix0, i_normalMatrix1, i_normalMatrix2)
+#else
 uniform mat3 u_normalMatrix;
+#endif
 varying vec3 v_normal;
 #endif // normalFlag
 
@@ -103,7 +110,15 @@ attribute vec2 a_boneWeight7;
 #endif
 #endif
 
+#ifdef instancedFlag
+attribute vec4 i_worldTrans0;
+attribute vec4 i_worldTrans1;
+attribute vec4 i_worldTrans2;
+attribute vec4 i_worldTrans3;
+#define u_worldTrans mat4(i_worldTrans0, i_worldTrans1, i_worldTrans2, i_worldTrans3)
+#else
 uniform mat4 u_worldTrans;
+#endif
 
 #if defined(numBones)
 #if numBones > 0
@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import com.badlogic.gdx.files.FileHandle;
@@ -91,14 +92,33 @@ public class JsonSkimmer {
 		}
 	}
 
+	/** Parses the file with {@link #parse(ByteBuffer)} after {@link FileHandle#map() memory mapping} it, so memory use doesn't
+	 * depend on the file size. Falls back to {@link #parse(FileHandle)} for files that can't be mapped, eg classpath files. */
+	public void parseMapped (FileHandle file) {
+		ByteBuffer data;
+		try {
+			data = file.map();
+		} catch (GdxRuntimeException ex) {
+			parse(file);
+			return;
+		}
+		try {
+			parse(data);
+		} catch (Exception ex) {
+			throw new SerializationException("Error parsing file: " + file, ex);
+		}
+	}
+
 	public void parse (char[] data, int offset, int length) {
 		stop = false;
-		int cs, p = offset, pe = length, eof = pe, top = 0;
+		int cs, p = offset, pe = offset + length, eof = pe, top = 0;
 		int[] stack = this.stack;
 
 		JsonToken nameString = this.nameString, value = this.value, string = value, name = null;
 		nameString.chars = data;
+		nameString.bytes = null;
 		value.chars = data;
+		value.bytes = null;
 		RuntimeException parseRuntimeEx = null;
 
 		boolean debug = false;
@@ -107,6 +127,8 @@ public class JsonSkimmer {
 		try {
 		%%{
 			machine json;
+			# The actions are generated again in parse(ByteBuffer), where charAt and substring are the ByteBuffer overloads.
+			getkey charAt(data, p);
 
 			prepush {
 				if (top == stack.length) stack = this.stack = Arrays.copyOf(stack, stack.length << 1);
@@ -140,16 +162,16 @@ public class JsonSkimmer {
 			}
 			action comment {
 				int start = p;
-				if (data[p++] == '/') {
-					while (p != eof && data[p] != '\n')
+				if (charAt(data, p++) == '/') {
+					while (p != eof && charAt(data, p) != '\n')
 						p++;
 					p--;
 				} else {
-					while (p + 1 < eof && (data[p] != '*' || data[p + 1] != '/'))
+					while (p + 1 < eof && (charAt(data, p) != '*' || charAt(data, p + 1) != '/'))
 						p++;
 					p++;
 				}
-				if (debug) System.out.println("comment " + new String(data, start - 1, p - start + 2));
+				if (debug) System.out.println("comment " + substring(data, start - 1, p - start + 2));
 			}
 			action unquotedName {
 				if (debug) System.out.println("unquotedName");
@@ -158,13 +180,13 @@ public class JsonSkimmer {
 				boolean ws = false;
 				outer:
 				while (true) {
-					switch (data[p]) {
+					switch (charAt(data, p)) {
 					case '\\':
 						string.unescape = true;
 						break;
 					case '/':
 						if (p + 1 == eof) break;
-						char c = data[p + 1];
+						char c = charAt(data, p + 1);
 						if (c == '/' || c == '*') break outer;
 						break;
 					case ' ':
@@ -176,14 +198,14 @@ public class JsonSkimmer {
 					case '\n':
 						break outer;
 					}
-					if (debug) System.out.println("name char: '" + data[p] + "'");
+					if (debug) System.out.println("name char: '" + charAt(data, p) + "'");
 					p++;
 					if (p == eof) break;
 				}
 				p--;
 				if (ws) {
 					while (true) {
-						switch (data[p]) {
+						switch (charAt(data, p)) {
 						case ' ':
 						case '\t':
 							p--;
@@ -201,13 +223,13 @@ public class JsonSkimmer {
 				boolean ws = false;
 				outer:
 				while (true) {
-					switch (data[p]) {
+					switch (charAt(data, p)) {
 					case '\\':
 						string.unescape = true;
 						break;
 					case '/':
 						if (p + 1 == eof) break;
-						char c = data[p + 1];
+						char c = charAt(data, p + 1);
 						if (c == '/' || c == '*') break outer;
 						break;
 					case ' ':
@@ -221,14 +243,14 @@ public class JsonSkimmer {
 					case ',':
 						break outer;
 					}
-					if (debug) System.out.println("value char: '" + data[p] + "'");
+					if (debug) System.out.println("value char: '" + charAt(data, p) + "'");
 					p++;
 					if (p == eof) break;
 				}
 				p--;
 				if (ws) {
 					while (true) {
-						switch (data[p]) {
+						switch (charAt(data, p)) {
 						case ' ':
 						case '\t':
 							p--;
@@ -240,13 +262,13 @@ public class JsonSkimmer {
 				string.length = p - start + 1;
 				string.type = TokenType.other;
 				if (string.length == 4) {
-					if (data[start] == 't' && data[start + 1] == 'r' && data[start + 2] == 'u' && data[start + 3] == 'e')
+					if (charAt(data, start) == 't' && charAt(data, start + 1) == 'r' && charAt(data, start + 2) == 'u' && charAt(data, start + 3) == 'e')
 						string.type = TokenType.trueValue;
-					else if (data[start] == 'n' && data[start + 1] == 'u' && data[start + 2] == 'l' && data[start + 3] == 'l')
+					else if (charAt(data, start) == 'n' && charAt(data, start + 1) == 'u' && charAt(data, start + 2) == 'l' && charAt(data, start + 3) == 'l')
 						string.type = TokenType.nullValue;
 				} else if (string.length == 5) {
-					if (data[start] == 'f' && data[start + 1] == 'a' && data[start + 2] == 'l' && data[start + 3] == 's'
-						&& data[start + 4] == 'e') string.type = TokenType.falseValue;
+					if (charAt(data, start) == 'f' && charAt(data, start + 1) == 'a' && charAt(data, start + 2) == 'l' && charAt(data, start + 3) == 's'
+						&& charAt(data, start + 4) == 'e') string.type = TokenType.falseValue;
 				}
 			}
 			action quotedString {
@@ -254,7 +276,7 @@ public class JsonSkimmer {
 				string.start = ++p;
 				outer:
 				while (true) {
-					switch (data[p]) {
+					switch (charAt(data, p)) {
 					case '\\':
 						string.unescape = true;
 						p++;
@@ -262,7 +284,7 @@ public class JsonSkimmer {
 					case '"':
 						break outer;
 					}
-					if (debug) System.out.println("quoted char: '" + data[p] + "'");
+					if (debug) System.out.println("quoted char: '" + charAt(data, p) + "'");
 					p++;
 					if (p == eof) break;
 				}
@@ -310,15 +332,89 @@ public class JsonSkimmer {
 
 		if (p < pe) {
 			int lineNumber = 1;
-			for (int i = 0; i < p; i++)
+			for (int i = offset; i < p; i++)
 				if (data[i] == '\n') lineNumber++;
-			int start = Math.max(0, p - 32);
-			throw new SerializationException("Error parsing JSON on line " + lineNumber + " near: "
-				+ new String(data, start, p - start) + "*ERROR*" + new String(data, p, Math.min(64, pe - p)), parseRuntimeEx);
+			throw new SerializationException("Error parsing JSON on line " + lineNumber + " near: " + near(data, offset, p, pe),
+				parseRuntimeEx);
 		}
 		if (parseRuntimeEx != null) throw new SerializationException("Error parsing JSON: " + new String(data), parseRuntimeEx);
 	}
 
+	/** Parses UTF-8 JSON from the buffer's position to its limit. The bytes are decoded as they are parsed, so the JSON is never
+	 * copied. This can be used with a {@link FileHandle#map() memory mapped} file to parse a large file without loading it on the
+	 * heap, see {@link #parseMapped(FileHandle)}. The buffer's position is not changed. */
+	public void parse (ByteBuffer data) {
+		stop = false;
+		int cs, offset = data.position(), p = offset, pe = data.limit(), eof = pe, top = 0;
+		int[] stack = this.stack;
+
+		JsonToken nameString = this.nameString, value = this.value, string = value, name = null;
+		nameString.chars = null;
+		nameString.bytes = data;
+		value.chars = null;
+		value.bytes = data;
+		RuntimeException parseRuntimeEx = null;
+
+		boolean debug = false;
+		if (debug) System.out.println();
+
+		try {
+		%% write init;
+		%% write exec;
+		} catch (RuntimeException ex) {
+			parseRuntimeEx = ex;
+		}
+
+		if (p < pe) {
+			int lineNumber = 1;
+			for (int i = offset; i < p; i++)
+				if (data.get(i) == '\n') lineNumber++;
+			throw new SerializationException("Error parsing JSON on line " + lineNumber + " near: " + near(data, offset, p, pe),
+				parseRuntimeEx);
+		}
+		// Unlike for chars, the whole input isn't included since it may be a large mapped file.
+		if (parseRuntimeEx != null)
+			throw new SerializationException("Error parsing JSON near: " + near(data, offset, p, pe), parseRuntimeEx);
+	}
+
+	static private char charAt (char[] data, int index) {
+		return data[index];
+	}
+
+	/** Returns the byte at the index as an unsigned value. Every byte of a multi-byte UTF-8 sequence is >= 0x80, so the state
+	 * machine handles each like a single non-ASCII char. */
+	static private char charAt (ByteBuffer data, int index) {
+		return (char)(data.get(index) & 0xff);
+	}
+
+	static private String substring (char[] data, int start, int length) {
+		return new String(data, start, length);
+	}
+
+	static private String substring (ByteBuffer data, int start, int length) {
+		return JsonToken.decode(data, start, length);
+	}
+
+	/** Returns up to 32 chars before the index and 64 after it, with "*ERROR*" at the index. */
+	static private String near (char[] data, int offset, int index, int end) {
+		index = Math.min(index, end);
+		int start = Math.max(offset, index - 32);
+		return substring(data, start, index - start) + "*ERROR*" + substring(data, index, Math.min(64, end - index));
+	}
+
+	/** Returns up to 32 bytes before the index and 64 after it, with "*ERROR*" at the index. Only this window is decoded, so a
+	 * large input is not copied to report an error. */
+	static private String near (ByteBuffer data, int offset, int index, int end) {
+		index = Math.min(index, end);
+		int start = Math.max(offset, index - 32);
+		// Don't split multi-byte UTF-8 sequences.
+		while (start < index && (data.get(start) & 0xc0) == 0x80)
+			start++;
+		while (index > start && index < end && (data.get(index) & 0xc0) == 0x80)
+			index--;
+		return substring(data, start, index - start) + "*ERROR*" + substring(data, index, Math.min(64, end - index));
+	}
+
 	%% write data;
 
 	protected boolean stop;
@@ -351,6 +447,8 @@ public class JsonSkimmer {
 	static public class JsonToken {
 		final CharArray buffer;
 		public char[] chars;
+		/** When not null, the token is UTF-8 in this buffer and {@link #chars} is null. */
+		public @Null ByteBuffer bytes;
 
 		public int start, length;
 		public boolean unescape;
@@ -365,6 +463,16 @@ public class JsonSkimmer {
 			if (string == null) return false;
 			if (unescape) return toString().equals(string);
 			int n = length;
+			if (bytes != null) {
+				ByteBuffer bytes = this.bytes;
+				if (string.length() > n) return false;
+				for (int b = start, s = 0; s < n; b++, s++) {
+					int c = bytes.get(b);
+					if (c < 0) return toString().equals(string); // Not ASCII.
+					if (s == string.length() || c != string.charAt(s)) return false;
+				}
+				return string.length() == n;
+			}
 			if (string.length() != n) return false;
 			char[] chars = this.chars;
 			for (int c = start, s = 0; s < n; c++, s++)
@@ -376,7 +484,13 @@ public class JsonSkimmer {
 		 * @return "null" if this token represents null. */
 		public String toString () {
 			if (type == TokenType.nullValue) return "null";
-			return unescape ? unescape() : new String(chars, start, length);
+			if (bytes != null) {
+				String string = decode(bytes, start, length);
+				if (!unescape) return string;
+				char[] chars = string.toCharArray();
+				return unescape(chars, 0, chars.length);
+			}
+			return unescape ? unescape(chars, start, length) : new String(chars, start, length);
 		}
 
 		/** Returns a new JsonValue with {@link ValueType} of null, boolean, or string. */
@@ -401,8 +515,7 @@ public class JsonSkimmer {
 			return true;
 		}
 
-		private String unescape () {
-			char[] chars = this.chars;
+		private String unescape (char[] chars, int start, int length) {
 			buffer.size = 0;
 			buffer.ensureCapacity(length + 16);
 			outer:
@@ -451,6 +564,29 @@ public class JsonSkimmer {
 			return buffer.toString();
 		}
 
+		/** Decodes UTF-8 bytes. */
+		static String decode (ByteBuffer bytes, int start, int length) {
+			char[] chars = new char[length];
+			int count = 0;
+			for (int i = start, n = start + length; i < n;) {
+				int b = bytes.get(i++) & 0xff;
+				int extra = b < 0x80 ? 0 : b < 0xe0 ? 1 : b < 0xf0 ? 2 : 3;
+				if (i + extra > n) break; // Truncated sequence.
+				if (b < 0x80)
+					chars[count++] = (char)b;
+				else if (b < 0xe0)
+					chars[count++] = (char)((b & 0x1f) << 6 | bytes.get(i++) & 0x3f);
+				else if (b < 0xf0)
+					chars[count++] = (char)((b & 0x0f) << 12 | (bytes.get(i++) & 0x3f) << 6 | bytes.get(i++) & 0x3f);
+				else {
+					int codePoint = (b & 0x07) << 18 | (bytes.get(i++) & 0x3f) << 12 | (bytes.get(i++) & 0x3f) << 6
+						| bytes.get(i++) & 0x3f;
+					count += Character.toChars(codePoint, chars, count);
+				}
+			}
+			return new String(chars, 0, count);
+		}
+
 		static public enum TokenType {
 			nullValue, trueValue, falseValue, other
 		}
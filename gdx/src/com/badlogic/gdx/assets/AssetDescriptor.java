@@ -27,6 +27,8 @@ public class AssetDescriptor<T> {
 	public final AssetLoaderParameters params;
 	/** The resolved file. May be null if the fileName has not been resolved yet. */
 	public FileHandle file;
+	/** Assets with a higher priority are loaded before those with a lower priority. Default is 0. */
+	public int priority;
 
 	public AssetDescriptor (String fileName, Class<T> assetType) {
 		this(fileName, assetType, null);
@@ -19,6 +19,7 @@ package com.badlogic.gdx.assets;
 import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.loaders.AssetLoader;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
 import com.badlogic.gdx.assets.loaders.BitmapFontLoader;
 import com.badlogic.gdx.assets.loaders.CubemapLoader;
 import com.badlogic.gdx.assets.loaders.FileHandleResolver;
@@ -34,6 +35,7 @@ import com.badlogic.gdx.assets.loaders.TextureLoader;
 import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Cubemap;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
@@ -46,6 +48,7 @@ import com.badlogic.gdx.graphics.g3d.Model;
 import com.badlogic.gdx.graphics.g3d.loader.G3dModelLoader;
 import com.badlogic.gdx.graphics.g3d.loader.ObjLoader;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.FloatCounter;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
@@ -65,6 +68,11 @@ import com.badlogic.gdx.utils.async.ThreadUtils;
 import com.badlogic.gdx.utils.reflect.ClassReflection;
 
 /** Loads and stores assets like textures, bitmapfonts, tile maps, sounds, music and so on.
+ * <p>
+ * Queued assets are loaded in order of their {@link AssetDescriptor#priority priority}. By default one asset is loaded at a time.
+ * If created with a maxConcurrent greater than 1, up to that many queued assets are loaded at the same time, each with its
+ * dependencies, and the asynchronous parts of their loaders run in parallel. Assets whose loader does not support
+ * {@link AssetLoader#isConcurrent() concurrent loading} are only loaded while no other asset is using that loader.
  * @author mzechner */
 public class AssetManager implements Disposable {
 	final ObjectMap<Class, ObjectMap<String, RefCountedContainer>> assets = new ObjectMap();
@@ -75,13 +83,23 @@ public class AssetManager implements Disposable {
 	final ObjectMap<Class, ObjectMap<String, AssetLoader>> loaders = new ObjectMap();
 	final Array<AssetDescriptor> loadQueue = new Array();
 	final AsyncExecutor executor;
+	final int maxConcurrent;
 
-	final Array<AssetLoadingTask> tasks = new Array();
+	/** Stacks of tasks, each loading a queued asset and its dependencies. The first stack is the primary stack, which is the only
+	 * one allowed to use loaders that are not {@link AssetLoader#isConcurrent() concurrent}. */
+	final Array<Array<AssetLoadingTask>> stacks = new Array();
+	/** Tasks for queued assets, as opposed to dependencies. */
+	final Array<AssetLoadingTask> rootTasks = new Array();
 	AssetErrorListener listener;
 	int loaded;
 	int toLoad;
 	int peakTasks;
 
+	int frameBudget;
+	long frameDeadline = Long.MAX_VALUE;
+	/** The time in microseconds each frame spent in {@link #update()} or {@link #update(int)} while assets were loading. */
+	public final FloatCounter updateTime = new FloatCounter(60);
+
 	final FileHandleResolver resolver;
 
 	Logger log = new Logger("AssetManager", Application.LOG_NONE);
@@ -100,7 +118,17 @@ public class AssetManager implements Disposable {
 	 * manually add the loaders you need, including any loaders they might depend on.
 	 * @param defaultLoaders whether to add the default loaders */
 	public AssetManager (FileHandleResolver resolver, boolean defaultLoaders) {
+		this(resolver, defaultLoaders, 1);
+	}
+
+	/** Creates a new AssetManager with optionally all default loaders.
+	 * @param defaultLoaders whether to add the default loaders
+	 * @param maxConcurrent the maximum number of queued assets loaded at the same time, and the number of threads used to load
+	 *           them. */
+	public AssetManager (FileHandleResolver resolver, boolean defaultLoaders, int maxConcurrent) {
+		if (maxConcurrent < 1) throw new IllegalArgumentException("maxConcurrent must be > 0: " + maxConcurrent);
 		this.resolver = resolver;
+		this.maxConcurrent = maxConcurrent;
 		if (defaultLoaders) {
 			setLoader(BitmapFont.class, new BitmapFontLoader(resolver));
 			setLoader(Music.class, new MusicLoader(resolver));
@@ -120,7 +148,7 @@ public class AssetManager implements Disposable {
 			setLoader(ShaderProgram.class, new ShaderProgramLoader(resolver));
 			setLoader(Cubemap.class, new CubemapLoader(resolver));
 		}
-		executor = new AsyncExecutor(1, "AssetManager");
+		executor = new AsyncExecutor(maxConcurrent, "AssetManager");
 	}
 
 	/** Returns the {@link FileHandleResolver} for which this AssetManager was loaded with.
@@ -194,7 +222,8 @@ public class AssetManager implements Disposable {
 
 	/** Returns true if an asset with the specified name is loading, queued to be loaded, or has been loaded. */
 	public synchronized boolean contains (String fileName) {
-		if (tasks.size > 0 && tasks.first().assetDesc.fileName.equals(fileName)) return true;
+		for (int i = 0; i < rootTasks.size; i++)
+			if (rootTasks.get(i).assetDesc.fileName.equals(fileName)) return true;
 
 		for (int i = 0; i < loadQueue.size; i++)
 			if (loadQueue.get(i).fileName.equals(fileName)) return true;
@@ -204,8 +233,8 @@ public class AssetManager implements Disposable {
 
 	/** Returns true if an asset with the specified name and type is loading, queued to be loaded, or has been loaded. */
 	public synchronized boolean contains (String fileName, Class type) {
-		if (tasks.size > 0) {
-			AssetDescriptor assetDesc = tasks.first().assetDesc;
+		for (int i = 0; i < rootTasks.size; i++) {
+			AssetDescriptor assetDesc = rootTasks.get(i).assetDesc;
 			if (assetDesc.type == type && assetDesc.fileName.equals(fileName)) return true;
 		}
 
@@ -220,9 +249,9 @@ public class AssetManager implements Disposable {
 	/** Removes the asset and all its dependencies, if they are not used by other assets.
 	 * @param fileName the file name */
 	public synchronized void unload (String fileName) {
-		// check if it's currently processed (and the first element in the stack, thus not a dependency) and cancel if necessary
-		if (tasks.size > 0) {
-			AssetLoadingTask currentTask = tasks.first();
+		// check if it's currently processed (and a queued asset, thus not a dependency) and cancel if necessary
+		for (int i = 0; i < rootTasks.size; i++) {
+			AssetLoadingTask currentTask = rootTasks.get(i);
 			if (currentTask.assetDesc.fileName.equals(fileName)) {
 				log.info("Unload (from tasks): " + fileName);
 				currentTask.cancel = true;
@@ -363,6 +392,15 @@ public class AssetManager implements Disposable {
 	 * @param type the type of the asset.
 	 * @param parameter parameters for the AssetLoader. */
 	public synchronized <T> void load (String fileName, Class<T> type, AssetLoaderParameters<T> parameter) {
+		load(fileName, type, parameter, 0);
+	}
+
+	/** Adds the given asset to the loading queue of the AssetManager.
+	 * @param fileName the file name (interpretation depends on {@link AssetLoader})
+	 * @param type the type of the asset.
+	 * @param parameter parameters for the AssetLoader.
+	 * @param priority assets with a higher priority are loaded before those with a lower priority. */
+	public synchronized <T> void load (String fileName, Class<T> type, AssetLoaderParameters<T> parameter, int priority) {
 		AssetLoader loader = getLoader(type, fileName);
 		if (loader == null) throw new GdxRuntimeException("No loader for type: " + ClassReflection.getSimpleName(type));
 
@@ -384,11 +422,14 @@ public class AssetManager implements Disposable {
 		}
 
 		// check task list
-		for (int i = 0; i < tasks.size; i++) {
-			AssetDescriptor desc = tasks.get(i).assetDesc;
-			if (desc.fileName.equals(fileName) && !desc.type.equals(type)) throw new GdxRuntimeException(
-				"Asset with name '" + fileName + "' already in task list, but has different type (expected: "
-					+ ClassReflection.getSimpleName(type) + ", found: " + ClassReflection.getSimpleName(desc.type) + ")");
+		for (int s = 0; s < stacks.size; s++) {
+			Array<AssetLoadingTask> tasks = stacks.get(s);
+			for (int i = 0; i < tasks.size; i++) {
+				AssetDescriptor desc = tasks.get(i).assetDesc;
+				if (desc.fileName.equals(fileName) && !desc.type.equals(type)) throw new GdxRuntimeException(
+					"Asset with name '" + fileName + "' already in task list, but has different type (expected: "
+						+ ClassReflection.getSimpleName(type) + ", found: " + ClassReflection.getSimpleName(desc.type) + ")");
+			}
 		}
 
 		// check loaded assets
@@ -399,54 +440,114 @@ public class AssetManager implements Disposable {
 
 		toLoad++;
 		AssetDescriptor assetDesc = new AssetDescriptor(fileName, type, parameter);
-		loadQueue.add(assetDesc);
+		assetDesc.priority = priority;
+		// Keep the queue sorted by priority, assets with the same priority stay in the order they were queued.
+		int index = loadQueue.size;
+		while (index > 0 && loadQueue.get(index - 1).priority < priority)
+			index--;
+		loadQueue.insert(index, assetDesc);
 		log.debug("Queued: " + assetDesc);
 	}
 
 	/** Adds the given asset to the loading queue of the AssetManager.
 	 * @param desc the {@link AssetDescriptor} */
 	public synchronized void load (AssetDescriptor desc) {
-		load(desc.fileName, desc.type, desc.params);
+		load(desc.fileName, desc.type, desc.params, desc.priority);
 	}
 
-	/** Updates the AssetManager for a single task. Returns if the current task is still being processed or there are no tasks,
-	 * otherwise it finishes the current task and starts the next task.
+	/** Updates the AssetManager for a single task of each asset being loaded. Returns if the current tasks are still being
+	 * processed or there are no tasks, otherwise it finishes the current tasks and starts the next tasks.
 	 * @return true if all loading is finished. */
 	public synchronized boolean update () {
+		if (loadQueue.size == 0 && stacks.size == 0) return true;
+		long startTime = TimeUtils.nanoTime();
+		try {
+			return updateTasks(frameBudget > 0 ? startTime + frameBudget * 1000L : Long.MAX_VALUE);
+		} finally {
+			updateTime.put((TimeUtils.nanoTime() - startTime) / 1000f);
+		}
+	}
+
+	/** @param deadline The time {@link #getFrameTimeRemaining()} is measured to, or Long.MAX_VALUE for no limit. */
+	private synchronized boolean updateTasks (long deadline) {
+		frameDeadline = deadline;
+		Array<AssetLoadingTask> tasks = null;
 		try {
-			if (tasks.size == 0) {
-				// loop until we have a new task ready to be processed
-				while (loadQueue.size != 0 && tasks.size == 0)
-					nextTask();
-				// have we not found a task? We are done!
-				if (tasks.size == 0) return true;
+			// loop until as many queued assets are loading as allowed
+			while (loadQueue.size != 0 && stacks.size < maxConcurrent)
+				nextTask();
+			for (int i = 0; i < stacks.size; i++) {
+				// once the frame's time is used, only the primary stack continues so loading can't stall
+				if (i > 0 && deadline != Long.MAX_VALUE && TimeUtils.nanoTime() >= deadline) break;
+				tasks = stacks.get(i);
+				if (tasks.size > 0) updateTask(tasks, i == 0);
 			}
-			return updateTask() && loadQueue.size == 0 && tasks.size == 0;
+			tasks = null;
 		} catch (Throwable t) {
-			handleTaskError(t);
-			return loadQueue.size == 0;
+			handleTaskError(tasks, t);
+		} finally {
+			frameDeadline = Long.MAX_VALUE;
 		}
+		for (int i = stacks.size - 1; i >= 0; i--)
+			if (stacks.get(i).size == 0) stacks.removeIndex(i);
+		if (stacks.size == 0) peakTasks = 0;
+		return loadQueue.size == 0 && stacks.size == 0;
 	}
 
 	/** Updates the AssetManager continuously for the specified number of milliseconds, yielding the CPU to the loading thread
-	 * between updates. This may block for less time if all loading tasks are complete. This may block for more time if the portion
-	 * of a single task that happens in the GL thread takes a long time. On GWT, updates for a single task instead (see
-	 * {@link #update()}).
+	 * between updates. This may block for less time if all loading tasks are complete, or if the {@link #setFrameBudget(int) frame
+	 * budget} is used sooner. This may block for more time if the portion of a single task that happens in the GL thread takes a
+	 * long time, though loaders which can split that work (see {@link #getFrameTimeRemaining()}) only do as much as fits. On GWT,
+	 * updates for a single task instead (see {@link #update()}).
 	 * @return true if all loading is finished. */
 	public boolean update (int millis) {
 		if (Gdx.app.getType() == Application.ApplicationType.WebGL) return update();
-		long endTime = TimeUtils.millis() + millis;
-		while (true) {
-			boolean done = update();
-			if (done || TimeUtils.millis() > endTime) return done;
-			ThreadUtils.yield();
+		if (isFinished()) return true;
+		// The deadline is local and each update holds the lock, so other threads can use the manager while this method yields.
+		long startTime = TimeUtils.nanoTime(), time = 0;
+		long deadline = startTime + millis * 1000000L;
+		if (frameBudget > 0) deadline = Math.min(deadline, startTime + frameBudget * 1000L);
+		try {
+			while (true) {
+				long updateStart = TimeUtils.nanoTime();
+				boolean done = updateTasks(deadline);
+				time += TimeUtils.nanoTime() - updateStart;
+				if (done || TimeUtils.nanoTime() > deadline) return done;
+				ThreadUtils.yield();
+			}
+		} finally {
+			updateTime.put(time / 1000f);
 		}
 	}
 
+	/** Sets the time in microseconds that each frame's {@link #update()} or {@link #update(int)} should spend on the rendering
+	 * thread. Loaders which can split their rendering thread work, like {@link TextureLoader} uploading a texture in parts, only
+	 * do as much as fits in the remaining time, see {@link #getFrameTimeRemaining()}. Once the time is used, only the oldest
+	 * queued asset continues loading in that frame. {@link #updateTime} shows how much time the frames actually spent.
+	 * @param micros 0 for no budget (default). */
+	public void setFrameBudget (int micros) {
+		if (micros < 0) throw new IllegalArgumentException("micros must be >= 0: " + micros);
+		frameBudget = micros;
+	}
+
+	public int getFrameBudget () {
+		return frameBudget;
+	}
+
+	/** Returns the time in nanoseconds the current update may still spend on the rendering thread. Can be called by loaders during
+	 * {@link AsynchronousAssetLoader#loadSync(AssetManager, String, FileHandle, AssetLoaderParameters) loadSync} to do only part of
+	 * their work, returning null to continue on the next update.
+	 * @return the remaining time, which may be negative, or Long.MAX_VALUE if there is no {@link #setFrameBudget(int) budget}
+	 *         and the update is not {@link #update(int) timed}. */
+	public synchronized long getFrameTimeRemaining () {
+		if (frameDeadline == Long.MAX_VALUE) return Long.MAX_VALUE;
+		return frameDeadline - TimeUtils.nanoTime();
+	}
+
 	/** Returns true when all assets are loaded. Can be called from any thread but note {@link #update()} or related methods must
 	 * be called to process tasks. */
 	public synchronized boolean isFinished () {
-		return loadQueue.size == 0 && tasks.size == 0;
+		return loadQueue.size == 0 && stacks.size == 0;
 	}
 
 	/** Blocks until all assets are loaded. */
@@ -487,16 +588,30 @@ public class AssetManager implements Disposable {
 	}
 
 	synchronized void injectDependencies (String parentAssetFilename, Array<AssetDescriptor> dependendAssetDescs) {
+		// The parent is the started task on top of its stack, dependencies are pushed on top of it.
+		Array<AssetLoadingTask> tasks = null;
+		for (int i = 0; i < stacks.size; i++) {
+			Array<AssetLoadingTask> stack = stacks.get(i);
+			if (stack.size == 0) continue;
+			AssetLoadingTask task = stack.peek();
+			if (isStarted(task) && task.assetDesc.fileName.equals(parentAssetFilename)) {
+				tasks = stack;
+				break;
+			}
+		}
+		if (tasks == null) return; // The parent was unloaded or failed.
+
 		ObjectSet<String> injected = this.injected;
 		for (AssetDescriptor desc : dependendAssetDescs) {
 			if (injected.contains(desc.fileName)) continue; // Ignore subsequent dependencies if there are duplicates.
 			injected.add(desc.fileName);
-			injectDependency(parentAssetFilename, desc);
+			injectDependency(tasks, parentAssetFilename, desc);
 		}
 		injected.clear(32);
 	}
 
-	private synchronized void injectDependency (String parentAssetFilename, AssetDescriptor dependendAssetDesc) {
+	private synchronized void injectDependency (Array<AssetLoadingTask> tasks, String parentAssetFilename,
+		AssetDescriptor dependendAssetDesc) {
 		// add the asset as a dependency of the parent asset
 		Array<String> dependencies = assetDependencies.get(parentAssetFilename);
 		if (dependencies == null) {
@@ -515,12 +630,12 @@ public class AssetManager implements Disposable {
 		} else {
 			// else add a new task for the asset.
 			log.info("Loading dependency: " + dependendAssetDesc);
-			addTask(dependendAssetDesc);
+			addTask(tasks, dependendAssetDesc);
 		}
 	}
 
-	/** Removes a task from the loadQueue and adds it to the task stack. If the asset is already loaded (which can happen if it was
-	 * a dependency of a previously loaded asset) its reference count will be increased. */
+	/** Removes a task from the loadQueue and adds it to a new task stack. If the asset is already loaded (which can happen if it
+	 * was a dependency of a previously loaded asset) its reference count will be increased. */
 	private void nextTask () {
 		AssetDescriptor assetDesc = loadQueue.removeIndex(0);
 
@@ -537,16 +652,20 @@ public class AssetManager implements Disposable {
 		} else {
 			// else add a new task for the asset.
 			log.info("Loading: " + assetDesc);
-			addTask(assetDesc);
+			Array<AssetLoadingTask> tasks = new Array();
+			rootTasks.add(addTask(tasks, assetDesc));
+			stacks.add(tasks);
 		}
 	}
 
 	/** Adds a {@link AssetLoadingTask} to the task stack for the given asset. */
-	private void addTask (AssetDescriptor assetDesc) {
+	private AssetLoadingTask addTask (Array<AssetLoadingTask> tasks, AssetDescriptor assetDesc) {
 		AssetLoader loader = getLoader(assetDesc.type, assetDesc.fileName);
 		if (loader == null) throw new GdxRuntimeException("No loader for type: " + ClassReflection.getSimpleName(assetDesc.type));
-		tasks.add(new AssetLoadingTask(this, assetDesc, loader, executor));
+		AssetLoadingTask task = new AssetLoadingTask(this, assetDesc, loader, executor);
+		tasks.add(task);
 		peakTasks++;
+		return task;
 	}
 
 	/** Adds an asset to this AssetManager */
@@ -566,25 +685,66 @@ public class AssetManager implements Disposable {
 	}
 
 	/** Updates the current task on the top of the task stack.
+	 * @param primary true if the task stack can use loaders that are not {@link AssetLoader#isConcurrent() concurrent}.
 	 * @return true if the asset is loaded or the task was cancelled. */
-	private boolean updateTask () {
+	private boolean updateTask (Array<AssetLoadingTask> tasks, boolean primary) {
 		AssetLoadingTask task = tasks.peek();
 
+		if (!task.cancel && !isStarted(task)) {
+			String fileName = task.assetDesc.fileName;
+
+			// if the asset was loaded by another task since this task was added, increase its reference count
+			if (isLoaded(fileName)) {
+				log.debug("Already loaded: " + task.assetDesc);
+				Class type = assetTypes.get(fileName);
+				RefCountedContainer assetRef = assets.get(type).get(fileName);
+				assetRef.refCount++;
+				incrementRefCountedDependencies(fileName);
+				tasks.pop();
+				if (rootTasks.removeValue(task, true)) {
+					loaded++;
+					if (task.assetDesc.params != null && task.assetDesc.params.loadedCallback != null)
+						task.assetDesc.params.loadedCallback.finishedLoading(this, fileName, task.assetDesc.type);
+				}
+				return true;
+			}
+
+			// if the asset is being loaded by another stack, wait for it. The primary stack takes over loading it and its
+			// dependencies, so it never waits on stacks that may be waiting to become primary.
+			for (int i = 0; i < stacks.size; i++) {
+				Array<AssetLoadingTask> other = stacks.get(i);
+				if (other == tasks) continue;
+				for (int ii = 0; ii < other.size; ii++) {
+					AssetLoadingTask otherTask = other.get(ii);
+					if (!otherTask.assetDesc.fileName.equals(fileName) || !isStarted(otherTask)) continue;
+					if (primary) {
+						for (int iii = ii; iii < other.size; iii++)
+							tasks.add(other.get(iii));
+						other.truncate(ii);
+					}
+					return false;
+				}
+			}
+
+			// only the primary stack uses loaders that can't load multiple assets at once
+			if (!primary && !task.loader.isConcurrent()) return false;
+		}
+
+		// a task whose dependencies are loaded by another stack waits until they are done
+		if (!task.cancel && task.dependenciesLoaded && task.dependencies != null && !dependenciesLoaded(task)) return false;
+
 		boolean complete = true;
 		try {
 			complete = task.cancel || task.update();
 		} catch (RuntimeException ex) {
-			task.cancel = true;
+			task.failed();
 			taskFailed(task.assetDesc, ex);
 		}
 
 		// if the task has been cancelled or has finished loading
 		if (complete) {
 			// increase the number of loaded assets and pop the task from the stack
-			if (tasks.size == 1) {
-				loaded++;
-				peakTasks = 0;
-			}
+			if (rootTasks.removeValue(task, true)) loaded++;
 			tasks.pop();
 
 			if (task.cancel) return true;
@@ -603,6 +763,26 @@ public class AssetManager implements Disposable {
 		return false;
 	}
 
+	/** Returns true if the task has begun loading its asset. */
+	private boolean isStarted (AssetLoadingTask task) {
+		return task.dependenciesLoaded || task.depsFuture != null;
+	}
+
+	/** Returns true if all dependencies of the task are loaded, false if any are still being loaded.
+	 * @throws GdxRuntimeException if a dependency is neither loaded nor being loaded. */
+	private boolean dependenciesLoaded (AssetLoadingTask task) {
+		for (AssetDescriptor dependency : task.dependencies) {
+			if (isLoaded(dependency.fileName)) continue;
+			for (int i = 0; i < stacks.size; i++) {
+				Array<AssetLoadingTask> tasks = stacks.get(i);
+				for (int ii = 0; ii < tasks.size; ii++)
+					if (tasks.get(ii).assetDesc.fileName.equals(dependency.fileName)) return false;
+			}
+			throw new GdxRuntimeException("Dependency was not loaded: " + dependency);
+		}
+		return true;
+	}
+
 	/** Called when a task throws an exception during loading. The default implementation rethrows the exception. A subclass may
 	 * supress the default implementation when loading assets where loading failure is recoverable. */
 	protected void taskFailed (AssetDescriptor assetDesc, RuntimeException ex) {
@@ -622,15 +802,17 @@ public class AssetManager implements Disposable {
 	}
 
 	/** Handles a runtime/loading error in {@link #update()} by optionally invoking the {@link AssetErrorListener}.
+	 * @param tasks the task stack that failed, or null.
 	 * @param t */
-	private void handleTaskError (Throwable t) {
+	private void handleTaskError (@Null Array<AssetLoadingTask> tasks, Throwable t) {
 		log.error("Error loading asset.", t);
 
-		if (tasks.isEmpty()) throw new GdxRuntimeException(t);
+		if (tasks == null || tasks.isEmpty()) throw new GdxRuntimeException(t);
 
 		// pop the faulty task from the stack
 		AssetLoadingTask task = tasks.pop();
 		AssetDescriptor assetDesc = task.assetDesc;
+		task.failed();
 
 		// remove all dependencies
 		if (task.dependenciesLoaded && task.dependencies != null) {
@@ -639,6 +821,12 @@ public class AssetManager implements Disposable {
 		}
 
 		// clear the rest of the stack
+		rootTasks.removeValue(task, true);
+		for (int i = 0; i < tasks.size; i++) {
+			AssetLoadingTask parent = tasks.get(i);
+			parent.failed();
+			rootTasks.removeValue(parent, true);
+		}
 		tasks.clear();
 
 		// inform the listener that something bad happened
@@ -676,7 +864,14 @@ public class AssetManager implements Disposable {
 
 	/** @return the number of currently queued assets */
 	public synchronized int getQueuedAssets () {
-		return loadQueue.size + tasks.size;
+		return loadQueue.size + getTaskCount();
+	}
+
+	private int getTaskCount () {
+		int count = 0;
+		for (int i = 0; i < stacks.size; i++)
+			count += stacks.get(i).size;
+		return count;
 	}
 
 	/** @return the progress in percent of completion. */
@@ -684,7 +879,7 @@ public class AssetManager implements Disposable {
 		if (toLoad == 0) return 1;
 		float fractionalLoaded = loaded;
 		if (peakTasks > 0) {
-			fractionalLoaded += ((peakTasks - tasks.size) / (float)peakTasks);
+			fractionalLoaded += ((peakTasks - getTaskCount()) / (float)peakTasks) * rootTasks.size;
 		}
 		return Math.min(1, fractionalLoaded / toLoad);
 	}
@@ -739,7 +934,8 @@ public class AssetManager implements Disposable {
 			this.toLoad = 0;
 			this.peakTasks = 0;
 			this.loadQueue.clear();
-			this.tasks.clear();
+			this.stacks.clear();
+			this.rootTasks.clear();
 		}
 	}
 
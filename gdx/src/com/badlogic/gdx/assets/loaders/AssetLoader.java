@@ -18,6 +18,7 @@ package com.badlogic.gdx.assets.loaders;
 
 import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
 
@@ -48,4 +49,12 @@ public abstract class AssetLoader<T, P extends AssetLoaderParameters<T>> {
 	 * @param parameter parameters for loading the asset
 	 * @return other assets that the asset depends on and need to be loaded first or null if there are no dependencies. */
 	public abstract Array<AssetDescriptor> getDependencies (String fileName, FileHandle file, P parameter);
+
+	/** Returns true if this loader can load multiple assets at the same time. An {@link AssetManager} with a maxConcurrent greater
+	 * than 1 only loads one asset at a time with loaders that return false. A concurrent loader must not keep the state of an asset
+	 * being loaded in fields shared by all assets, eg by keying it by file name, and must synchronize access to it.
+	 * @return false by default. */
+	public boolean isConcurrent () {
+		return false;
+	}
 }
@@ -40,8 +40,8 @@ public abstract class AsynchronousAssetLoader<T, P extends AssetLoaderParameters
 	public abstract void loadAsync (AssetManager manager, String fileName, FileHandle file, P parameter);
 
 	/** Called if this task is unloaded before {@link #loadSync(AssetManager, String, FileHandle, AssetLoaderParameters) loadSync}
-	 * is called. This method may be invoked on any thread, but will not be invoked during or after
-	 * {@link #loadSync(AssetManager, String, FileHandle, AssetLoaderParameters) loadSync}. This method is not invoked when a task
+	 * has returned the asset. This method may be invoked on any thread, but will not be invoked during
+	 * {@link #loadSync(AssetManager, String, FileHandle, AssetLoaderParameters) loadSync} or after it returned the asset. This method is not invoked when a task
 	 * is cancelled because it threw an exception, only when the asset is unloaded before loading is complete.
 	 * <p>
 	 * The default implementation does nothing. Subclasses should release any resources acquired in
@@ -52,10 +52,12 @@ public abstract class AsynchronousAssetLoader<T, P extends AssetLoaderParameters
 	public void unloadAsync (AssetManager manager, String fileName, FileHandle file, P parameter) {
 	}
 
-	/** Loads the OpenGL part of the asset.
+	/** Loads the OpenGL part of the asset. If the work is too much for a single frame, this may do part of it and return null, in
+	 * which case it is called again on the next update. See {@link AssetManager#getFrameTimeRemaining()}.
 	 * @param manager
 	 * @param fileName
 	 * @param file the resolved file to load
-	 * @param parameter */
+	 * @param parameter
+	 * @return the asset, or null if loading is not complete. */
 	public abstract T loadSync (AssetManager manager, String fileName, FileHandle file, P parameter);
 }
@@ -30,6 +30,7 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
 
 /** {@link AssetLoader} for {@link BitmapFont} instances. Loads the font description file (.fnt) asynchronously, loads the
  * {@link Texture} containing the glyphs as a dependency. The {@link BitmapFontParameter} allows you to set things like texture
@@ -40,17 +41,18 @@ public class BitmapFontLoader extends AsynchronousAssetLoader<BitmapFont, Bitmap
 		super(resolver);
 	}
 
-	BitmapFontData data;
+	final ObjectMap<String, BitmapFontData> datas = new ObjectMap();
 
 	@Override
 	public Array<AssetDescriptor> getDependencies (String fileName, FileHandle file, BitmapFontParameter parameter) {
 		Array<AssetDescriptor> deps = new Array();
 		if (parameter != null && parameter.bitmapFontData != null) {
-			data = parameter.bitmapFontData;
+			putData(fileName, parameter.bitmapFontData);
 			return deps;
 		}
 
-		data = new BitmapFontData(file, parameter != null && parameter.flip);
+		BitmapFontData data = new BitmapFontData(file, parameter != null && parameter.flip);
+		putData(fileName, data);
 		if (parameter != null && parameter.atlasName != null) {
 			deps.add(new AssetDescriptor(parameter.atlasName, TextureAtlas.class));
 		} else {
@@ -74,12 +76,22 @@ public class BitmapFontLoader extends AsynchronousAssetLoader<BitmapFont, Bitmap
 		return deps;
 	}
 
+	private void putData (String fileName, BitmapFontData data) {
+		synchronized (datas) {
+			datas.put(fileName, data);
+		}
+	}
+
 	@Override
 	public void loadAsync (AssetManager manager, String fileName, FileHandle file, BitmapFontParameter parameter) {
 	}
 
 	@Override
 	public BitmapFont loadSync (AssetManager manager, String fileName, FileHandle file, BitmapFontParameter parameter) {
+		BitmapFontData data;
+		synchronized (datas) {
+			data = datas.remove(fileName);
+		}
 		if (parameter != null && parameter.atlasName != null) {
 			TextureAtlas atlas = manager.get(parameter.atlasName, TextureAtlas.class);
 			String name = file.sibling(data.imagePaths[0]).nameWithoutExtension().toString();
@@ -98,6 +110,18 @@ public class BitmapFontLoader extends AsynchronousAssetLoader<BitmapFont, Bitmap
 		}
 	}
 
+	@Override
+	public void unloadAsync (AssetManager manager, String fileName, FileHandle file, BitmapFontParameter parameter) {
+		synchronized (datas) {
+			datas.remove(fileName);
+		}
+	}
+
+	@Override
+	public boolean isConcurrent () {
+		return true;
+	}
+
 	/** Parameter to be passed to {@link AssetManager#load(String, Class, AssetLoaderParameters)} if additional configuration is
 	 * necessary for the {@link BitmapFont}.
 	 * @author mzechner */
@@ -26,4 +26,12 @@ public abstract class SynchronousAssetLoader<T, P extends AssetLoaderParameters<
 	}
 
 	public abstract T load (AssetManager assetManager, String fileName, FileHandle file, P parameter);
+
+	/** Called if {@link #getDependencies(String, FileHandle, AssetLoaderParameters) getDependencies} has returned but
+	 * {@link #load(AssetManager, String, FileHandle, AssetLoaderParameters) load} will not be called, because the asset was
+	 * unloaded or it or one of its dependencies failed to load. It is never called during the other methods of this loader.
+	 * <p>
+	 * The default implementation does nothing. Subclasses should release anything kept for the asset by getDependencies. */
+	public void unload (AssetManager assetManager, String fileName, FileHandle file, P parameter) {
+	}
 }
@@ -26,39 +26,43 @@ import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Page;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
 
 /** {@link AssetLoader} to load {@link TextureAtlas} instances. Passing a {@link TextureAtlasParameter} to
  * {@link AssetManager#load(String, Class, AssetLoaderParameters)} allows to specify whether the atlas regions should be flipped
- * on the y-axis or not.
+ * on the y-axis or not. Pages with a ".ktx" or ".zktx" extension are loaded with
+ * {@link com.badlogic.gdx.graphics.glutils.KTXTextureData}, which uploads the compressed data and any mipmaps in the file
+ * without decoding an image.
  * @author mzechner */
 public class TextureAtlasLoader extends SynchronousAssetLoader<TextureAtlas, TextureAtlasLoader.TextureAtlasParameter> {
 	public TextureAtlasLoader (FileHandleResolver resolver) {
 		super(resolver);
 	}
 
-	TextureAtlasData data;
+	final ObjectMap<String, TextureAtlasData> datas = new ObjectMap();
 
 	@Override
 	public TextureAtlas load (AssetManager assetManager, String fileName, FileHandle file, TextureAtlasParameter parameter) {
+		TextureAtlasData data = datas.remove(fileName);
 		for (Page page : data.getPages()) {
 			Texture texture = assetManager.get(page.textureFile.path().replaceAll("\\\\", "/"), Texture.class);
 			page.texture = texture;
 		}
 
-		TextureAtlas atlas = new TextureAtlas(data);
-		data = null;
-		return atlas;
+		return new TextureAtlas(data);
 	}
 
 	@Override
 	public Array<AssetDescriptor> getDependencies (String fileName, FileHandle atlasFile, TextureAtlasParameter parameter) {
 		FileHandle imgDir = atlasFile.parent();
 
+		TextureAtlasData data;
 		if (parameter != null)
 			data = new TextureAtlasData(atlasFile, imgDir, parameter.flip);
 		else {
 			data = new TextureAtlasData(atlasFile, imgDir, false);
 		}
+		datas.put(fileName, data);
 
 		Array<AssetDescriptor> dependencies = new Array();
 		for (Page page : data.getPages()) {
@@ -72,6 +76,18 @@ public class TextureAtlasLoader extends SynchronousAssetLoader<TextureAtlas, Tex
 		return dependencies;
 	}
 
+	@Override
+	public void unload (AssetManager assetManager, String fileName, FileHandle file, TextureAtlasParameter parameter) {
+		datas.remove(fileName);
+	}
+
+	/** Both methods of a synchronous loader are called on the rendering thread, so the data for each atlas only needs to be kept
+	 * by file name. */
+	@Override
+	public boolean isConcurrent () {
+		return true;
+	}
+
 	static public class TextureAtlasParameter extends AssetLoaderParameters<TextureAtlas> {
 		/** whether to flip the texture atlas vertically **/
 		public boolean flip = false;
@@ -25,21 +25,26 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.Texture.TextureWrap;
 import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.TextureUpload;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
 
 /** {@link AssetLoader} for {@link Texture} instances. The pixel data is loaded asynchronously. The texture is then created on the
  * rendering thread, synchronously. Passing a {@link TextureParameter} to
  * {@link AssetManager#load(String, Class, AssetLoaderParameters)} allows one to specify parameters as can be passed to the
- * various Texture constructors, e.g. filtering, whether to generate mipmaps and so on.
+ * various Texture constructors, e.g. filtering, whether to generate mipmaps and so on. Multiple textures can be loaded at the
+ * same time. When the {@link AssetManager#getFrameTimeRemaining() update time} is limited, a texture is uploaded in parts over
+ * multiple updates using {@link TextureUpload}.
  * @author mzechner */
 public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureLoader.TextureParameter> {
 	static public class TextureLoaderInfo {
 		String filename;
 		TextureData data;
 		Texture texture;
+		TextureUpload upload;
 	};
 
-	TextureLoaderInfo info = new TextureLoaderInfo();
+	final ObjectMap<String, TextureLoaderInfo> infos = new ObjectMap();
 
 	public TextureLoader (FileHandleResolver resolver) {
 		super(resolver);
@@ -47,6 +52,7 @@ public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureLoade
 
 	@Override
 	public void loadAsync (AssetManager manager, String fileName, FileHandle file, TextureParameter parameter) {
+		TextureLoaderInfo info = new TextureLoaderInfo();
 		info.filename = fileName;
 		if (parameter == null || parameter.textureData == null) {
 			Format format = null;
@@ -65,17 +71,32 @@ public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureLoade
 			info.texture = parameter.texture;
 		}
 		if (!info.data.isPrepared()) info.data.prepare();
+		synchronized (infos) {
+			infos.put(fileName, info);
+		}
 	}
 
 	@Override
 	public Texture loadSync (AssetManager manager, String fileName, FileHandle file, TextureParameter parameter) {
+		TextureLoaderInfo info;
+		synchronized (infos) {
+			info = infos.get(fileName);
+		}
 		if (info == null) return null;
 		Texture texture = info.texture;
 		if (texture != null) {
 			texture.load(info.data);
+		} else if (info.upload != null
+			|| (manager.getFrameTimeRemaining() != Long.MAX_VALUE && TextureUpload.isSupported(info.data))) {
+			if (info.upload == null) info.upload = new TextureUpload(info.data);
+			if (!info.upload.update(manager.getFrameTimeRemaining())) return null;
+			texture = info.upload.getTexture();
 		} else {
 			texture = new Texture(info.data);
 		}
+		synchronized (infos) {
+			infos.remove(fileName);
+		}
 		if (parameter != null) {
 			texture.setFilter(parameter.minFilter, parameter.magFilter);
 			texture.setWrap(parameter.wrapU, parameter.wrapV);
@@ -83,6 +104,20 @@ public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureLoade
 		return texture;
 	}
 
+	@Override
+	public void unloadAsync (AssetManager manager, String fileName, FileHandle file, TextureParameter parameter) {
+		TextureLoaderInfo info;
+		synchronized (infos) {
+			info = infos.remove(fileName);
+		}
+		if (info != null && info.upload != null) info.upload.dispose();
+	}
+
+	@Override
+	public boolean isConcurrent () {
+		return true;
+	}
+
 	@Override
 	public Array<AssetDescriptor> getDependencies (String fileName, FileHandle file, TextureParameter parameter) {
 		return null;
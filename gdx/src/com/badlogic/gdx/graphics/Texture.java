@@ -231,7 +231,7 @@ public class Texture extends GLTexture {
 		return super.toString();
 	}
 
-	private static void addManagedTexture (Application app, Texture texture) {
+	static void addManagedTexture (Application app, Texture texture) {
 		Array<Texture> managedTextureArray = managedTextures.get(app);
 		if (managedTextureArray == null) managedTextureArray = new Array<Texture>();
 		managedTextureArray.add(texture);
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics;
+
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap.Blending;
+import com.badlogic.gdx.graphics.TextureData.TextureDataType;
+import com.badlogic.gdx.graphics.glutils.GLOnlyTextureData;
+import com.badlogic.gdx.graphics.glutils.MipMapGenerator;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Creates a {@link Texture} from {@link TextureData} by uploading the image a number of rows at a time, so a large texture can
+ * be uploaded over multiple frames without a frame taking much longer than the others. When mipmaps are generated on the CPU
+ * (see {@link MipMapGenerator#isHardwareMipMap()}), each level is uploaded the same way after the previous one, otherwise
+ * glGenerateMipmap is called once all rows are uploaded. Only data of type {@link TextureDataType#Pixmap} can be uploaded this way, see {@link #isSupported(TextureData)}.
+ * <p>
+ * The texture must not be used until {@link #update(long)} returns true. If the upload is abandoned before then, call
+ * {@link #dispose()}. */
+public class TextureUpload implements Disposable {
+	private final TextureData data;
+	private final Texture texture;
+	private Pixmap pixmap;
+	private boolean disposePixmap;
+	private final boolean cpuMipMaps;
+	private int level, row, rowBytes;
+	private int uploadedRows, totalRows;
+	private float nanosPerByte;
+
+	/** Allocates the texture. The data is prepared if necessary.
+	 * @throws IllegalArgumentException if the data is not supported. */
+	public TextureUpload (TextureData data) {
+		if (!isSupported(data)) throw new IllegalArgumentException("Only pixmap texture data can be uploaded in parts.");
+		if (!data.isPrepared()) data.prepare();
+		this.data = data;
+
+		pixmap = data.consumePixmap();
+		disposePixmap = data.disposePixmap();
+		if (data.getFormat() != pixmap.getFormat()) {
+			Pixmap tmp = new Pixmap(pixmap.getWidth(), pixmap.getHeight(), data.getFormat());
+			tmp.setBlending(Blending.None);
+			tmp.drawPixmap(pixmap, 0, 0, 0, 0, pixmap.getWidth(), pixmap.getHeight());
+			if (disposePixmap) pixmap.dispose();
+			pixmap = tmp;
+			disposePixmap = true;
+		}
+		rowBytes = pixmap.getPixels().capacity() / pixmap.getHeight();
+
+		cpuMipMaps = data.useMipMaps() && !MipMapGenerator.isHardwareMipMap();
+		totalRows = pixmap.getHeight();
+		if (cpuMipMaps) {
+			for (int width = pixmap.getWidth(), height = pixmap.getHeight(); width > 1 || height > 1;) {
+				width = Math.max(1, width / 2);
+				height = Math.max(1, height / 2);
+				totalRows += height;
+			}
+		}
+
+		texture = new Texture(new GLOnlyTextureData(pixmap.getWidth(), pixmap.getHeight(), 0, pixmap.getGLInternalFormat(),
+			pixmap.getGLFormat(), pixmap.getGLType()));
+	}
+
+	/** Uploads as many rows as fit in the given time, at least one row so the upload always progresses.
+	 * @param nanos the time available for uploading, in nanoseconds.
+	 * @return true if the texture is complete. */
+	public boolean update (long nanos) {
+		if (pixmap == null) return true;
+
+		long start = TimeUtils.nanoTime();
+		texture.bind();
+		Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+		long elapsed = 0;
+		while (true) {
+			int height = pixmap.getHeight();
+			// The first chunk of each update is small, then chunks are sized to fill the remaining time.
+			int rows = nanosPerByte == 0 ? 16 : (int)((nanos - elapsed) / (nanosPerByte * rowBytes));
+			if (rows < 1) {
+				if (elapsed > 0) break;
+				rows = 1;
+			}
+			rows = Math.min(rows, height - row);
+			ByteBuffer pixels = pixmap.getPixels();
+			pixels.position(row * rowBytes);
+			Gdx.gl.glTexSubImage2D(GL20.GL_TEXTURE_2D, level, 0, row, pixmap.getWidth(), rows, pixmap.getGLFormat(),
+				pixmap.getGLType(), pixels);
+			pixels.position(0);
+			row += rows;
+			uploadedRows += rows;
+			long time = TimeUtils.nanoTime() - start;
+			// Rows get narrower with each mipmap level, so the time is measured per byte.
+			nanosPerByte = Math.max(1, time - elapsed) / ((float)rows * rowBytes);
+			elapsed = time;
+			if (row == height) {
+				if (!nextLevel()) break;
+				elapsed = TimeUtils.nanoTime() - start;
+			}
+			if (elapsed >= nanos) break;
+		}
+
+		Gdx.gl.glBindTexture(GL20.GL_TEXTURE_2D, 0);
+		return pixmap == null;
+	}
+
+	/** Starts the next mipmap level when they are generated on the CPU, otherwise completes the texture.
+	 * @return false if the texture is complete. */
+	private boolean nextLevel () {
+		int width = pixmap.getWidth(), height = pixmap.getHeight();
+		if (cpuMipMaps && (width > 1 || height > 1)) {
+			Pixmap next = new Pixmap(Math.max(1, width / 2), Math.max(1, height / 2), pixmap.getFormat());
+			next.setBlending(Blending.None);
+			next.drawPixmap(pixmap, 0, 0, width, height, 0, 0, next.getWidth(), next.getHeight());
+			if (disposePixmap) pixmap.dispose();
+			pixmap = next;
+			disposePixmap = true;
+			level++;
+			row = 0;
+			rowBytes = pixmap.getPixels().capacity() / pixmap.getHeight();
+			Gdx.gl.glTexImage2D(GL20.GL_TEXTURE_2D, level, pixmap.getGLInternalFormat(), pixmap.getWidth(), pixmap.getHeight(), 0,
+				pixmap.getGLFormat(), pixmap.getGLType(), null);
+			return true;
+		}
+
+		if (data.useMipMaps() && !cpuMipMaps) Gdx.gl20.glGenerateMipmap(GL20.GL_TEXTURE_2D);
+		if (disposePixmap) pixmap.dispose();
+		pixmap = null;
+		// The texture has all its image data now, so it can be reloaded from the original data after a context loss.
+		texture.data = data;
+		if (data.isManaged()) Texture.addManagedTexture(Gdx.app, texture);
+		return false;
+	}
+
+	/** @return the fraction of rows uploaded, including the rows of mipmap levels generated on the CPU, between 0 and 1. */
+	public float getProgress () {
+		return pixmap == null ? 1 : uploadedRows / (float)totalRows;
+	}
+
+	/** @return the texture, which is incomplete until {@link #update(long)} returns true. */
+	public Texture getTexture () {
+		return texture;
+	}
+
+	/** Disposes the texture and the pixmap if the upload is not complete. */
+	public void dispose () {
+		if (pixmap == null) return;
+		if (disposePixmap) pixmap.dispose();
+		pixmap = null;
+		texture.dispose();
+	}
+
+	/** @return true if the data can be uploaded in parts. */
+	static public boolean isSupported (TextureData data) {
+		return data.getType() == TextureDataType.Pixmap;
+	}
+}
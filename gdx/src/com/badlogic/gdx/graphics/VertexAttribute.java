@@ -165,6 +165,7 @@ public final class VertexAttribute {
 			return numComponents;
 		case GL20.GL_UNSIGNED_SHORT:
 		case GL20.GL_SHORT:
+		case GL30.GL_HALF_FLOAT:
 			return 2 * numComponents;
 		}
 		return 0;
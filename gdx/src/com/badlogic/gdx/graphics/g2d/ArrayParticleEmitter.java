@@ -0,0 +1,641 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.graphics.g2d;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.NumberUtils;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncExecutor.RangeTask;
+
+/** A {@link ParticleEmitter} that stores the particles in primitive arrays, one array per particle property, instead of a
+ * {@link ParticleEmitter.Particle Particle} sprite per particle. Particles are updated by tight loops over the arrays, which also
+ * compute their vertices, and are drawn with few {@link Batch#draw(Texture, float[], int, int)} calls. This is faster than
+ * ParticleEmitter for emitters with many particles. Large emitters can be updated on multiple threads, see
+ * {@link #setExecutor(AsyncExecutor)}.
+ * <p>
+ * The same effect files are used as for ParticleEmitter and the particles behave the same, though they may be drawn in a different
+ * order. Particle objects are not used, {@link #getParticles()} returns an empty array.
+ * @see ArrayParticleEffect */
+public class ArrayParticleEmitter extends ParticleEmitter {
+	/** The number of particles updated by each task when an executor is set. Smaller chunks balance better across threads, larger
+	 * chunks have less overhead. */
+	public int particlesPerTask = 2048;
+
+	private int[] totalLife, currentLife, sprite;
+	private float[] xScale, xScaleDiff, yScale, yScaleDiff;
+	private float[] rotation, rotationDiff;
+	private float[] velocity, velocityDiff;
+	private float[] angle, angleDiff, angleCos, angleSin;
+	private float[] transparency, transparencyDiff;
+	private float[] wind, windDiff;
+	private float[] gravity, gravityDiff;
+	private float[] tint;
+	// The sprite properties: the bottom left corner, size, origin, scale, rotation and packed color.
+	private float[] spriteX, spriteY, width, height, originX, originY, scaleX, scaleY, spriteRotation, color;
+	private float[] vertices;
+
+	private @Null AsyncExecutor executor;
+	private @Null UpdateTask task;
+
+	public ArrayParticleEmitter () {
+	}
+
+	public ArrayParticleEmitter (BufferedReader reader) throws IOException {
+		super(reader);
+	}
+
+	public ArrayParticleEmitter (ParticleEmitter emitter) {
+		super(emitter);
+		if (emitter instanceof ArrayParticleEmitter) {
+			ArrayParticleEmitter arrayEmitter = (ArrayParticleEmitter)emitter;
+			particlesPerTask = arrayEmitter.particlesPerTask;
+			executor = arrayEmitter.executor;
+		}
+	}
+
+	public void setMaxParticleCount (int maxParticleCount) {
+		// The base class arrays are empty, so its particle loops do nothing.
+		super.setMaxParticleCount(0);
+		this.maxParticleCount = maxParticleCount;
+		totalLife = new int[maxParticleCount];
+		currentLife = new int[maxParticleCount];
+		sprite = new int[maxParticleCount];
+		xScale = new float[maxParticleCount];
+		xScaleDiff = new float[maxParticleCount];
+		yScale = new float[maxParticleCount];
+		yScaleDiff = new float[maxParticleCount];
+		rotation = new float[maxParticleCount];
+		rotationDiff = new float[maxParticleCount];
+		velocity = new float[maxParticleCount];
+		velocityDiff = new float[maxParticleCount];
+		angle = new float[maxParticleCount];
+		angleDiff = new float[maxParticleCount];
+		angleCos = new float[maxParticleCount];
+		angleSin = new float[maxParticleCount];
+		transparency = new float[maxParticleCount];
+		transparencyDiff = new float[maxParticleCount];
+		wind = new float[maxParticleCount];
+		windDiff = new float[maxParticleCount];
+		gravity = new float[maxParticleCount];
+		gravityDiff = new float[maxParticleCount];
+		tint = new float[maxParticleCount * 3];
+		spriteX = new float[maxParticleCount];
+		spriteY = new float[maxParticleCount];
+		width = new float[maxParticleCount];
+		height = new float[maxParticleCount];
+		originX = new float[maxParticleCount];
+		originY = new float[maxParticleCount];
+		scaleX = new float[maxParticleCount];
+		scaleY = new float[maxParticleCount];
+		spriteRotation = new float[maxParticleCount];
+		color = new float[maxParticleCount];
+		vertices = new float[maxParticleCount * Sprite.SPRITE_SIZE];
+	}
+
+	/** @param executor Used to update the particles in parallel with the calling thread when there are more than
+	 *           {@link #particlesPerTask} particles. May be null to update all particles on the calling thread, which is also done
+	 *           when updating on one of the executor's threads. */
+	public void setExecutor (@Null AsyncExecutor executor) {
+		this.executor = executor;
+	}
+
+	public @Null AsyncExecutor getExecutor () {
+		return executor;
+	}
+
+	public void addParticle () {
+		if (activeCount == maxParticleCount) return;
+		activateParticle(activeCount++);
+	}
+
+	public void addParticles (int count) {
+		count = Math.min(count, maxParticleCount - activeCount);
+		for (int i = 0; i < count; i++)
+			activateParticle(activeCount++);
+	}
+
+	public void update (float delta) {
+		accumulator += delta * 1000;
+		if (accumulator < 1) return;
+		int deltaMillis = (int)accumulator;
+		accumulator -= deltaMillis;
+
+		updateEmission(deltaMillis);
+
+		int count = activeCount;
+		if (count == 0) return;
+		if (executor == null)
+			updateParticles(0, count, delta, deltaMillis);
+		else {
+			UpdateTask task = this.task;
+			if (task == null) this.task = task = new UpdateTask();
+			task.delta = delta;
+			task.deltaMillis = deltaMillis;
+			executor.parallelFor(count, particlesPerTask, task);
+		}
+		removeDeadParticles();
+	}
+
+	public void draw (Batch batch) {
+		if (premultipliedAlpha) {
+			batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		} else if (additive) {
+			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE);
+		} else {
+			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		}
+
+		// Consecutive particles with the same texture are drawn with one call.
+		int count = activeCount;
+		if (count > 0) {
+			Object[] sprites = this.sprites.items;
+			int[] sprite = this.sprite;
+			float[] vertices = this.vertices;
+			Texture texture = ((Sprite)sprites[sprite[0]]).getTexture();
+			int start = 0;
+			for (int i = 1; i < count; i++) {
+				Texture next = ((Sprite)sprites[sprite[i]]).getTexture();
+				if (next != texture) {
+					batch.draw(texture, vertices, start * Sprite.SPRITE_SIZE, (i - start) * Sprite.SPRITE_SIZE);
+					texture = next;
+					start = i;
+				}
+			}
+			batch.draw(texture, vertices, start * Sprite.SPRITE_SIZE, (count - start) * Sprite.SPRITE_SIZE);
+		}
+
+		if (cleansUpBlendFunction && (additive || premultipliedAlpha))
+			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+	}
+
+	/** Calls {@link #update(float)} and then {@link #draw(Batch)}. */
+	public void draw (Batch batch, float delta) {
+		update(delta);
+		draw(batch);
+	}
+
+	public void setPosition (float x, float y) {
+		if (attached) {
+			float xAmount = x - this.x, yAmount = y - this.y;
+			float[] spriteX = this.spriteX, spriteY = this.spriteY, vertices = this.vertices;
+			for (int i = 0, n = activeCount; i < n; i++) {
+				spriteX[i] += xAmount;
+				spriteY[i] += yAmount;
+			}
+			for (int i = 0, n = activeCount * Sprite.SPRITE_SIZE; i < n; i += 5) {
+				vertices[i] += xAmount;
+				vertices[i + 1] += yAmount;
+			}
+		}
+		super.setPosition(x, y);
+	}
+
+	public void setSprites (Array<Sprite> sprites) {
+		super.setSprites(sprites);
+		if (sprites.size == 0) return;
+		for (int i = 0, n = activeCount; i < n; i++) {
+			int index = 0;
+			switch (spriteMode) {
+			case random:
+				index = MathUtils.random(sprites.size - 1);
+				break;
+			case animated:
+				float percent = 1 - currentLife[i] / (float)totalLife[i];
+				index = Math.min((int)(percent * sprites.size), sprites.size - 1);
+				break;
+			}
+			Sprite sprite = sprites.get(index);
+			this.sprite[i] = index;
+			originX[i] = sprite.getOriginX();
+			originY[i] = sprite.getOriginY();
+		}
+		updateVertices(0, activeCount);
+	}
+
+	public void setFlip (boolean flipX, boolean flipY) {
+		super.setFlip(flipX, flipY);
+		updateVertices(0, activeCount);
+	}
+
+	/** Returns the bounding box for all active particles. z axis will always be zero. */
+	public BoundingBox getBoundingBox () {
+		if (bounds == null) bounds = new BoundingBox();
+		BoundingBox bounds = this.bounds;
+		bounds.inf();
+		int count = activeCount;
+		if (count == 0) return bounds;
+		float[] vertices = this.vertices;
+		float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY;
+		float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY;
+		for (int i = 0, n = count * Sprite.SPRITE_SIZE; i < n; i += 5) {
+			float x = vertices[i], y = vertices[i + 1];
+			minX = Math.min(minX, x);
+			minY = Math.min(minY, y);
+			maxX = Math.max(maxX, x);
+			maxY = Math.max(maxY, y);
+		}
+		bounds.ext(minX, minY, 0);
+		bounds.ext(maxX, maxY, 0);
+		return bounds;
+	}
+
+	/** Returns the vertices of the active particles, 20 floats per particle in the format used by
+	 * {@link Batch#draw(Texture, float[], int, int)}. The vertices are computed when the particles are updated. */
+	public float[] getVertices () {
+		return vertices;
+	}
+
+	private void activateParticle (int i) {
+		Array<Sprite> sprites = this.sprites;
+		int index = spriteMode == SpriteMode.random ? MathUtils.random(sprites.size - 1) : 0;
+		Sprite sprite = sprites.get(index);
+		this.sprite[i] = index;
+
+		float percent = durationTimer / duration;
+		int updateFlags = this.updateFlags;
+
+		if (lifeValue.independent) generateLifeValues();
+
+		if (lifeOffsetValue.independent) generateLifeOffsetValues();
+
+		currentLife[i] = totalLife[i] = life + (int)(lifeDiff * lifeValue.getScale(percent));
+
+		if (velocityValue.active) {
+			float velocity = velocityValue.newLowValue(), velocityDiff = velocityValue.newHighValue();
+			if (!velocityValue.relative) velocityDiff -= velocity;
+			this.velocity[i] = velocity;
+			this.velocityDiff[i] = velocityDiff;
+		}
+
+		float angle = angleValue.newLowValue(), angleDiff = angleValue.newHighValue();
+		if (!angleValue.relative) angleDiff -= angle;
+		float alignedAngle = 0;
+		if ((updateFlags & UPDATE_ANGLE) == 0) {
+			angle += angleDiff * angleValue.getScale(0);
+			alignedAngle = angle;
+			angleCos[i] = MathUtils.cosDeg(angle);
+			angleSin[i] = MathUtils.sinDeg(angle);
+		}
+		this.angle[i] = angle;
+		this.angleDiff[i] = angleDiff;
+
+		float spriteWidth = sprite.getWidth();
+		float spriteHeight = sprite.getHeight();
+
+		float xScale = xScaleValue.newLowValue() / spriteWidth, xScaleDiff = xScaleValue.newHighValue() / spriteWidth;
+		if (!xScaleValue.relative) xScaleDiff -= xScale;
+		this.xScale[i] = xScale;
+		this.xScaleDiff[i] = xScaleDiff;
+		float scaleX = xScale + xScaleDiff * xScaleValue.getScale(0), scaleY = scaleX;
+		if (yScaleValue.active) {
+			float yScale = yScaleValue.newLowValue() / spriteHeight, yScaleDiff = yScaleValue.newHighValue() / spriteHeight;
+			if (!yScaleValue.relative) yScaleDiff -= yScale;
+			this.yScale[i] = yScale;
+			this.yScaleDiff[i] = yScaleDiff;
+			scaleY = yScale + yScaleDiff * yScaleValue.getScale(0);
+		}
+		this.scaleX[i] = scaleX;
+		this.scaleY[i] = scaleY;
+
+		float spriteRotation = sprite.getRotation();
+		if (rotationValue.active) {
+			float rotation = rotationValue.newLowValue(), rotationDiff = rotationValue.newHighValue();
+			if (!rotationValue.relative) rotationDiff -= rotation;
+			this.rotation[i] = rotation;
+			this.rotationDiff[i] = rotationDiff;
+			spriteRotation = rotation + rotationDiff * rotationValue.getScale(0);
+			if (aligned) spriteRotation += alignedAngle;
+		} else {
+			rotation[i] = 0;
+			rotationDiff[i] = 0;
+		}
+		this.spriteRotation[i] = spriteRotation;
+
+		if (windValue.active) {
+			float wind = windValue.newLowValue(), windDiff = windValue.newHighValue();
+			if (!windValue.relative) windDiff -= wind;
+			this.wind[i] = wind;
+			this.windDiff[i] = windDiff;
+		}
+
+		if (gravityValue.active) {
+			float gravity = gravityValue.newLowValue(), gravityDiff = gravityValue.newHighValue();
+			if (!gravityValue.relative) gravityDiff -= gravity;
+			this.gravity[i] = gravity;
+			this.gravityDiff[i] = gravityDiff;
+		}
+
+		tintValue.getColor(0, tint, i * 3);
+
+		float transparency = transparencyValue.newLowValue();
+		this.transparency[i] = transparency;
+		transparencyDiff[i] = transparencyValue.newHighValue() - transparency;
+
+		if (spawn(percent) && (updateFlags & UPDATE_ANGLE) == 0) {
+			this.angle[i] = spawnAngle;
+			angleCos[i] = MathUtils.cosDeg(spawnAngle);
+			angleSin[i] = MathUtils.sinDeg(spawnAngle);
+		}
+
+		spriteX[i] = spawnX - spriteWidth * 0.5f;
+		spriteY[i] = spawnY - spriteHeight * 0.5f;
+		width[i] = spriteWidth;
+		height[i] = spriteHeight;
+		originX[i] = sprite.getOriginX();
+		originY[i] = sprite.getOriginY();
+		color[i] = sprite.getPackedColor();
+
+		int offsetTime = (int)(lifeOffset + lifeOffsetDiff * lifeOffsetValue.getScale(percent));
+		if (offsetTime > 0) {
+			if (offsetTime >= currentLife[i]) offsetTime = currentLife[i] - 1;
+			updateParticles(i, i + 1, offsetTime / 1000f, offsetTime);
+		} else
+			updateVertices(i, i + 1);
+	}
+
+	/** Updates the particles from start (inclusive) to end (exclusive) and computes their vertices. Particles that die are left
+	 * with a current life <= 0 to be removed by {@link #removeDeadParticles()}. Only writes to the specified particles, so
+	 * different ranges can be updated concurrently. */
+	void updateParticles (int start, int end, float delta, int deltaMillis) {
+		int updateFlags = this.updateFlags;
+		boolean updateScale = (updateFlags & UPDATE_SCALE) != 0, updateVelocity = (updateFlags & UPDATE_VELOCITY) != 0;
+		boolean updateAngle = (updateFlags & UPDATE_ANGLE) != 0, updateRotation = (updateFlags & UPDATE_ROTATION) != 0;
+		boolean updateWind = (updateFlags & UPDATE_WIND) != 0, updateGravity = (updateFlags & UPDATE_GRAVITY) != 0;
+		boolean updateTint = (updateFlags & UPDATE_TINT) != 0, updateSprite = (updateFlags & UPDATE_SPRITE) != 0;
+		boolean yScaleActive = yScaleValue.active, aligned = this.aligned, premultipliedAlpha = this.premultipliedAlpha;
+		float alphaMultiplier = additive ? 0 : 1;
+		ScaledNumericValue xScaleValue = this.xScaleValue, yScaleValue = this.yScaleValue;
+		ScaledNumericValue velocityValue = this.velocityValue, angleValue = this.angleValue, rotationValue = this.rotationValue;
+		ScaledNumericValue windValue = this.windValue, gravityValue = this.gravityValue;
+		ScaledNumericValue transparencyValue = this.transparencyValue;
+		GradientColorValue tintValue = this.tintValue;
+		Array<Sprite> sprites = this.sprites;
+		int[] totalLife = this.totalLife, currentLife = this.currentLife, sprite = this.sprite;
+		float[] xScale = this.xScale, xScaleDiff = this.xScaleDiff, yScale = this.yScale, yScaleDiff = this.yScaleDiff;
+		float[] rotation = this.rotation, rotationDiff = this.rotationDiff;
+		float[] velocity = this.velocity, velocityDiff = this.velocityDiff;
+		float[] angle = this.angle, angleDiff = this.angleDiff, angleCos = this.angleCos, angleSin = this.angleSin;
+		float[] transparency = this.transparency, transparencyDiff = this.transparencyDiff;
+		float[] wind = this.wind, windDiff = this.windDiff, gravity = this.gravity, gravityDiff = this.gravityDiff;
+		float[] tint = this.tint, color = this.color;
+		float[] spriteX = this.spriteX, spriteY = this.spriteY, width = this.width, height = this.height;
+		float[] originX = this.originX, originY = this.originY, scaleX = this.scaleX, scaleY = this.scaleY;
+		float[] spriteRotation = this.spriteRotation;
+
+		for (int i = start; i < end; i++) {
+			int life = currentLife[i] - deltaMillis;
+			currentLife[i] = life;
+			if (life <= 0) continue;
+
+			float percent = 1 - life / (float)totalLife[i];
+
+			if (updateScale) {
+				float scale = xScale[i] + xScaleDiff[i] * xScaleValue.getScale(percent);
+				scaleX[i] = scale;
+				scaleY[i] = yScaleActive ? yScale[i] + yScaleDiff[i] * yScaleValue.getScale(percent) : scale;
+			}
+
+			if (updateVelocity) {
+				float speed = (velocity[i] + velocityDiff[i] * velocityValue.getScale(percent)) * delta;
+
+				float velocityX, velocityY;
+				if (updateAngle) {
+					float particleAngle = angle[i] + angleDiff[i] * angleValue.getScale(percent);
+					velocityX = speed * MathUtils.cosDeg(particleAngle);
+					velocityY = speed * MathUtils.sinDeg(particleAngle);
+					if (updateRotation) {
+						float particleRotation = rotation[i] + rotationDiff[i] * rotationValue.getScale(percent);
+						if (aligned) particleRotation += particleAngle;
+						spriteRotation[i] = particleRotation;
+					}
+				} else {
+					velocityX = speed * angleCos[i];
+					velocityY = speed * angleSin[i];
+					if (aligned || updateRotation) {
+						float particleRotation = rotation[i] + rotationDiff[i] * rotationValue.getScale(percent);
+						if (aligned) particleRotation += angle[i];
+						spriteRotation[i] = particleRotation;
+					}
+				}
+
+				if (updateWind) velocityX += (wind[i] + windDiff[i] * windValue.getScale(percent)) * delta;
+
+				if (updateGravity) velocityY += (gravity[i] + gravityDiff[i] * gravityValue.getScale(percent)) * delta;
+
+				spriteX[i] += velocityX;
+				spriteY[i] += velocityY;
+			} else if (updateRotation) //
+				spriteRotation[i] = rotation[i] + rotationDiff[i] * rotationValue.getScale(percent);
+
+			int t = i * 3;
+			if (updateTint) tintValue.getColor(percent, tint, t);
+			float a = transparency[i] + transparencyDiff[i] * transparencyValue.getScale(percent);
+			if (premultipliedAlpha)
+				color[i] = packColor(tint[t] * a, tint[t + 1] * a, tint[t + 2] * a, a * alphaMultiplier);
+			else
+				color[i] = packColor(tint[t], tint[t + 1], tint[t + 2], a);
+
+			if (updateSprite) {
+				int frame = Math.min((int)(percent * sprites.size), sprites.size - 1);
+				if (sprite[i] != frame) {
+					Sprite frameSprite = sprites.get(frame);
+					float frameWidth = frameSprite.getWidth(), frameHeight = frameSprite.getHeight();
+					spriteX[i] += (width[i] - frameWidth) * 0.5f;
+					spriteY[i] += (height[i] - frameHeight) * 0.5f;
+					width[i] = frameWidth;
+					height[i] = frameHeight;
+					originX[i] = frameSprite.getOriginX();
+					originY[i] = frameSprite.getOriginY();
+					sprite[i] = frame;
+				}
+			}
+		}
+
+		updateVertices(start, end);
+	}
+
+	/** Computes the vertices of the particles from start (inclusive) to end (exclusive) the same way as
+	 * {@link Sprite#getVertices()}. */
+	private void updateVertices (int start, int end) {
+		Object[] sprites = this.sprites.items;
+		int[] sprite = this.sprite;
+		float[] spriteX = this.spriteX, spriteY = this.spriteY, width = this.width, height = this.height;
+		float[] originX = this.originX, originY = this.originY, scaleX = this.scaleX, scaleY = this.scaleY;
+		float[] spriteRotation = this.spriteRotation, color = this.color, vertices = this.vertices;
+		boolean flipX = this.flipX, flipY = this.flipY;
+		for (int i = start, v = start * Sprite.SPRITE_SIZE; i < end; i++, v += Sprite.SPRITE_SIZE) {
+			float localX = -originX[i];
+			float localY = -originY[i];
+			float localX2 = localX + width[i];
+			float localY2 = localY + height[i];
+			float worldOriginX = spriteX[i] - localX;
+			float worldOriginY = spriteY[i] - localY;
+			float sx = scaleX[i], sy = scaleY[i];
+			if (sx != 1 || sy != 1) {
+				localX *= sx;
+				localY *= sy;
+				localX2 *= sx;
+				localY2 *= sy;
+			}
+			float x1, y1, x2, y2, x3, y3, x4, y4;
+			float rotation = spriteRotation[i];
+			if (rotation != 0) {
+				float cos = MathUtils.cosDeg(rotation);
+				float sin = MathUtils.sinDeg(rotation);
+				float localXCos = localX * cos;
+				float localXSin = localX * sin;
+				float localYCos = localY * cos;
+				float localYSin = localY * sin;
+				float localX2Cos = localX2 * cos;
+				float localX2Sin = localX2 * sin;
+				float localY2Cos = localY2 * cos;
+				float localY2Sin = localY2 * sin;
+
+				x1 = localXCos - localYSin + worldOriginX;
+				y1 = localYCos + localXSin + worldOriginY;
+				x2 = localXCos - localY2Sin + worldOriginX;
+				y2 = localY2Cos + localXSin + worldOriginY;
+				x3 = localX2Cos - localY2Sin + worldOriginX;
+				y3 = localY2Cos + localX2Sin + worldOriginY;
+				x4 = x1 + (x3 - x2);
+				y4 = y3 - (y2 - y1);
+			} else {
+				x1 = localX + worldOriginX;
+				y1 = localY + worldOriginY;
+				x3 = localX2 + worldOriginX;
+				y3 = localY2 + worldOriginY;
+				x2 = x1;
+				y2 = y3;
+				x4 = x3;
+				y4 = y1;
+			}
+
+			Sprite region = (Sprite)sprites[sprite[i]];
+			float u = region.getU(), v1 = region.getV(), u2 = region.getU2(), v2 = region.getV2();
+			if (flipX) {
+				float temp = u;
+				u = u2;
+				u2 = temp;
+			}
+			if (flipY) {
+				float temp = v1;
+				v1 = v2;
+				v2 = temp;
+			}
+			float c = color[i];
+
+			vertices[v] = x1;
+			vertices[v + 1] = y1;
+			vertices[v + 2] = c;
+			vertices[v + 3] = u;
+			vertices[v + 4] = v2;
+
+			vertices[v + 5] = x2;
+			vertices[v + 6] = y2;
+			vertices[v + 7] = c;
+			vertices[v + 8] = u;
+			vertices[v + 9] = v1;
+
+			vertices[v + 10] = x3;
+			vertices[v + 11] = y3;
+			vertices[v + 12] = c;
+			vertices[v + 13] = u2;
+			vertices[v + 14] = v1;
+
+			vertices[v + 15] = x4;
+			vertices[v + 16] = y4;
+			vertices[v + 17] = c;
+			vertices[v + 18] = u2;
+			vertices[v + 19] = v2;
+		}
+	}
+
+	/** Removes the particles that died during the last update by moving the last particle into each one's place. */
+	private void removeDeadParticles () {
+		int[] currentLife = this.currentLife;
+		int count = activeCount;
+		for (int i = 0; i < count;) {
+			if (currentLife[i] > 0)
+				i++;
+			else if (i != --count) //
+				move(count, i);
+		}
+		activeCount = count;
+	}
+
+	private void move (int from, int to) {
+		totalLife[to] = totalLife[from];
+		currentLife[to] = currentLife[from];
+		sprite[to] = sprite[from];
+		xScale[to] = xScale[from];
+		xScaleDiff[to] = xScaleDiff[from];
+		yScale[to] = yScale[from];
+		yScaleDiff[to] = yScaleDiff[from];
+		rotation[to] = rotation[from];
+		rotationDiff[to] = rotationDiff[from];
+		velocity[to] = velocity[from];
+		velocityDiff[to] = velocityDiff[from];
+		angle[to] = angle[from];
+		angleDiff[to] = angleDiff[from];
+		angleCos[to] = angleCos[from];
+		angleSin[to] = angleSin[from];
+		transparency[to] = transparency[from];
+		transparencyDiff[to] = transparencyDiff[from];
+		wind[to] = wind[from];
+		windDiff[to] = windDiff[from];
+		gravity[to] = gravity[from];
+		gravityDiff[to] = gravityDiff[from];
+		System.arraycopy(tint, from * 3, tint, to * 3, 3);
+		spriteX[to] = spriteX[from];
+		spriteY[to] = spriteY[from];
+		width[to] = width[from];
+		height[to] = height[from];
+		originX[to] = originX[from];
+		originY[to] = originY[from];
+		scaleX[to] = scaleX[from];
+		scaleY[to] = scaleY[from];
+		spriteRotation[to] = spriteRotation[from];
+		color[to] = color[from];
+		System.arraycopy(vertices, from * Sprite.SPRITE_SIZE, vertices, to * Sprite.SPRITE_SIZE, Sprite.SPRITE_SIZE);
+	}
+
+	/** Packs the color like {@link com.badlogic.gdx.graphics.Color#set(float, float, float, float)}, clamping each component. */
+	static private float packColor (float r, float g, float b, float a) {
+		int color = ((int)(255 * MathUtils.clamp(a, 0f, 1f)) << 24) | ((int)(255 * MathUtils.clamp(b, 0f, 1f)) << 16)
+			| ((int)(255 * MathUtils.clamp(g, 0f, 1f)) << 8) | ((int)(255 * MathUtils.clamp(r, 0f, 1f)));
+		return NumberUtils.intToFloatColor(color);
+	}
+
+	/** Updates chunks of particles. The task is submitted multiple times and runs concurrently, taking chunks until none remain. */
+	private class UpdateTask implements RangeTask {
+		float delta;
+		int deltaMillis;
+
+		public void run (int start, int end) {
+			updateParticles(start, end, delta, deltaMillis);
+		}
+	}
+}
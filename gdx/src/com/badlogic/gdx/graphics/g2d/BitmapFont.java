@@ -23,7 +23,11 @@
 package com.badlogic.gdx.graphics.g2d;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.StringTokenizer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -485,12 +489,25 @@ public class BitmapFont implements Disposable {
 			load(fontFile, flip);
 		}
 
+		/** Loads a font file in the AngelCode BMFont text format or, when the file starts with "BMF" and version 3, the BMFont binary
+		 * format. The binary format needs no string parsing and can be written by BitmapFontWriter in gdx-tools. The file is read
+		 * with a single read. */
 		public void load (FileHandle fontFile, boolean flip) {
 			if (imagePaths != null) throw new IllegalStateException("Already loaded.");
 
 			name = fontFile.nameWithoutExtension();
 
-			BufferedReader reader = new BufferedReader(new InputStreamReader(fontFile.read()), 512);
+			byte[] bytes = fontFile.readBytes();
+			if (bytes.length >= 4 && bytes[0] == 'B' && bytes[1] == 'M' && bytes[2] == 'F' && bytes[3] == 3) {
+				try {
+					loadBinary(fontFile, ByteBuffer.wrap(bytes, 4, bytes.length - 4).order(ByteOrder.LITTLE_ENDIAN), flip);
+				} catch (Exception ex) {
+					throw new GdxRuntimeException("Error loading font file: " + fontFile, ex);
+				}
+				return;
+			}
+
+			BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(bytes)), 512);
 			try {
 				String line = reader.readLine(); // info
 				if (line == null) throw new GdxRuntimeException("File is empty.");
@@ -502,7 +519,6 @@ public class BitmapFont implements Disposable {
 				padRight = Integer.parseInt(padding[1]);
 				padBottom = Integer.parseInt(padding[2]);
 				padLeft = Integer.parseInt(padding[3]);
-				float padY = padTop + padBottom;
 
 				line = reader.readLine();
 				if (line == null) throw new GdxRuntimeException("Missing common header.");
@@ -656,52 +672,7 @@ public class BitmapFont implements Disposable {
 					overrideXHeight = Float.parseFloat(tokens.nextToken());
 				}
 
-				Glyph spaceGlyph = getGlyph(' ');
-				if (spaceGlyph == null) {
-					spaceGlyph = new Glyph();
-					spaceGlyph.id = ' ';
-					Glyph xadvanceGlyph = getGlyph('l');
-					if (xadvanceGlyph == null) xadvanceGlyph = getFirstGlyph();
-					spaceGlyph.xadvance = xadvanceGlyph.xadvance;
-					setGlyph(' ', spaceGlyph);
-				}
-				if (spaceGlyph.width == 0) {
-					spaceGlyph.width = (int)(padLeft + spaceGlyph.xadvance + padRight);
-					spaceGlyph.xoffset = (int)-padLeft;
-				}
-				spaceXadvance = spaceGlyph.xadvance;
-
-				Glyph xGlyph = null;
-				for (char xChar : xChars) {
-					xGlyph = getGlyph(xChar);
-					if (xGlyph != null) break;
-				}
-				if (xGlyph == null) xGlyph = getFirstGlyph();
-				xHeight = xGlyph.height - padY;
-
-				Glyph capGlyph = null;
-				for (char capChar : capChars) {
-					capGlyph = getGlyph(capChar);
-					if (capGlyph != null) break;
-				}
-				if (capGlyph == null) {
-					for (Glyph[] page : this.glyphs) {
-						if (page == null) continue;
-						for (Glyph glyph : page) {
-							if (glyph == null || glyph.height == 0 || glyph.width == 0) continue;
-							capHeight = Math.max(capHeight, glyph.height);
-						}
-					}
-				} else
-					capHeight = capGlyph.height;
-				capHeight -= padY;
-
-				ascent = baseLine - capHeight;
-				down = -lineHeight;
-				if (flip) {
-					ascent = -ascent;
-					down = -down;
-				}
+				computeMetrics(baseLine, flip);
 
 				if (hasMetricsOverride) {
 					this.ascent = overrideAscent;
@@ -720,6 +691,162 @@ public class BitmapFont implements Disposable {
 			}
 		}
 
+		/** Loads the blocks of a BMFont binary file, after the 4 byte header. Metrics overrides written by BitmapFontWriter are stored
+		 * in block type 6, which other BMFont readers skip. */
+		private void loadBinary (FileHandle fontFile, ByteBuffer buffer, boolean flip) {
+			float baseLine = 0;
+			int pageCount = 0;
+			boolean hasCommon = false;
+			float[] metrics = null;
+			descent = 0;
+			while (buffer.hasRemaining()) {
+				int type = buffer.get();
+				int size = buffer.getInt(), end = buffer.position() + size;
+				switch (type) {
+				case 1: // info
+					buffer.position(buffer.position() + 7); // fontSize, bitField, charSet, stretchH, aa.
+					padTop = buffer.get() & 0xff;
+					padRight = buffer.get() & 0xff;
+					padBottom = buffer.get() & 0xff;
+					padLeft = buffer.get() & 0xff;
+					break;
+				case 2: // common
+					lineHeight = buffer.getShort() & 0xffff;
+					baseLine = buffer.getShort() & 0xffff;
+					buffer.getShort(); // scaleW
+					buffer.getShort(); // scaleH
+					pageCount = Math.max(1, buffer.getShort() & 0xffff);
+					hasCommon = true;
+					break;
+				case 3: // pages
+					if (!hasCommon) throw new GdxRuntimeException("Missing common block.");
+					imagePaths = new String[pageCount];
+					for (int p = 0; p < pageCount; p++) {
+						int nameStart = buffer.position(), nameEnd = nameStart;
+						while (buffer.get(nameEnd) != 0)
+							nameEnd++;
+						byte[] name = new byte[nameEnd - nameStart];
+						buffer.get(name);
+						buffer.get(); // Null terminator.
+						String fileName;
+						try {
+							fileName = new String(name, "UTF-8");
+						} catch (UnsupportedEncodingException ex) {
+							throw new GdxRuntimeException(ex);
+						}
+						imagePaths[p] = fontFile.parent().child(fileName).path().replaceAll("\\\\", "/");
+					}
+					break;
+				case 4: // chars
+					for (int i = 0, n = size / 20; i < n; i++) {
+						long ch = buffer.getInt() & 0xffffffffL;
+						Glyph glyph = new Glyph();
+						glyph.srcX = buffer.getShort() & 0xffff;
+						glyph.srcY = buffer.getShort() & 0xffff;
+						glyph.width = buffer.getShort() & 0xffff;
+						glyph.height = buffer.getShort() & 0xffff;
+						glyph.xoffset = buffer.getShort();
+						int yoffset = buffer.getShort();
+						glyph.yoffset = flip ? yoffset : -(glyph.height + yoffset);
+						glyph.xadvance = buffer.getShort();
+						glyph.page = buffer.get() & 0xff;
+						buffer.get(); // chnl
+						if (ch == 0)
+							missingGlyph = glyph;
+						else if (ch <= Character.MAX_VALUE)
+							setGlyph((int)ch, glyph);
+						else
+							continue;
+						glyph.id = (int)ch;
+						if (glyph.width > 0 && glyph.height > 0) descent = Math.min(baseLine + glyph.yoffset, descent);
+					}
+					break;
+				case 5: // kerning pairs
+					for (int i = 0, n = size / 10; i < n; i++) {
+						long first = buffer.getInt() & 0xffffffffL, second = buffer.getInt() & 0xffffffffL;
+						int amount = buffer.getShort();
+						if (first > Character.MAX_VALUE || second > Character.MAX_VALUE) continue;
+						Glyph glyph = getGlyph((char)first);
+						if (glyph != null) glyph.setKerning((int)second, amount);
+					}
+					break;
+				case 6: // libGDX metrics override
+					metrics = new float[7];
+					for (int i = 0; i < 7; i++)
+						metrics[i] = buffer.getFloat();
+					break;
+				}
+				buffer.position(end);
+			}
+			if (!hasCommon) throw new GdxRuntimeException("Missing common block.");
+			if (imagePaths == null) throw new GdxRuntimeException("Missing pages block.");
+			descent += padBottom;
+
+			computeMetrics(baseLine, flip);
+
+			if (metrics != null) {
+				ascent = metrics[0];
+				descent = metrics[1];
+				down = metrics[2];
+				capHeight = metrics[3];
+				lineHeight = metrics[4];
+				spaceXadvance = metrics[5];
+				xHeight = metrics[6];
+			}
+		}
+
+		/** Computes the space glyph and the font metrics from the glyphs after they are loaded. */
+		private void computeMetrics (float baseLine, boolean flip) {
+			float padY = padTop + padBottom;
+
+			Glyph spaceGlyph = getGlyph(' ');
+			if (spaceGlyph == null) {
+				spaceGlyph = new Glyph();
+				spaceGlyph.id = ' ';
+				Glyph xadvanceGlyph = getGlyph('l');
+				if (xadvanceGlyph == null) xadvanceGlyph = getFirstGlyph();
+				spaceGlyph.xadvance = xadvanceGlyph.xadvance;
+				setGlyph(' ', spaceGlyph);
+			}
+			if (spaceGlyph.width == 0) {
+				spaceGlyph.width = (int)(padLeft + spaceGlyph.xadvance + padRight);
+				spaceGlyph.xoffset = (int)-padLeft;
+			}
+			spaceXadvance = spaceGlyph.xadvance;
+
+			Glyph xGlyph = null;
+			for (char xChar : xChars) {
+				xGlyph = getGlyph(xChar);
+				if (xGlyph != null) break;
+			}
+			if (xGlyph == null) xGlyph = getFirstGlyph();
+			xHeight = xGlyph.height - padY;
+
+			Glyph capGlyph = null;
+			for (char capChar : capChars) {
+				capGlyph = getGlyph(capChar);
+				if (capGlyph != null) break;
+			}
+			if (capGlyph == null) {
+				for (Glyph[] page : this.glyphs) {
+					if (page == null) continue;
+					for (Glyph glyph : page) {
+						if (glyph == null || glyph.height == 0 || glyph.width == 0) continue;
+						capHeight = Math.max(capHeight, glyph.height);
+					}
+				}
+			} else
+				capHeight = capGlyph.height;
+			capHeight -= padY;
+
+			ascent = baseLine - capHeight;
+			down = -lineHeight;
+			if (flip) {
+				ascent = -ascent;
+				down = -down;
+			}
+		}
+
 		public void setGlyphRegion (Glyph glyph, TextureRegion region) {
 			Texture texture = region.getTexture();
 			float invTexWidth = 1.0f / texture.getWidth();
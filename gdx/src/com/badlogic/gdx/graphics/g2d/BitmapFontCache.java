@@ -24,6 +24,7 @@ import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.FlushablePool;
 import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.NumberUtils;
 
 import java.util.Arrays;
@@ -45,6 +46,9 @@ public class BitmapFontCache {
 			return new GlyphLayout();
 		}
 	};
+	/** Used by the setText methods, so text that only changes at the end can be laid out incrementally. */
+	private final GlyphLayout textLayout = new GlyphLayout();
+	private @Null GlyphLayoutCache layoutCache;
 	private int glyphCount;
 	private float x, y;
 	private final Color color = new Color(1, 1, 1, 1);
@@ -455,33 +459,34 @@ public class BitmapFontCache {
 	}
 
 	/** Clears any cached glyphs and adds glyphs for the specified text.
-	 * @see #addText(CharSequence, float, float, int, int, float, int, boolean, String) */
+	 * @see #setText(CharSequence, float, float, int, int, float, int, boolean, String) */
 	public GlyphLayout setText (CharSequence str, float x, float y) {
-		clear();
-		return addText(str, x, y, 0, str.length(), 0, Align.left, false);
+		return setText(str, x, y, 0, str.length(), 0, Align.left, false, null);
 	}
 
 	/** Clears any cached glyphs and adds glyphs for the specified text.
-	 * @see #addText(CharSequence, float, float, int, int, float, int, boolean, String) */
+	 * @see #setText(CharSequence, float, float, int, int, float, int, boolean, String) */
 	public GlyphLayout setText (CharSequence str, float x, float y, float targetWidth, int halign, boolean wrap) {
-		clear();
-		return addText(str, x, y, 0, str.length(), targetWidth, halign, wrap);
+		return setText(str, x, y, 0, str.length(), targetWidth, halign, wrap, null);
 	}
 
 	/** Clears any cached glyphs and adds glyphs for the specified text.
-	 * @see #addText(CharSequence, float, float, int, int, float, int, boolean, String) */
+	 * @see #setText(CharSequence, float, float, int, int, float, int, boolean, String) */
 	public GlyphLayout setText (CharSequence str, float x, float y, int start, int end, float targetWidth, int halign,
 		boolean wrap) {
-		clear();
-		return addText(str, x, y, start, end, targetWidth, halign, wrap);
+		return setText(str, x, y, start, end, targetWidth, halign, wrap, null);
 	}
 
-	/** Clears any cached glyphs and adds glyphs for the specified text.
+	/** Clears any cached glyphs and adds glyphs for the specified text. If the previous text was set with this method and only
+	 * its end changed, only the glyphs for the changed characters are laid out again.
 	 * @see #addText(CharSequence, float, float, int, int, float, int, boolean, String) */
 	public GlyphLayout setText (CharSequence str, float x, float y, int start, int end, float targetWidth, int halign,
 		boolean wrap, String truncate) {
 		clear();
-		return addText(str, x, y, start, end, targetWidth, halign, wrap, truncate);
+		GlyphLayout layout = textLayout;
+		layoutText(layout, str, start, end, targetWidth, halign, wrap, truncate);
+		addText(layout, x, y);
+		return layout;
 	}
 
 	/** Clears any cached glyphs and adds the specified glyphs.
@@ -524,17 +529,34 @@ public class BitmapFontCache {
 	public GlyphLayout addText (CharSequence str, float x, float y, int start, int end, float targetWidth, int halign,
 		boolean wrap, String truncate) {
 		GlyphLayout layout = pooledLayouts.obtain();
-		layout.setText(font, str, start, end, color, targetWidth, halign, wrap, truncate);
+		layoutText(layout, str, start, end, targetWidth, halign, wrap, truncate);
 		addText(layout, x, y);
 		return layout;
 	}
 
+	private void layoutText (GlyphLayout layout, CharSequence str, int start, int end, float targetWidth, int halign,
+		boolean wrap, @Null String truncate) {
+		if (layoutCache != null)
+			layoutCache.setText(layout, font, str, start, end, color, targetWidth, halign, wrap, truncate);
+		else if (wrap || truncate != null || !layout.updateText(font, str, start, end, color, targetWidth, halign))
+			layout.setText(font, str, start, end, color, targetWidth, halign, wrap, truncate);
+	}
+
 	/** Adds the specified glyphs.
 	 * @param layout The cache keeps the layout until cleared or new text is set. The layout should not be modified before then. */
 	public void addText (GlyphLayout layout, float x, float y) {
 		addToCache(layout, x, y + font.data.ascent);
 	}
 
+	/** Sets a cache of layouts used when text is set or added, which can be shared by many font caches. Default is null. */
+	public void setLayoutCache (@Null GlyphLayoutCache layoutCache) {
+		this.layoutCache = layoutCache;
+	}
+
+	public @Null GlyphLayoutCache getLayoutCache () {
+		return layoutCache;
+	}
+
 	/** Returns the x position of the cached string, relative to the position when the string was cached. */
 	public float getX () {
 		return x;
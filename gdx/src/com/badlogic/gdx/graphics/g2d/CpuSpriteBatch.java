@@ -22,6 +22,9 @@ import com.badlogic.gdx.math.Affine2;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncExecutor.RangeTask;
 
 /** CpuSpriteBatch behaves like SpriteBatch, except it doesn't flush automatically whenever the transformation matrix changes.
  * Instead, the vertices get adjusted on subsequent draws to match the running batch. This can improve performance through longer
@@ -31,6 +34,13 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
  * @see com.badlogic.gdx.scenes.scene2d.Group#setTransform(boolean) Group.setTransform()
  * @author Valentin Milea */
 public class CpuSpriteBatch extends SpriteBatch {
+	/** The number of floats per sprite for {@link #draw(TextureRegion[], float[], int, int, AsyncExecutor)}: x, y, rotation,
+	 * scaleX, scaleY and region index. */
+	static public final int SPRITE_TRANSFORM_SIZE = 6;
+
+	/** The number of sprites computed by each task submitted by {@link #draw(TextureRegion[], float[], int, int, AsyncExecutor)}.
+	 * Smaller chunks balance better across threads, larger chunks have less overhead. */
+	public int spritesPerTask = 2048;
 
 	private final Matrix4 virtualMatrix = new Matrix4();
 	private final Affine2 adjustAffine = new Affine2();
@@ -38,6 +48,7 @@ public class CpuSpriteBatch extends SpriteBatch {
 	private boolean haveIdentityRealMatrix = true;
 
 	private final Affine2 tmpAffine = new Affine2();
+	private @Null SpriteTask spriteTask;
 
 	/** Constructs a CpuSpriteBatch with a size of 1000 and the default shader.
 	 * @see SpriteBatch#SpriteBatch() */
@@ -264,6 +275,57 @@ public class CpuSpriteBatch extends SpriteBatch {
 		}
 	}
 
+	/** Draws many sprites, computing their vertices in parallel. Each sprite is the size of its region, centered on its position,
+	 * scaled and then rotated counter clockwise around its center. The vertices are computed directly into the batch, a chunk of
+	 * {@link #spritesPerTask} sprites per task, and the batch is flushed each time it is full. The current color is used for all
+	 * sprites.
+	 * @param regions The regions referenced by the sprites. All regions must have the same texture.
+	 * @param transforms {@link #SPRITE_TRANSFORM_SIZE} floats per sprite: x, y, rotation in degrees, scaleX, scaleY and the index
+	 *           of the sprite's region.
+	 * @param offset The index of the first sprite's x in the transforms.
+	 * @param count The number of sprites.
+	 * @param executor Used to compute chunks of sprites in parallel with the calling thread. May be null to compute all the sprites
+	 *           on the calling thread, which is also done when called on one of the executor's threads. */
+	public void draw (TextureRegion[] regions, float[] transforms, int offset, int count, @Null AsyncExecutor executor) {
+		if (!drawing) throw new IllegalStateException("CpuSpriteBatch.begin must be called before draw.");
+		if (count < 0) throw new IllegalArgumentException("count must be >= 0: " + count);
+		if (offset < 0 || offset + (long)count * SPRITE_TRANSFORM_SIZE > transforms.length)
+			throw new IllegalArgumentException("Not enough transforms for " + count + " sprites at offset " + offset + ".");
+		if (count == 0) return;
+		if (regions.length == 0) throw new IllegalArgumentException("regions must not be empty.");
+
+		Texture texture = regions[0].texture;
+		for (int i = 1, n = regions.length; i < n; i++)
+			if (regions[i].texture != texture) throw new IllegalArgumentException("All regions must have the same texture.");
+		if (texture != lastTexture) switchTexture(texture);
+
+		SpriteTask task = spriteTask;
+		if (task == null) spriteTask = task = new SpriteTask();
+		task.vertices = vertices;
+		task.regions = regions;
+		task.transforms = transforms;
+		task.color = colorPacked;
+		task.adjust = adjustNeeded ? adjustAffine : null;
+		try {
+			while (count > 0) {
+				if (vertices.length - idx < Sprite.SPRITE_SIZE) flush();
+				int sprites = Math.min(count, (vertices.length - idx) / Sprite.SPRITE_SIZE);
+				task.offset = offset;
+				task.idx = idx;
+				if (executor == null)
+					task.run(0, sprites);
+				else
+					executor.parallelFor(sprites, spritesPerTask, task);
+				idx += sprites * Sprite.SPRITE_SIZE;
+				offset += sprites * SPRITE_TRANSFORM_SIZE;
+				count -= sprites;
+			}
+		} finally {
+			task.regions = null;
+			task.transforms = null;
+		}
+	}
+
 	private void drawAdjusted (TextureRegion region, float x, float y, float originX, float originY, float width, float height,
 		float scaleX, float scaleY, float rotation) {
 		// v must be flipped
@@ -648,4 +710,85 @@ public class CpuSpriteBatch extends SpriteBatch {
 		return (val[Matrix4.M00] == 1 && val[Matrix4.M10] == 0 && val[Matrix4.M01] == 0 && val[Matrix4.M11] == 1
 			&& val[Matrix4.M03] == 0 && val[Matrix4.M13] == 0);
 	}
+
+	/** Computes the vertices for chunks of sprites. Instances of this task run concurrently, taking chunks until none remain. */
+	static private class SpriteTask implements RangeTask {
+		float[] vertices, transforms;
+		TextureRegion[] regions;
+		@Null Affine2 adjust;
+		float color;
+		int offset, idx;
+
+		public void run (int start, int end) {
+			float[] vertices = this.vertices, transforms = this.transforms;
+			TextureRegion[] regions = this.regions;
+			Affine2 t = adjust;
+			float color = this.color;
+			int idx = this.idx + start * Sprite.SPRITE_SIZE;
+			for (int i = offset + start * SPRITE_TRANSFORM_SIZE, n = offset + end * SPRITE_TRANSFORM_SIZE; i < n; i +=
+				SPRITE_TRANSFORM_SIZE, idx += Sprite.SPRITE_SIZE) {
+				float x = transforms[i], y = transforms[i + 1], rotation = transforms[i + 2];
+				TextureRegion region = regions[(int)transforms[i + 5]];
+
+				// Half extents, then the corners relative to the center.
+				float hw = region.regionWidth * transforms[i + 3] * 0.5f, hh = region.regionHeight * transforms[i + 4] * 0.5f;
+				float x1, y1, x2, y2;
+				if (rotation != 0) {
+					float cos = MathUtils.cosDeg(rotation), sin = MathUtils.sinDeg(rotation);
+					x1 = -cos * hw + sin * hh; // bottom left
+					y1 = -sin * hw - cos * hh;
+					x2 = -cos * hw - sin * hh; // top left
+					y2 = -sin * hw + cos * hh;
+				} else {
+					x1 = -hw;
+					y1 = -hh;
+					x2 = -hw;
+					y2 = hh;
+				}
+				// The top right and bottom right corners are opposite the bottom left and top left.
+				float px1 = x + x1, py1 = y + y1, px2 = x + x2, py2 = y + y2;
+				float px3 = x - x1, py3 = y - y1, px4 = x - x2, py4 = y - y2;
+				if (t != null) {
+					float tx = px1;
+					px1 = t.m00 * tx + t.m01 * py1 + t.m02;
+					py1 = t.m10 * tx + t.m11 * py1 + t.m12;
+					tx = px2;
+					px2 = t.m00 * tx + t.m01 * py2 + t.m02;
+					py2 = t.m10 * tx + t.m11 * py2 + t.m12;
+					tx = px3;
+					px3 = t.m00 * tx + t.m01 * py3 + t.m02;
+					py3 = t.m10 * tx + t.m11 * py3 + t.m12;
+					tx = px4;
+					px4 = t.m00 * tx + t.m01 * py4 + t.m02;
+					py4 = t.m10 * tx + t.m11 * py4 + t.m12;
+				}
+
+				float u = region.u, v = region.v2, u2 = region.u2, v2 = region.v;
+
+				vertices[idx] = px1;
+				vertices[idx + 1] = py1;
+				vertices[idx + 2] = color;
+				vertices[idx + 3] = u;
+				vertices[idx + 4] = v;
+
+				vertices[idx + 5] = px2;
+				vertices[idx + 6] = py2;
+				vertices[idx + 7] = color;
+				vertices[idx + 8] = u;
+				vertices[idx + 9] = v2;
+
+				vertices[idx + 10] = px3;
+				vertices[idx + 11] = py3;
+				vertices[idx + 12] = color;
+				vertices[idx + 13] = u2;
+				vertices[idx + 14] = v2;
+
+				vertices[idx + 15] = px4;
+				vertices[idx + 16] = py4;
+				vertices[idx + 17] = color;
+				vertices[idx + 18] = u2;
+				vertices[idx + 19] = v;
+			}
+		}
+	}
 }
@@ -70,6 +70,11 @@ public class GlyphLayout implements Poolable {
 
 	public float width, height;
 
+	/** The font data and scale used for the last layout if it can be changed by {@link #updateText(BitmapFont, CharSequence, int,
+	 * int, Color, float, int) updateText}, else null. */
+	private @Null BitmapFontData updateFontData;
+	private float updateScaleX, updateScaleY;
+
 	/** Creates an empty GlyphLayout. */
 	public GlyphLayout () {
 	}
@@ -130,6 +135,11 @@ public class GlyphLayout implements Poolable {
 		reset();
 
 		BitmapFontData fontData = font.data;
+		if (!wrap && truncate == null && justify == Justify.None) {
+			updateFontData = fontData;
+			updateScaleX = fontData.scaleX;
+			updateScaleY = fontData.scaleY;
+		}
 		if (start == end) { // Empty string.
 			height = fontData.capHeight;
 			return;
@@ -286,6 +296,80 @@ public class GlyphLayout implements Poolable {
 		if (markupEnabled) colorStack.clear();
 	}
 
+	/** Sets the text like {@link #setText(BitmapFont, CharSequence, int, int, Color, float, int, boolean, String) setText} with
+	 * no wrapping or truncation, but keeps the glyphs of the current layout for the leading characters that haven't changed. Only
+	 * the glyphs after those are laid out again, which is much faster for text that changes at the end, such as a score or a
+	 * timer.
+	 * <p>
+	 * The layout is not changed if it can't be updated this way. That happens unless the current layout is a single line set
+	 * without wrapping, truncation, or justification, using the same font, font scale, and color. The text can't contain newlines
+	 * or, if {@link BitmapFontData#markupEnabled} is true, left square brackets, and its first character must be unchanged.
+	 * @return true if the layout was updated. */
+	public boolean updateText (BitmapFont font, CharSequence str, int start, int end, Color color, float targetWidth,
+		int halign) {
+		BitmapFontData fontData = font.data;
+		if (updateFontData != fontData || updateScaleX != fontData.scaleX || updateScaleY != fontData.scaleY) return false;
+		if (runs.size != 1 || start == end || colors.size != 2 || colors.get(1) != color.toIntBits()) return false;
+
+		// Count the glyphs that are the same as the glyphs for the leading characters.
+		GlyphRun run = runs.first();
+		Object[] glyphs = run.glyphs.items;
+		boolean markupEnabled = fontData.markupEnabled;
+		int same = 0;
+		for (int i = start, n = Math.min(end, start + run.glyphs.size); i < end; i++) {
+			char ch = str.charAt(i);
+			if (ch == '\n' || ch == '\r' || (ch == '[' && markupEnabled)) return false;
+			if (i == start + same && i < n) {
+				Glyph glyph = fontData.getGlyph(ch);
+				if (glyph == null) glyph = fontData.missingGlyph;
+				if (glyphs[same] == glyph) same++;
+			}
+		}
+		if (same == 0) return false;
+
+		// The xadvance after the last kept glyph depends on kerning with the next glyph, so it is computed again.
+		run.glyphs.truncate(same);
+		run.xAdvances.truncate(same);
+		Glyph last = run.glyphs.peek();
+		if (start + same < end)
+			fontData.getGlyphs(run, str, start + same, end, last);
+		else
+			run.xAdvances.add(last.fixedWidth ? last.xadvance * fontData.scaleX
+				: (last.width + last.xoffset) * fontData.scaleX - fontData.padRight);
+		setLastGlyphXAdvance(fontData, run);
+		glyphCount = run.glyphs.size;
+		run.x = 0;
+		run.y = 0;
+		height = fontData.capHeight;
+
+		calculateWidthsAndJustify(fontData, targetWidth, Justify.None);
+		alignRuns(targetWidth, halign);
+		return true;
+	}
+
+	/** Sets this layout to a copy of the specified layout. */
+	public void set (GlyphLayout layout) {
+		reset();
+		Array<GlyphRun> runs = layout.runs;
+		for (int i = 0, n = runs.size; i < n; i++) {
+			GlyphRun from = runs.get(i), run = glyphRunPool.obtain();
+			run.glyphs.addAll(from.glyphs);
+			run.xAdvances.addAll(from.xAdvances);
+			run.x = from.x;
+			run.y = from.y;
+			run.width = from.width;
+			run.wrapState = from.wrapState;
+			this.runs.add(run);
+		}
+		colors.addAll(layout.colors);
+		glyphCount = layout.glyphCount;
+		width = layout.width;
+		height = layout.height;
+		updateFontData = layout.updateFontData;
+		updateScaleX = layout.updateScaleX;
+		updateScaleY = layout.updateScaleY;
+	}
+
 	/** Calculate run widths and the entire layout width. */
 	private void calculateWidthsAndJustify (BitmapFontData fontData, float targetWidth, Justify justify) {
 		float width = 0;
@@ -560,6 +644,7 @@ public class GlyphLayout implements Poolable {
 		glyphCount = 0;
 		width = 0;
 		height = 0;
+		updateFontData = null;
 	}
 
 	public String toString () {
@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.utils.Justify;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.NumberUtils;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** Stores copies of {@link GlyphLayout layouts} so text that is set repeatedly, for example by many labels showing the same
+ * text or text that cycles through a few values, doesn't need to be laid out again. Layouts are found using the font, font
+ * scale, text, color, target width, alignment, wrapping, justification, and truncation. When the cache is full, the least
+ * recently used layout is removed.
+ * <p>
+ * When a layout is not found, {@link GlyphLayout#updateText(BitmapFont, CharSequence, int, int, Color, float, int) updateText}
+ * is tried before laying out all the text, so text that only changes at the end is laid out incrementally.
+ * <p>
+ * A cache can be used with {@link BitmapFontCache#setLayoutCache(GlyphLayoutCache)} and is typically shared by many font
+ * caches. This class is not thread safe. */
+public class GlyphLayoutCache {
+	private final ObjectMap<Key, Entry> entries;
+	private final Key lookup = new Key();
+	private @Null Entry head, tail;
+	private final int maxSize;
+
+	/** Number of times a cached layout was used. Will not be reset unless set manually. */
+	public int hits;
+
+	/** Number of times text had to be laid out because no cached layout was found. Will not be reset unless set manually. */
+	public int misses;
+
+	/** Creates a cache that holds up to 256 layouts. */
+	public GlyphLayoutCache () {
+		this(256);
+	}
+
+	/** @param maxSize The maximum number of layouts to keep. */
+	public GlyphLayoutCache (int maxSize) {
+		if (maxSize < 1) throw new IllegalArgumentException("maxSize must be > 0: " + maxSize);
+		this.maxSize = maxSize;
+		entries = new ObjectMap(maxSize);
+	}
+
+	/** Sets the layout to the text like
+	 * {@link GlyphLayout#setText(BitmapFont, CharSequence, int, int, Color, float, int, boolean, String)}, using a cached layout
+	 * if available. */
+	public void setText (GlyphLayout layout, BitmapFont font, CharSequence str, int start, int end, Color color, float targetWidth,
+		int halign, boolean wrap, @Null String truncate) {
+		setText(layout, font, str, start, end, color, targetWidth, halign, wrap, Justify.None, truncate);
+	}
+
+	/** Sets the layout to the text like
+	 * {@link GlyphLayout#setText(BitmapFont, CharSequence, int, int, Color, float, int, boolean, Justify, String)}, using a
+	 * cached layout if available. */
+	public void setText (GlyphLayout layout, BitmapFont font, CharSequence str, int start, int end, Color color, float targetWidth,
+		int halign, boolean wrap, Justify justify, @Null String truncate) {
+		Key lookup = this.lookup;
+		lookup.set(font.data, str, start, end, color.toIntBits(), targetWidth, halign, wrap, justify, truncate);
+		Entry entry = entries.get(lookup);
+		lookup.text = null;
+		if (entry != null) {
+			hits++;
+			layout.set(entry.layout);
+			if (entry != head) {
+				unlink(entry);
+				linkFirst(entry);
+			}
+			return;
+		}
+
+		misses++;
+		if (wrap || truncate != null || justify != Justify.None
+			|| !layout.updateText(font, str, start, end, color, targetWidth, halign))
+			layout.setText(font, str, start, end, color, targetWidth, halign, wrap, justify, truncate);
+
+		if (entries.size == maxSize) {
+			// Reuse the least recently used entry.
+			entry = tail;
+			unlink(entry);
+			entries.remove(entry.key);
+		} else
+			entry = new Entry();
+		entry.key.set(font.data, str.subSequence(start, end).toString(), 0, end - start, color.toIntBits(), targetWidth, halign,
+			wrap, justify, truncate);
+		entry.layout.set(layout);
+		entries.put(entry.key, entry);
+		linkFirst(entry);
+	}
+
+	private void linkFirst (Entry entry) {
+		entry.prev = null;
+		entry.next = head;
+		if (head != null)
+			head.prev = entry;
+		else
+			tail = entry;
+		head = entry;
+	}
+
+	private void unlink (Entry entry) {
+		if (entry.prev != null)
+			entry.prev.next = entry.next;
+		else
+			head = entry.next;
+		if (entry.next != null)
+			entry.next.prev = entry.prev;
+		else
+			tail = entry.prev;
+	}
+
+	/** Returns the number of cached layouts. */
+	public int getSize () {
+		return entries.size;
+	}
+
+	public int getMaxSize () {
+		return maxSize;
+	}
+
+	/** Removes all cached layouts. This should be done when a font is disposed or its glyphs are changed. */
+	public void clear () {
+		entries.clear();
+		head = null;
+		tail = null;
+	}
+
+	static private class Entry {
+		final Key key = new Key();
+		final GlyphLayout layout = new GlyphLayout();
+		@Null Entry prev, next;
+	}
+
+	static class Key {
+		BitmapFontData fontData;
+		float scaleX, scaleY;
+		boolean markupEnabled;
+		CharSequence text;
+		int start, end;
+		int color;
+		float targetWidth;
+		int halign;
+		boolean wrap;
+		Justify justify;
+		@Null String truncate;
+		int hashCode;
+
+		void set (BitmapFontData fontData, CharSequence text, int start, int end, int color, float targetWidth, int halign,
+			boolean wrap, Justify justify, @Null String truncate) {
+			this.fontData = fontData;
+			scaleX = fontData.scaleX;
+			scaleY = fontData.scaleY;
+			markupEnabled = fontData.markupEnabled;
+			this.text = text;
+			this.start = start;
+			this.end = end;
+			this.color = color;
+			this.targetWidth = targetWidth;
+			this.halign = halign;
+			this.wrap = wrap;
+			this.justify = justify;
+			this.truncate = truncate;
+
+			int h = fontData.hashCode();
+			for (int i = start; i < end; i++)
+				h = 31 * h + text.charAt(i);
+			h = 31 * h + NumberUtils.floatToRawIntBits(scaleX);
+			h = 31 * h + NumberUtils.floatToRawIntBits(scaleY);
+			h = 31 * h + NumberUtils.floatToRawIntBits(targetWidth);
+			h = 31 * h + color;
+			h = 31 * h + halign;
+			hashCode = h;
+		}
+
+		public int hashCode () {
+			return hashCode;
+		}
+
+		public boolean equals (Object object) {
+			if (!(object instanceof Key)) return false;
+			Key other = (Key)object;
+			if (hashCode != other.hashCode || fontData != other.fontData || scaleX != other.scaleX || scaleY != other.scaleY
+				|| markupEnabled != other.markupEnabled || color != other.color || targetWidth != other.targetWidth
+				|| halign != other.halign || wrap != other.wrap || justify != other.justify) return false;
+			if (truncate == null ? other.truncate != null : !truncate.equals(other.truncate)) return false;
+			int length = end - start;
+			if (length != other.end - other.start) return false;
+			CharSequence text = this.text, otherText = other.text;
+			for (int i = 0, offset = other.start - start; i < length; i++)
+				if (text.charAt(start + i) != otherText.charAt(start + i + offset)) return false;
+			return true;
+		}
+	}
+}
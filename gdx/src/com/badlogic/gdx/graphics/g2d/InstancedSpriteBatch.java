@@ -0,0 +1,714 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.NumberUtils;
+import com.badlogic.gdx.utils.Null;
+
+/** Draws batched quads using instanced rendering. Instead of 4 vertices per sprite, each sprite is stored as a single instance
+ * with the position of its first corner, the two edges leaving that corner, the texture coordinates, and the packed color. A
+ * shared quad is expanded to each sprite's corners in the vertex shader. This is 44 bytes per sprite instead of the 80 bytes
+ * of {@link SpriteBatch}, which reduces the data written and uploaded each flush when drawing many sprites.
+ * <p>
+ * When packed, the edges are stored as half floats and the texture coordinates as 16 bit fixed point, which is 28 bytes per
+ * sprite, or about 2.9 times less than SpriteBatch. The position stays a full float, since half floats can't address a large
+ * world to within a pixel. Half float edges are exact for integer sizes up to 2048 and otherwise off by at most 1/2048 of their
+ * length, and texture coordinates must be between 0 and 1, so packing doesn't suit textures drawn repeating.
+ * <p>
+ * Every sprite is drawn as a parallelogram, which covers everything {@link SpriteBatch} draws. The vertices passed to
+ * {@link #draw(Texture, float[], int, int)} must each describe a parallelogram with a single color, such as the vertices of a
+ * {@link Sprite}. For other quads, only the first, second, and fourth vertices and the first vertex's color are used.
+ * <p>
+ * Requires OpenGL ES 3.0.
+ * @see Batch */
+public class InstancedSpriteBatch implements Batch {
+	/** Number of floats per sprite: x, y, edgeUX, edgeUY, edgeVX, edgeVY, u, v, u2, v2, color. */
+	static public final int INSTANCE_SIZE = 11;
+	/** Number of 4 byte values per sprite when packed: x, y, the edges as 4 half floats, u, v, u2, v2 as 4 unsigned shorts, and
+	 * color. */
+	static public final int PACKED_INSTANCE_SIZE = 7;
+	static public final String CORNER_ATTRIBUTE = "a_corner";
+	static public final String EDGES_ATTRIBUTE = "a_edges";
+
+	private final Mesh mesh;
+
+	final @Null float[] instances;
+	private final @Null ByteBuffer packedInstances;
+	private final @Null FloatBuffer packedInstancesFloats;
+	private final int instanceSize, maxIdx;
+	int idx = 0;
+	Texture lastTexture = null;
+	float invTexWidth = 0, invTexHeight = 0;
+
+	boolean drawing = false;
+
+	private final Matrix4 transformMatrix = new Matrix4();
+	private final Matrix4 projectionMatrix = new Matrix4();
+	private final Matrix4 combinedMatrix = new Matrix4();
+
+	private boolean blendingDisabled = false;
+	private int blendSrcFunc = GL20.GL_SRC_ALPHA;
+	private int blendDstFunc = GL20.GL_ONE_MINUS_SRC_ALPHA;
+	private int blendSrcFuncAlpha = GL20.GL_SRC_ALPHA;
+	private int blendDstFuncAlpha = GL20.GL_ONE_MINUS_SRC_ALPHA;
+
+	private final ShaderProgram shader;
+	private ShaderProgram customShader = null;
+	private boolean ownsShader;
+
+	private final Color color = new Color(1, 1, 1, 1);
+	float colorPacked = Color.WHITE_FLOAT_BITS;
+
+	/** Number of render calls since the last {@link #begin()}. **/
+	public int renderCalls = 0;
+
+	/** Number of rendering calls, ever. Will not be reset unless set manually. **/
+	public int totalRenderCalls = 0;
+
+	/** The maximum number of sprites rendered in one batch so far. **/
+	public int maxSpritesInBatch = 0;
+
+	/** Constructs a new InstancedSpriteBatch with a size of 1000 and the default shader.
+	 * @see InstancedSpriteBatch#InstancedSpriteBatch(int, ShaderProgram) */
+	public InstancedSpriteBatch () {
+		this(1000, null);
+	}
+
+	/** Constructs an InstancedSpriteBatch with the default shader.
+	 * @see InstancedSpriteBatch#InstancedSpriteBatch(int, ShaderProgram) */
+	public InstancedSpriteBatch (int size) {
+		this(size, null);
+	}
+
+	/** Constructs a new InstancedSpriteBatch. Sets the projection matrix to an orthographic projection with y-axis point upwards,
+	 * x-axis point to the right and the origin being in the bottom left corner of the screen.
+	 * <p>
+	 * The defaultShader specifies the shader to use. Custom shaders must use the same attributes as {@link #createDefaultShader()}.
+	 * @param size The max number of sprites in a single batch. Unlike SpriteBatch, this is not limited by the number of indices.
+	 * @param defaultShader The default shader to use. This is not owned by the InstancedSpriteBatch and must be disposed
+	 *           separately. */
+	public InstancedSpriteBatch (int size, ShaderProgram defaultShader) {
+		this(size, defaultShader, false);
+	}
+
+	/** Constructs a new InstancedSpriteBatch.
+	 * @param packed If true, the edges and texture coordinates of each sprite are stored in less precise types. See the class
+	 *           documentation.
+	 * @see InstancedSpriteBatch#InstancedSpriteBatch(int, ShaderProgram) */
+	public InstancedSpriteBatch (int size, ShaderProgram defaultShader, boolean packed) {
+		if (Gdx.gl30 == null)
+			throw new GdxRuntimeException("InstancedSpriteBatch requires a device running with GLES 3.0 compatibilty");
+		if (size < 1) throw new IllegalArgumentException("size must be > 0: " + size);
+
+		// The corners of the shared quad, in the same order as the vertices of a sprite.
+		mesh = new Mesh(true, 4, 6, new VertexAttribute(Usage.Generic, 2, CORNER_ATTRIBUTE));
+		mesh.setVertices(new float[] {0, 0, 0, 1, 1, 1, 1, 0});
+		mesh.setIndices(new short[] {0, 1, 2, 2, 3, 0});
+		if (packed) {
+			mesh.enableInstancedRendering(false, size, //
+				new VertexAttribute(Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+				new VertexAttribute(Usage.Generic, 4, GL30.GL_HALF_FLOAT, false, EDGES_ATTRIBUTE),
+				new VertexAttribute(Usage.TextureCoordinates, 4, GL20.GL_UNSIGNED_SHORT, true,
+					ShaderProgram.TEXCOORD_ATTRIBUTE + "0"),
+				new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE));
+			instanceSize = PACKED_INSTANCE_SIZE;
+			instances = null;
+			packedInstances = BufferUtils.newByteBuffer(size * PACKED_INSTANCE_SIZE * 4);
+			packedInstancesFloats = packedInstances.asFloatBuffer();
+		} else {
+			mesh.enableInstancedRendering(false, size, //
+				new VertexAttribute(Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+				new VertexAttribute(Usage.Generic, 4, EDGES_ATTRIBUTE),
+				new VertexAttribute(Usage.TextureCoordinates, 4, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"),
+				new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE));
+			instanceSize = INSTANCE_SIZE;
+			instances = new float[size * INSTANCE_SIZE];
+			packedInstances = null;
+			packedInstancesFloats = null;
+		}
+		maxIdx = size * instanceSize;
+
+		projectionMatrix.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+
+		if (defaultShader == null) {
+			shader = createDefaultShader();
+			ownsShader = true;
+		} else
+			shader = defaultShader;
+	}
+
+	/** Returns a new instance of the default shader used by InstancedSpriteBatch when no shader is specified. Per corner it has
+	 * {@link #CORNER_ATTRIBUTE}, which is 0 or 1 along each edge. Per sprite it has the first corner's position, both edges,
+	 * the texture coordinates as u, v, u2, v2, and the color. */
+	static public ShaderProgram createDefaultShader () {
+		String vertexShader = "attribute vec2 " + CORNER_ATTRIBUTE + ";\n" //
+			+ "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" //
+			+ "attribute vec4 " + EDGES_ATTRIBUTE + ";\n" //
+			+ "attribute vec4 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" //
+			+ "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" //
+			+ "uniform mat4 u_projTrans;\n" //
+			+ "varying vec4 v_color;\n" //
+			+ "varying vec2 v_texCoords;\n" //
+			+ "\n" //
+			+ "void main()\n" //
+			+ "{\n" //
+			+ "   v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" //
+			+ "   v_color.a = v_color.a * (255.0/254.0);\n" //
+			+ "   v_texCoords = mix(" + ShaderProgram.TEXCOORD_ATTRIBUTE + "0.xy, " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0.zw, "
+			+ CORNER_ATTRIBUTE + ");\n" //
+			+ "   vec2 position = " + ShaderProgram.POSITION_ATTRIBUTE + ".xy + " + EDGES_ATTRIBUTE + ".xy * " + CORNER_ATTRIBUTE
+			+ ".x + " + EDGES_ATTRIBUTE + ".zw * " + CORNER_ATTRIBUTE + ".y;\n" //
+			+ "   gl_Position =  u_projTrans * vec4(position, 0.0, 1.0);\n" //
+			+ "}\n";
+		String fragmentShader = "#ifdef GL_ES\n" //
+			+ "#define LOWP lowp\n" //
+			+ "precision mediump float;\n" //
+			+ "#else\n" //
+			+ "#define LOWP \n" //
+			+ "#endif\n" //
+			+ "varying LOWP vec4 v_color;\n" //
+			+ "varying vec2 v_texCoords;\n" //
+			+ "uniform sampler2D u_texture;\n" //
+			+ "void main()\n"//
+			+ "{\n" //
+			+ "  gl_FragColor = v_color * texture2D(u_texture, v_texCoords);\n" //
+			+ "}";
+
+		ShaderProgram shader = new ShaderProgram(vertexShader, fragmentShader);
+		if (!shader.isCompiled()) throw new IllegalArgumentException("Error compiling shader: " + shader.getLog());
+		return shader;
+	}
+
+	@Override
+	public void begin () {
+		if (drawing) throw new IllegalStateException("InstancedSpriteBatch.end must be called before begin.");
+		renderCalls = 0;
+
+		Gdx.gl.glDepthMask(false);
+		if (customShader != null)
+			customShader.bind();
+		else
+			shader.bind();
+		setupMatrices();
+
+		drawing = true;
+	}
+
+	@Override
+	public void end () {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before end.");
+		if (idx > 0) flush();
+		lastTexture = null;
+		drawing = false;
+
+		GL20 gl = Gdx.gl;
+		gl.glDepthMask(true);
+		if (isBlendingEnabled()) gl.glDisable(GL20.GL_BLEND);
+	}
+
+	@Override
+	public void setColor (Color tint) {
+		color.set(tint);
+		colorPacked = tint.toFloatBits();
+	}
+
+	@Override
+	public void setColor (float r, float g, float b, float a) {
+		color.set(r, g, b, a);
+		colorPacked = color.toFloatBits();
+	}
+
+	@Override
+	public Color getColor () {
+		return color;
+	}
+
+	@Override
+	public void setPackedColor (float packedColor) {
+		Color.abgr8888ToColor(color, packedColor);
+		this.colorPacked = packedColor;
+	}
+
+	@Override
+	public float getPackedColor () {
+		return colorPacked;
+	}
+
+	/** Checks the batch is drawing, then switches texture or flushes if needed so one more sprite can be added. */
+	private void prepare (Texture texture) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+		if (texture != lastTexture)
+			switchTexture(texture);
+		else if (idx == maxIdx) //
+			flush();
+	}
+
+	/** Adds a sprite using the first, second, and fourth corners of a quad, in the same order as the vertices of a sprite. */
+	private void add (float x1, float y1, float u1, float v1, float x2, float y2, float u2, float v2, float x4, float y4, float u4,
+		float v4, float color) {
+		float edgeUX, edgeUY, edgeVX, edgeVY, uEnd, vEnd;
+		if (v4 == v1) {
+			// The texture's u axis is along the first edge.
+			edgeUX = x4 - x1;
+			edgeUY = y4 - y1;
+			edgeVX = x2 - x1;
+			edgeVY = y2 - y1;
+			uEnd = u4;
+			vEnd = v2;
+		} else {
+			// Texture rotated 90 degrees, the texture's u axis is along the second edge.
+			edgeUX = x2 - x1;
+			edgeUY = y2 - y1;
+			edgeVX = x4 - x1;
+			edgeVY = y4 - y1;
+			uEnd = u2;
+			vEnd = v4;
+		}
+		int idx = this.idx;
+		ByteBuffer packedInstances = this.packedInstances;
+		if (packedInstances != null) {
+			int i = idx << 2;
+			packedInstances.putFloat(i, x1);
+			packedInstances.putFloat(i + 4, y1);
+			packedInstances.putShort(i + 8, NumberUtils.floatToHalf(edgeUX));
+			packedInstances.putShort(i + 10, NumberUtils.floatToHalf(edgeUY));
+			packedInstances.putShort(i + 12, NumberUtils.floatToHalf(edgeVX));
+			packedInstances.putShort(i + 14, NumberUtils.floatToHalf(edgeVY));
+			packedInstances.putShort(i + 16, unsignedNormalized(u1));
+			packedInstances.putShort(i + 18, unsignedNormalized(v1));
+			packedInstances.putShort(i + 20, unsignedNormalized(uEnd));
+			packedInstances.putShort(i + 22, unsignedNormalized(vEnd));
+			packedInstances.putFloat(i + 24, color);
+		} else {
+			float[] instances = this.instances;
+			instances[idx] = x1;
+			instances[idx + 1] = y1;
+			instances[idx + 2] = edgeUX;
+			instances[idx + 3] = edgeUY;
+			instances[idx + 4] = edgeVX;
+			instances[idx + 5] = edgeVY;
+			instances[idx + 6] = u1;
+			instances[idx + 7] = v1;
+			instances[idx + 8] = uEnd;
+			instances[idx + 9] = vEnd;
+			instances[idx + 10] = color;
+		}
+		this.idx = idx + instanceSize;
+	}
+
+	static private short unsignedNormalized (float value) {
+		return (short)(MathUtils.clamp(value, 0, 1) * 65535 + 0.5f);
+	}
+
+	/** Adds a sprite that is scaled and rotated around its origin. */
+	private void add (float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY,
+		float rotation, float u1, float v1, float u2, float v2, float u4, float v4) {
+		// bottom left and top right corner points relative to origin
+		final float worldOriginX = x + originX;
+		final float worldOriginY = y + originY;
+		float fx = -originX;
+		float fy = -originY;
+		float fx2 = width - originX;
+		float fy2 = height - originY;
+
+		// scale
+		if (scaleX != 1 || scaleY != 1) {
+			fx *= scaleX;
+			fy *= scaleY;
+			fx2 *= scaleX;
+			fy2 *= scaleY;
+		}
+
+		float x1, y1, x2, y2, x4, y4;
+
+		// rotate
+		if (rotation != 0) {
+			final float cos = MathUtils.cosDeg(rotation);
+			final float sin = MathUtils.sinDeg(rotation);
+
+			x1 = cos * fx - sin * fy;
+			y1 = sin * fx + cos * fy;
+
+			x2 = cos * fx - sin * fy2;
+			y2 = sin * fx + cos * fy2;
+
+			float x3 = cos * fx2 - sin * fy2;
+			float y3 = sin * fx2 + cos * fy2;
+
+			x4 = x1 + (x3 - x2);
+			y4 = y3 - (y2 - y1);
+		} else {
+			x1 = fx;
+			y1 = fy;
+
+			x2 = fx;
+			y2 = fy2;
+
+			x4 = fx2;
+			y4 = fy;
+		}
+
+		add(x1 + worldOriginX, y1 + worldOriginY, u1, v1, x2 + worldOriginX, y2 + worldOriginY, u2, v2, x4 + worldOriginX,
+			y4 + worldOriginY, u4, v4, colorPacked);
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, float originX, float originY, float width, float height, float scaleX,
+		float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+		prepare(texture);
+
+		float u = srcX * invTexWidth;
+		float v = (srcY + srcHeight) * invTexHeight;
+		float u2 = (srcX + srcWidth) * invTexWidth;
+		float v2 = srcY * invTexHeight;
+
+		if (flipX) {
+			float tmp = u;
+			u = u2;
+			u2 = tmp;
+		}
+
+		if (flipY) {
+			float tmp = v;
+			v = v2;
+			v2 = tmp;
+		}
+
+		add(x, y, originX, originY, width, height, scaleX, scaleY, rotation, u, v, u, v2, u2, v);
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, float width, float height, int srcX, int srcY, int srcWidth,
+		int srcHeight, boolean flipX, boolean flipY) {
+		prepare(texture);
+
+		float u = srcX * invTexWidth;
+		float v = (srcY + srcHeight) * invTexHeight;
+		float u2 = (srcX + srcWidth) * invTexWidth;
+		float v2 = srcY * invTexHeight;
+		final float fx2 = x + width;
+		final float fy2 = y + height;
+
+		if (flipX) {
+			float tmp = u;
+			u = u2;
+			u2 = tmp;
+		}
+
+		if (flipY) {
+			float tmp = v;
+			v = v2;
+			v2 = tmp;
+		}
+
+		add(x, y, u, v, x, fy2, u, v2, fx2, y, u2, v, colorPacked);
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
+		prepare(texture);
+
+		final float u = srcX * invTexWidth;
+		final float v = (srcY + srcHeight) * invTexHeight;
+		final float u2 = (srcX + srcWidth) * invTexWidth;
+		final float v2 = srcY * invTexHeight;
+		final float fx2 = x + srcWidth;
+		final float fy2 = y + srcHeight;
+
+		add(x, y, u, v, x, fy2, u, v2, fx2, y, u2, v, colorPacked);
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2) {
+		prepare(texture);
+
+		final float fx2 = x + width;
+		final float fy2 = y + height;
+
+		add(x, y, u, v, x, fy2, u, v2, fx2, y, u2, v, colorPacked);
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y) {
+		draw(texture, x, y, texture.getWidth(), texture.getHeight());
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, float width, float height) {
+		prepare(texture);
+
+		final float fx2 = x + width;
+		final float fy2 = y + height;
+
+		add(x, y, 0, 1, x, fy2, 0, 0, fx2, y, 1, 1, colorPacked);
+	}
+
+	/** Draws quads using the first, second, and fourth vertices of each quad, and the color of the first vertex. Each quad should
+	 * be a parallelogram with a single color, such as the vertices of a {@link Sprite}.
+	 * @see Batch#draw(Texture, float[], int, int) */
+	@Override
+	public void draw (Texture texture, float[] spriteVertices, int offset, int count) {
+		for (int end = offset + count; offset < end; offset += Sprite.SPRITE_SIZE) {
+			prepare(texture);
+			float[] vertices = spriteVertices;
+			int i = offset;
+			add(vertices[i], vertices[i + 1], vertices[i + 3], vertices[i + 4], //
+				vertices[i + 5], vertices[i + 6], vertices[i + 8], vertices[i + 9], //
+				vertices[i + 15], vertices[i + 16], vertices[i + 18], vertices[i + 19], //
+				vertices[i + 2]);
+		}
+	}
+
+	@Override
+	public void draw (TextureRegion region, float x, float y) {
+		draw(region, x, y, region.getRegionWidth(), region.getRegionHeight());
+	}
+
+	@Override
+	public void draw (TextureRegion region, float x, float y, float width, float height) {
+		prepare(region.texture);
+
+		final float fx2 = x + width;
+		final float fy2 = y + height;
+		final float u = region.u;
+		final float v = region.v2;
+		final float u2 = region.u2;
+		final float v2 = region.v;
+
+		add(x, y, u, v, x, fy2, u, v2, fx2, y, u2, v, colorPacked);
+	}
+
+	@Override
+	public void draw (TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+		float scaleX, float scaleY, float rotation) {
+		prepare(region.texture);
+
+		final float u = region.u;
+		final float v = region.v2;
+		final float u2 = region.u2;
+		final float v2 = region.v;
+
+		add(x, y, originX, originY, width, height, scaleX, scaleY, rotation, u, v, u, v2, u2, v);
+	}
+
+	@Override
+	public void draw (TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+		float scaleX, float scaleY, float rotation, boolean clockwise) {
+		prepare(region.texture);
+
+		if (clockwise) {
+			add(x, y, originX, originY, width, height, scaleX, scaleY, rotation, //
+				region.u2, region.v2, region.u, region.v2, region.u2, region.v);
+		} else {
+			add(x, y, originX, originY, width, height, scaleX, scaleY, rotation, //
+				region.u, region.v, region.u2, region.v, region.u, region.v2);
+		}
+	}
+
+	@Override
+	public void draw (TextureRegion region, float width, float height, Affine2 transform) {
+		prepare(region.texture);
+
+		// construct corner points
+		float x1 = transform.m02;
+		float y1 = transform.m12;
+		float x2 = transform.m01 * height + transform.m02;
+		float y2 = transform.m11 * height + transform.m12;
+		float x4 = transform.m00 * width + transform.m02;
+		float y4 = transform.m10 * width + transform.m12;
+
+		float u = region.u;
+		float v = region.v2;
+		float u2 = region.u2;
+		float v2 = region.v;
+
+		add(x1, y1, u, v, x2, y2, u, v2, x4, y4, u2, v, colorPacked);
+	}
+
+	@Override
+	public void flush () {
+		if (idx == 0) return;
+
+		renderCalls++;
+		totalRenderCalls++;
+		int spritesInBatch = idx / instanceSize;
+		if (spritesInBatch > maxSpritesInBatch) maxSpritesInBatch = spritesInBatch;
+
+		lastTexture.bind();
+		Mesh mesh = this.mesh;
+		if (packedInstances != null)
+			mesh.setInstanceData(packedInstancesFloats, idx);
+		else
+			mesh.setInstanceData(instances, 0, idx);
+
+		if (blendingDisabled) {
+			Gdx.gl.glDisable(GL20.GL_BLEND);
+		} else {
+			Gdx.gl.glEnable(GL20.GL_BLEND);
+			if (blendSrcFunc != -1) Gdx.gl.glBlendFuncSeparate(blendSrcFunc, blendDstFunc, blendSrcFuncAlpha, blendDstFuncAlpha);
+		}
+
+		mesh.render(customShader != null ? customShader : shader, GL20.GL_TRIANGLES, 0, 6);
+
+		idx = 0;
+	}
+
+	@Override
+	public void disableBlending () {
+		if (blendingDisabled) return;
+		flush();
+		blendingDisabled = true;
+	}
+
+	@Override
+	public void enableBlending () {
+		if (!blendingDisabled) return;
+		flush();
+		blendingDisabled = false;
+	}
+
+	@Override
+	public void setBlendFunction (int srcFunc, int dstFunc) {
+		setBlendFunctionSeparate(srcFunc, dstFunc, srcFunc, dstFunc);
+	}
+
+	@Override
+	public void setBlendFunctionSeparate (int srcFuncColor, int dstFuncColor, int srcFuncAlpha, int dstFuncAlpha) {
+		if (blendSrcFunc == srcFuncColor && blendDstFunc == dstFuncColor && blendSrcFuncAlpha == srcFuncAlpha
+			&& blendDstFuncAlpha == dstFuncAlpha) return;
+		flush();
+		blendSrcFunc = srcFuncColor;
+		blendDstFunc = dstFuncColor;
+		blendSrcFuncAlpha = srcFuncAlpha;
+		blendDstFuncAlpha = dstFuncAlpha;
+	}
+
+	@Override
+	public int getBlendSrcFunc () {
+		return blendSrcFunc;
+	}
+
+	@Override
+	public int getBlendDstFunc () {
+		return blendDstFunc;
+	}
+
+	@Override
+	public int getBlendSrcFuncAlpha () {
+		return blendSrcFuncAlpha;
+	}
+
+	@Override
+	public int getBlendDstFuncAlpha () {
+		return blendDstFuncAlpha;
+	}
+
+	@Override
+	public void dispose () {
+		mesh.dispose();
+		if (ownsShader && shader != null) shader.dispose();
+	}
+
+	@Override
+	public Matrix4 getProjectionMatrix () {
+		return projectionMatrix;
+	}
+
+	@Override
+	public Matrix4 getTransformMatrix () {
+		return transformMatrix;
+	}
+
+	@Override
+	public void setProjectionMatrix (Matrix4 projection) {
+		if (drawing) flush();
+		projectionMatrix.set(projection);
+		if (drawing) setupMatrices();
+	}
+
+	@Override
+	public void setTransformMatrix (Matrix4 transform) {
+		if (drawing) flush();
+		transformMatrix.set(transform);
+		if (drawing) setupMatrices();
+	}
+
+	protected void setupMatrices () {
+		combinedMatrix.set(projectionMatrix).mul(transformMatrix);
+		ShaderProgram shader = customShader != null ? customShader : this.shader;
+		shader.setUniformMatrix("u_projTrans", combinedMatrix);
+		shader.setUniformi("u_texture", 0);
+	}
+
+	protected void switchTexture (Texture texture) {
+		flush();
+		lastTexture = texture;
+		invTexWidth = 1.0f / texture.getWidth();
+		invTexHeight = 1.0f / texture.getHeight();
+	}
+
+	@Override
+	public void setShader (ShaderProgram shader) {
+		if (shader == customShader) // avoid unnecessary flushing in case we are drawing
+			return;
+		if (drawing) {
+			flush();
+		}
+		customShader = shader;
+		if (drawing) {
+			if (customShader != null)
+				customShader.bind();
+			else
+				this.shader.bind();
+			setupMatrices();
+		}
+	}
+
+	@Override
+	public ShaderProgram getShader () {
+		if (customShader == null) {
+			return shader;
+		}
+		return customShader;
+	}
+
+	@Override
+	public boolean isBlendingEnabled () {
+		return !blendingDisabled;
+	}
+
+	public boolean isDrawing () {
+		return drawing;
+	}
+}
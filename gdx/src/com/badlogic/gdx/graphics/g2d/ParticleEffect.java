@@ -89,6 +89,27 @@ public class ParticleEffect implements Disposable {
 			emitters.get(i).update(delta);
 	}
 
+	/** Advances the effect by the specified time without drawing it, e.g. to show a continuous effect at steady state as soon as it
+	 * is started. The position should be set first. Same as {@link #simulate(float, float)} with a step of 1/30th of a second. */
+	public void simulate (float time) {
+		simulate(time, 1 / 30f);
+	}
+
+	/** Advances the effect by the specified time without drawing it. This is the same as calling {@link #update(float)} with the
+	 * step for each whole step in the time, then once with the rest of the time, if any.
+	 * @param step The largest delta passed to {@link #update(float)}. Larger steps take less time to simulate, but the particles
+	 *           emitted during a step start at the same time. */
+	public void simulate (float time, float step) {
+		if (step <= 0) throw new IllegalArgumentException("step must be > 0: " + step);
+		if (time <= 0) return;
+		// Counted rather than subtracted, so rounding error can't add a tiny extra update.
+		int steps = (int)(time / step + 0.0001f);
+		for (int i = 0; i < steps; i++)
+			update(step);
+		float remaining = time - steps * step;
+		if (remaining > step * 0.0001f) update(remaining);
+	}
+
 	public void draw (Batch spriteBatch) {
 		for (int i = 0, n = emitters.size; i < n; i++)
 			emitters.get(i).draw(spriteBatch);
@@ -34,6 +34,17 @@ public class ParticleEffectPool extends Pool<PooledEffect> {
 		return pooledEffect;
 	}
 
+	/** Adds effects to the pool until it has the specified number of free effects, up to {@link #max}. The particles of the new
+	 * effects are {@link ParticleEffect#preAllocateParticles() preallocated} up to each emitter's max particle count, so obtaining
+	 * the effects and emitting particles doesn't allocate. Every emitter must have sprites. */
+	public void prewarm (int size) {
+		for (int i = getFree(), n = Math.min(size, max); i < n; i++) {
+			PooledEffect effect = newObject();
+			effect.preAllocateParticles();
+			free(effect);
+		}
+	}
+
 	public void free (PooledEffect effect) {
 		super.free(effect);
 
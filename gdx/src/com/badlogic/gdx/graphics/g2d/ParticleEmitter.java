@@ -29,69 +29,71 @@ import java.io.Writer;
 import java.util.Arrays;
 
 public class ParticleEmitter {
-	static private final int UPDATE_SCALE = 1 << 0;
-	static private final int UPDATE_ANGLE = 1 << 1;
-	static private final int UPDATE_ROTATION = 1 << 2;
-	static private final int UPDATE_VELOCITY = 1 << 3;
-	static private final int UPDATE_WIND = 1 << 4;
-	static private final int UPDATE_GRAVITY = 1 << 5;
-	static private final int UPDATE_TINT = 1 << 6;
-	static private final int UPDATE_SPRITE = 1 << 7;
-
-	private RangedNumericValue delayValue = new RangedNumericValue();
-	private IndependentScaledNumericValue lifeOffsetValue = new IndependentScaledNumericValue();
-	private RangedNumericValue durationValue = new RangedNumericValue();
-	private IndependentScaledNumericValue lifeValue = new IndependentScaledNumericValue();
-	private ScaledNumericValue emissionValue = new ScaledNumericValue();
-	private ScaledNumericValue xScaleValue = new ScaledNumericValue();
-	private ScaledNumericValue yScaleValue = new ScaledNumericValue();
-	private ScaledNumericValue rotationValue = new ScaledNumericValue();
-	private ScaledNumericValue velocityValue = new ScaledNumericValue();
-	private ScaledNumericValue angleValue = new ScaledNumericValue();
-	private ScaledNumericValue windValue = new ScaledNumericValue();
-	private ScaledNumericValue gravityValue = new ScaledNumericValue();
-	private ScaledNumericValue transparencyValue = new ScaledNumericValue();
-	private GradientColorValue tintValue = new GradientColorValue();
-	private RangedNumericValue xOffsetValue = new ScaledNumericValue();
-	private RangedNumericValue yOffsetValue = new ScaledNumericValue();
-	private ScaledNumericValue spawnWidthValue = new ScaledNumericValue();
-	private ScaledNumericValue spawnHeightValue = new ScaledNumericValue();
-	private SpawnShapeValue spawnShapeValue = new SpawnShapeValue();
+	static final int UPDATE_SCALE = 1 << 0;
+	static final int UPDATE_ANGLE = 1 << 1;
+	static final int UPDATE_ROTATION = 1 << 2;
+	static final int UPDATE_VELOCITY = 1 << 3;
+	static final int UPDATE_WIND = 1 << 4;
+	static final int UPDATE_GRAVITY = 1 << 5;
+	static final int UPDATE_TINT = 1 << 6;
+	static final int UPDATE_SPRITE = 1 << 7;
+
+	RangedNumericValue delayValue = new RangedNumericValue();
+	IndependentScaledNumericValue lifeOffsetValue = new IndependentScaledNumericValue();
+	RangedNumericValue durationValue = new RangedNumericValue();
+	IndependentScaledNumericValue lifeValue = new IndependentScaledNumericValue();
+	ScaledNumericValue emissionValue = new ScaledNumericValue();
+	ScaledNumericValue xScaleValue = new ScaledNumericValue();
+	ScaledNumericValue yScaleValue = new ScaledNumericValue();
+	ScaledNumericValue rotationValue = new ScaledNumericValue();
+	ScaledNumericValue velocityValue = new ScaledNumericValue();
+	ScaledNumericValue angleValue = new ScaledNumericValue();
+	ScaledNumericValue windValue = new ScaledNumericValue();
+	ScaledNumericValue gravityValue = new ScaledNumericValue();
+	ScaledNumericValue transparencyValue = new ScaledNumericValue();
+	GradientColorValue tintValue = new GradientColorValue();
+	RangedNumericValue xOffsetValue = new ScaledNumericValue();
+	RangedNumericValue yOffsetValue = new ScaledNumericValue();
+	ScaledNumericValue spawnWidthValue = new ScaledNumericValue();
+	ScaledNumericValue spawnHeightValue = new ScaledNumericValue();
+	SpawnShapeValue spawnShapeValue = new SpawnShapeValue();
 
 	private RangedNumericValue[] xSizeValues;
 	private RangedNumericValue[] ySizeValues;
 	private RangedNumericValue[] motionValues;
 
-	private float accumulator;
-	private Array<Sprite> sprites;
-	private SpriteMode spriteMode = SpriteMode.single;
+	float accumulator;
+	Array<Sprite> sprites;
+	SpriteMode spriteMode = SpriteMode.single;
 	private Particle[] particles;
-	private int minParticleCount, maxParticleCount = 4;
-	private float x, y;
+	private int minParticleCount;
+	int maxParticleCount = 4;
+	float x, y;
 	private String name;
 	private Array<String> imagePaths;
-	private int activeCount;
+	int activeCount;
 	private boolean[] active;
 	private boolean firstUpdate;
-	private boolean flipX, flipY;
-	private int updateFlags;
+	boolean flipX, flipY;
+	int updateFlags;
 	private boolean allowCompletion;
-	private BoundingBox bounds;
+	BoundingBox bounds;
 
 	private int emission, emissionDiff, emissionDelta;
-	private int lifeOffset, lifeOffsetDiff;
-	private int life, lifeDiff;
+	int lifeOffset, lifeOffsetDiff;
+	int life, lifeDiff;
 	private float spawnWidth, spawnWidthDiff;
 	private float spawnHeight, spawnHeightDiff;
 	public float duration = 1, durationTimer;
 	private float delay, delayTimer;
+	float spawnX, spawnY, spawnAngle;
 
-	private boolean attached;
+	boolean attached;
 	private boolean continuous;
-	private boolean aligned;
+	boolean aligned;
 	private boolean behind;
-	private boolean additive = true;
-	private boolean premultipliedAlpha = false;
+	boolean additive = true;
+	boolean premultipliedAlpha = false;
 	boolean cleansUpBlendFunction = true;
 
 	public ParticleEmitter () {
@@ -198,40 +200,7 @@ public class ParticleEmitter {
 		int deltaMillis = (int)accumulator;
 		accumulator -= deltaMillis;
 
-		if (delayTimer < delay) {
-			delayTimer += deltaMillis;
-		} else {
-			boolean done = false;
-			if (firstUpdate) {
-				firstUpdate = false;
-				addParticle();
-			}
-
-			if (durationTimer < duration)
-				durationTimer += deltaMillis;
-			else {
-				if (!continuous || allowCompletion)
-					done = true;
-				else
-					restart();
-			}
-
-			if (!done) {
-				emissionDelta += deltaMillis;
-				float emissionTime = emission + emissionDiff * emissionValue.getScale(durationTimer / (float)duration);
-				if (emissionTime > 0) {
-					emissionTime = 1000 / emissionTime;
-					if (emissionDelta >= emissionTime) {
-						int emitCount = (int)(emissionDelta / emissionTime);
-						emitCount = Math.min(emitCount, maxParticleCount - activeCount);
-						emissionDelta -= emitCount * emissionTime;
-						emissionDelta %= emissionTime;
-						addParticles(emitCount);
-					}
-				}
-				if (activeCount < minParticleCount) addParticles(minParticleCount - activeCount);
-			}
-		}
+		updateEmission(deltaMillis);
 
 		boolean[] active = this.active;
 		int activeCount = this.activeCount;
@@ -245,6 +214,40 @@ public class ParticleEmitter {
 		this.activeCount = activeCount;
 	}
 
+	/** Advances the delay and duration timers and adds the particles emitted during the elapsed time. */
+	void updateEmission (int deltaMillis) {
+		if (delayTimer < delay) {
+			delayTimer += deltaMillis;
+			return;
+		}
+
+		if (firstUpdate) {
+			firstUpdate = false;
+			addParticle();
+		}
+
+		if (durationTimer < duration)
+			durationTimer += deltaMillis;
+		else {
+			if (!continuous || allowCompletion) return;
+			restart();
+		}
+
+		emissionDelta += deltaMillis;
+		float emissionTime = emission + emissionDiff * emissionValue.getScale(durationTimer / (float)duration);
+		if (emissionTime > 0) {
+			emissionTime = 1000 / emissionTime;
+			if (emissionDelta >= emissionTime) {
+				int emitCount = (int)(emissionDelta / emissionTime);
+				emitCount = Math.min(emitCount, maxParticleCount - activeCount);
+				emissionDelta -= emitCount * emissionTime;
+				emissionDelta %= emissionTime;
+				addParticles(emitCount);
+			}
+		}
+		if (activeCount < minParticleCount) addParticles(minParticleCount - activeCount);
+	}
+
 	public void draw (Batch batch) {
 		if (premultipliedAlpha) {
 			batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
@@ -491,7 +494,24 @@ public class ParticleEmitter {
 		particle.transparency = transparencyValue.newLowValue();
 		particle.transparencyDiff = transparencyValue.newHighValue() - particle.transparency;
 
-		// Spawn.
+		if (spawn(percent) && (updateFlags & UPDATE_ANGLE) == 0) {
+			particle.angle = spawnAngle;
+			particle.angleCos = MathUtils.cosDeg(spawnAngle);
+			particle.angleSin = MathUtils.sinDeg(spawnAngle);
+		}
+		particle.setBounds(spawnX - spriteWidth * 0.5f, spawnY - spriteHeight * 0.5f, spriteWidth, spriteHeight);
+
+		int offsetTime = (int)(lifeOffset + lifeOffsetDiff * lifeOffsetValue.getScale(percent));
+		if (offsetTime > 0) {
+			if (offsetTime >= particle.currentLife) offsetTime = particle.currentLife - 1;
+			updateParticle(particle, offsetTime / 1000f, offsetTime);
+		}
+	}
+
+	/** Sets {@link #spawnX} and {@link #spawnY} to a random position in the spawn shape.
+	 * @return true if the position is on the edge of an ellipse, with {@link #spawnAngle} set to its angle from the center. */
+	boolean spawn (float percent) {
+		boolean edge = false;
 		float x = this.x;
 		if (xOffsetValue.active) x += xOffsetValue.newLowValue();
 		float y = this.y;
@@ -528,11 +548,8 @@ public class ParticleEmitter {
 				float sinDeg = MathUtils.sinDeg(spawnAngle);
 				x += cosDeg * radiusX;
 				y += sinDeg * radiusX / scaleY;
-				if ((updateFlags & UPDATE_ANGLE) == 0) {
-					particle.angle = spawnAngle;
-					particle.angleCos = cosDeg;
-					particle.angleSin = sinDeg;
-				}
+				this.spawnAngle = spawnAngle;
+				edge = true;
 			} else {
 				float radius2 = radiusX * radiusX;
 				while (true) {
@@ -559,14 +576,9 @@ public class ParticleEmitter {
 			break;
 		}
 		}
-
-		particle.setBounds(x - spriteWidth * 0.5f, y - spriteHeight * 0.5f, spriteWidth, spriteHeight);
-
-		int offsetTime = (int)(lifeOffset + lifeOffsetDiff * lifeOffsetValue.getScale(percent));
-		if (offsetTime > 0) {
-			if (offsetTime >= particle.currentLife) offsetTime = particle.currentLife - 1;
-			updateParticle(particle, offsetTime / 1000f, offsetTime);
-		}
+		spawnX = x;
+		spawnY = y;
+		return edge;
 	}
 
 	private boolean updateParticle (Particle particle, float delta, int deltaMillis) {
@@ -653,13 +665,13 @@ public class ParticleEmitter {
 		return true;
 	}
 
-	private void generateLifeValues () {
+	void generateLifeValues () {
 		life = (int)lifeValue.newLowValue();
 		lifeDiff = (int)lifeValue.newHighValue();
 		if (!lifeValue.relative) lifeDiff -= life;
 	}
 
-	private void generateLifeOffsetValues () {
+	void generateLifeOffsetValues () {
 		lifeOffset = lifeOffsetValue.active ? (int)lifeOffsetValue.newLowValue() : 0;
 		lifeOffsetDiff = (int)lifeOffsetValue.newHighValue();
 		if (!lifeOffsetValue.relative) lifeOffsetDiff -= lifeOffset;
@@ -717,6 +729,7 @@ public class ParticleEmitter {
 				particles[index] = particle = newParticle(sprites.first());
 				particle.flip(flipX, flipY);
 			}
+			if (particle.tint == null) particle.tint = new float[3];
 		}
 	}
 
@@ -1615,6 +1628,13 @@ public class ParticleEmitter {
 		}
 
 		public float[] getColor (float percent) {
+			getColor(percent, temp, 0);
+			return temp;
+		}
+
+		/** Stores the r, g and b values at the specified timeline position in the array. Unlike {@link #getColor(float)}, this is
+		 * safe to call from multiple threads. */
+		public void getColor (float percent, float[] color, int offset) {
 			int startIndex = 0, endIndex = -1;
 			float[] timeline = this.timeline;
 			int n = timeline.length;
@@ -1632,17 +1652,16 @@ public class ParticleEmitter {
 			float g1 = colors[startIndex + 1];
 			float b1 = colors[startIndex + 2];
 			if (endIndex == -1) {
-				temp[0] = r1;
-				temp[1] = g1;
-				temp[2] = b1;
-				return temp;
+				color[offset] = r1;
+				color[offset + 1] = g1;
+				color[offset + 2] = b1;
+				return;
 			}
 			float factor = (percent - startTime) / (timeline[endIndex] - startTime);
 			endIndex *= 3;
-			temp[0] = r1 + (colors[endIndex] - r1) * factor;
-			temp[1] = g1 + (colors[endIndex + 1] - g1) * factor;
-			temp[2] = b1 + (colors[endIndex + 2] - b1) * factor;
-			return temp;
+			color[offset] = r1 + (colors[endIndex] - r1) * factor;
+			color[offset + 1] = g1 + (colors[endIndex + 1] - g1) * factor;
+			color[offset + 2] = b1 + (colors[endIndex + 2] - b1) * factor;
 		}
 
 		public void save (Writer output) throws IOException {
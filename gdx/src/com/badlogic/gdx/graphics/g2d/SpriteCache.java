@@ -39,8 +39,9 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.IntArray;
 
 /** Draws 2D images, optimized for geometry that does not change. Sprites and/or textures are cached and given an ID, which can
- * later be used for drawing. The size, color, and texture region for each cached image cannot be modified. This information is
- * stored in video memory and does not have to be sent to the GPU each time it is drawn.<br>
+ * later be used for drawing. This information is stored in video memory and does not have to be sent to the GPU each time it is
+ * drawn. Images in an existing cache can be replaced using {@link #beginUpdate(int, int)}, which only sends the changed images to
+ * the GPU.<br>
  * <br>
  * To cache {@link Sprite sprites} or {@link Texture textures}, first call {@link SpriteCache#beginCache()}, then call the
  * appropriate add method to define the images. To complete the cache, call {@link SpriteCache#endCache()} and store the returned
@@ -79,6 +80,8 @@ public class SpriteCache implements Disposable {
 	private final ShaderProgram shader;
 
 	private Cache currentCache;
+	private Cache updateCache;
+	private int updateImage;
 	private final Array<Texture> textures = new Array(8);
 	private final IntArray counts = new IntArray(8);
 
@@ -170,6 +173,7 @@ public class SpriteCache implements Disposable {
 	public void beginCache () {
 		if (drawing) throw new IllegalStateException("end must be called before beginCache");
 		if (currentCache != null) throw new IllegalStateException("endCache must be called before begin.");
+		if (updateCache != null) throw new IllegalStateException("endUpdate must be called before beginCache.");
 		int verticesPerImage = mesh.getNumIndices() > 0 ? 4 : 6;
 		FloatBuffer verticesBuffer = mesh.getVerticesBuffer(true);
 		currentCache = new Cache(caches.size, verticesBuffer.limit());
@@ -183,6 +187,7 @@ public class SpriteCache implements Disposable {
 	public void beginCache (int cacheID) {
 		if (drawing) throw new IllegalStateException("end must be called before beginCache");
 		if (currentCache != null) throw new IllegalStateException("endCache must be called before begin.");
+		if (updateCache != null) throw new IllegalStateException("endUpdate must be called before beginCache.");
 		Buffer verticesBuffer = (Buffer)mesh.getVerticesBuffer(true);
 		if (cacheID == caches.size - 1) {
 			Cache oldCache = caches.removeIndex(cacheID);
@@ -240,8 +245,58 @@ public class SpriteCache implements Disposable {
 		return cache.id;
 	}
 
+	/** Starts replacing images of an existing cache in place, for example to move, recolor, or change the region of some images
+	 * without redefining the whole cache. Until {@link #endUpdate()} is called, each add method replaces the image at the current
+	 * index instead of adding a new image, then moves to the next index. Only the changed vertices are uploaded to the GPU.
+	 * <p>
+	 * The order of textures in a cache can't change, so each replacement image must use the same texture as the image it
+	 * replaces. This may be called between {@link #begin()} and {@link #end()}.
+	 * @param firstImage The index of the first image to replace, in the order the images were added to the cache. */
+	public void beginUpdate (int cacheID, int firstImage) {
+		if (currentCache != null) throw new IllegalStateException("endCache must be called before beginUpdate.");
+		if (updateCache != null) throw new IllegalStateException("endUpdate must be called before beginUpdate.");
+		if (firstImage < 0) throw new IndexOutOfBoundsException("firstImage can't be < 0: " + firstImage);
+		updateCache = caches.get(cacheID);
+		updateImage = firstImage;
+	}
+
+	/** Moves to the image that the next add method replaces. Can only be called after {@link #beginUpdate(int, int)}. */
+	public void setUpdateImage (int image) {
+		if (updateCache == null) throw new IllegalStateException("beginUpdate must be called before setUpdateImage.");
+		if (image < 0) throw new IndexOutOfBoundsException("image can't be < 0: " + image);
+		updateImage = image;
+	}
+
+	/** Ends replacing images started by {@link #beginUpdate(int, int)}. */
+	public void endUpdate () {
+		if (updateCache == null) throw new IllegalStateException("beginUpdate must be called before endUpdate.");
+		updateCache = null;
+	}
+
+	private void update (Texture texture, float[] vertices, int offset, int length) {
+		Cache cache = updateCache;
+		int imageSize = (mesh.getNumIndices() > 0 ? 4 : 6) * VERTEX_SIZE;
+		int images = length / imageSize, image = updateImage;
+
+		// Walk the runs of images that share a texture to check the texture of each replaced image.
+		int textureIndex = -1, runEnd = 0;
+		for (int i = image, n = image + images; i < n; i++) {
+			while (i >= runEnd) {
+				if (++textureIndex >= cache.textureCount)
+					throw new IndexOutOfBoundsException("image can't be >= image count: " + i + " >= " + runEnd);
+				runEnd += cache.counts[textureIndex] / 6;
+			}
+			if (cache.textures[textureIndex] != texture)
+				throw new IllegalArgumentException("A replacement image must use the same texture as the image it replaces: " + i);
+		}
+
+		mesh.updateVertices(cache.offset + image * imageSize, vertices, offset, images * imageSize);
+		updateImage = image + images;
+	}
+
 	/** Invalidates all cache IDs and resets the SpriteCache so new caches can be added. */
 	public void clear () {
+		if (updateCache != null) throw new IllegalStateException("endUpdate must be called before clear.");
 		caches.clear();
 		((Buffer)mesh.getVerticesBuffer(true)).clear().flip();
 	}
@@ -250,6 +305,10 @@ public class SpriteCache implements Disposable {
 	 * u, and v. If indexed geometry is used, each image should be specified as 4 vertices, otherwise each image should be
 	 * specified as 6 vertices. */
 	public void add (Texture texture, float[] vertices, int offset, int length) {
+		if (updateCache != null) {
+			update(texture, vertices, offset, length);
+			return;
+		}
 		if (currentCache == null) throw new IllegalStateException("beginCache must be called before add.");
 
 		int verticesPerImage = mesh.getNumIndices() > 0 ? 4 : 6;
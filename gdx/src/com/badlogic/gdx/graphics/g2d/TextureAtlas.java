@@ -17,6 +17,8 @@
 package com.badlogic.gdx.graphics.g2d;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
 import java.util.Comparator;
 
 import com.badlogic.gdx.Files.FileType;
@@ -29,20 +31,29 @@ import com.badlogic.gdx.graphics.Texture.TextureWrap;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Page;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Region;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.DataInput;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntMap;
 import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.ObjectSet;
 import com.badlogic.gdx.utils.StreamUtils;
 
 /** Loads images from texture atlases created by TexturePacker.<br>
+ * <br>
+ * Regions are indexed by name as they are loaded or added, so lookups such as {@link #findRegion(String)} only read the atlas
+ * and may be done from multiple threads at the same time, as long as no thread adds regions or changes the array returned by
+ * {@link #getRegions()} meanwhile.<br>
  * <br>
  * A TextureAtlas must be disposed to free up the resources consumed by the backing textures.
  * @author Nathan Sweet */
 public class TextureAtlas implements Disposable {
 	private final ObjectSet<Texture> textures = new ObjectSet(4);
 	private final Array<AtlasRegion> regions = new Array();
+	private final ObjectMap<String, Array<AtlasRegion>> regionIndex = new ObjectMap();
+	private final ObjectMap<String, IntMap<AtlasRegion>> regionIndexByIndex = new ObjectMap();
+	private int regionIndexSize;
 
 	/** Creates an empty atlas to which regions can be added. */
 	public TextureAtlas () {
@@ -105,6 +116,7 @@ public class TextureAtlas implements Disposable {
 			atlasRegion.values = region.values;
 			if (region.flip) atlasRegion.flip(false, true);
 			regions.add(atlasRegion);
+			indexRegion(atlasRegion);
 		}
 	}
 
@@ -114,6 +126,7 @@ public class TextureAtlas implements Disposable {
 		AtlasRegion region = new AtlasRegion(texture, x, y, width, height);
 		region.name = name;
 		regions.add(region);
+		indexRegion(region);
 		return region;
 	}
 
@@ -123,43 +136,86 @@ public class TextureAtlas implements Disposable {
 		AtlasRegion region = new AtlasRegion(textureRegion);
 		region.name = name;
 		regions.add(region);
+		indexRegion(region);
 		return region;
 	}
 
-	/** Returns all regions in the atlas. */
+	/** Returns all regions in the atlas. If regions are added to or removed from the returned array, the index used to find
+	 * regions by name is rebuilt by the next lookup. If regions in the array are replaced, renamed or given a new index,
+	 * {@link #updateRegionIndex()} must be called. */
 	public Array<AtlasRegion> getRegions () {
 		return regions;
 	}
 
-	/** Returns the first region found with the specified name. This method uses string comparison to find the region, so the
-	 * result should be cached rather than calling this method multiple times. */
-	public @Null AtlasRegion findRegion (String name) {
+	/** Rebuilds the index used to find regions by name. Regions added with {@link #addRegion(String, TextureRegion)} or
+	 * {@link #load(TextureAtlasData)} are indexed automatically. */
+	public void updateRegionIndex () {
+		regionIndex.clear(regions.size);
+		regionIndexByIndex.clear();
+		regionIndexSize = 0;
 		for (int i = 0, n = regions.size; i < n; i++)
-			if (regions.get(i).name.equals(name)) return regions.get(i);
-		return null;
+			indexRegion(regions.get(i));
+	}
+
+	private void indexRegion (AtlasRegion region) {
+		regionIndexSize++;
+		if (region.name == null) return;
+		Array<AtlasRegion> named = regionIndex.get(region.name);
+		if (named == null) {
+			named = new Array(true, 1, AtlasRegion[]::new);
+			regionIndex.put(region.name, named);
+		}
+		named.add(region);
+		if (named.size <= 8) return; // Few enough to search linearly.
+		IntMap<AtlasRegion> byIndex = regionIndexByIndex.get(region.name);
+		if (byIndex == null) {
+			byIndex = new IntMap(named.size);
+			regionIndexByIndex.put(region.name, byIndex);
+			for (int i = 0, n = named.size - 1; i < n; i++) {
+				AtlasRegion other = named.get(i);
+				if (!byIndex.containsKey(other.index)) byIndex.put(other.index, other);
+			}
+		}
+		if (!byIndex.containsKey(region.index)) byIndex.put(region.index, region);
 	}
 
-	/** Returns the first region found with the specified name and index. This method uses string comparison to find the region, so
-	 * the result should be cached rather than calling this method multiple times. */
+	/** Returns the regions with the specified name, in the order they are in the atlas, or null. */
+	private @Null Array<AtlasRegion> getNamed (String name) {
+		if (regionIndexSize != regions.size) updateRegionIndex();
+		return regionIndex.get(name);
+	}
+
+	/** Returns the first region found with the specified name. Regions are found using a hash lookup. */
+	public @Null AtlasRegion findRegion (String name) {
+		Array<AtlasRegion> named = getNamed(name);
+		return named == null ? null : named.first();
+	}
+
+	/** Returns the first region found with the specified name and index. Regions are found using a hash lookup. */
 	public @Null AtlasRegion findRegion (String name, int index) {
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (!region.name.equals(name)) continue;
-			if (region.index != index) continue;
-			return region;
+		Array<AtlasRegion> named = getNamed(name);
+		if (named == null) return null;
+		if (named.size > 8) {
+			// The map is keyed by the indices the regions had when they were indexed. Indices are commonly set after addRegion, so
+			// a missing or stale entry falls back to searching.
+			AtlasRegion region = regionIndexByIndex.get(name).get(index);
+			if (region != null && region.index == index) return region;
+		}
+		for (int i = 0, n = named.size; i < n; i++) {
+			AtlasRegion region = named.get(i);
+			if (region.index == index) return region;
 		}
 		return null;
 	}
 
 	/** Returns all regions with the specified name, ordered by smallest to largest {@link AtlasRegion#index index}. This method
-	 * uses string comparison to find the regions, so the result should be cached rather than calling this method multiple
-	 * times. */
+	 * creates new regions, so the result should be cached rather than calling this method multiple times. */
 	public Array<AtlasRegion> findRegions (String name) {
-		Array<AtlasRegion> matched = new Array<>(AtlasRegion[]::new);
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (region.name.equals(name)) matched.add(new AtlasRegion(region));
-		}
+		Array<AtlasRegion> named = getNamed(name);
+		if (named == null) return new Array<>(AtlasRegion[]::new);
+		Array<AtlasRegion> matched = new Array<>(true, named.size, AtlasRegion[]::new);
+		for (int i = 0, n = named.size; i < n; i++)
+			matched.add(new AtlasRegion(named.get(i)));
 		return matched;
 	}
 
@@ -174,38 +230,30 @@ public class TextureAtlas implements Disposable {
 	}
 
 	/** Returns the first region found with the specified name as a sprite. If whitespace was stripped from the region when it was
-	 * packed, the sprite is automatically positioned as if whitespace had not been stripped. This method uses string comparison to
-	 * find the region and constructs a new sprite, so the result should be cached rather than calling this method multiple
-	 * times. */
+	 * packed, the sprite is automatically positioned as if whitespace had not been stripped. This method constructs a new sprite,
+	 * so the result should be cached rather than calling this method multiple times. */
 	public @Null Sprite createSprite (String name) {
-		for (int i = 0, n = regions.size; i < n; i++)
-			if (regions.get(i).name.equals(name)) return newSprite(regions.get(i));
-		return null;
+		AtlasRegion region = findRegion(name);
+		return region == null ? null : newSprite(region);
 	}
 
-	/** Returns the first region found with the specified name and index as a sprite. This method uses string comparison to find
-	 * the region and constructs a new sprite, so the result should be cached rather than calling this method multiple times.
+	/** Returns the first region found with the specified name and index as a sprite. This method constructs a new sprite, so the
+	 * result should be cached rather than calling this method multiple times.
 	 * @see #createSprite(String) */
 	public @Null Sprite createSprite (String name, int index) {
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (region.index != index) continue;
-			if (!region.name.equals(name)) continue;
-			return newSprite(regions.get(i));
-		}
-		return null;
+		AtlasRegion region = findRegion(name, index);
+		return region == null ? null : newSprite(region);
 	}
 
 	/** Returns all regions with the specified name as sprites, ordered by smallest to largest {@link AtlasRegion#index index}.
-	 * This method uses string comparison to find the regions and constructs new sprites, so the result should be cached rather
-	 * than calling this method multiple times.
+	 * This method constructs new sprites, so the result should be cached rather than calling this method multiple times.
 	 * @see #createSprite(String) */
 	public Array<Sprite> createSprites (String name) {
-		Array<Sprite> matched = new Array<>(Sprite[]::new);
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (region.name.equals(name)) matched.add(newSprite(region));
-		}
+		Array<AtlasRegion> named = getNamed(name);
+		if (named == null) return new Array<>(Sprite[]::new);
+		Array<Sprite> matched = new Array<>(true, named.size, Sprite[]::new);
+		for (int i = 0, n = named.size; i < n; i++)
+			matched.add(newSprite(named.get(i)));
 		return matched;
 	}
 
@@ -223,21 +271,17 @@ public class TextureAtlas implements Disposable {
 	}
 
 	/** Returns the first region found with the specified name as a {@link NinePatch}. The region must have been packed with
-	 * ninepatch splits. This method uses string comparison to find the region and constructs a new ninepatch, so the result should
-	 * be cached rather than calling this method multiple times. */
+	 * ninepatch splits. This method constructs a new ninepatch, so the result should be cached rather than calling this method
+	 * multiple times. */
 	public @Null NinePatch createPatch (String name) {
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (region.name.equals(name)) {
-				int[] splits = region.findValue("split");
-				if (splits == null) throw new IllegalArgumentException("Region does not have ninepatch splits: " + name);
-				NinePatch patch = new NinePatch(region, splits[0], splits[1], splits[2], splits[3]);
-				int[] pads = region.findValue("pad");
-				if (pads != null) patch.setPadding(pads[0], pads[1], pads[2], pads[3]);
-				return patch;
-			}
-		}
-		return null;
+		AtlasRegion region = findRegion(name);
+		if (region == null) return null;
+		int[] splits = region.findValue("split");
+		if (splits == null) throw new IllegalArgumentException("Region does not have ninepatch splits: " + name);
+		NinePatch patch = new NinePatch(region, splits[0], splits[1], splits[2], splits[3]);
+		int[] pads = region.findValue("pad");
+		if (pads != null) patch.setPadding(pads[0], pads[1], pads[2], pads[3]);
+		return patch;
 	}
 
 	/** @return the textures of the pages, unordered */
@@ -257,6 +301,9 @@ public class TextureAtlas implements Disposable {
 		final Array<Page> pages = new Array();
 		final Array<Region> regions = new Array();
 
+		/** The first bytes of a pack file in the binary format. */
+		static final byte[] binaryHeader = {0, 'A', 'T', 'L', 1};
+
 		public TextureAtlasData () {
 		}
 
@@ -264,7 +311,15 @@ public class TextureAtlas implements Disposable {
 			load(packFile, imagesDir, flip);
 		}
 
+		/** Loads a pack file in the text format written by TexturePacker, or the binary format described by
+		 * {@link #loadBinary(byte[], FileHandle, FileHandle, boolean)}. The file is read with a single read. */
 		public void load (FileHandle packFile, FileHandle imagesDir, boolean flip) {
+			byte[] bytes = packFile.readBytes();
+			if (isBinary(bytes)) {
+				loadBinary(bytes, packFile, imagesDir, flip);
+				return;
+			}
+
 			final String[] entry = new String[5];
 
 			ObjectMap<String, Field<Page>> pageFields = new ObjectMap(15, 0.99f); // Size needed to avoid collisions.
@@ -357,7 +412,7 @@ public class TextureAtlas implements Disposable {
 				}
 			});
 
-			BufferedReader reader = packFile.reader(1024);
+			BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(bytes)), 1024);
 			String line = null;
 			try {
 				line = reader.readLine();
@@ -449,6 +504,87 @@ public class TextureAtlas implements Disposable {
 			}
 		}
 
+		/** Returns true if the bytes start with the header of the binary format. */
+		static public boolean isBinary (byte[] bytes) {
+			if (bytes.length < binaryHeader.length) return false;
+			for (int i = 0; i < binaryHeader.length; i++)
+				if (bytes[i] != binaryHeader[i]) return false;
+			return true;
+		}
+
+		/** Loads a pack file in the binary format, which has the same information as the text format but needs no string parsing.
+		 * TexturePacker writes it when its binary setting is true. The format is read with {@link DataInput}:
+		 * <ul>
+		 * <li>The header: the bytes 0, 'A', 'T', 'L' and the version, 1.</li>
+		 * <li>Page count (int), then for each page: name (string), width and height (ints), format, min filter, mag filter, u wrap
+		 * and v wrap (enum names as strings), pma (boolean).</li>
+		 * <li>Region count (int), then for each region: page index (int), name (string), index (int, not optimized positive),
+		 * left, top, width and height (ints), offset x and offset y (floats), original width and height (ints), degrees (int), the
+		 * value count (int), then for each value: name (string), the number of ints (int), the ints (not optimized positive).</li>
+		 * </ul>
+		 * Ints without a note are optimized positive. Regions are stored in the order they are loaded, so they are not sorted by
+		 * index after loading. */
+		public void loadBinary (byte[] bytes, FileHandle packFile, FileHandle imagesDir, boolean flip) {
+			if (!isBinary(bytes)) throw new GdxRuntimeException("Not a binary texture atlas file: " + packFile);
+			DataInput input = new DataInput(new ByteArrayInputStream(bytes, binaryHeader.length, bytes.length - binaryHeader.length));
+			try {
+				int pageCount = input.readInt(true), pageStart = pages.size;
+				pages.ensureCapacity(pageCount);
+				for (int i = 0; i < pageCount; i++) {
+					Page page = new Page();
+					page.name = input.readString();
+					page.textureFile = imagesDir.child(page.name);
+					page.width = input.readInt(true);
+					page.height = input.readInt(true);
+					page.format = Format.valueOf(input.readString());
+					page.minFilter = TextureFilter.valueOf(input.readString());
+					page.magFilter = TextureFilter.valueOf(input.readString());
+					page.useMipMaps = page.minFilter.isMipMap();
+					page.uWrap = TextureWrap.valueOf(input.readString());
+					page.vWrap = TextureWrap.valueOf(input.readString());
+					page.pma = input.readBoolean();
+					pages.add(page);
+				}
+
+				int regionCount = input.readInt(true);
+				regions.ensureCapacity(regionCount);
+				for (int i = 0; i < regionCount; i++) {
+					Region region = new Region();
+					region.page = pages.get(pageStart + input.readInt(true));
+					region.name = input.readString();
+					region.index = input.readInt(false);
+					region.left = input.readInt(true);
+					region.top = input.readInt(true);
+					region.width = input.readInt(true);
+					region.height = input.readInt(true);
+					region.offsetX = input.readFloat();
+					region.offsetY = input.readFloat();
+					region.originalWidth = input.readInt(true);
+					region.originalHeight = input.readInt(true);
+					region.degrees = input.readInt(true);
+					region.rotate = region.degrees == 90;
+					region.flip = flip;
+					int valueCount = input.readInt(true);
+					if (valueCount > 0) {
+						region.names = new String[valueCount];
+						region.values = new int[valueCount][];
+						for (int ii = 0; ii < valueCount; ii++) {
+							region.names[ii] = input.readString();
+							int[] values = new int[input.readInt(true)];
+							for (int iii = 0; iii < values.length; iii++)
+								values[iii] = input.readInt(false);
+							region.values[ii] = values;
+						}
+					}
+					regions.add(region);
+				}
+			} catch (Exception ex) {
+				throw new GdxRuntimeException("Error reading binary texture atlas file: " + packFile, ex);
+			} finally {
+				StreamUtils.closeQuietly(input);
+			}
+		}
+
 		public Array<Page> getPages () {
 			return pages;
 		}
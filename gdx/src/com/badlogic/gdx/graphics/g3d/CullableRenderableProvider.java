@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d;
+
+import com.badlogic.gdx.math.Frustum;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+/** A {@link RenderableProvider} that can skip the parts outside a {@link Frustum}. A {@link ModelBatch} with
+ * {@link ModelBatch#setCulling(boolean) culling} enabled uses the frustum of its camera. */
+public interface CullableRenderableProvider extends RenderableProvider {
+	/** Returns the {@link Renderable} instances that may be within the frustum, like
+	 * {@link RenderableProvider#getRenderables(Array, Pool)}. Parts that are culled should not obtain a renderable from the pool.
+	 * @param renderables the output array
+	 * @param pool the pool to obtain Renderables from
+	 * @param frustum the frustum to cull against */
+	public void getRenderables (Array<Renderable> renderables, Pool<Renderable> pool, Frustum frustum);
+}
@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d;
+
+import com.badlogic.gdx.graphics.g3d.model.MeshPart;
+import com.badlogic.gdx.utils.Array;
+
+/** A {@link Shader} that can render several renderables with a single instanced draw call. {@link ModelBatch} passes it runs of
+ * consecutive renderables that have equal {@link MeshPart mesh parts} and {@link Material materials}, the same
+ * {@link Environment} and no bones. Renderables are only consecutive when the {@link ModelBatch}'s sorter puts them next to each
+ * other, e.g. the {@link com.badlogic.gdx.graphics.g3d.utils.RadixRenderableSorter}. */
+public interface InstancedShader extends Shader {
+	/** @return The maximum number of renderables passed to {@link #render(Array, int, int)} at once. */
+	int getMaxInstances ();
+
+	/** Renders the specified renderables, which only differ in their world transform. Uniforms that don't come from the world
+	 * transform may be set once for all of them from the first renderable. Must be called between
+	 * {@link #begin(com.badlogic.gdx.graphics.Camera, com.badlogic.gdx.graphics.g3d.utils.RenderContext)} and {@link #end()}.
+	 * @param count The number of renderables, at most {@link #getMaxInstances()}. */
+	void render (Array<Renderable> renderables, int offset, int count);
+}
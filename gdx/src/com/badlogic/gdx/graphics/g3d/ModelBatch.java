@@ -22,6 +22,8 @@ import com.badlogic.gdx.graphics.g3d.shaders.DefaultShader;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultRenderableSorter;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultShaderProvider;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultTextureBinder;
+import com.badlogic.gdx.graphics.g3d.utils.ModelInstanceOctree;
+import com.badlogic.gdx.graphics.g3d.utils.RadixRenderableSorter;
 import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
 import com.badlogic.gdx.graphics.g3d.utils.RenderableSorter;
 import com.badlogic.gdx.graphics.g3d.utils.ShaderProvider;
@@ -33,11 +35,15 @@ import com.badlogic.gdx.utils.Pool;
 
 /** Batches {@link Renderable} instances, fetches {@link Shader}s for them, sorts them and then renders them. Fetching the shaders
  * is done using a {@link ShaderProvider}, which defaults to {@link DefaultShaderProvider}. Sorting the renderables is done using
- * a {@link RenderableSorter}, which default to {@link DefaultRenderableSorter}.
+ * a {@link RenderableSorter}, which default to {@link DefaultRenderableSorter}. A {@link RadixRenderableSorter} groups
+ * renderables by shader, material and mesh, so shaders can skip binding the same material or mesh again. See the counters in
+ * {@link RenderContext}.
  * 
  * The OpenGL context between the {@link #begin(Camera)} and {@link #end()} call is maintained by the {@link RenderContext}.
  * 
- * To provide multiple {@link Renderable}s at once a {@link RenderableProvider} can be used, e.g. a {@link ModelInstance}.
+ * To provide multiple {@link Renderable}s at once a {@link RenderableProvider} can be used, e.g. a {@link ModelInstance}. With
+ * {@link #setCulling(boolean)}, a {@link CullableRenderableProvider} only provides the renderables within the camera's frustum.
+ * Many instances can be culled together with a {@link ModelInstanceOctree}.
  * 
  * @author xoppa, badlogic */
 public class ModelBatch implements Disposable {
@@ -70,6 +76,8 @@ public class ModelBatch implements Disposable {
 	protected final ShaderProvider shaderProvider;
 	/** the {@link RenderableSorter} **/
 	protected final RenderableSorter sorter;
+	/** whether {@link CullableRenderableProvider}s are culled against the camera's frustum **/
+	protected boolean culling;
 
 	/** Construct a ModelBatch, using this constructor makes you responsible for calling context.begin() and context.end()
 	 * yourself.
@@ -195,8 +203,21 @@ public class ModelBatch implements Disposable {
 		return sorter;
 	}
 
+	/** Sets whether the render() methods ask {@link CullableRenderableProvider}s, such as {@link ModelInstance}, for only the
+	 * renderables that may be within the frustum of the camera. The camera must be updated before it is used. Disabled by
+	 * default. */
+	public void setCulling (boolean culling) {
+		this.culling = culling;
+	}
+
+	/** @return whether {@link CullableRenderableProvider}s are culled against the frustum of the camera. */
+	public boolean isCulling () {
+		return culling;
+	}
+
 	/** Flushes the batch, causing all {@link Renderable}s in the batch to be rendered. Can only be called after the call to
-	 * {@link #begin(Camera)} and before the call to {@link #end()}. */
+	 * {@link #begin(Camera)} and before the call to {@link #end()}. Consecutive renderables that an {@link InstancedShader} can
+	 * draw together are rendered with a single call. */
 	public void flush () {
 		sorter.sort(camera, renderables);
 		Shader currentShader = null;
@@ -207,6 +228,15 @@ public class ModelBatch implements Disposable {
 				currentShader = renderable.shader;
 				currentShader.begin(camera, context);
 			}
+			if (currentShader instanceof InstancedShader) {
+				InstancedShader instancedShader = (InstancedShader)currentShader;
+				int count = getInstanceCount(i, instancedShader.getMaxInstances());
+				if (count > 1) {
+					instancedShader.render(renderables, i, count);
+					i += count - 1;
+					continue;
+				}
+			}
 			currentShader.render(renderable);
 		}
 		if (currentShader != null) currentShader.end();
@@ -214,6 +244,23 @@ public class ModelBatch implements Disposable {
 		renderables.clear();
 	}
 
+	/** Returns the number of consecutive renderables starting at the specified index that have the same shader, equal mesh parts
+	 * and materials, the same environment and no bones. */
+	private int getInstanceCount (int index, int max) {
+		final Renderable first = renderables.get(index);
+		if (first.bones != null) return 1;
+		int end = index + 1;
+		for (final int n = Math.min(renderables.size, index + max); end < n; end++) {
+			final Renderable renderable = renderables.get(end);
+			if (renderable.shader != first.shader || renderable.environment != first.environment || renderable.bones != null
+				|| !renderable.meshPart.equals(first.meshPart)) break;
+			final Material previous = renderables.get(end - 1).material;
+			if (renderable.material != previous && renderable.material != first.material
+				&& (renderable.material == null || !renderable.material.equals(first.material))) break;
+		}
+		return end - index;
+	}
+
 	/** End rendering one or more {@link Renderable}s. Must be called after a call to {@link #begin(Camera)}. This will flush the
 	 * batch, causing any renderables provided using one of the render() methods to be rendered. After a call to this method the
 	 * OpenGL context can be altered again. */
@@ -223,6 +270,13 @@ public class ModelBatch implements Disposable {
 		camera = null;
 	}
 
+	private void getRenderables (final RenderableProvider renderableProvider) {
+		if (culling && renderableProvider instanceof CullableRenderableProvider)
+			((CullableRenderableProvider)renderableProvider).getRenderables(renderables, renderablesPool, camera.frustum);
+		else
+			renderableProvider.getRenderables(renderables, renderablesPool);
+	}
+
 	/** Add a single {@link Renderable} to the batch. The {@link ShaderProvider} will be used to fetch a suitable {@link Shader}.
 	 * Can only be called after a call to {@link #begin(Camera)} and before a call to {@link #end()}.
 	 * @param renderable The {@link Renderable} to be added. */
@@ -236,7 +290,7 @@ public class ModelBatch implements Disposable {
 	 * @param renderableProvider the renderable provider */
 	public void render (final RenderableProvider renderableProvider) {
 		final int offset = renderables.size;
-		renderableProvider.getRenderables(renderables, renderablesPool);
+		getRenderables(renderableProvider);
 		for (int i = offset; i < renderables.size; i++) {
 			Renderable renderable = renderables.get(i);
 			renderable.shader = shaderProvider.getShader(renderable);
@@ -258,7 +312,7 @@ public class ModelBatch implements Disposable {
 	 * @param environment the {@link Environment} to use for the renderables */
 	public void render (final RenderableProvider renderableProvider, final Environment environment) {
 		final int offset = renderables.size;
-		renderableProvider.getRenderables(renderables, renderablesPool);
+		getRenderables(renderableProvider);
 		for (int i = offset; i < renderables.size; i++) {
 			Renderable renderable = renderables.get(i);
 			renderable.environment = environment;
@@ -283,7 +337,7 @@ public class ModelBatch implements Disposable {
 	 * @param shader the shader to use for the renderables */
 	public void render (final RenderableProvider renderableProvider, final Shader shader) {
 		final int offset = renderables.size;
-		renderableProvider.getRenderables(renderables, renderablesPool);
+		getRenderables(renderableProvider);
 		for (int i = offset; i < renderables.size; i++) {
 			Renderable renderable = renderables.get(i);
 			renderable.shader = shader;
@@ -310,7 +364,7 @@ public class ModelBatch implements Disposable {
 	 * @param shader the shader to use for the renderables */
 	public void render (final RenderableProvider renderableProvider, final Environment environment, final Shader shader) {
 		final int offset = renderables.size;
-		renderableProvider.getRenderables(renderables, renderablesPool);
+		getRenderables(renderableProvider);
 		for (int i = offset; i < renderables.size; i++) {
 			Renderable renderable = renderables.get(i);
 			renderable.environment = environment;
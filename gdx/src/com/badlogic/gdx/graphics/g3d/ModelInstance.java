@@ -17,10 +17,12 @@
 package com.badlogic.gdx.graphics.g3d;
 
 import com.badlogic.gdx.graphics.g3d.model.Animation;
+import com.badlogic.gdx.graphics.g3d.model.MeshPart;
 import com.badlogic.gdx.graphics.g3d.model.Node;
 import com.badlogic.gdx.graphics.g3d.model.NodeAnimation;
 import com.badlogic.gdx.graphics.g3d.model.NodeKeyframe;
 import com.badlogic.gdx.graphics.g3d.model.NodePart;
+import com.badlogic.gdx.math.Frustum;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Quaternion;
 import com.badlogic.gdx.math.Vector3;
@@ -37,7 +39,7 @@ import com.badlogic.gdx.utils.Pool;
  * 
  * The ModelInstance creates a full copy of all materials, nodes and animations.
  * @author badlogic, xoppa */
-public class ModelInstance implements RenderableProvider {
+public class ModelInstance implements CullableRenderableProvider {
 	/** Whether, by default, {@link NodeKeyframe}'s are shared amongst {@link Model} and ModelInstance. Can be overridden per
 	 * ModelInstance using the constructor argument. */
 	public static boolean defaultShareKeyframes = true;
@@ -55,6 +57,15 @@ public class ModelInstance implements RenderableProvider {
 	public Matrix4 transform;
 	/** user definable value, which is passed to the {@link Shader}. */
 	public Object userData;
+	/** the bounds of all node parts in model space, used by {@link #getRenderables(Array, Pool, Frustum)} to cull the whole
+	 * instance before testing its node parts. Skinned node parts are included with their current bone transforms. Invalid until
+	 * {@link #calculateCullingBounds()} is called, which happens on first use. {@link #calculateTransforms()} invalidates it, so
+	 * animated instances get new bounds the next time they are culled. After changing node or bone transforms without calling
+	 * {@link #calculateTransforms()}, call {@link BoundingBox#inf()} on it or {@link #calculateCullingBounds()}. **/
+	public final BoundingBox cullingBounds = new BoundingBox().inf();
+
+	private final static BoundingBox tmpBounds = new BoundingBox(), tmpMeshBounds = new BoundingBox();
+	private final static Vector3 tmpV = new Vector3(), tmpV2 = new Vector3();
 
 	/** Constructs a new ModelInstance with all nodes and materials of the given model.
 	 * @param model The {@link Model} to create an instance of. */
@@ -211,6 +222,8 @@ public class ModelInstance implements RenderableProvider {
 		copyNodes(copyFrom.nodes);
 		copyAnimations(copyFrom.animations, shareKeyframes);
 		calculateTransforms();
+		// BoundingBox#set would turn an invalid box into an infinite one, which is never culled.
+		if (copyFrom.cullingBounds.isValid()) cullingBounds.set(copyFrom.cullingBounds);
 	}
 
 	/** @return A newly created ModelInstance which is a copy of this ModelInstance */
@@ -357,6 +370,25 @@ public class ModelInstance implements RenderableProvider {
 		}
 	}
 
+	/** Collects the {@link Renderable} instances like {@link #getRenderables(Array, Pool)}, skipping the instance if its
+	 * {@link #cullingBounds} are outside the frustum and each node part whose mesh part bounds are outside the frustum. Culled
+	 * parts don't obtain a renderable from the pool.
+	 * 
+	 * @param renderables the output array
+	 * @param pool the pool to obtain Renderables from
+	 * @param frustum the frustum to cull against */
+	public void getRenderables (Array<Renderable> renderables, Pool<Renderable> pool, Frustum frustum) {
+		if (!cullingBounds.isValid()) calculateCullingBounds();
+		if (cullingBounds.isValid()) {
+			tmpBounds.set(cullingBounds);
+			if (transform != null) tmpBounds.mul(transform);
+			if (!frustum.boundsInFrustum(tmpBounds)) return;
+		}
+		for (Node node : nodes) {
+			getRenderables(node, renderables, pool, frustum);
+		}
+	}
+
 	/** @return The renderable of the first node's first part. */
 	public Renderable getRenderable (final Renderable out) {
 		return getRenderable(out, nodes.get(0));
@@ -391,6 +423,50 @@ public class ModelInstance implements RenderableProvider {
 		}
 	}
 
+	protected void getRenderables (Node node, Array<Renderable> renderables, Pool<Renderable> pool, Frustum frustum) {
+		if (node.parts.size > 0) {
+			for (NodePart nodePart : node.parts) {
+				if (nodePart.enabled && isVisible(node, nodePart, frustum))
+					renderables.add(getRenderable(pool.obtain(), node, nodePart));
+			}
+		}
+
+		for (Node child : node.getChildren()) {
+			getRenderables(child, renderables, pool, frustum);
+		}
+	}
+
+	/** @return Whether the bounding sphere of the node part's mesh part, transformed by the node and this instance, is within the
+	 *         frustum. For skinned node parts the mesh part's bounds transformed by each bone are tested instead. */
+	protected boolean isVisible (Node node, NodePart nodePart, Frustum frustum) {
+		final MeshPart meshPart = nodePart.meshPart;
+		if (meshPart.radius < 0) return true;
+		if (nodePart.bones != null) {
+			final BoundingBox bounds = getSkinnedBounds(nodePart, tmpBounds);
+			if (transform != null) bounds.mul(transform);
+			return frustum.boundsInFrustum(bounds);
+		}
+		final Vector3 center = tmpV.set(meshPart.center).mul(node.globalTransform);
+		float radius = meshPart.radius * getMaxScale(node.globalTransform);
+		if (transform != null) {
+			center.mul(transform);
+			radius *= getMaxScale(transform);
+		}
+		return frustum.sphereInFrustum(center, radius);
+	}
+
+	/** @return The largest length of the matrix's axes, which is the largest scale of a translation, rotation and scale. */
+	private static float getMaxScale (Matrix4 matrix) {
+		final float[] val = matrix.val;
+		final float x = val[Matrix4.M00] * val[Matrix4.M00] + val[Matrix4.M10] * val[Matrix4.M10]
+			+ val[Matrix4.M20] * val[Matrix4.M20];
+		final float y = val[Matrix4.M01] * val[Matrix4.M01] + val[Matrix4.M11] * val[Matrix4.M11]
+			+ val[Matrix4.M21] * val[Matrix4.M21];
+		final float z = val[Matrix4.M02] * val[Matrix4.M02] + val[Matrix4.M12] * val[Matrix4.M12]
+			+ val[Matrix4.M22] * val[Matrix4.M22];
+		return (float)Math.sqrt(Math.max(x, Math.max(y, z)));
+	}
+
 	/** Calculates the local and world transform of all {@link Node} instances in this model, recursively. First each
 	 * {@link Node#localTransform} transform is calculated based on the translation, rotation and scale of each Node. Then each
 	 * {@link Node#calculateWorldTransform()} is calculated, based on the parent's world transform and the local transform of each
@@ -398,7 +474,7 @@ public class ModelInstance implements RenderableProvider {
 	 * </p>
 	 * 
 	 * This method can be used to recalculate all transforms if any of the Node's local properties (translation, rotation, scale)
-	 * was modified. */
+	 * was modified. The {@link #cullingBounds} are invalidated. */
 	public void calculateTransforms () {
 		final int n = nodes.size;
 		for (int i = 0; i < n; i++) {
@@ -407,6 +483,7 @@ public class ModelInstance implements RenderableProvider {
 		for (int i = 0; i < n; i++) {
 			nodes.get(i).calculateBoneTransforms(true);
 		}
+		cullingBounds.inf();
 	}
 
 	/** Calculate the bounding box of this model instance. This is a potential slow operation, it is advised to cache the result.
@@ -428,6 +505,47 @@ public class ModelInstance implements RenderableProvider {
 		return out;
 	}
 
+	/** Calculates the {@link #cullingBounds} from the bounds of the mesh parts, transformed by the current node transforms. Unlike
+	 * {@link #calculateBoundingBox(BoundingBox)} this doesn't read the vertices, but the bounds may be larger than the
+	 * vertices.
+	 * @return the {@link #cullingBounds} for chaining */
+	public BoundingBox calculateCullingBounds () {
+		cullingBounds.inf();
+		final int n = nodes.size;
+		for (int i = 0; i < n; i++)
+			extendCullingBounds(nodes.get(i));
+		return cullingBounds;
+	}
+
+	private void extendCullingBounds (Node node) {
+		for (NodePart nodePart : node.parts) {
+			final MeshPart meshPart = nodePart.meshPart;
+			if (meshPart.radius < 0) meshPart.update();
+			if (nodePart.bones == null)
+				cullingBounds.ext(getMeshPartBounds(meshPart, tmpBounds), node.globalTransform);
+			else
+				cullingBounds.ext(getSkinnedBounds(nodePart, tmpBounds));
+		}
+		for (Node child : node.getChildren())
+			extendCullingBounds(child);
+	}
+
+	private static BoundingBox getMeshPartBounds (MeshPart meshPart, BoundingBox out) {
+		return out.set(tmpV.set(meshPart.center).sub(meshPart.halfExtents), tmpV2.set(meshPart.center).add(meshPart.halfExtents));
+	}
+
+	/** Sets the bounds of a skinned node part in model space to the union of its mesh part bounds transformed by each bone. A
+	 * skinned vertex is a weighted average of the vertex transformed by its bones, so it lies within these bounds. */
+	private static BoundingBox getSkinnedBounds (NodePart nodePart, BoundingBox out) {
+		final Matrix4[] bones = nodePart.bones;
+		if (bones.length == 0) return getMeshPartBounds(nodePart.meshPart, out);
+		final BoundingBox meshBounds = getMeshPartBounds(nodePart.meshPart, tmpMeshBounds);
+		out.inf();
+		for (int i = 0; i < bones.length; i++)
+			out.ext(meshBounds, bones[i]);
+		return out;
+	}
+
 	/** @param id The ID of the animation to fetch (case sensitive).
 	 * @return The {@link Animation} with the specified id, or null if not available. */
 	public Animation getAnimation (final String id) {
@@ -23,6 +23,9 @@ import com.badlogic.gdx.graphics.Mesh;
 import com.badlogic.gdx.graphics.VertexAttribute;
 import com.badlogic.gdx.graphics.VertexAttributes;
 import com.badlogic.gdx.graphics.g3d.Attributes;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
 import com.badlogic.gdx.graphics.g3d.Renderable;
 import com.badlogic.gdx.graphics.g3d.Shader;
 import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
@@ -67,6 +70,11 @@ public abstract class BaseShader implements Shader {
 		}
 	}
 
+	/** A local setter for a uniform that only depends on the combined attributes, i.e. the material and environment. It is not set
+	 * again when a renderable has a material equal to the previous renderable's and the same environment. */
+	public abstract static class MaterialSetter extends LocalSetter {
+	}
+
 	public static class Uniform implements Validator {
 		public final String alias;
 		public final long materialMask;
@@ -106,6 +114,7 @@ public abstract class BaseShader implements Shader {
 	private int locations[];
 	private final IntArray globalUniforms = new IntArray();
 	private final IntArray localUniforms = new IntArray();
+	private final IntArray materialUniforms = new IntArray();
 	private final IntIntMap attributes = new IntIntMap();
 	private final IntIntMap instancedAttributes = new IntIntMap();
 
@@ -113,6 +122,9 @@ public abstract class BaseShader implements Shader {
 	public RenderContext context;
 	public Camera camera;
 	private Mesh currentMesh;
+	private Material currentMaterial;
+	private Environment currentEnvironment;
+	private boolean materialBound, sameMaterial;
 
 	/** Register an uniform which might be used by this shader. Only possible prior to the call to init().
 	 * @return The ID of the uniform to use in this shader. */
@@ -182,6 +194,8 @@ public abstract class BaseShader implements Shader {
 				if (locations[i] >= 0 && setter != null) {
 					if (setter.isGlobal(this, i))
 						globalUniforms.add(i);
+					else if (setter instanceof MaterialSetter)
+						materialUniforms.add(i);
 					else
 						localUniforms.add(i);
 				}
@@ -217,6 +231,7 @@ public abstract class BaseShader implements Shader {
 		this.context = context;
 		program.bind();
 		currentMesh = null;
+		materialBound = sameMaterial = false;
 		for (int u, i = 0; i < globalUniforms.size; ++i)
 			if (setters.get(u = globalUniforms.get(i)) != null) setters.get(u).set(this, u, null, null);
 	}
@@ -248,29 +263,79 @@ public abstract class BaseShader implements Shader {
 
 	private Attributes combinedAttributes = new Attributes();
 
+	/** Renders the renderable with the combined environment and material attributes. When the material is equal to the material
+	 * of the previous renderable and the environment is the same instance, the {@link MaterialSetter material uniforms} are not
+	 * set again, see {@link #isMaterialBound()}. The attributes of a material must not change between
+	 * {@link #begin(Camera, RenderContext)} and {@link #end()}. */
 	@Override
 	public void render (Renderable renderable) {
 		if (renderable.worldTransform.det3x3() == 0) return;
-		combinedAttributes.clear();
-		if (renderable.environment != null) combinedAttributes.set(renderable.environment);
-		if (renderable.material != null) combinedAttributes.set(renderable.material);
+		if (!materialBound || renderable.environment != currentEnvironment || !isCurrentMaterial(renderable.material)) {
+			combinedAttributes.clear();
+			if (renderable.environment != null) combinedAttributes.set(renderable.environment);
+			if (renderable.material != null) combinedAttributes.set(renderable.material);
+			currentMaterial = renderable.material;
+			currentEnvironment = renderable.environment;
+			materialBound = false;
+		} else {
+			// Track the reference so that following renderables sharing this material skip the equals call
+			currentMaterial = renderable.material;
+			context.materialBindsAvoided++;
+		}
+		sameMaterial = materialBound;
 		render(renderable, combinedAttributes);
+		sameMaterial = false;
+	}
+
+	/** Returns true if the material is equal to the material of the previous renderable. Each {@link ModelInstance} copies the
+	 * materials of its model, so renderables of different instances rarely share a material instance. */
+	private boolean isCurrentMaterial (Material material) {
+		if (material == currentMaterial) return true;
+		return material != null && material.equals(currentMaterial);
 	}
 
 	public void render (Renderable renderable, final Attributes combinedAttributes) {
 		for (int u, i = 0; i < localUniforms.size; ++i)
 			if (setters.get(u = localUniforms.get(i)) != null) setters.get(u).set(this, u, renderable, combinedAttributes);
+		if (!sameMaterial) {
+			for (int u, i = 0; i < materialUniforms.size; ++i)
+				if (setters.get(u = materialUniforms.get(i)) != null) setters.get(u).set(this, u, renderable, combinedAttributes);
+		} else
+			context.uniformsAvoided += materialUniforms.size;
 		if (currentMesh != renderable.meshPart.mesh) {
 			if (currentMesh != null) currentMesh.unbind(program, tempArray.items, tempArray2.items);
 			currentMesh = renderable.meshPart.mesh;
 			currentMesh.bind(program, getAttributeLocations(renderable.meshPart.mesh.getVertexAttributes()),
 				getInstancedAttributeLocations(renderable.meshPart.mesh.getInstancedAttributes()));
-		}
+		} else
+			context.meshBindsAvoided++;
+		draw(renderable);
+		materialBound = combinedAttributes == this.combinedAttributes;
+	}
+
+	/** Draws the mesh part of the renderable. Called by {@link #render(Renderable, Attributes)} after the uniforms are set and the
+	 * mesh is bound. */
+	protected void draw (Renderable renderable) {
 		renderable.meshPart.render(program, false);
 	}
 
+	/** Returns the IDs of the uniforms set for each renderable, by a {@link LocalSetter} that is not a {@link MaterialSetter}. Valid
+	 * after {@link #init(ShaderProgram, Renderable)} and must not be modified. */
+	protected IntArray getLocalUniforms () {
+		return localUniforms;
+	}
+
+	/** Returns true while rendering a renderable that has the same material and environment as the previous renderable, so
+	 * uniforms and state that only depend on the combined attributes are already set. */
+	protected boolean isMaterialBound () {
+		return sameMaterial;
+	}
+
 	@Override
 	public void end () {
+		materialBound = false;
+		currentMaterial = null;
+		currentEnvironment = null;
 		if (currentMesh != null) {
 			currentMesh.unbind(program, tempArray.items, tempArray2.items);
 			currentMesh = null;
@@ -284,6 +349,7 @@ public abstract class BaseShader implements Shader {
 		validators.clear();
 		setters.clear();
 		localUniforms.clear();
+		materialUniforms.clear();
 		globalUniforms.clear();
 		locations = null;
 	}
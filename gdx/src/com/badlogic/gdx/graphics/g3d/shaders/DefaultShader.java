@@ -40,6 +40,7 @@ import com.badlogic.gdx.graphics.g3d.environment.AmbientCubemap;
 import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
 import com.badlogic.gdx.graphics.g3d.environment.PointLight;
 import com.badlogic.gdx.graphics.g3d.environment.SpotLight;
+import com.badlogic.gdx.graphics.g3d.utils.DefaultShaderProvider;
 import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.Matrix3;
@@ -70,6 +71,12 @@ public class DefaultShader extends BaseShader {
 		public int defaultCullFace = -1;
 		/** Set to 0 to disable depth test, -1 to inherit from {@link DefaultShader#defaultDepthFunc} */
 		public int defaultDepthFunc = -1;
+		/** The maximum number of renderables drawn with one instanced draw call by an {@link InstancedDefaultShader}. When > 0 and
+		 * OpenGL ES 3.0 is available, the {@link DefaultShaderProvider} creates instanced shaders for renderables without bones.
+		 * {@link com.badlogic.gdx.graphics.g3d.ModelBatch} only groups renderables that its sorter puts next to each other, so use a
+		 * {@link com.badlogic.gdx.graphics.g3d.utils.RadixRenderableSorter}. The default sorter orders by distance and rarely
+		 * leaves equal renderables consecutive, then most renderables are drawn on their own. */
+		public int maxInstances = 0;
 
 		public Config () {
 		}
@@ -218,19 +225,19 @@ public class DefaultShader extends BaseShader {
 			}
 		}
 
-		public final static Setter shininess = new LocalSetter() {
+		public final static Setter shininess = new MaterialSetter() {
 			@Override
 			public void set (BaseShader shader, int inputID, Renderable renderable, Attributes combinedAttributes) {
 				shader.set(inputID, ((FloatAttribute)(combinedAttributes.get(FloatAttribute.Shininess))).value);
 			}
 		};
-		public final static Setter diffuseColor = new LocalSetter() {
+		public final static Setter diffuseColor = new MaterialSetter() {
 			@Override
 			public void set (BaseShader shader, int inputID, Renderable renderable, Attributes combinedAttributes) {
 				shader.set(inputID, ((ColorAttribute)(combinedAttributes.get(ColorAttribute.Diffuse))).color);
 			}
 		};
-		public final static Setter diffuseTexture = new LocalSetter() {
+		public final static Setter diffuseTexture = new MaterialSetter() {
 			@Override
 			public void set (BaseShader shader, int inputID, Renderable renderable, Attributes combinedAttributes) {
 				final int unit = shader.context.textureBinder
@@ -238,20 +245,20 @@ public class DefaultShader extends BaseShader {
 				shader.set(inputID, unit);
 			}
 		};
-		public final static Setter diffuseUVTransform = new LocalSetter() {
+		public final static Setter diffuseUVTransform = new MaterialSetter() {
 			@Override
 			public void set (BaseShader shader, int inputID, Renderable renderable, Attributes combinedAttributes) {
 				final TextureAttribute ta = (TextureAttribute)(combinedAttributes.get(TextureAttribute.Diffuse));
 				shader.set(inputID, ta.offsetU, ta.offsetV, ta.scaleU, ta.scaleV);
 			}
 		};
-		public final static Setter specularColor = new LocalSetter() {
+		public final static Setter specularColor = new MaterialSetter() {
 			@Override
 			public void set (BaseShader shader, int inputID, Renderable renderable, Attributes combinedAttributes) {
 				shader.set(inputID, ((ColorAttribute)(combinedAttributes.get(ColorAttribute.Specular))).color);
 			}
 		};
-		public final static Setter specularTexture = new LocalSetter() {
+		public final static Setter specularTexture = new MaterialSetter() {
 			@Override
 			public void set (BaseShader shader, int inputID, Renderable renderable, Attributes combinedAttributes) {
 				final int unit = shader.context.textureBinder
@@ -259,20 +266,20 @@ public class DefaultShader extends BaseShader {
 				shader.set(inputID, unit);
 			}
 		};
-		public final static Setter specularUVTransform = new LocalSetter() {
+		public final static Setter specularUVTransform = new MaterialSetter() {
 			@Override
 			public void set (BaseShader shader, int inputID, Renderable renderable, Attributes combinedAttributes) {
 				final TextureAttribute ta = (TextureAttribute)(combinedAttributes.get(TextureAttribute.Specular));
 				shader.set(inputID, ta.offsetU, ta.offsetV, ta.scaleU, ta.scaleV);
 			}
 		};
-		public final static Setter emissiveColor = new LocalSetter() {
+		public final static Setter emissiveColor = new MaterialSetter() {
 			@Override
 			public void set (BaseShader shader, int inputID, Renderable renderable, Attributes combinedAttributes) {
 				shader.set(inputID, ((ColorAttribute)(combinedAttributes.get(ColorAttribute.Emissive))).color);
 			}
 		};
-		public final static Setter emissiveTexture = new LocalSetter() {
+		public final static Setter emissiveTexture = new MaterialSetter() {
 			@Override
 			public void set (BaseShader shader, int inputID, Renderable renderable, Attributes combinedAttributes) {
 				final int unit = shader.context.textureBinder
@@ -280,20 +287,20 @@ public class DefaultShader extends BaseShader {
 				shader.set(inputID, unit);
 			}
 		};
-		public final static Setter emissiveUVTransform = new LocalSetter() {
+		public final static Setter emissiveUVTransform = new MaterialSetter() {
 			@Override
 			public void set (BaseShader shader, int inputID, Renderable renderable, Attributes combinedAttributes) {
 				final TextureAttribute ta = (TextureAttribute)(combinedAttributes.get(TextureAttribute.Emissive));
 				shader.set(inputID, ta.offsetU, ta.offsetV, ta.scaleU, ta.scaleV);
 			}
 		};
-		public final static Setter reflectionColor = new LocalSetter() {
+		public final static Setter reflectionColor = new MaterialSetter() {
 			@Override
 			public void set (BaseShader shader, int inputID, Renderable renderable, Attributes combinedAttributes) {
 				shader.set(inputID, ((ColorAttribute)(combinedAttributes.get(ColorAttribute.Reflection))).color);
 			}
 		};
-		public final static Setter reflectionTexture = new LocalSetter() {
+		public final static Setter reflectionTexture = new MaterialSetter() {
 			@Override
 			public void set (BaseShader shader, int inputID, Renderable renderable, Attributes combinedAttributes) {
 				final int unit = shader.context.textureBinder
@@ -301,14 +308,14 @@ public class DefaultShader extends BaseShader {
 				shader.set(inputID, unit);
 			}
 		};
-		public final static Setter reflectionUVTransform = new LocalSetter() {
+		public final static Setter reflectionUVTransform = new MaterialSetter() {
 			@Override
 			public void set (BaseShader shader, int inputID, Renderable renderable, Attributes combinedAttributes) {
 				final TextureAttribute ta = (TextureAttribute)(combinedAttributes.get(TextureAttribute.Reflection));
 				shader.set(inputID, ta.offsetU, ta.offsetV, ta.scaleU, ta.scaleV);
 			}
 		};
-		public final static Setter normalTexture = new LocalSetter() {
+		public final static Setter normalTexture = new MaterialSetter() {
 			@Override
 			public void set (BaseShader shader, int inputID, Renderable renderable, Attributes combinedAttributes) {
 				final int unit = shader.context.textureBinder
@@ -316,14 +323,14 @@ public class DefaultShader extends BaseShader {
 				shader.set(inputID, unit);
 			}
 		};
-		public final static Setter normalUVTransform = new LocalSetter() {
+		public final static Setter normalUVTransform = new MaterialSetter() {
 			@Override
 			public void set (BaseShader shader, int inputID, Renderable renderable, Attributes combinedAttributes) {
 				final TextureAttribute ta = (TextureAttribute)(combinedAttributes.get(TextureAttribute.Normal));
 				shader.set(inputID, ta.offsetU, ta.offsetV, ta.scaleU, ta.scaleV);
 			}
 		};
-		public final static Setter ambientTexture = new LocalSetter() {
+		public final static Setter ambientTexture = new MaterialSetter() {
 			@Override
 			public void set (BaseShader shader, int inputID, Renderable renderable, Attributes combinedAttributes) {
 				final int unit = shader.context.textureBinder
@@ -331,7 +338,7 @@ public class DefaultShader extends BaseShader {
 				shader.set(inputID, unit);
 			}
 		};
-		public final static Setter ambientUVTransform = new LocalSetter() {
+		public final static Setter ambientUVTransform = new MaterialSetter() {
 			@Override
 			public void set (BaseShader shader, int inputID, Renderable renderable, Attributes combinedAttributes) {
 				final TextureAttribute ta = (TextureAttribute)(combinedAttributes.get(TextureAttribute.Ambient));
@@ -379,7 +386,7 @@ public class DefaultShader extends BaseShader {
 			}
 		}
 
-		public final static Setter environmentCubemap = new LocalSetter() {
+		public final static Setter environmentCubemap = new MaterialSetter() {
 			@Override
 			public void set (BaseShader shader, int inputID, Renderable renderable, Attributes combinedAttributes) {
 				if (combinedAttributes.has(CubemapAttribute.EnvironmentMap)) {
@@ -806,10 +813,12 @@ public class DefaultShader extends BaseShader {
 
 	@Override
 	public void render (Renderable renderable, Attributes combinedAttributes) {
-		if (!combinedAttributes.has(BlendingAttribute.Type))
-			context.setBlending(false, GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
-		bindMaterial(combinedAttributes);
-		if (lighting) bindLights(renderable, combinedAttributes);
+		if (!isMaterialBound()) {
+			if (!combinedAttributes.has(BlendingAttribute.Type))
+				context.setBlending(false, GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+			bindMaterial(combinedAttributes);
+			if (lighting) bindLights(renderable, combinedAttributes);
+		}
 		super.render(renderable, combinedAttributes);
 	}
 
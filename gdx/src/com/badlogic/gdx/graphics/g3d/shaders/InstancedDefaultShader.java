@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.shaders;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g3d.InstancedShader;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.model.MeshPart;
+import com.badlogic.gdx.graphics.glutils.InstanceBufferObject;
+import com.badlogic.gdx.math.Matrix3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Null;
+
+/** A {@link DefaultShader} that reads the world transform and normal matrix from vertex attributes instead of uniforms. For a
+ * group of renderables the attributes are read per instance from an {@link InstanceBufferObject}, so {@link ModelBatch} can draw
+ * many renderables that only differ in their world transform with a single instanced draw call, see {@link InstancedShader}. A
+ * renderable drawn on its own uses a plain draw call, with the attributes set to constant values like uniforms. Requires
+ * OpenGL ES 3.0 and does not support bones or meshes that use vertex arrays.
+ * <p>
+ * Only the world transform and normal matrix are read per instance, every other uniform is set once for a group. The ambient
+ * cubemap, which approximates the lights beyond the configured number of lights, is computed for the first renderable of each
+ * group. Any other uniform set per renderable, e.g. by a custom vertex shader, would also take the value of the first
+ * renderable, so when the program uses one the renderables are not grouped and {@link #getMaxInstances()} returns 1. */
+public class InstancedDefaultShader extends DefaultShader implements InstancedShader {
+	/** The number of floats per instance: the world transform followed by the normal matrix. */
+	static public final int instanceSize = 16 + 9;
+
+	static private final String[] instanceAliases = {"i_worldTrans0", "i_worldTrans1", "i_worldTrans2", "i_worldTrans3",
+		"i_normalMatrix0", "i_normalMatrix1", "i_normalMatrix2"};
+
+	private final int maxInstances;
+	private final float[] instanceData;
+	private final int[] instanceLocations = new int[instanceAliases.length];
+	private final Matrix3 normalMatrix = new Matrix3();
+	private InstanceBufferObject instances;
+	private @Null Array<Renderable> renderables;
+	private int offset, count;
+	private boolean grouping;
+
+	/** Uses {@link DefaultShader.Config#maxInstances}. */
+	public InstancedDefaultShader (Renderable renderable, Config config) {
+		this(renderable, config, createPrefix(renderable, config));
+	}
+
+	public InstancedDefaultShader (Renderable renderable, Config config, String prefix) {
+		super(renderable, config, prefix + "#define instancedFlag\n");
+		if (config.maxInstances <= 0) throw new IllegalArgumentException("maxInstances must be > 0: " + config.maxInstances);
+		if (renderable.bones != null) throw new GdxRuntimeException("Renderables with bones can't be instanced.");
+		maxInstances = config.maxInstances;
+		instanceData = new float[maxInstances * instanceSize];
+	}
+
+	@Override
+	public void init () {
+		super.init();
+		VertexAttribute[] attributes = new VertexAttribute[instanceAliases.length];
+		for (int i = 0; i < attributes.length; i++) {
+			attributes[i] = new VertexAttribute(Usage.Generic, i < 4 ? 4 : 3, instanceAliases[i]);
+			instanceLocations[i] = program.getAttributeLocation(instanceAliases[i]);
+		}
+		instances = new InstanceBufferObject(false, maxInstances, attributes);
+		grouping = true;
+		IntArray localUniforms = getLocalUniforms();
+		for (int i = 0; i < localUniforms.size; i++)
+			if (localUniforms.get(i) != u_ambientCubemap) grouping = false;
+	}
+
+	@Override
+	public boolean canRender (Renderable renderable) {
+		return renderable.bones == null && super.canRender(renderable);
+	}
+
+	@Override
+	public int getMaxInstances () {
+		return grouping ? maxInstances : 1;
+	}
+
+	@Override
+	public void render (Array<Renderable> renderables, int offset, int count) {
+		if (count > getMaxInstances())
+			throw new IllegalArgumentException("count must be <= " + getMaxInstances() + ": " + count);
+		// BaseShader skips a renderable with a zero scale, which would skip the whole draw call.
+		while (count > 0 && renderables.get(offset).worldTransform.det3x3() == 0) {
+			offset++;
+			count--;
+		}
+		if (count == 0) return;
+		if (count == 1) {
+			render(renderables.get(offset));
+			return;
+		}
+		this.renderables = renderables;
+		this.offset = offset;
+		this.count = count;
+		render(renderables.get(offset));
+		this.renderables = null;
+	}
+
+	@Override
+	protected void draw (Renderable renderable) {
+		float[] data = instanceData;
+		if (renderables == null) {
+			// A lone renderable: the instance attributes are constant, so no instance buffer or instanced draw call is needed.
+			put(renderable, data, 0);
+			for (int i = 0; i < instanceLocations.length; i++) {
+				int location = instanceLocations[i];
+				if (location < 0) continue;
+				if (i < 4)
+					Gdx.gl.glVertexAttrib4f(location, data[i * 4], data[i * 4 + 1], data[i * 4 + 2], data[i * 4 + 3]);
+				else {
+					int index = 16 + (i - 4) * 3;
+					Gdx.gl.glVertexAttrib3f(location, data[index], data[index + 1], data[index + 2]);
+				}
+			}
+			renderable.meshPart.render(program, false);
+			return;
+		}
+		int instanceCount = 0;
+		for (int i = offset, n = offset + count; i < n; i++) {
+			Renderable instance = renderables.get(i);
+			if (instance.worldTransform.det3x3() != 0) put(instance, data, instanceCount++);
+		}
+		instances.setInstanceData(data, 0, instanceCount * instanceSize);
+		instances.bind(program, instanceLocations);
+		MeshPart meshPart = renderable.meshPart;
+		if (meshPart.mesh.getNumIndices() > 0) {
+			Gdx.gl30.glDrawElementsInstanced(meshPart.primitiveType, meshPart.size, GL20.GL_UNSIGNED_SHORT, meshPart.offset * 2,
+				instanceCount);
+		} else
+			Gdx.gl30.glDrawArraysInstanced(meshPart.primitiveType, meshPart.offset, meshPart.size, instanceCount);
+		instances.unbind(program, instanceLocations);
+		// The divisors would otherwise remain for attributes of other meshes that use the same locations.
+		for (int location : instanceLocations)
+			if (location >= 0) Gdx.gl30.glVertexAttribDivisor(location, 0);
+	}
+
+	private void put (Renderable renderable, float[] data, int instance) {
+		int index = instance * instanceSize;
+		System.arraycopy(renderable.worldTransform.val, 0, data, index, 16);
+		System.arraycopy(normalMatrix.set(renderable.worldTransform).inv().transpose().val, 0, data, index + 16, 9);
+	}
+
+	@Override
+	public void dispose () {
+		super.dispose();
+		if (instances != null) instances.dispose();
+	}
+}
@@ -0,0 +1,460 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.model.Animation;
+import com.badlogic.gdx.graphics.g3d.model.Node;
+import com.badlogic.gdx.graphics.g3d.model.NodeAnimation;
+import com.badlogic.gdx.graphics.g3d.model.NodeKeyframe;
+import com.badlogic.gdx.graphics.g3d.model.NodePart;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncExecutor.RangeTask;
+
+/** Updates many {@link AnimationController}s at once, optionally in parallel on an {@link AsyncExecutor}. This is an alternative
+ * to calling {@link AnimationController#update(float)} for each controller, intended for scenes with many animated instances of
+ * the same models.
+ * <p>
+ * Each model is flattened into a {@link Skeleton} once: its nodes are stored in an array with parents before children and its
+ * animations are baked into float arrays. {@link #update(float, AsyncExecutor)} first advances each controller on the calling
+ * thread, so {@link AnimationController.AnimationListener}s are notified there. The animations the controllers would apply are
+ * then sampled, blended and applied to the node and bone transforms without map lookups, pooled objects or recursion, spread
+ * over the executor's threads.
+ * <p>
+ * The animations are baked from the {@link Model}, changes made to the keyframes of an instance's animations afterward are not
+ * seen. Nodes not affected by the playing animations use their own translation, rotation and scale, as with
+ * {@link AnimationController}. */
+public class AnimationEvaluator {
+	/** The number of floats per node in a pose: translation, rotation and scale. */
+	static final int POSE_SIZE = 10;
+	static private final int VECTOR_STRIDE = 4, QUATERNION_STRIDE = 5;
+
+	/** The number of controllers evaluated by each task when an executor is used. Smaller chunks balance better across threads,
+	 * larger chunks have less overhead. */
+	public int controllersPerTask = 16;
+
+	private final Array<Entry> entries = new Array<Entry>(false, 16, Entry[]::new);
+	private final EvaluateTask task = new EvaluateTask();
+
+	/** Adds a controller to be updated by {@link #update(float, AsyncExecutor)}. The controller should not be updated by other
+	 * means while it is added.
+	 * @param skeleton The skeleton of the model the controller's {@link ModelInstance} was created from.
+	 * @throws GdxRuntimeException if the instance's nodes do not match the skeleton. */
+	public void add (AnimationController controller, Skeleton skeleton) {
+		if (controller.deferred != null) throw new IllegalArgumentException("The controller has already been added.");
+		Entry entry = new Entry(controller, skeleton);
+		controller.deferred = entry;
+		entries.add(entry);
+	}
+
+	/** Removes a controller, after which it can be updated with {@link AnimationController#update(float)} again.
+	 * @return false if the controller was not added. */
+	public boolean remove (AnimationController controller) {
+		Entry[] entries = this.entries.items;
+		for (int i = 0, n = this.entries.size; i < n; i++) {
+			if (entries[i].controller == controller) {
+				controller.deferred = null;
+				this.entries.removeIndex(i);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** Removes all controllers. */
+	public void clear () {
+		Entry[] entries = this.entries.items;
+		for (int i = 0, n = this.entries.size; i < n; i++)
+			entries[i].controller.deferred = null;
+		this.entries.clear();
+	}
+
+	public int size () {
+		return entries.size;
+	}
+
+	/** Updates the animations of all controllers and then the node and bone transforms of their instances.
+	 * @param delta The time elapsed since the last update, as passed to {@link AnimationController#update(float)}.
+	 * @param executor Used to evaluate the animations in parallel with the calling thread when there are more than
+	 *           {@link #controllersPerTask} controllers. May be null to evaluate all animations on the calling thread, which is
+	 *           also done when called on one of the executor's threads. */
+	public void update (float delta, @Null AsyncExecutor executor) {
+		Entry[] entries = this.entries.items;
+		int count = 0;
+		for (int i = 0, n = this.entries.size; i < n; i++) {
+			Entry entry = entries[i];
+			entry.anim1 = null;
+			entry.controller.update(delta);
+			if (entry.anim1 != null) {
+				// Move the entries to evaluate to the front, the array is unordered.
+				entries[i] = entries[count];
+				entries[count++] = entry;
+			}
+		}
+		if (count == 0) return;
+
+		if (executor == null)
+			evaluate(entries, 0, count);
+		else {
+			EvaluateTask task = this.task;
+			task.entries = entries;
+			try {
+				executor.parallelFor(count, controllersPerTask, task);
+			} finally {
+				task.entries = null;
+			}
+		}
+	}
+
+	static private void evaluate (Entry[] entries, int start, int end) {
+		for (int i = start; i < end; i++)
+			entries[i].evaluate();
+	}
+
+	/** A model's node hierarchy flattened into arrays, with parents before children, and its animations baked into keyframe
+	 * tracks stored in float arrays. A skeleton can be shared by all instances created from the same model with all its nodes. */
+	static public class Skeleton {
+		/** The node ids, parents before children. */
+		public final String[] ids;
+		/** The index of each node's parent, or -1 for root nodes. */
+		public final int[] parents;
+		final ObjectMap<String, Clip> clips = new ObjectMap<String, Clip>();
+
+		public Skeleton (Model model) {
+			this(model.nodes, model.animations);
+		}
+
+		/** @param animations Animations of the nodes, which are baked into the skeleton. */
+		public Skeleton (Array<Node> nodes, Array<Animation> animations) {
+			Array<Node> flat = new Array<Node>();
+			flatten(nodes, flat);
+			int count = flat.size;
+			ids = new String[count];
+			parents = new int[count];
+			ObjectIntMap<Node> indices = new ObjectIntMap<Node>(count);
+			for (int i = 0; i < count; i++) {
+				Node node = flat.get(i);
+				ids[i] = node.id;
+				parents[i] = node.hasParent() ? indices.get(node.getParent(), -1) : -1;
+				indices.put(node, i);
+			}
+			for (Animation animation : animations)
+				clips.put(animation.id, new Clip(animation, indices));
+		}
+
+		public int getNodeCount () {
+			return ids.length;
+		}
+
+		/** @return The index of the first node with the specified id, or -1. */
+		public int indexOf (String id) {
+			for (int i = 0, n = ids.length; i < n; i++)
+				if (ids[i].equals(id)) return i;
+			return -1;
+		}
+
+		/** Stores the nodes in the order of the skeleton.
+		 * @throws GdxRuntimeException if the nodes do not match the skeleton. */
+		Node[] getNodes (Array<Node> nodes) {
+			Array<Node> flat = new Array<Node>(true, ids.length, Node[]::new);
+			flatten(nodes, flat);
+			if (flat.size != ids.length)
+				throw new GdxRuntimeException("The instance has " + flat.size + " nodes, the skeleton has " + ids.length + ".");
+			for (int i = 0, n = flat.size; i < n; i++) {
+				Node node = flat.get(i);
+				if (!ids[i].equals(node.id)) throw new GdxRuntimeException("Node does not match the skeleton: " + node.id);
+			}
+			return flat.items;
+		}
+
+		static private void flatten (Iterable<Node> nodes, Array<Node> out) {
+			for (Node node : nodes) {
+				out.add(node);
+				if (node.hasChildren()) flatten(node.getChildren(), out);
+			}
+		}
+	}
+
+	/** An animation baked into tracks. Each track stores the keyframes of a channel interleaved with their keytimes: keytime, x, y,
+	 * z for vectors and keytime, x, y, z, w for quaternions. A null track means the channel is not animated. */
+	static class Clip {
+		final int[] nodes;
+		final float[][] translations, rotations, scales;
+
+		Clip (Animation animation, ObjectIntMap<Node> indices) {
+			int count = animation.nodeAnimations.size;
+			nodes = new int[count];
+			translations = new float[count][];
+			rotations = new float[count][];
+			scales = new float[count][];
+			for (int i = 0; i < count; i++) {
+				NodeAnimation nodeAnimation = animation.nodeAnimations.get(i);
+				int index = indices.get(nodeAnimation.node, -1);
+				if (index == -1) throw new GdxRuntimeException("Animated node is not in the skeleton: " + nodeAnimation.node.id);
+				nodes[i] = index;
+				translations[i] = bakeVectors(nodeAnimation.translation);
+				rotations[i] = bakeQuaternions(nodeAnimation.rotation);
+				scales[i] = bakeVectors(nodeAnimation.scaling);
+			}
+		}
+
+		static private @Null float[] bakeVectors (@Null Array<NodeKeyframe<Vector3>> keyframes) {
+			if (keyframes == null || keyframes.size == 0) return null;
+			float[] track = new float[keyframes.size * VECTOR_STRIDE];
+			for (int i = 0, t = 0, n = keyframes.size; i < n; i++, t += VECTOR_STRIDE) {
+				NodeKeyframe<Vector3> keyframe = keyframes.get(i);
+				track[t] = keyframe.keytime;
+				track[t + 1] = keyframe.value.x;
+				track[t + 2] = keyframe.value.y;
+				track[t + 3] = keyframe.value.z;
+			}
+			return track;
+		}
+
+		static private @Null float[] bakeQuaternions (@Null Array<NodeKeyframe<Quaternion>> keyframes) {
+			if (keyframes == null || keyframes.size == 0) return null;
+			float[] track = new float[keyframes.size * QUATERNION_STRIDE];
+			for (int i = 0, t = 0, n = keyframes.size; i < n; i++, t += QUATERNION_STRIDE) {
+				NodeKeyframe<Quaternion> keyframe = keyframes.get(i);
+				track[t] = keyframe.keytime;
+				track[t + 1] = keyframe.value.x;
+				track[t + 2] = keyframe.value.y;
+				track[t + 3] = keyframe.value.z;
+				track[t + 4] = keyframe.value.w;
+			}
+			return track;
+		}
+
+		/** Writes the sampled channels of each animated node into the pose and marks the node as animated. */
+		void sample (float time, float[] pose, Node[] instanceNodes) {
+			int[] nodes = this.nodes;
+			float[][] translations = this.translations, rotations = this.rotations, scales = this.scales;
+			for (int i = 0, n = nodes.length; i < n; i++) {
+				int node = nodes[i], p = node * POSE_SIZE;
+				instanceNodes[node].isAnimated = true;
+				if (translations[i] != null) sampleVector(translations[i], time, pose, p);
+				if (rotations[i] != null) sampleQuaternion(rotations[i], time, pose, p + 3);
+				if (scales[i] != null) sampleVector(scales[i], time, pose, p + 7);
+			}
+		}
+
+		/** @return The offset in the track of the last keyframe at or before the time, clamped to the track. */
+		static private int keyframeAtTime (float[] track, int stride, float time) {
+			int low = 0, high = track.length / stride - 1;
+			while (low < high) {
+				int mid = (low + high + 1) >>> 1;
+				if (track[mid * stride] <= time)
+					low = mid;
+				else
+					high = mid - 1;
+			}
+			return low * stride;
+		}
+
+		static private void sampleVector (float[] track, float time, float[] out, int o) {
+			int k = keyframeAtTime(track, VECTOR_STRIDE, time), next = k + VECTOR_STRIDE;
+			if (next == track.length || time <= track[k]) {
+				out[o] = track[k + 1];
+				out[o + 1] = track[k + 2];
+				out[o + 2] = track[k + 3];
+				return;
+			}
+			float alpha = (time - track[k]) / (track[next] - track[k]);
+			out[o] = track[k + 1] + (track[next + 1] - track[k + 1]) * alpha;
+			out[o + 1] = track[k + 2] + (track[next + 2] - track[k + 2]) * alpha;
+			out[o + 2] = track[k + 3] + (track[next + 3] - track[k + 3]) * alpha;
+		}
+
+		static private void sampleQuaternion (float[] track, float time, float[] out, int o) {
+			int k = keyframeAtTime(track, QUATERNION_STRIDE, time), next = k + QUATERNION_STRIDE;
+			out[o] = track[k + 1];
+			out[o + 1] = track[k + 2];
+			out[o + 2] = track[k + 3];
+			out[o + 3] = track[k + 4];
+			if (next == track.length || time <= track[k]) return;
+			slerp(out, o, track, next + 1, (time - track[k]) / (track[next] - track[k]));
+		}
+	}
+
+	/** Blends the target pose into the pose, interpolating the translation and scale linearly and the rotation spherically. */
+	static void blend (float[] pose, float[] target, int nodeCount, float alpha) {
+		for (int i = 0, n = nodeCount * POSE_SIZE; i < n; i += POSE_SIZE) {
+			pose[i] += (target[i] - pose[i]) * alpha;
+			pose[i + 1] += (target[i + 1] - pose[i + 1]) * alpha;
+			pose[i + 2] += (target[i + 2] - pose[i + 2]) * alpha;
+			slerp(pose, i + 3, target, i + 3, alpha);
+			pose[i + 7] += (target[i + 7] - pose[i + 7]) * alpha;
+			pose[i + 8] += (target[i + 8] - pose[i + 8]) * alpha;
+			pose[i + 9] += (target[i + 9] - pose[i + 9]) * alpha;
+		}
+	}
+
+	/** The same interpolation as {@link Quaternion#slerp(Quaternion, float)}, on quaternions stored in arrays. */
+	static void slerp (float[] q, int o, float[] end, int e, float alpha) {
+		float x = q[o], y = q[o + 1], z = q[o + 2], w = q[o + 3];
+		float ex = end[e], ey = end[e + 1], ez = end[e + 2], ew = end[e + 3];
+		float d = x * ex + y * ey + z * ez + w * ew;
+		float absDot = d < 0 ? -d : d;
+		float scale0 = 1 - alpha, scale1 = alpha;
+		if (1 - absDot > 0.1) {
+			float angle = (float)Math.acos(absDot);
+			float invSinTheta = 1f / (float)Math.sin(angle);
+			scale0 = (float)Math.sin((1 - alpha) * angle) * invSinTheta;
+			scale1 = (float)Math.sin(alpha * angle) * invSinTheta;
+		}
+		if (d < 0) scale1 = -scale1;
+		q[o] = scale0 * x + scale1 * ex;
+		q[o + 1] = scale0 * y + scale1 * ey;
+		q[o + 2] = scale0 * z + scale1 * ez;
+		q[o + 3] = scale0 * w + scale1 * ew;
+	}
+
+	/** The state of a controller added to an evaluator. The animations to apply are recorded by the controller's
+	 * {@link BaseAnimationController#applyAnimation(Animation, float)} and
+	 * {@link BaseAnimationController#applyAnimations(Animation, float, Animation, float, float)}. */
+	static final class Entry {
+		final AnimationController controller;
+		final Skeleton skeleton;
+		final Node[] nodes;
+		final int[] parents;
+		final float[] pose, target;
+		// The bones of the instance's node parts, with the node and inverse bind transform each is calculated from.
+		final Matrix4[] bones, invBindTransforms;
+		final Node[] boneNodes;
+
+		@Null Animation anim1, anim2;
+		float time1, time2, weight;
+
+		Entry (AnimationController controller, Skeleton skeleton) {
+			this.controller = controller;
+			this.skeleton = skeleton;
+			nodes = skeleton.getNodes(controller.target.nodes);
+			parents = skeleton.parents;
+			pose = new float[nodes.length * POSE_SIZE];
+			target = new float[nodes.length * POSE_SIZE];
+
+			Array<Matrix4> bones = new Array<Matrix4>(true, 16, Matrix4[]::new);
+			Array<Matrix4> invBindTransforms = new Array<Matrix4>(true, 16, Matrix4[]::new);
+			Array<Node> boneNodes = new Array<Node>(true, 16, Node[]::new);
+			for (Node node : nodes) {
+				for (NodePart part : node.parts) {
+					if (part.invBoneBindTransforms == null || part.bones == null
+						|| part.invBoneBindTransforms.size != part.bones.length) continue;
+					for (int i = 0, n = part.invBoneBindTransforms.size; i < n; i++) {
+						bones.add(part.bones[i]);
+						boneNodes.add(part.invBoneBindTransforms.keys[i]);
+						invBindTransforms.add(part.invBoneBindTransforms.values[i]);
+					}
+				}
+			}
+			this.bones = bones.toArray();
+			this.boneNodes = boneNodes.toArray();
+			this.invBindTransforms = invBindTransforms.toArray();
+		}
+
+		void set (Animation anim1, float time1, @Null Animation anim2, float time2, float weight) {
+			if (anim2 == null || weight == 0)
+				anim2 = null;
+			else if (anim1 == null || weight == 1) {
+				anim1 = anim2;
+				time1 = time2;
+				anim2 = null;
+			}
+			this.anim1 = anim1;
+			this.time1 = time1;
+			this.anim2 = anim2;
+			this.time2 = time2;
+			this.weight = weight;
+		}
+
+		void evaluate () {
+			Node[] nodes = this.nodes;
+			int nodeCount = nodes.length;
+			float[] pose = this.pose;
+			setRestPose(pose);
+			sample(anim1, time1, pose);
+			if (anim2 != null) {
+				float[] target = this.target;
+				setRestPose(target);
+				sample(anim2, time2, target);
+				blend(pose, target, nodeCount, weight);
+			}
+
+			int[] parents = this.parents;
+			for (int i = 0, p = 0; i < nodeCount; i++, p += POSE_SIZE) {
+				Node node = nodes[i];
+				node.localTransform.set(pose[p], pose[p + 1], pose[p + 2], pose[p + 3], pose[p + 4], pose[p + 5], pose[p + 6],
+					pose[p + 7], pose[p + 8], pose[p + 9]);
+				int parent = parents[i];
+				if (parent != -1 && node.inheritTransform)
+					node.globalTransform.set(nodes[parent].globalTransform).mul(node.localTransform);
+				else
+					node.globalTransform.set(node.localTransform);
+			}
+
+			Matrix4[] bones = this.bones, invBindTransforms = this.invBindTransforms;
+			Node[] boneNodes = this.boneNodes;
+			for (int i = 0, n = bones.length; i < n; i++)
+				bones[i].set(boneNodes[i].globalTransform).mul(invBindTransforms[i]);
+			controller.target.cullingBounds.inf();
+		}
+
+		private void sample (@Null Animation animation, float time, float[] pose) {
+			if (animation == null) return;
+			Clip clip = skeleton.clips.get(animation.id);
+			if (clip == null) throw new GdxRuntimeException("Animation is not in the skeleton: " + animation.id);
+			clip.sample(time, pose, nodes);
+		}
+
+		/** Sets the pose to the translation, rotation and scale of each node. */
+		private void setRestPose (float[] pose) {
+			Node[] nodes = this.nodes;
+			for (int i = 0, p = 0, n = nodes.length; i < n; i++, p += POSE_SIZE) {
+				Node node = nodes[i];
+				Vector3 translation = node.translation, scale = node.scale;
+				Quaternion rotation = node.rotation;
+				pose[p] = translation.x;
+				pose[p + 1] = translation.y;
+				pose[p + 2] = translation.z;
+				pose[p + 3] = rotation.x;
+				pose[p + 4] = rotation.y;
+				pose[p + 5] = rotation.z;
+				pose[p + 6] = rotation.w;
+				pose[p + 7] = scale.x;
+				pose[p + 8] = scale.y;
+				pose[p + 9] = scale.z;
+			}
+		}
+	}
+
+	private class EvaluateTask implements RangeTask {
+		@Null Entry[] entries;
+
+		public void run (int start, int end) {
+			evaluate(entries, start, end);
+		}
+	}
+}
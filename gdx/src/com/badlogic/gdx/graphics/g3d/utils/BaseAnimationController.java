@@ -26,6 +26,7 @@ import com.badlogic.gdx.math.Quaternion;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.ObjectMap.Entry;
 import com.badlogic.gdx.utils.Pool;
@@ -97,6 +98,8 @@ public class BaseAnimationController {
 	};
 	private final static ObjectMap<Node, Transform> transforms = new ObjectMap<Node, Transform>();
 	private boolean applying = false;
+	/** Set while the controller is added to an {@link AnimationEvaluator}, which applies the recorded animations later. */
+	@Null AnimationEvaluator.Entry deferred;
 	/** The {@link ModelInstance} on which the animations are being performed. */
 	public final ModelInstance target;
 
@@ -135,6 +138,10 @@ public class BaseAnimationController {
 	/** Apply a single animation to the {@link ModelInstance} and update the it to reflect the changes. */
 	protected void applyAnimation (final Animation animation, final float time) {
 		if (applying) throw new GdxRuntimeException("Call end() first");
+		if (deferred != null) {
+			deferred.set(animation, time, null, 0, 0);
+			return;
+		}
 		applyAnimation(null, null, 1.f, animation, time);
 		target.calculateTransforms();
 	}
@@ -142,6 +149,11 @@ public class BaseAnimationController {
 	/** Apply two animations, blending the second onto to first using weight. */
 	protected void applyAnimations (final Animation anim1, final float time1, final Animation anim2, final float time2,
 		final float weight) {
+		if (deferred != null) {
+			if (applying) throw new GdxRuntimeException("Call end() first");
+			deferred.set(anim1, time1, anim2, time2, weight);
+			return;
+		}
 		if (anim2 == null || weight == 0.f)
 			applyAnimation(anim1, time1);
 		else if (anim1 == null || weight == 1.f)
@@ -16,10 +16,12 @@
 
 package com.badlogic.gdx.graphics.g3d.utils;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g3d.Renderable;
 import com.badlogic.gdx.graphics.g3d.Shader;
 import com.badlogic.gdx.graphics.g3d.shaders.DefaultShader;
+import com.badlogic.gdx.graphics.g3d.shaders.InstancedDefaultShader;
 
 public class DefaultShaderProvider extends BaseShaderProvider {
 	public final DefaultShader.Config config;
@@ -42,6 +44,8 @@ public class DefaultShaderProvider extends BaseShaderProvider {
 
 	@Override
 	protected Shader createShader (final Renderable renderable) {
+		if (config.maxInstances > 0 && Gdx.gl30 != null && renderable.bones == null)
+			return new InstancedDefaultShader(renderable, config);
 		return new DefaultShader(renderable, config);
 	}
 }
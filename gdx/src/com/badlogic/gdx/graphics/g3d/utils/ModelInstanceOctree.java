@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import com.badlogic.gdx.graphics.g3d.CullableRenderableProvider;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.math.Frustum;
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.Octree;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.math.collision.Ray;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.Pool;
+
+/** Stores {@link ModelInstance}s in an {@link Octree} by their world bounds. When a {@link ModelBatch} with
+ * {@link ModelBatch#setCulling(boolean) culling} renders it, the octree is queried with the camera's frustum so the instances in
+ * octree nodes outside the frustum are not visited, then the remaining instances cull their node parts. Without culling, all
+ * instances are rendered.
+ * <p>
+ * The world bounds of an instance are its {@link ModelInstance#cullingBounds} transformed by its {@link ModelInstance#transform}.
+ * They are stored when the instance is added, {@link #update(ModelInstance)} must be called after the instance is moved or its
+ * culling bounds change. Instances whose world bounds are not inside the bounds of the octree are kept in a separate list and
+ * culled one by one. */
+public class ModelInstanceOctree implements CullableRenderableProvider {
+	public final Octree<ModelInstance> octree;
+	private final ObjectMap<ModelInstance, BoundingBox> bounds = new ObjectMap<ModelInstance, BoundingBox>();
+	private final ObjectSet<ModelInstance> visible = new ObjectSet<ModelInstance>();
+	/** Instances whose world bounds are not inside {@link #octreeBounds}, they are always tested against the frustum. */
+	private final Array<ModelInstance> outside = new Array<ModelInstance>(false, 16, ModelInstance[]::new);
+	private final BoundingBox octreeBounds;
+
+	/** @see Octree#Octree(Vector3, Vector3, int, int, Octree.Collider) */
+	public ModelInstanceOctree (Vector3 minimum, Vector3 maximum, int maxDepth, int maxItemsPerNode) {
+		octreeBounds = new BoundingBox(minimum, maximum);
+		octree = new Octree<ModelInstance>(minimum, maximum, maxDepth, maxItemsPerNode, new Octree.Collider<ModelInstance>() {
+			private final Vector3 intersection = new Vector3();
+
+			public boolean intersects (BoundingBox nodeBounds, ModelInstance instance) {
+				return nodeBounds.intersects(bounds.get(instance));
+			}
+
+			public boolean intersects (Frustum frustum, ModelInstance instance) {
+				return frustum.boundsInFrustum(bounds.get(instance));
+			}
+
+			public float intersects (Ray ray, ModelInstance instance) {
+				if (Intersector.intersectRayBounds(ray, bounds.get(instance), intersection))
+					return intersection.dst2(ray.origin);
+				return Float.MAX_VALUE;
+			}
+		});
+	}
+
+	/** Adds the instance, calculating its {@link ModelInstance#cullingBounds} if they are invalid. */
+	public void add (ModelInstance instance) {
+		BoundingBox box = bounds.get(instance);
+		if (box != null) throw new IllegalArgumentException("The instance has already been added.");
+		bounds.put(instance, box = new BoundingBox());
+		setWorldBounds(instance, box);
+		store(instance, box);
+	}
+
+	/** @return false if the instance was not added. */
+	public boolean remove (ModelInstance instance) {
+		if (!bounds.containsKey(instance)) return false;
+		unstore(instance);
+		bounds.remove(instance);
+		return true;
+	}
+
+	/** Stores the instance again with its current world bounds. Must be called after the instance is moved or its
+	 * {@link ModelInstance#cullingBounds} change. */
+	public void update (ModelInstance instance) {
+		BoundingBox box = bounds.get(instance);
+		if (box == null) throw new IllegalArgumentException("The instance has not been added.");
+		unstore(instance);
+		setWorldBounds(instance, box);
+		store(instance, box);
+	}
+
+	public void clear () {
+		for (ModelInstance instance : bounds.keys())
+			octree.remove(instance);
+		bounds.clear();
+		outside.clear();
+	}
+
+	public int size () {
+		return bounds.size;
+	}
+
+	private void setWorldBounds (ModelInstance instance, BoundingBox out) {
+		if (!instance.cullingBounds.isValid()) instance.calculateCullingBounds();
+		out.set(instance.cullingBounds);
+		if (instance.transform != null) out.mul(instance.transform);
+	}
+
+	private void store (ModelInstance instance, BoundingBox box) {
+		if (octreeBounds.contains(box))
+			octree.add(instance);
+		else
+			outside.add(instance);
+	}
+
+	private void unstore (ModelInstance instance) {
+		if (!outside.removeValue(instance, true)) octree.remove(instance);
+	}
+
+	@Override
+	public void getRenderables (Array<Renderable> renderables, Pool<Renderable> pool) {
+		for (ModelInstance instance : bounds.keys())
+			instance.getRenderables(renderables, pool);
+	}
+
+	@Override
+	public void getRenderables (Array<Renderable> renderables, Pool<Renderable> pool, Frustum frustum) {
+		ObjectSet<ModelInstance> visible = this.visible;
+		octree.query(frustum, visible);
+		for (ModelInstance instance : visible)
+			instance.getRenderables(renderables, pool, frustum);
+		visible.clear();
+		for (int i = 0, n = outside.size; i < n; i++) {
+			ModelInstance instance = outside.get(i);
+			if (frustum.boundsInFrustum(bounds.get(instance))) instance.getRenderables(renderables, pool, frustum);
+		}
+	}
+}
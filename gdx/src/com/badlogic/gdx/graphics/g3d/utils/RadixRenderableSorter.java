@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.Shader;
+import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/** A {@link RenderableSorter} that computes a 64-bit key for each renderable once per sort and radix sorts the keys, instead of
+ * comparing renderables O(n log n) times like {@link DefaultRenderableSorter}.
+ * <p>
+ * Opaque renderables come first, grouped by shader, then material, then mesh and finally sorted front to back, which minimizes
+ * state changes when rendering. Blended renderables come last, sorted back to front and then grouped by shader, material and
+ * mesh. The distance to the camera is quantized relative to {@link Camera#far}. Renderables with the same key keep their order.
+ * <p>
+ * Shaders and meshes are identified by identity, materials by {@link Material#equals(Object)}. Only the first 1024 shaders,
+ * 4096 materials and 4096 meshes of a sort get their own group, the rest share the last group of each. */
+public class RadixRenderableSorter implements RenderableSorter {
+	static private final int shaderBits = 10, materialBits = 12, meshBits = 12, depthBits = 29;
+	static private final int shaderMask = (1 << shaderBits) - 1, materialMask = (1 << materialBits) - 1,
+		meshMask = (1 << meshBits) - 1, depthMask = (1 << depthBits) - 1;
+	static private final long blendedBit = 1L << 63;
+
+	private final ObjectIntMap<Shader> shaderIds = new ObjectIntMap();
+	private final ObjectIntMap<Material> materialIds = new ObjectIntMap();
+	private final ObjectIntMap<Mesh> meshIds = new ObjectIntMap();
+	private final int[] counts = new int[8 * 256];
+	private long[] keys = new long[0], sortedKeys = keys;
+	private int[] indices = new int[0], sortedIndices = indices;
+	private Object[] sorted = new Object[0];
+	private final Vector3 tmp = new Vector3();
+
+	@Override
+	public void sort (Camera camera, Array<Renderable> renderables) {
+		int n = renderables.size;
+		if (n < 2) return;
+		if (keys.length < n) {
+			keys = new long[n];
+			sortedKeys = new long[n];
+			indices = new int[n];
+			sortedIndices = new int[n];
+			sorted = new Object[n];
+		}
+		Object[] items = renderables.items;
+		long[] keys = this.keys;
+		int[] indices = this.indices, counts = this.counts;
+		Arrays.fill(counts, 0);
+		Vector3 position = camera.position;
+		float scale = depthMask / camera.far;
+		for (int i = 0; i < n; i++) {
+			long key = getKey((Renderable)items[i], position, scale);
+			keys[i] = key;
+			indices[i] = i;
+			for (int digit = 0; digit < 8; digit++)
+				counts[(digit << 8) + (int)(key >>> (digit << 3) & 255)]++;
+		}
+		shaderIds.clear();
+		materialIds.clear();
+		meshIds.clear();
+
+		// Least significant digit first, skipping digits that are the same for all keys.
+		long[] sortedKeys = this.sortedKeys;
+		int[] sortedIndices = this.sortedIndices;
+		for (int digit = 0; digit < 8; digit++) {
+			int shift = digit << 3, offset = digit << 8;
+			if (counts[offset + (int)(keys[0] >>> shift & 255)] == n) continue;
+			for (int i = 0, total = 0; i < 256; i++) {
+				int count = counts[offset + i];
+				counts[offset + i] = total;
+				total += count;
+			}
+			for (int i = 0; i < n; i++) {
+				long key = keys[i];
+				int index = counts[offset + (int)(key >>> shift & 255)]++;
+				sortedKeys[index] = key;
+				sortedIndices[index] = indices[i];
+			}
+			long[] tempKeys = keys;
+			keys = sortedKeys;
+			sortedKeys = tempKeys;
+			int[] tempIndices = indices;
+			indices = sortedIndices;
+			sortedIndices = tempIndices;
+		}
+
+		Object[] sorted = this.sorted;
+		System.arraycopy(items, 0, sorted, 0, n);
+		for (int i = 0; i < n; i++)
+			items[i] = sorted[indices[i]];
+		Arrays.fill(sorted, 0, n, null);
+	}
+
+	private long getKey (Renderable renderable, Vector3 position, float scale) {
+		Material material = renderable.material;
+		BlendingAttribute blending = (BlendingAttribute)material.get(BlendingAttribute.Type);
+		long state = (long)id(shaderIds, renderable.shader, shaderMask) << materialBits + meshBits
+			| (long)id(materialIds, material, materialMask) << meshBits //
+			| id(meshIds, renderable.meshPart.mesh, meshMask);
+		long depth = (long)Math.min(position.dst(getTranslation(renderable.worldTransform, renderable.meshPart.center, tmp))
+			* scale, depthMask);
+		if (blending != null && blending.blended)
+			return blendedBit | (depthMask - depth) << shaderBits + materialBits + meshBits | state;
+		return state << depthBits | depth;
+	}
+
+	private <T> int id (ObjectIntMap<T> ids, T object, int mask) {
+		if (object == null) return 0;
+		int id = ids.get(object, -1);
+		if (id == -1) {
+			id = Math.min(ids.size + 1, mask);
+			ids.put(object, id);
+		}
+		return id;
+	}
+
+	private Vector3 getTranslation (Matrix4 worldTransform, Vector3 center, Vector3 output) {
+		if (center.isZero())
+			worldTransform.getTranslation(output);
+		else if (!worldTransform.hasRotationOrScaling())
+			worldTransform.getTranslation(output).add(center);
+		else
+			output.set(center).mul(worldTransform);
+		return output;
+	}
+}
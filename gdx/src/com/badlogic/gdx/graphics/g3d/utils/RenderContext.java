@@ -18,6 +18,8 @@ package com.badlogic.gdx.graphics.g3d.utils;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g3d.shaders.BaseShader;
+import com.badlogic.gdx.graphics.g3d.shaders.BaseShader.MaterialSetter;
 
 /** Manages OpenGL state and tries to reduce state changes. Uses a {@link TextureBinder} to reduce texture binds as well. Call
  * {@link #begin()} to setup the context, call {@link #end()} to undo all state changes. Use the setters to change state, use
@@ -26,6 +28,15 @@ import com.badlogic.gdx.graphics.GL20;
 public class RenderContext {
 	/** used to bind textures **/
 	public final TextureBinder textureBinder;
+	/** Number of times a {@link BaseShader} rendered a renderable with the same material and environment as the previous one, so
+	 * material state wasn't set again, since the last call to {@link #resetCounts()}. */
+	public int materialBindsAvoided;
+	/** Number of {@link MaterialSetter material uniforms} that weren't set because the material and environment were the same as
+	 * for the previous renderable, since the last call to {@link #resetCounts()}. This includes texture binds. */
+	public int uniformsAvoided;
+	/** Number of times a {@link BaseShader} didn't bind a mesh because it was already bound, since the last call to
+	 * {@link #resetCounts()}. */
+	public int meshBindsAvoided;
 	private boolean blending;
 	private int blendSourceRgbFactor;
 	private int blendDestRgbFactor;
@@ -63,6 +74,11 @@ public class RenderContext {
 		textureBinder.end();
 	}
 
+	/** Resets the counters of avoided state changes. The counters of the {@link #textureBinder} are reset separately. */
+	public void resetCounts () {
+		materialBindsAvoided = uniformsAvoided = meshBindsAvoided = 0;
+	}
+
 	public void setDepthMask (final boolean depthMask) {
 		if (this.depthMask != depthMask) Gdx.gl.glDepthMask(this.depthMask = depthMask);
 	}
@@ -34,7 +34,8 @@ public class ImmediateModeRenderer20 implements ImmediateModeRenderer {
 	private final int maxVertices;
 	private int numVertices;
 
-	private final Mesh mesh;
+	private final Mesh[] meshes;
+	private int meshIndex;
 	private ShaderProgram shader;
 	private boolean ownsShader;
 	private final int numTexCoords;
@@ -58,12 +59,29 @@ public class ImmediateModeRenderer20 implements ImmediateModeRenderer {
 
 	public ImmediateModeRenderer20 (int maxVertices, boolean hasNormals, boolean hasColors, int numTexCoords,
 		ShaderProgram shader) {
+		this(maxVertices, hasNormals, hasColors, numTexCoords, shader, 1);
+	}
+
+	/** @param shader May be null to use the default shader.
+	 * @param buffers The number of vertex buffers to cycle through, one per flush. With 2 or more, the vertices for a flush are
+	 *           uploaded to a different buffer than the one the previous flush is drawing from, which can avoid stalls when
+	 *           there are many flushes per frame. */
+	public ImmediateModeRenderer20 (int maxVertices, boolean hasNormals, boolean hasColors, int numTexCoords,
+		ShaderProgram shader, int buffers) {
+		if (buffers < 1) throw new IllegalArgumentException("buffers must be > 0: " + buffers);
 		this.maxVertices = maxVertices;
 		this.numTexCoords = numTexCoords;
+		if (shader == null) {
+			shader = createDefaultShader(hasNormals, hasColors, numTexCoords);
+			ownsShader = true;
+		}
 		this.shader = shader;
 
 		VertexAttribute[] attribs = buildVertexAttributes(hasNormals, hasColors, numTexCoords);
-		mesh = new Mesh(false, maxVertices, 0, attribs);
+		meshes = new Mesh[buffers];
+		for (int i = 0; i < buffers; i++)
+			meshes[i] = new Mesh(false, maxVertices, 0, attribs);
+		Mesh mesh = meshes[0];
 
 		vertices = new float[maxVertices * (mesh.getVertexAttributes().vertexSize / 4)];
 		vertexSize = mesh.getVertexAttributes().vertexSize / 4;
@@ -152,6 +170,8 @@ public class ImmediateModeRenderer20 implements ImmediateModeRenderer {
 		shader.setUniformMatrix("u_projModelView", projModelView);
 		for (int i = 0; i < numTexCoords; i++)
 			shader.setUniformi(shaderUniformNames[i], i);
+		Mesh mesh = meshes[meshIndex];
+		if (++meshIndex == meshes.length) meshIndex = 0;
 		mesh.setVertices(vertices, 0, vertexIdx);
 		mesh.render(shader, primitiveType);
 
@@ -175,7 +195,8 @@ public class ImmediateModeRenderer20 implements ImmediateModeRenderer {
 
 	public void dispose () {
 		if (ownsShader && shader != null) shader.dispose();
-		mesh.dispose();
+		for (Mesh mesh : meshes)
+			mesh.dispose();
 	}
 
 	static private String createVertexShader (boolean hasNormals, boolean hasColors, int numTexCoords) {
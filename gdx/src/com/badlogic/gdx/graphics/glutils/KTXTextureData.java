@@ -276,7 +276,8 @@ public class KTXTextureData implements TextureData, CubemapData {
 			}
 		}
 		if (previousUnpackAlignment != 4) Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, previousUnpackAlignment);
-		if (useMipMaps()) Gdx.gl.glGenerateMipmap(target);
+		// Mipmaps included in the file were uploaded above, generating them is unnecessary and fails for compressed formats.
+		if (useMipMaps() && numberOfMipmapLevels == 1) Gdx.gl.glGenerateMipmap(target);
 
 		// dispose data once transfered to GPU
 		disposePreparedData();
@@ -59,6 +59,13 @@ public class MipMapGenerator {
 		}
 	}
 
+	/** Returns true if {@link #generateMipMap(int, Pixmap, int, int)} uses glGenerateMipmap, otherwise the mipmap levels are
+	 * generated on the CPU and uploaded one by one. */
+	public static boolean isHardwareMipMap () {
+		return useHWMipMap && (Gdx.app.getType() == ApplicationType.Android || Gdx.app.getType() == ApplicationType.WebGL
+			|| Gdx.app.getType() == ApplicationType.iOS || supportsHWMipMapDesktop());
+	}
+
 	private static void generateMipMapGLES20 (int target, Pixmap pixmap) {
 		Gdx.gl.glTexImage2D(target, 0, pixmap.getGLInternalFormat(), pixmap.getWidth(), pixmap.getHeight(), 0, pixmap.getGLFormat(),
 			pixmap.getGLType(), pixmap.getPixels());
@@ -66,10 +73,7 @@ public class MipMapGenerator {
 	}
 
 	private static void generateMipMapDesktop (int target, Pixmap pixmap, int textureWidth, int textureHeight) {
-		if (Gdx.graphics.supportsExtension("GL_ARB_framebuffer_object")
-			|| Gdx.graphics.supportsExtension("GL_EXT_framebuffer_object")
-			|| Gdx.gl20.getClass().getName().equals("com.badlogic.gdx.backends.lwjgl3.angle.Lwjgl3GLES20") // LWJGL3ANGLE
-			|| Gdx.gl30 != null) {
+		if (supportsHWMipMapDesktop()) {
 			Gdx.gl.glTexImage2D(target, 0, pixmap.getGLInternalFormat(), pixmap.getWidth(), pixmap.getHeight(), 0,
 				pixmap.getGLFormat(), pixmap.getGLType(), pixmap.getPixels());
 			Gdx.gl20.glGenerateMipmap(target);
@@ -78,6 +82,13 @@ public class MipMapGenerator {
 		}
 	}
 
+	private static boolean supportsHWMipMapDesktop () {
+		return Gdx.graphics.supportsExtension("GL_ARB_framebuffer_object")
+			|| Gdx.graphics.supportsExtension("GL_EXT_framebuffer_object")
+			|| Gdx.gl20.getClass().getName().equals("com.badlogic.gdx.backends.lwjgl3.angle.Lwjgl3GLES20") // LWJGL3ANGLE
+			|| Gdx.gl30 != null;
+	}
+
 	private static void generateMipMapCPU (int target, Pixmap pixmap, int textureWidth, int textureHeight) {
 		Gdx.gl.glTexImage2D(target, 0, pixmap.getGLInternalFormat(), pixmap.getWidth(), pixmap.getHeight(), 0, pixmap.getGLFormat(),
 			pixmap.getGLType(), pixmap.getPixels());
@@ -25,6 +25,7 @@ import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntMap;
 
 /** Renders points, lines, shape outlines and filled shapes.
  * <p>
@@ -102,6 +103,7 @@ public class ShapeRenderer implements Disposable {
 	private ShapeType shapeType;
 	private boolean autoShapeType;
 	private float defaultRectLineWidth = 0.75f;
+	private final IntMap<float[]> unitCircles = new IntMap();
 
 	public ShapeRenderer () {
 		this(5000);
@@ -112,11 +114,17 @@ public class ShapeRenderer implements Disposable {
 	}
 
 	public ShapeRenderer (int maxVertices, ShaderProgram defaultShader) {
-		if (defaultShader == null) {
-			renderer = new ImmediateModeRenderer20(maxVertices, false, true, 0);
-		} else {
-			renderer = new ImmediateModeRenderer20(maxVertices, false, true, 0, defaultShader);
-		}
+		this(maxVertices, defaultShader, 1);
+	}
+
+	/** @param maxVertices The number of vertices drawn before the batch is flushed. When drawing many shapes, a larger value such
+	 *           as 100000 reduces the number of flushes.
+	 * @param defaultShader May be null to use the default shader.
+	 * @param buffers The number of vertex buffers to cycle through when flushing, see
+	 *           {@link ImmediateModeRenderer20#ImmediateModeRenderer20(int, boolean, boolean, int, ShaderProgram, int)}. 2 is a
+	 *           good value when there are many flushes per frame. */
+	public ShapeRenderer (int maxVertices, ShaderProgram defaultShader, int buffers) {
+		renderer = new ImmediateModeRenderer20(maxVertices, false, true, 0, defaultShader, buffers);
 		projectionMatrix.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 		matrixDirty = true;
 	}
@@ -1171,6 +1179,162 @@ public class ShapeRenderer implements Disposable {
 		polyline(vertices, 0, vertices.length);
 	}
 
+	/** Draws many rectangles in the x/y plane using {@link ShapeType#Line} or {@link ShapeType#Filled}. This is faster than
+	 * calling {@link #rect(float, float, float, float)} for each rectangle.
+	 * @param rects The x, y, width and height of each rectangle.
+	 * @param count The number of floats to use, a multiple of 4. */
+	public void rects (float[] rects, int offset, int count) {
+		if (count % 4 != 0) throw new IllegalArgumentException("count must be a multiple of 4: " + count);
+		float colorBits = color.toFloatBits();
+		ImmediateModeRenderer renderer = this.renderer;
+		for (int i = offset, n = offset + count; i < n;) {
+			check(ShapeType.Line, ShapeType.Filled, 0);
+			boolean line = shapeType == ShapeType.Line;
+			int verticesPerRect = line ? 8 : 6;
+			for (int end = Math.min(n, i + capacity(verticesPerRect) * 4); i < end; i += 4) {
+				float x = rects[i], y = rects[i + 1], x2 = x + rects[i + 2], y2 = y + rects[i + 3];
+				renderer.color(colorBits);
+				renderer.vertex(x, y, 0);
+				renderer.color(colorBits);
+				renderer.vertex(x2, y, 0);
+				if (line) {
+					renderer.color(colorBits);
+					renderer.vertex(x2, y, 0);
+					renderer.color(colorBits);
+					renderer.vertex(x2, y2, 0);
+					renderer.color(colorBits);
+					renderer.vertex(x2, y2, 0);
+					renderer.color(colorBits);
+					renderer.vertex(x, y2, 0);
+					renderer.color(colorBits);
+					renderer.vertex(x, y2, 0);
+					renderer.color(colorBits);
+					renderer.vertex(x, y, 0);
+				} else {
+					renderer.color(colorBits);
+					renderer.vertex(x2, y2, 0);
+					renderer.color(colorBits);
+					renderer.vertex(x2, y2, 0);
+					renderer.color(colorBits);
+					renderer.vertex(x, y2, 0);
+					renderer.color(colorBits);
+					renderer.vertex(x, y, 0);
+				}
+			}
+		}
+	}
+
+	/** Draws many circles using {@link ShapeType#Line} or {@link ShapeType#Filled}. This is faster than calling
+	 * {@link #circle(float, float, float, int)} for each circle, as the points of a unit circle are computed once for each number
+	 * of segments and reused.
+	 * @param circles The x, y and radius of each circle.
+	 * @param count The number of floats to use, a multiple of 3. */
+	public void circles (float[] circles, int offset, int count, int segments) {
+		if (segments <= 0) throw new IllegalArgumentException("segments must be > 0.");
+		if (count % 3 != 0) throw new IllegalArgumentException("count must be a multiple of 3: " + count);
+		float colorBits = color.toFloatBits();
+		float[] unit = unitCircle(segments);
+		int points = segments << 1;
+		ImmediateModeRenderer renderer = this.renderer;
+		for (int i = offset, n = offset + count; i < n;) {
+			check(ShapeType.Line, ShapeType.Filled, 0);
+			boolean line = shapeType == ShapeType.Line;
+			int verticesPerCircle = segments * (line ? 2 : 3);
+			for (int end = Math.min(n, i + capacity(verticesPerCircle) * 3); i < end; i += 3) {
+				float x = circles[i], y = circles[i + 1], radius = circles[i + 2];
+				float px = x + radius, py = y; // The first point, unit[0] and unit[1] are 1 and 0.
+				for (int ii = 2; ii <= points; ii += 2) {
+					float px2 = x + unit[ii] * radius, py2 = y + unit[ii + 1] * radius;
+					if (!line) {
+						renderer.color(colorBits);
+						renderer.vertex(x, y, 0);
+					}
+					renderer.color(colorBits);
+					renderer.vertex(px, py, 0);
+					renderer.color(colorBits);
+					renderer.vertex(px2, py2, 0);
+					px = px2;
+					py = py2;
+				}
+			}
+		}
+	}
+
+	/** Draws many lines using {@link ShapeType#Line} or {@link ShapeType#Filled}. This is faster than calling
+	 * {@link #line(float, float, float, float)} for each line. For {@link ShapeType#Filled}, each line is drawn like
+	 * {@link #rectLine(float, float, float, float, float)} using the default rect line width.
+	 * @param lines The x, y of the start and the x, y of the end of each line.
+	 * @param count The number of floats to use, a multiple of 4. */
+	public void lines (float[] lines, int offset, int count) {
+		if (count % 4 != 0) throw new IllegalArgumentException("count must be a multiple of 4: " + count);
+		float colorBits = color.toFloatBits(), halfWidth = defaultRectLineWidth * 0.5f;
+		ImmediateModeRenderer renderer = this.renderer;
+		for (int i = offset, n = offset + count; i < n;) {
+			check(ShapeType.Line, ShapeType.Filled, 0);
+			if (shapeType == ShapeType.Line) {
+				for (int end = Math.min(n, i + capacity(2) * 4); i < end; i += 4) {
+					renderer.color(colorBits);
+					renderer.vertex(lines[i], lines[i + 1], 0);
+					renderer.color(colorBits);
+					renderer.vertex(lines[i + 2], lines[i + 3], 0);
+				}
+			} else {
+				for (int end = Math.min(n, i + capacity(6) * 4); i < end; i += 4) {
+					float x1 = lines[i], y1 = lines[i + 1], x2 = lines[i + 2], y2 = lines[i + 3];
+					float tx = y2 - y1, ty = x1 - x2, length = (float)Math.sqrt(tx * tx + ty * ty);
+					if (length != 0) {
+						length = halfWidth / length;
+						tx *= length;
+						ty *= length;
+					}
+					renderer.color(colorBits);
+					renderer.vertex(x1 + tx, y1 + ty, 0);
+					renderer.color(colorBits);
+					renderer.vertex(x1 - tx, y1 - ty, 0);
+					renderer.color(colorBits);
+					renderer.vertex(x2 + tx, y2 + ty, 0);
+					renderer.color(colorBits);
+					renderer.vertex(x2 - tx, y2 - ty, 0);
+					renderer.color(colorBits);
+					renderer.vertex(x2 + tx, y2 + ty, 0);
+					renderer.color(colorBits);
+					renderer.vertex(x1 - tx, y1 - ty, 0);
+				}
+			}
+		}
+	}
+
+	/** Returns the number of shapes with the specified number of vertices that fit before the batch must be flushed, flushing
+	 * first if none fit. */
+	private int capacity (int shapeVertices) {
+		int max = renderer.getMaxVertices();
+		if (shapeVertices > max) throw new IllegalArgumentException("Shape has too many vertices: " + shapeVertices + " > " + max);
+		int available = max - renderer.getNumVertices();
+		if (available < shapeVertices) {
+			flush();
+			available = max;
+		}
+		return available / shapeVertices;
+	}
+
+	/** Returns the x, y points of a unit circle with the specified number of segments, where the last point is the same as the
+	 * first. */
+	private float[] unitCircle (int segments) {
+		float[] unit = unitCircles.get(segments);
+		if (unit == null) {
+			unit = new float[(segments + 1) << 1];
+			for (int i = 1; i < segments; i++) {
+				double angle = Math.PI * 2 * i / segments;
+				unit[i << 1] = (float)Math.cos(angle);
+				unit[(i << 1) + 1] = (float)Math.sin(angle);
+			}
+			unit[0] = 1;
+			unit[segments << 1] = 1;
+			unitCircles.put(segments, unit);
+		}
+		return unit;
+	}
+
 	/** Checks whether the correct ShapeType was set. If not and autoShapeType is enabled, it flushes the batch and changes the
 	 * shape type. The batch is also flushed, when the matrix has been changed or not enough vertices remain.
 	 *
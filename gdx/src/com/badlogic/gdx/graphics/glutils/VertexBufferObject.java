@@ -48,6 +48,10 @@ public class VertexBufferObject implements VertexData {
 	private int usage;
 	boolean isDirty = false;
 	boolean isBound = false;
+	/** Number of bytes in the GL buffer from the last glBufferData call. */
+	private int uploadedBytes;
+	/** Byte range that was changed by {@link #updateVertices(int, float[], int, int)} but not yet uploaded. */
+	private int dirtyStart = Integer.MAX_VALUE, dirtyEnd;
 
 	/** Constructs a new interleaved VertexBufferObject.
 	 *
@@ -132,10 +136,37 @@ public class VertexBufferObject implements VertexData {
 	private void bufferChanged () {
 		if (isBound) {
 			Gdx.gl20.glBufferData(GL20.GL_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
+			uploadedBytes = byteBuffer.limit();
 			isDirty = false;
+			dirtyStart = Integer.MAX_VALUE;
+			dirtyEnd = 0;
 		}
 	}
 
+	/** Uploads the changed bytes with glBufferSubData if the GL buffer is already large enough, otherwise the whole buffer is
+	 * uploaded. When not bound, the range is merged with other pending changes and uploaded on the next bind. */
+	private void rangeChanged (int start, int end) {
+		if (isDirty || end > uploadedBytes) {
+			isDirty = true;
+			if (end <= byteBuffer.limit()) bufferChanged();
+		} else if (isBound)
+			bufferSubData(start, end);
+		else {
+			dirtyStart = Math.min(dirtyStart, start);
+			dirtyEnd = Math.max(dirtyEnd, end);
+		}
+	}
+
+	private void bufferSubData (int start, int end) {
+		final ByteBuffer byteBuffer = this.byteBuffer;
+		final int position = byteBuffer.position(), limit = byteBuffer.limit();
+		((Buffer)byteBuffer).limit(end);
+		((Buffer)byteBuffer).position(start);
+		Gdx.gl20.glBufferSubData(GL20.GL_ARRAY_BUFFER, start, end - start, byteBuffer);
+		((Buffer)byteBuffer).limit(limit);
+		((Buffer)byteBuffer).position(position);
+	}
+
 	@Override
 	public void setVertices (float[] vertices, int offset, int count) {
 		isDirty = true;
@@ -147,13 +178,14 @@ public class VertexBufferObject implements VertexData {
 
 	@Override
 	public void updateVertices (int targetOffset, float[] vertices, int sourceOffset, int count) {
-		isDirty = true;
-		final int pos = byteBuffer.position();
+		final int pos = byteBuffer.position(), limit = byteBuffer.limit();
+		((Buffer)byteBuffer).limit(byteBuffer.capacity());
 		((Buffer)byteBuffer).position(targetOffset * 4);
 		BufferUtils.copy(vertices, sourceOffset, count, byteBuffer);
+		((Buffer)byteBuffer).limit(limit);
 		((Buffer)byteBuffer).position(pos);
 		((Buffer)buffer).position(0);
-		bufferChanged();
+		rangeChanged(targetOffset * 4, (targetOffset + count) * 4);
 	}
 
 	/** @return The GL enum used in the call to {@link GL20#glBufferData(int, int, java.nio.Buffer, int)}, e.g. GL_STATIC_DRAW or
@@ -184,7 +216,14 @@ public class VertexBufferObject implements VertexData {
 		if (isDirty) {
 			((Buffer)byteBuffer).limit(buffer.limit() * 4);
 			gl.glBufferData(GL20.GL_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
+			uploadedBytes = byteBuffer.limit();
 			isDirty = false;
+			dirtyStart = Integer.MAX_VALUE;
+			dirtyEnd = 0;
+		} else if (dirtyEnd > dirtyStart) {
+			bufferSubData(dirtyStart, dirtyEnd);
+			dirtyStart = Integer.MAX_VALUE;
+			dirtyEnd = 0;
 		}
 
 		final int numAttributes = attributes.size();
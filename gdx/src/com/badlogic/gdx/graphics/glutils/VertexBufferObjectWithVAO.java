@@ -44,6 +44,10 @@ public class VertexBufferObjectWithVAO implements VertexData {
 	final int usage;
 	boolean isDirty = false;
 	boolean isBound = false;
+	/** Number of bytes in the GL buffer from the last glBufferData call. */
+	int uploadedBytes;
+	/** Byte range that was changed by {@link #updateVertices(int, float[], int, int)} but not yet uploaded. */
+	int dirtyStart = Integer.MAX_VALUE, dirtyEnd;
 	int vaoHandle = -1;
 	IntArray cachedLocations = new IntArray();
 
@@ -122,10 +126,38 @@ public class VertexBufferObjectWithVAO implements VertexData {
 		if (isBound) {
 			Gdx.gl20.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
 			Gdx.gl20.glBufferData(GL20.GL_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
+			uploadedBytes = byteBuffer.limit();
 			isDirty = false;
+			dirtyStart = Integer.MAX_VALUE;
+			dirtyEnd = 0;
 		}
 	}
 
+	/** Uploads the changed bytes with glBufferSubData if the GL buffer is already large enough, otherwise the whole buffer is
+	 * uploaded. When not bound, the range is merged with other pending changes and uploaded on the next bind. */
+	private void rangeChanged (int start, int end) {
+		if (isDirty || end > uploadedBytes) {
+			isDirty = true;
+			if (end <= byteBuffer.limit()) bufferChanged();
+		} else if (isBound) {
+			Gdx.gl20.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
+			bufferSubData(Gdx.gl20, start, end);
+		} else {
+			dirtyStart = Math.min(dirtyStart, start);
+			dirtyEnd = Math.max(dirtyEnd, end);
+		}
+	}
+
+	private void bufferSubData (GL20 gl, int start, int end) {
+		final ByteBuffer byteBuffer = this.byteBuffer;
+		final int position = byteBuffer.position(), limit = byteBuffer.limit();
+		((Buffer)byteBuffer).limit(end);
+		((Buffer)byteBuffer).position(start);
+		gl.glBufferSubData(GL20.GL_ARRAY_BUFFER, start, end - start, byteBuffer);
+		((Buffer)byteBuffer).limit(limit);
+		((Buffer)byteBuffer).position(position);
+	}
+
 	@Override
 	public void setVertices (float[] vertices, int offset, int count) {
 		isDirty = true;
@@ -137,13 +169,14 @@ public class VertexBufferObjectWithVAO implements VertexData {
 
 	@Override
 	public void updateVertices (int targetOffset, float[] vertices, int sourceOffset, int count) {
-		isDirty = true;
-		final int pos = byteBuffer.position();
+		final int pos = byteBuffer.position(), limit = byteBuffer.limit();
+		((Buffer)byteBuffer).limit(byteBuffer.capacity());
 		((Buffer)byteBuffer).position(targetOffset * 4);
 		BufferUtils.copy(vertices, sourceOffset, count, byteBuffer);
+		((Buffer)byteBuffer).limit(limit);
 		((Buffer)byteBuffer).position(pos);
 		((Buffer)buffer).position(0);
-		bufferChanged();
+		rangeChanged(targetOffset * 4, (targetOffset + count) * 4);
 	}
 
 	/** Binds this VertexBufferObject for rendering via glDrawArrays or glDrawElements
@@ -231,7 +264,15 @@ public class VertexBufferObjectWithVAO implements VertexData {
 			gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
 			((Buffer)byteBuffer).limit(buffer.limit() * 4);
 			gl.glBufferData(GL20.GL_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
+			uploadedBytes = byteBuffer.limit();
 			isDirty = false;
+			dirtyStart = Integer.MAX_VALUE;
+			dirtyEnd = 0;
+		} else if (dirtyEnd > dirtyStart) {
+			gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
+			bufferSubData(gl, dirtyStart, dirtyEnd);
+			dirtyStart = Integer.MAX_VALUE;
+			dirtyEnd = 0;
 		}
 	}
 
@@ -21,6 +21,7 @@ import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.GlyphLayoutCache;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.CharArray;
@@ -50,6 +51,7 @@ public class Label extends Widget implements Styleable<Label.LabelStyle> {
 	private boolean fontScaleChanged = false;
 	private @Null String ellipsis;
 	private Justify justify = Justify.None;
+	private @Null GlyphLayoutCache layoutCache;
 
 	public Label (@Null CharSequence text, Skin skin) {
 		this(text, skin.get(LabelStyle.class));
@@ -159,9 +161,9 @@ public class Label extends Widget implements Styleable<Label.LabelStyle> {
 				width = Math.max(width, style.background.getMinWidth()) - style.background.getLeftWidth()
 					- style.background.getRightWidth();
 			}
-			layout.setText(cache.getFont(), text, Color.WHITE, width, Align.left, true);
+			layoutText(layout, Color.WHITE, width, Align.left, true, Justify.None, null);
 		} else
-			layout.setText(cache.getFont(), text);
+			layoutText(layout, cache.getFont().getColor(), 0, Align.left, false, Justify.None, null);
 		prefWidth = layout.width;
 		prefHeight = layout.height;
 	}
@@ -195,7 +197,7 @@ public class Label extends Widget implements Styleable<Label.LabelStyle> {
 		float textWidth, textHeight;
 		if (wrap || text.indexOf("\n") != -1) {
 			// If the text can span multiple lines, determine the text's actual size so it can be aligned within the label.
-			layout.setText(font, text, 0, text.size, Color.WHITE, width, lineAlign, wrap, justify, ellipsis);
+			layoutText(layout, Color.WHITE, width, lineAlign, wrap, justify, ellipsis);
 			textWidth = layout.width;
 			textHeight = layout.height;
 
@@ -221,12 +223,24 @@ public class Label extends Widget implements Styleable<Label.LabelStyle> {
 		}
 		if (!cache.getFont().isFlipped()) y += textHeight;
 
-		layout.setText(font, text, 0, text.size, Color.WHITE, textWidth, lineAlign, wrap, justify, ellipsis);
+		layoutText(layout, Color.WHITE, textWidth, lineAlign, wrap, justify, ellipsis);
 		cache.setText(layout, x, y);
 
 		if (fontScaleChanged) font.getData().setScale(oldScaleX, oldScaleY);
 	}
 
+	/** Sets the layout to the text using the {@link #setLayoutCache(GlyphLayoutCache) layout cache} if set. Otherwise, if only the
+	 * end of the text changed since the layout was last set, only the changed characters are laid out again. */
+	private void layoutText (GlyphLayout layout, Color color, float targetWidth, int halign, boolean wrap, Justify justify,
+		@Null String ellipsis) {
+		BitmapFont font = cache.getFont();
+		if (layoutCache != null)
+			layoutCache.setText(layout, font, text, 0, text.size, color, targetWidth, halign, wrap, justify, ellipsis);
+		else if (wrap || ellipsis != null || justify != Justify.None
+			|| !layout.updateText(font, text, 0, text.size, color, targetWidth, halign))
+			layout.setText(font, text, 0, text.size, color, targetWidth, halign, wrap, justify, ellipsis);
+	}
+
 	public void draw (Batch batch, float parentAlpha) {
 		validate();
 		Color color = tempColor.set(getColor());
@@ -266,6 +280,17 @@ public class Label extends Widget implements Styleable<Label.LabelStyle> {
 		return layout;
 	}
 
+	/** Sets a cache of layouts used when the text is laid out, which can be shared by many labels. This is useful when many
+	 * labels show the same text or text changes between a few values. Default is null. */
+	public void setLayoutCache (@Null GlyphLayoutCache layoutCache) {
+		this.layoutCache = layoutCache;
+		invalidateHierarchy();
+	}
+
+	public @Null GlyphLayoutCache getLayoutCache () {
+		return layoutCache;
+	}
+
 	/** If false, the text will only wrap where it contains newlines (\n). The preferred size of the label will be the text bounds.
 	 * If true, the text will word wrap using the width of the label. The preferred width of the label will be 0, it is expected
 	 * that something external will set the width of the label. Wrapping will not occur when ellipsis is enabled. Default is false.
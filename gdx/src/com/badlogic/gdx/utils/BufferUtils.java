@@ -28,6 +28,8 @@ import java.nio.ShortBuffer;
 
 import com.badlogic.gdx.math.Matrix3;
 import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncExecutor.RangeTask;
 
 /** Class with static helper methods to increase the speed of array/direct buffer and direct buffer/direct buffer transfers
  * 
@@ -40,6 +42,9 @@ public final class BufferUtils {
 	static Array<ByteBuffer> unsafeBuffers = new Array<ByteBuffer>();
 	static int allocatedUnsafe = 0;
 
+	/** The maximum number of vectors transformed by one task when ranges are transformed with an {@link AsyncExecutor}. */
+	static public int transformChunkSize = 8192;
+
 	/** Copies numFloats floats from src starting at offset to dst. Dst is assumed to be a direct {@link Buffer}. The method will
 	 * crash if that is not the case. The position and limit of the buffer are ignored, the copy is placed at position 0 in the
 	 * buffer. After the copying process the position of the buffer is set to 0 and its limit is set to numFloats * 4 if it is a
@@ -366,6 +371,69 @@ public final class BufferUtils {
 		}
 	}
 
+	/** Multiplies the float vectors in multiple ranges of the buffer with the specified matrix. The {@link Buffer#position()} is
+	 * added to the offset of each range. When an executor is given, ranges are split into chunks of at most
+	 * {@link #transformChunkSize} vectors which are transformed with {@link AsyncExecutor#parallelFor(int, int, RangeTask)}. The
+	 * method returns when all ranges are transformed. The ranges must not overlap.
+	 * @param data The buffer to transform, must be a direct buffer.
+	 * @param dimensions The number of components of the vector (2 for xy, 3 for xyz or 4 for xyzw)
+	 * @param strideInBytes The offset between the first and the second vector to transform
+	 * @param ranges Pairs of the offset in bytes to the first vector of a range and the number of vectors in the range.
+	 * @param rangeCount The number of ranges.
+	 * @param matrix The matrix to multiply the vectors with
+	 * @param executor May be null to transform all ranges on the calling thread. */
+	public static void transform (Buffer data, int dimensions, int strideInBytes, int[] ranges, int rangeCount, Matrix4 matrix,
+		@Null AsyncExecutor executor) {
+		if (dimensions < 2 || dimensions > 4) throw new IllegalArgumentException();
+		transform(new TransformTask(data, dimensions, strideInBytes, matrix.val, 4), ranges, rangeCount, positionInBytes(data),
+			executor);
+	}
+
+	/** Multiplies the float vectors in multiple ranges of the array with the specified matrix.
+	 * @see #transform(Buffer, int, int, int[], int, Matrix4, AsyncExecutor) */
+	public static void transform (float[] data, int dimensions, int strideInBytes, int[] ranges, int rangeCount, Matrix4 matrix,
+		@Null AsyncExecutor executor) {
+		if (dimensions < 2 || dimensions > 4) throw new IllegalArgumentException();
+		transform(new TransformTask(data, dimensions, strideInBytes, matrix.val, 4), ranges, rangeCount, 0, executor);
+	}
+
+	/** Multiplies the float vectors in multiple ranges of the buffer with the specified matrix.
+	 * @param dimensions The number of components (x, y, z) of the vector (2 for xy or 3 for xyz)
+	 * @see #transform(Buffer, int, int, int[], int, Matrix4, AsyncExecutor) */
+	public static void transform (Buffer data, int dimensions, int strideInBytes, int[] ranges, int rangeCount, Matrix3 matrix,
+		@Null AsyncExecutor executor) {
+		if (dimensions < 2 || dimensions > 3) throw new IllegalArgumentException();
+		transform(new TransformTask(data, dimensions, strideInBytes, matrix.val, 3), ranges, rangeCount, positionInBytes(data),
+			executor);
+	}
+
+	/** Multiplies the float vectors in multiple ranges of the array with the specified matrix.
+	 * @param dimensions The number of components (x, y, z) of the vector (2 for xy or 3 for xyz)
+	 * @see #transform(Buffer, int, int, int[], int, Matrix4, AsyncExecutor) */
+	public static void transform (float[] data, int dimensions, int strideInBytes, int[] ranges, int rangeCount, Matrix3 matrix,
+		@Null AsyncExecutor executor) {
+		if (dimensions < 2 || dimensions > 3) throw new IllegalArgumentException();
+		transform(new TransformTask(data, dimensions, strideInBytes, matrix.val, 3), ranges, rangeCount, 0, executor);
+	}
+
+	private static void transform (TransformTask task, int[] ranges, int rangeCount, int position, @Null AsyncExecutor executor) {
+		IntArray chunks = task.chunks;
+		int chunkSize = executor == null ? Integer.MAX_VALUE : Math.max(1, transformChunkSize);
+		for (int i = 0, n = rangeCount << 1; i < n; i += 2) {
+			int offset = position + ranges[i], count = ranges[i + 1];
+			while (count > 0) {
+				int chunk = Math.min(count, chunkSize);
+				chunks.add(offset, chunk);
+				offset += chunk * task.strideInBytes;
+				count -= chunk;
+			}
+		}
+		if (executor == null)
+			task.run(0, chunks.size >> 1);
+		else
+			executor.parallelFor(chunks.size >> 1, 1, task);
+	}
+
 	public static long findFloats (Buffer vertex, int strideInBytes, Buffer vertices, int numVertices) {
 		return find(vertex, positionInBytes(vertex), strideInBytes, vertices, positionInBytes(vertices), numVertices);
 	}
@@ -746,6 +814,99 @@ public final class BufferUtils {
 		transform<2, 3>((float*)data, strideInBytes / 4, count, (float*)matrix, offsetInBytes / 4);
 	*/
 	
+	/** Transforms ranges of chunks of vectors, so the chunks can be split between threads. */
+	static private class TransformTask implements RangeTask {
+		final Object data;
+		final int dimensions, strideInBytes, matrixSize;
+		final float[] matrix;
+		final IntArray chunks = new IntArray();
+
+		TransformTask (Object data, int dimensions, int strideInBytes, float[] matrix, int matrixSize) {
+			this.data = data;
+			this.dimensions = dimensions;
+			this.strideInBytes = strideInBytes;
+			this.matrix = matrix;
+			this.matrixSize = matrixSize;
+		}
+
+		public void run (int start, int end) {
+			int[] chunks = this.chunks.items;
+			for (int i = start << 1, n = end << 1; i < n; i += 2) {
+				if (data instanceof Buffer)
+					transformJni((Buffer)data, chunks[i + 1], chunks[i]);
+				else
+					transform((float[])data, chunks[i + 1], chunks[i] >> 2);
+			}
+		}
+
+		private void transformJni (Buffer data, int count, int offsetInBytes) {
+			switch (matrixSize * 10 + dimensions) {
+			case 44:
+				transformV4M4Jni(data, strideInBytes, count, matrix, offsetInBytes);
+				break;
+			case 43:
+				transformV3M4Jni(data, strideInBytes, count, matrix, offsetInBytes);
+				break;
+			case 42:
+				transformV2M4Jni(data, strideInBytes, count, matrix, offsetInBytes);
+				break;
+			case 33:
+				transformV3M3Jni(data, strideInBytes, count, matrix, offsetInBytes);
+				break;
+			case 32:
+				transformV2M3Jni(data, strideInBytes, count, matrix, offsetInBytes);
+				break;
+			}
+		}
+
+		/** Java version of the native transform, used for arrays because pinning an array from multiple threads may copy it. */
+		private void transform (float[] v, int count, int offset) {
+			float[] m = matrix;
+			int stride = strideInBytes >> 2;
+			switch (matrixSize * 10 + dimensions) {
+			case 44:
+				for (int i = 0; i < count; i++, offset += stride) {
+					float x = v[offset], y = v[offset + 1], z = v[offset + 2], w = v[offset + 3];
+					v[offset] = x * m[0] + y * m[4] + z * m[8] + w * m[12];
+					v[offset + 1] = x * m[1] + y * m[5] + z * m[9] + w * m[13];
+					v[offset + 2] = x * m[2] + y * m[6] + z * m[10] + w * m[14];
+					v[offset + 3] = x * m[3] + y * m[7] + z * m[11] + w * m[15];
+				}
+				break;
+			case 43:
+				for (int i = 0; i < count; i++, offset += stride) {
+					float x = v[offset], y = v[offset + 1], z = v[offset + 2];
+					v[offset] = x * m[0] + y * m[4] + z * m[8] + m[12];
+					v[offset + 1] = x * m[1] + y * m[5] + z * m[9] + m[13];
+					v[offset + 2] = x * m[2] + y * m[6] + z * m[10] + m[14];
+				}
+				break;
+			case 42:
+				for (int i = 0; i < count; i++, offset += stride) {
+					float x = v[offset], y = v[offset + 1];
+					v[offset] = x * m[0] + y * m[4] + m[12];
+					v[offset + 1] = x * m[1] + y * m[5] + m[13];
+				}
+				break;
+			case 33:
+				for (int i = 0; i < count; i++, offset += stride) {
+					float x = v[offset], y = v[offset + 1], z = v[offset + 2];
+					v[offset] = x * m[0] + y * m[3] + z * m[6];
+					v[offset + 1] = x * m[1] + y * m[4] + z * m[7];
+					v[offset + 2] = x * m[2] + y * m[5] + z * m[8];
+				}
+				break;
+			case 32:
+				for (int i = 0; i < count; i++, offset += stride) {
+					float x = v[offset], y = v[offset + 1];
+					v[offset] = x * m[0] + y * m[3] + m[6];
+					v[offset + 1] = x * m[1] + y * m[4] + m[7];
+				}
+				break;
+			}
+		}
+	}
+
 	private native static long find(Buffer vertex, int vertexOffsetInBytes, int strideInBytes, Buffer vertices, int verticesOffsetInBytes, int numVertices); /*
 		return find((float *)&vertex[vertexOffsetInBytes / 4], (unsigned int)(strideInBytes / 4), (float*)&vertices[verticesOffsetInBytes / 4], (unsigned int)numVertices);
 	*/
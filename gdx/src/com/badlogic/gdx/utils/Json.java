@@ -16,8 +16,10 @@
 
 package com.badlogic.gdx.utils;
 
+import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
@@ -44,9 +46,12 @@ import com.badlogic.gdx.utils.reflect.ReflectionException;
  * @author Nathan Sweet */
 public class Json {
 	static private final boolean debug = false;
+	static private final int kindObject = 0, kindInt = 1, kindShort = 2, kindByte = 3, kindLong = 4, kindFloat = 5, kindDouble = 6,
+		kindBoolean = 7, kindString = 8;
 
 	private JsonWriter writer;
 	private JsonReader reader = new JsonReader();
+	private UBJsonReader ubjsonReader;
 	private String typeName = "class";
 	private boolean usePrototypes = true;
 	private OutputType outputType;
@@ -56,11 +61,14 @@ public class Json {
 	private boolean readDeprecated;
 	private boolean enumNames = true;
 	private boolean sortFields;
+	private boolean cacheFields;
 	private Serializer defaultSerializer;
 	private final ObjectMap<Class, OrderedMap<String, FieldMetadata>> typeToFields = new ObjectMap();
+	private final ObjectMap<Class, FieldMetadata[]> typeToCachedFields = new ObjectMap();
 	private final ObjectMap<String, Class> tagToClass = new ObjectMap();
 	private final ObjectMap<Class, String> classToTag = new ObjectMap();
 	private final ObjectMap<Class, Serializer> classToSerializer = new ObjectMap();
+	private final ObjectMap<Class, FieldAccessor> classToAccessor = new ObjectMap();
 	private final ObjectMap<Class, Object[]> classToDefaultValues = new ObjectMap();
 	private final Object[] equals1 = {null}, equals2 = {null};
 
@@ -146,12 +154,27 @@ public class Json {
 	 * fields. */
 	public <T> void setSerializer (Class<T> type, Serializer<T> serializer) {
 		classToSerializer.put(type, serializer);
+		typeToCachedFields.clear();
 	}
 
 	public <T> Serializer<T> getSerializer (Class<T> type) {
 		return classToSerializer.get(type);
 	}
 
+	/** Registers an accessor which gets and sets the fields declared by the specified type without reflection, usually one
+	 * generated by the gdx-json-processor annotation processor for a class annotated with {@link JsonAccessor}. Fields the
+	 * accessor doesn't list, eg private fields, and fields declared by other classes in the type's hierarchy still use
+	 * reflection. */
+	public <T> void setFieldAccessor (Class<T> type, FieldAccessor<T> accessor) {
+		classToAccessor.put(type, accessor);
+		typeToFields.clear();
+		typeToCachedFields.clear();
+	}
+
+	public @Null <T> FieldAccessor<T> getFieldAccessor (Class<T> type) {
+		return classToAccessor.get(type);
+	}
+
 	/** When true, field values that are identical to a newly constructed instance are not written. Default is true. */
 	public void setUsePrototypes (boolean usePrototypes) {
 		this.usePrototypes = usePrototypes;
@@ -185,6 +208,22 @@ public class Json {
 		this.sortFields = sortFields;
 	}
 
+	/** When true, the fields of each class are cached the first time the class is read or written in a list that stores each
+	 * field's value kind and the field's name quoted for each {@link OutputType}. Reading and writing then avoids looking up each
+	 * field by name, quoting each name, and the generic {@link #writeValue(Object, Class, Class)} and
+	 * {@link #readValue(Class, Class, JsonValue)} handling for primitive, boxed primitive, and string fields. Other fields use
+	 * the generic handling. Field values are accessed using reflection unless a {@link FieldAccessor} is registered with
+	 * {@link #setFieldAccessor(Class, FieldAccessor)}. When reading, the fields are expected in the order they are written, other
+	 * orders work but are slower. The JSON is the same as when false. Default is false. */
+	public void setCacheFields (boolean cacheFields) {
+		this.cacheFields = cacheFields;
+	}
+
+	/** @see #setCacheFields(boolean) */
+	public boolean getCacheFields () {
+		return cacheFields;
+	}
+
 	/** Called to sort the fields for a class. Default implementation sorts alphabetically if {@link #setSortFields(boolean)} is
 	 * true. */
 	protected void sortFields (Class type, Array<String> fieldNames) {
@@ -213,7 +252,11 @@ public class Json {
 			if (field.isStatic()) continue;
 			if (field.isSynthetic()) continue;
 
-			if (!field.isAccessible()) {
+			FieldMetadata metadata = new FieldMetadata(field);
+			FieldAccessor accessor = classToAccessor.get(field.getDeclaringClass());
+			if (accessor != null) metadata.setAccessor(accessor);
+
+			if (metadata.accessor == null && !field.isAccessible()) {
 				try {
 					field.setAccessible(true);
 				} catch (RuntimeException ex) {
@@ -221,13 +264,43 @@ public class Json {
 				}
 			}
 
-			nameToField.put(field.getName(), new FieldMetadata(field));
+			nameToField.put(field.getName(), metadata);
 		}
 		sortFields(type, nameToField.keys);
 		typeToFields.put(type, nameToField);
 		return nameToField;
 	}
 
+	private FieldMetadata[] getCachedFields (Class type) {
+		FieldMetadata[] cached = typeToCachedFields.get(type);
+		if (cached != null) return cached;
+
+		OrderedMap<String, FieldMetadata> fields = getFields(type);
+		Array<String> fieldNames = fields.orderedKeys();
+		cached = new FieldMetadata[fieldNames.size];
+		for (int i = 0, n = fieldNames.size; i < n; i++) {
+			FieldMetadata metadata = fields.get(fieldNames.get(i));
+			metadata.index = i;
+			Class fieldType = metadata.field.getType();
+			metadata.kind = classToSerializer.containsKey(fieldType) ? kindObject : kind(fieldType);
+			cached[i] = metadata;
+		}
+		typeToCachedFields.put(type, cached);
+		return cached;
+	}
+
+	static private int kind (Class type) {
+		if (type == int.class || type == Integer.class) return kindInt;
+		if (type == float.class || type == Float.class) return kindFloat;
+		if (type == String.class) return kindString;
+		if (type == boolean.class || type == Boolean.class) return kindBoolean;
+		if (type == long.class || type == Long.class) return kindLong;
+		if (type == double.class || type == Double.class) return kindDouble;
+		if (type == short.class || type == Short.class) return kindShort;
+		if (type == byte.class || type == Byte.class) return kindByte;
+		return kindObject;
+	}
+
 	public String toJson (@Null Object object) {
 		return toJson(object, object == null ? null : object.getClass(), (Class)null);
 	}
@@ -288,6 +361,42 @@ public class Json {
 		}
 	}
 
+	/** Writes the object as UBJSON directly to the file.
+	 * @see #toUBJson(Object, Class, Class, OutputStream) */
+	public void toUBJson (@Null Object object, FileHandle file) {
+		OutputStream output = null;
+		try {
+			output = file.write(false, 8192);
+			toUBJson(object, object == null ? null : object.getClass(), null, output);
+		} catch (Exception ex) {
+			throw new SerializationException("Error writing file: " + file, ex);
+		} finally {
+			StreamUtils.closeQuietly(output);
+		}
+	}
+
+	/** @see #toUBJson(Object, Class, Class, OutputStream) */
+	public void toUBJson (@Null Object object, OutputStream output) {
+		toUBJson(object, object == null ? null : object.getClass(), null, output);
+	}
+
+	/** Writes the object as UBJSON directly to the stream, without first writing JSON or building {@link JsonValue} objects. The
+	 * object is written the same as {@link #toJson(Object, Class, Class, Writer)}, except values are written using their binary
+	 * UBJSON types. {@link Serializable} and {@link Serializer} implementations are used as usual, they write to a
+	 * {@link JsonWriter} which outputs UBJSON. The stream is closed, for best performance it should be buffered.
+	 * @param knownType May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown.
+	 * @see #fromUBJson(Class, Class, InputStream) */
+	public void toUBJson (@Null Object object, @Null Class knownType, @Null Class elementType, OutputStream output) {
+		setWriter(new UBJsonAdapter(new UBJsonWriter(output)));
+		try {
+			writeValue(object, knownType, elementType);
+		} finally {
+			StreamUtils.closeQuietly(this.writer);
+			this.writer = null;
+		}
+	}
+
 	/** Sets the writer where JSON output will be written. This is only necessary when not using the toJson methods. */
 	public void setWriter (Writer writer) {
 		if (!(writer instanceof JsonWriter)) writer = new JsonWriter(writer);
@@ -316,14 +425,17 @@ public class Json {
 		Object[] defaultValues = getDefaultValues(type);
 
 		OrderedMap<String, FieldMetadata> fields = getFields(type);
+		FieldMetadata[] cached = cacheFields ? getCachedFields(type) : null;
+		// A JsonWriter subclass may override name() or value(), so only an exact JsonWriter is written to directly.
+		boolean direct = cached != null && writer.getClass() == JsonWriter.class;
 		int defaultIndex = 0;
 		Array<String> fieldNames = fields.orderedKeys();
 		for (int i = 0, n = fieldNames.size; i < n; i++) {
-			FieldMetadata metadata = fields.get(fieldNames.get(i));
+			FieldMetadata metadata = cached != null ? cached[i] : fields.get(fieldNames.get(i));
 			if (ignoreDeprecated && metadata.deprecated) continue;
 			Field field = metadata.field;
 			try {
-				Object value = field.get(object);
+				Object value = metadata.get(object);
 				if (defaultValues != null) {
 					Object defaultValue = defaultValues[defaultIndex++];
 					if (value == null && defaultValue == null) continue;
@@ -338,7 +450,14 @@ public class Json {
 				}
 
 				if (debug) System.out.println("Writing field: " + field.getName() + " (" + type.getName() + ")");
-				writer.name(field.getName());
+				if (direct) {
+					writer.quotedName(metadata.quotedName(writer.getOutputType()));
+					if (metadata.kind != kindObject) {
+						writeCachedValue(value, metadata.kind);
+						continue;
+					}
+				} else
+					writer.name(field.getName());
 				writeValue(value, field.getType(), metadata.elementType);
 			} catch (ReflectionException ex) {
 				throw new SerializationException("Error accessing field: " + field.getName() + " (" + type.getName() + ")", ex);
@@ -353,6 +472,30 @@ public class Json {
 		}
 	}
 
+	/** Writes a primitive or string field value the same as {@link JsonWriter#value(Object)}. */
+	private void writeCachedValue (@Null Object value, int kind) throws IOException {
+		if (value != null) {
+			switch (kind) {
+			case kindDouble:
+			case kindFloat:
+				if (kind == kindDouble && quoteLongValues) break;
+				double number = ((Number)value).doubleValue();
+				long longValue = (long)number;
+				writer.json(number == longValue ? Long.toString(longValue) : value.toString());
+				return;
+			case kindLong:
+			case kindInt:
+			case kindShort:
+			case kindByte:
+			case kindBoolean:
+				if (kind == kindLong && quoteLongValues) break;
+				writer.json(value.toString());
+				return;
+			}
+		}
+		writer.value(value);
+	}
+
 	private @Null Object[] getDefaultValues (Class type) {
 		if (!usePrototypes) return null;
 		if (classToDefaultValues.containsKey(type)) return classToDefaultValues.get(type);
@@ -375,7 +518,7 @@ public class Json {
 			if (ignoreDeprecated && metadata.deprecated) continue;
 			Field field = metadata.field;
 			try {
-				values[defaultIndex++] = field.get(object);
+				values[defaultIndex++] = metadata.get(object);
 			} catch (ReflectionException ex) {
 				throw new SerializationException("Error accessing field: " + field.getName() + " (" + type.getName() + ")", ex);
 			} catch (SerializationException ex) {
@@ -417,7 +560,7 @@ public class Json {
 		try {
 			if (debug) System.out.println("Writing field: " + field.getName() + " (" + type.getName() + ")");
 			writer.name(jsonName);
-			writeValue(field.get(object), field.getType(), elementType);
+			writeValue(metadata.get(object), field.getType(), elementType);
 		} catch (ReflectionException ex) {
 			throw new SerializationException("Error accessing field: " + field.getName() + " (" + type.getName() + ")", ex);
 		} catch (SerializationException ex) {
@@ -854,6 +997,426 @@ public class Json {
 		return readValue(type, elementType, this.reader.parse(json));
 	}
 
+	/** @param type May be null if the type is unknown.
+	 * @return May be null.
+	 * @see #fromUBJson(Class, Class, InputStream) */
+	public @Null <T> T fromUBJson (Class<T> type, FileHandle file) {
+		try {
+			return fromUBJson(type, null, file.read(8192));
+		} catch (Exception ex) {
+			throw new SerializationException("Error reading file: " + file, ex);
+		}
+	}
+
+	/** @param type May be null if the type is unknown.
+	 * @return May be null.
+	 * @see #fromUBJson(Class, Class, InputStream) */
+	public @Null <T> T fromUBJson (Class<T> type, InputStream input) {
+		return fromUBJson(type, null, input);
+	}
+
+	/** Reads UBJSON written by {@link #toUBJson(Object, Class, Class, OutputStream)} or {@link UBJsonWriter}. The stream is
+	 * closed, for best performance it should be buffered.
+	 * <p>
+	 * Values are read from the stream directly into the objects, arrays, collections and maps they are read as, without building
+	 * {@link JsonValue} objects. The class of an object must be its first field, as written by toUBJson. {@link JsonValue}
+	 * objects are only built for values read by a {@link Serializer} or {@link Serializable}, for objects read without a known
+	 * type, and for unknown fields passed to {@link #ignoreUnknownField(Object, JsonValue)}.
+	 * @param type May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown.
+	 * @return May be null. */
+	public @Null <T> T fromUBJson (Class<T> type, Class elementType, InputStream input) {
+		if (ubjsonReader == null) {
+			ubjsonReader = new UBJsonReader();
+			ubjsonReader.oldFormat = false;
+		}
+		DataInputStream din = new DataInputStream(input);
+		try {
+			return (T)readUBJson(type, elementType, din, din.readByte());
+		} catch (IOException ex) {
+			throw new SerializationException(ex);
+		} finally {
+			StreamUtils.closeQuietly(din);
+		}
+	}
+
+	/** Reads a UBJSON value the same as {@link #readValue(Class, Class, JsonValue)}.
+	 * @param marker The type marker of the value, which has already been read. */
+	private @Null Object readUBJson (@Null Class type, @Null Class elementType, DataInputStream input, byte marker)
+		throws IOException {
+		if (marker == '{') return readUBJsonObject(type, elementType, input);
+		if (type != null && (classToSerializer.get(type) != null || ClassReflection.isAssignableFrom(Serializable.class, type)))
+			return readValue(type, elementType, ubjsonReader.parse(input, marker));
+		switch (marker) {
+		case '[':
+			return readUBJsonArray(type, elementType, input);
+		case 'Z':
+			return null;
+		case 'T':
+		case 'F':
+			if (type == null || type == boolean.class || type == Boolean.class) return marker == 'T';
+			return readString(type, marker == 'T' ? "true" : "false", null);
+		case 's':
+		case 'S':
+			return readString(type, ubjsonReader.parseString(input, marker), null);
+		case 'B':
+		case 'U':
+			return readNumber(type, input.readByte() & 0xff, 0, true);
+		case 'i':
+			return readNumber(type, input.readByte(), 0, true);
+		case 'I':
+			return readNumber(type, input.readShort(), 0, true);
+		case 'l':
+			return readNumber(type, input.readInt(), 0, true);
+		case 'L':
+			return readNumber(type, input.readLong(), 0, true);
+		case 'C':
+			return readNumber(type, input.readChar(), 0, true);
+		case 'd':
+			return readNumber(type, 0, input.readFloat(), false);
+		case 'D':
+			return readNumber(type, 0, input.readDouble(), false);
+		}
+		// Typed data blocks.
+		return readValue(type, elementType, ubjsonReader.parse(input, marker));
+	}
+
+	/** Reads a UBJSON array after its start marker the same as {@link #readValue(Class, Class, JsonValue)}. */
+	private Object readUBJsonArray (@Null Class type, @Null Class elementType, DataInputStream input) throws IOException {
+		if (type == null || type == Object.class) type = Array.class;
+		UBJsonContainer array = new UBJsonContainer(ubjsonReader, input, false);
+		if (ClassReflection.isAssignableFrom(Array.class, type)) {
+			Array result = type == Array.class ? new Array() : (Array)newInstance(type);
+			for (; array.hasNext(); array.next())
+				result.add(readUBJson(elementType, null, input, array.marker));
+			return result;
+		}
+		if (ClassReflection.isAssignableFrom(Queue.class, type)) {
+			Queue result = type == Queue.class ? new Queue() : (Queue)newInstance(type);
+			for (; array.hasNext(); array.next())
+				result.addLast(readUBJson(elementType, null, input, array.marker));
+			return result;
+		}
+		if (ClassReflection.isAssignableFrom(Collection.class, type)) {
+			Collection result = type.isInterface() ? new ArrayList() : (Collection)newInstance(type);
+			for (; array.hasNext(); array.next())
+				result.add(readUBJson(elementType, null, input, array.marker));
+			return result;
+		}
+		if (type.isArray()) {
+			Class componentType = type.getComponentType();
+			if (elementType == null) elementType = componentType;
+			if (array.size != -1) {
+				Object result = ArrayReflection.newInstance(componentType, array.size);
+				for (int i = 0; array.hasNext(); array.next())
+					ArrayReflection.set(result, i++, readUBJson(elementType, null, input, array.marker));
+				return result;
+			}
+			Array items = new Array();
+			for (; array.hasNext(); array.next())
+				items.add(readUBJson(elementType, null, input, array.marker));
+			Object result = ArrayReflection.newInstance(componentType, items.size);
+			for (int i = 0; i < items.size; i++)
+				ArrayReflection.set(result, i, items.get(i));
+			return result;
+		}
+		throw new SerializationException("Unable to convert value to required type: array (" + type.getName() + ")");
+	}
+
+	/** Reads a UBJSON object after its start marker the same as {@link #readValue(Class, Class, JsonValue)}. */
+	private @Null Object readUBJsonObject (@Null Class type, @Null Class elementType, DataInputStream input) throws IOException {
+		UBJsonContainer object = new UBJsonContainer(ubjsonReader, input, true);
+		String className = null;
+		if (typeName != null && object.hasNext() && object.peekKey().equals(typeName)) {
+			object.key();
+			className = (String)readUBJson(String.class, null, input, object.valueMarker());
+			object.next();
+			if (className != null) {
+				type = getClass(className);
+				if (type == null) {
+					try {
+						type = ClassReflection.forName(className);
+					} catch (ReflectionException ex) {
+						throw new SerializationException(ex);
+					}
+				}
+			}
+		}
+
+		if (type == null) {
+			JsonValue jsonData = parseUBJsonObject(object, className, input);
+			if (defaultSerializer != null) return defaultSerializer.read(this, jsonData, type);
+			return jsonData;
+		}
+
+		if (typeName != null && ClassReflection.isAssignableFrom(Collection.class, type)) {
+			// JSON object wrapper to specify type.
+			Object items = null;
+			boolean found = false;
+			for (; object.hasNext(); object.next()) {
+				if (object.key().equals("items")) {
+					items = readUBJson(type, elementType, input, object.valueMarker());
+					found = true;
+				} else
+					skipUBJson(input, object.valueMarker());
+			}
+			if (!found) throw new SerializationException("Unable to convert object to collection: " + type.getName());
+			return items;
+		}
+
+		Serializer serializer = classToSerializer.get(type);
+		if (serializer != null) return serializer.read(this, parseUBJsonObject(object, className, input), type);
+
+		if (type == String.class || type == Integer.class || type == Boolean.class || type == Float.class || type == Long.class
+			|| type == Double.class || type == Short.class || type == Byte.class || type == Character.class
+			|| ClassReflection.isAssignableFrom(Enum.class, type)) {
+			Object value = null;
+			for (; object.hasNext(); object.next()) {
+				if (object.key().equals("value"))
+					value = readUBJson(type, null, input, object.valueMarker());
+				else
+					skipUBJson(input, object.valueMarker());
+			}
+			return value;
+		}
+
+		Object result = newInstance(type);
+
+		if (result instanceof Serializable) {
+			((Serializable)result).read(this, parseUBJsonObject(object, className, input));
+			return result;
+		}
+
+		// JSON object special cases.
+		if (result instanceof ObjectMap) {
+			ObjectMap map = (ObjectMap)result;
+			for (; object.hasNext(); object.next())
+				map.put(object.key(), readUBJson(elementType, null, input, object.valueMarker()));
+			return map;
+		}
+		if (result instanceof ObjectIntMap) {
+			ObjectIntMap map = (ObjectIntMap)result;
+			for (; object.hasNext(); object.next())
+				map.put(object.key(), (Integer)readUBJson(Integer.class, null, input, object.valueMarker()));
+			return map;
+		}
+		if (result instanceof ObjectFloatMap) {
+			ObjectFloatMap map = (ObjectFloatMap)result;
+			for (; object.hasNext(); object.next())
+				map.put(object.key(), (Float)readUBJson(Float.class, null, input, object.valueMarker()));
+			return map;
+		}
+		if (result instanceof ObjectSet) {
+			ObjectSet set = (ObjectSet)result;
+			for (; object.hasNext(); object.next()) {
+				String key = object.key();
+				byte marker = object.valueMarker();
+				if (!key.equals("values") || marker != '[') {
+					skipUBJson(input, marker);
+					continue;
+				}
+				for (UBJsonContainer values = new UBJsonContainer(ubjsonReader, input, false); values.hasNext(); values.next())
+					set.add(readUBJson(elementType, null, input, values.marker));
+			}
+			return set;
+		}
+		if (result instanceof IntMap) {
+			IntMap map = (IntMap)result;
+			for (; object.hasNext(); object.next())
+				map.put(Integer.parseInt(object.key()), readUBJson(elementType, null, input, object.valueMarker()));
+			return map;
+		}
+		if (result instanceof LongMap) {
+			LongMap map = (LongMap)result;
+			for (; object.hasNext(); object.next())
+				map.put(Long.parseLong(object.key()), readUBJson(elementType, null, input, object.valueMarker()));
+			return map;
+		}
+		if (result instanceof IntSet) {
+			IntSet set = (IntSet)result;
+			for (; object.hasNext(); object.next()) {
+				String key = object.key();
+				byte marker = object.valueMarker();
+				if (!key.equals("values") || marker != '[') {
+					skipUBJson(input, marker);
+					continue;
+				}
+				for (UBJsonContainer values = new UBJsonContainer(ubjsonReader, input, false); values.hasNext(); values.next())
+					set.add((Integer)readUBJson(Integer.class, null, input, values.marker));
+			}
+			return set;
+		}
+		if (result instanceof ArrayMap) {
+			ArrayMap map = (ArrayMap)result;
+			for (; object.hasNext(); object.next())
+				map.put(object.key(), readUBJson(elementType, null, input, object.valueMarker()));
+			return map;
+		}
+		if (result instanceof Map) {
+			Map map = (Map)result;
+			for (; object.hasNext(); object.next()) {
+				String key = object.key();
+				if (key.equals(typeName))
+					skipUBJson(input, object.valueMarker());
+				else
+					map.put(key, readUBJson(elementType, null, input, object.valueMarker()));
+			}
+			return map;
+		}
+
+		readUBJsonFields(result, object, input);
+		return result;
+	}
+
+	/** Reads the remaining fields of a UBJSON object the same as {@link #readFields(Object, JsonValue)}. */
+	private void readUBJsonFields (Object object, UBJsonContainer jsonMap, DataInputStream input) throws IOException {
+		Class type = object.getClass();
+		OrderedMap<String, FieldMetadata> fields = getFields(type);
+		FieldMetadata[] cached = cacheFields ? getCachedFields(type) : null;
+		int next = 0;
+		for (; jsonMap.hasNext(); jsonMap.next()) {
+			String name = jsonMap.key();
+			byte marker = jsonMap.valueMarker();
+			FieldMetadata metadata;
+			if (cached != null && next < cached.length && cached[next].field.getName().equals(name)) {
+				// The fields are usually in the order they were written.
+				metadata = cached[next++];
+			} else {
+				metadata = fields.get(name.replace(" ", "_"));
+				if (cached != null && metadata != null) next = metadata.index + 1;
+			}
+			if (metadata == null) {
+				if (name.equals(typeName)) {
+					skipUBJson(input, marker);
+					continue;
+				}
+				if (ignoreUnknownFields) {
+					if (debug) System.out.println("Ignoring unknown field: " + name + " (" + type.getName() + ")");
+					skipUBJson(input, marker);
+					continue;
+				}
+				JsonValue value = ubjsonReader.parse(input, marker);
+				value.name = name;
+				if (ignoreUnknownField(object, value)) continue;
+				SerializationException ex = new SerializationException("Field not found: " + name + " (" + type.getName() + ")");
+				ex.addTrace(value.trace());
+				throw ex;
+			}
+			if (ignoreDeprecated && !readDeprecated && metadata.deprecated) {
+				skipUBJson(input, marker);
+				continue;
+			}
+			Field field = metadata.field;
+			try {
+				metadata.set(object, readUBJson(field.getType(), metadata.elementType, input, marker));
+			} catch (ReflectionException ex) {
+				throw new SerializationException("Error accessing field: " + field.getName() + " (" + type.getName() + ")", ex);
+			} catch (SerializationException ex) {
+				ex.addTrace(field.getName() + " (" + type.getName() + ")");
+				throw ex;
+			} catch (RuntimeException runtimeEx) {
+				SerializationException ex = new SerializationException(runtimeEx);
+				ex.addTrace(field.getName() + " (" + type.getName() + ")");
+				throw ex;
+			}
+		}
+	}
+
+	/** Builds a {@link JsonValue} for the remaining fields of a UBJSON object, for reading it with a {@link Serializer} or
+	 * {@link Serializable}.
+	 * @param className May be null if the object's class was not written. */
+	private JsonValue parseUBJsonObject (UBJsonContainer object, @Null String className, DataInputStream input)
+		throws IOException {
+		JsonValue jsonData = new JsonValue(JsonValue.ValueType.object);
+		if (className != null) jsonData.addChild(typeName, new JsonValue(className));
+		for (; object.hasNext(); object.next())
+			jsonData.addChild(object.key(), ubjsonReader.parse(input, object.valueMarker()));
+		return jsonData;
+	}
+
+	/** Reads a UBJSON value without keeping it.
+	 * @param marker The type marker of the value, which has already been read. */
+	private void skipUBJson (DataInputStream input, byte marker) throws IOException {
+		switch (marker) {
+		case '{':
+		case '[':
+			boolean object = marker == '{';
+			for (UBJsonContainer container = new UBJsonContainer(ubjsonReader, input, object); container.hasNext(); container.next()) {
+				if (object) container.key();
+				skipUBJson(input, object ? container.valueMarker() : container.marker);
+			}
+			return;
+		case 'Z':
+		case 'T':
+		case 'F':
+			return;
+		case 'B':
+		case 'U':
+		case 'i':
+			input.readByte();
+			return;
+		case 'I':
+		case 'C':
+			input.readShort();
+			return;
+		case 'l':
+		case 'd':
+			input.readInt();
+			return;
+		case 'L':
+		case 'D':
+			input.readLong();
+			return;
+		case 's':
+		case 'S':
+			ubjsonReader.parseString(input, marker);
+			return;
+		}
+		ubjsonReader.parse(input, marker);
+	}
+
+	/** Converts a number the same as {@link #readValue(Class, Class, JsonValue)}.
+	 * @param isLong If true longValue is used, else doubleValue. */
+	private Object readNumber (@Null Class type, long longValue, double doubleValue, boolean isLong) {
+		if (type == null || type == float.class || type == Float.class) return isLong ? (float)longValue : (float)doubleValue;
+		if (type == int.class || type == Integer.class) return isLong ? (int)longValue : (int)doubleValue;
+		if (type == long.class || type == Long.class) return isLong ? longValue : (long)doubleValue;
+		if (type == double.class || type == Double.class) return isLong ? (double)longValue : doubleValue;
+		String string = isLong ? Long.toString(longValue) : Double.toString(doubleValue);
+		if (type == String.class) return string;
+		if (type == short.class || type == Short.class) return isLong ? (short)longValue : (short)doubleValue;
+		if (type == byte.class || type == Byte.class) return isLong ? (byte)longValue : (byte)doubleValue;
+		if (type == char.class || type == Character.class) return isLong ? (char)longValue : (char)doubleValue;
+		return readString(type, string, null);
+	}
+
+	/** Converts a string the same as {@link #readValue(Class, Class, JsonValue)}.
+	 * @param jsonData May be null, used for the exception message. */
+	private Object readString (@Null Class type, String string, @Null JsonValue jsonData) {
+		if (type == null || type == String.class) return string;
+		try {
+			if (type == int.class || type == Integer.class) return Integer.valueOf(string);
+			if (type == float.class || type == Float.class) return Float.valueOf(string);
+			if (type == long.class || type == Long.class) return Long.valueOf(string);
+			if (type == double.class || type == Double.class) return Double.valueOf(string);
+			if (type == short.class || type == Short.class) return Short.valueOf(string);
+			if (type == byte.class || type == Byte.class) return Byte.valueOf(string);
+		} catch (NumberFormatException ignored) {
+		}
+		if (type == boolean.class || type == Boolean.class) return Boolean.valueOf(string);
+		if (type == char.class || type == Character.class) return (Character)string.charAt(0);
+		if (ClassReflection.isAssignableFrom(Enum.class, type)) {
+			Enum[] constants = (Enum[])type.getEnumConstants();
+			for (int i = 0, n = constants.length; i < n; i++) {
+				Enum e = constants[i];
+				if (string.equals(convertToString(e))) return e;
+			}
+		}
+		if (type == CharSequence.class) return string;
+		throw new SerializationException(
+			"Unable to convert value to required type: " + (jsonData != null ? jsonData : string) + " (" + type.getName() + ")");
+	}
+
 	public void readField (Object object, String name, JsonValue jsonData) {
 		readField(object, name, name, null, jsonData);
 	}
@@ -900,8 +1463,17 @@ public class Json {
 	public void readFields (Object object, JsonValue jsonMap) {
 		Class type = object.getClass();
 		OrderedMap<String, FieldMetadata> fields = getFields(type);
+		FieldMetadata[] cached = cacheFields ? getCachedFields(type) : null;
+		int next = 0;
 		for (JsonValue child = jsonMap.child; child != null; child = child.next) {
-			FieldMetadata metadata = fields.get(child.name().replace(" ", "_"));
+			FieldMetadata metadata;
+			if (cached != null && next < cached.length && cached[next].field.getName().equals(child.name)) {
+				// The fields are usually in the order they were written.
+				metadata = cached[next++];
+			} else {
+				metadata = fields.get(child.name().replace(" ", "_"));
+				if (cached != null && metadata != null) next = metadata.index + 1;
+			}
 			if (metadata == null) {
 				if (child.name.equals(typeName)) continue;
 				if (ignoreUnknownFields || ignoreUnknownField(object, child)) {
@@ -918,7 +1490,10 @@ public class Json {
 			}
 			Field field = metadata.field;
 			try {
-				field.set(object, readValue(field.getType(), metadata.elementType, child));
+				if (cached != null && metadata.kind != kindObject)
+					metadata.set(object, readCachedValue(metadata, child));
+				else
+					metadata.set(object, readValue(field.getType(), metadata.elementType, child));
 			} catch (ReflectionException ex) {
 				throw new SerializationException("Error accessing field: " + field.getName() + " (" + type.getName() + ")", ex);
 			} catch (SerializationException ex) {
@@ -933,6 +1508,37 @@ public class Json {
 		}
 	}
 
+	/** Reads a primitive or string field value the same as {@link #readValue(Class, Class, JsonValue)}. */
+	private @Null Object readCachedValue (FieldMetadata metadata, JsonValue jsonData) {
+		switch (metadata.kind) {
+		case kindInt:
+			if (jsonData.isNumber()) return jsonData.asInt();
+			break;
+		case kindFloat:
+			if (jsonData.isNumber()) return jsonData.asFloat();
+			break;
+		case kindString:
+			if (jsonData.isString()) return jsonData.asString();
+			break;
+		case kindBoolean:
+			if (jsonData.isBoolean()) return jsonData.asBoolean();
+			break;
+		case kindLong:
+			if (jsonData.isNumber()) return jsonData.asLong();
+			break;
+		case kindDouble:
+			if (jsonData.isNumber()) return jsonData.asDouble();
+			break;
+		case kindShort:
+			if (jsonData.isNumber()) return jsonData.asShort();
+			break;
+		case kindByte:
+			if (jsonData.isNumber()) return jsonData.asByte();
+			break;
+		}
+		return readValue(metadata.field.getType(), metadata.elementType, jsonData);
+	}
+
 	/** Called for each unknown field name encountered by {@link #readFields(Object, JsonValue)} when {@link #ignoreUnknownFields}
 	 * is false to determine whether the unknown field name should be ignored.
 	 * @param object The object whose fields are being read.
@@ -1163,30 +1769,7 @@ public class Json {
 			jsonData = new JsonValue(jsonData.asString());
 		}
 
-		if (jsonData.isString()) {
-			String string = jsonData.asString();
-			if (type == null || type == String.class) return (T)string;
-			try {
-				if (type == int.class || type == Integer.class) return (T)Integer.valueOf(string);
-				if (type == float.class || type == Float.class) return (T)Float.valueOf(string);
-				if (type == long.class || type == Long.class) return (T)Long.valueOf(string);
-				if (type == double.class || type == Double.class) return (T)Double.valueOf(string);
-				if (type == short.class || type == Short.class) return (T)Short.valueOf(string);
-				if (type == byte.class || type == Byte.class) return (T)Byte.valueOf(string);
-			} catch (NumberFormatException ignored) {
-			}
-			if (type == boolean.class || type == Boolean.class) return (T)Boolean.valueOf(string);
-			if (type == char.class || type == Character.class) return (T)(Character)string.charAt(0);
-			if (ClassReflection.isAssignableFrom(Enum.class, type)) {
-				Enum[] constants = (Enum[])type.getEnumConstants();
-				for (int i = 0, n = constants.length; i < n; i++) {
-					Enum e = constants[i];
-					if (string.equals(convertToString(e))) return (T)e;
-				}
-			}
-			if (type == CharSequence.class) return (T)string;
-			throw new SerializationException("Unable to convert value to required type: " + jsonData + " (" + type.getName() + ")");
-		}
+		if (jsonData.isString()) return (T)readString(type, jsonData.asString(), jsonData);
 
 		return null;
 	}
@@ -1198,12 +1781,12 @@ public class Json {
 		OrderedMap<String, FieldMetadata> toFields = getFields(to.getClass());
 		for (ObjectMap.Entry<String, FieldMetadata> entry : getFields(from.getClass())) {
 			FieldMetadata toField = toFields.get(entry.key);
-			Field fromField = entry.value.field;
+			FieldMetadata fromField = entry.value;
 			if (toField == null) throw new SerializationException("To object is missing field: " + entry.key);
 			try {
-				toField.field.set(to, fromField.get(from));
+				toField.set(to, fromField.get(from));
 			} catch (ReflectionException ex) {
-				throw new SerializationException("Error copying field: " + fromField.getName(), ex);
+				throw new SerializationException("Error copying field: " + fromField.field.getName(), ex);
 			}
 		}
 	}
@@ -1274,6 +1857,10 @@ public class Json {
 		final Field field;
 		Class elementType;
 		boolean deprecated;
+		int index, kind;
+		final String[] quotedNames = new String[OutputType.values().length];
+		@Null FieldAccessor accessor;
+		int accessorIndex;
 
 		public FieldMetadata (Field field) {
 			this.field = field;
@@ -1282,6 +1869,409 @@ public class Json {
 			this.elementType = field.getElementType(index);
 			deprecated = field.isAnnotationPresent(Deprecated.class);
 		}
+
+		/** Uses the accessor for this field if it lists the field's name. */
+		void setAccessor (FieldAccessor accessor) {
+			String[] names = accessor.getFieldNames();
+			for (int i = 0; i < names.length; i++) {
+				if (names[i].equals(field.getName())) {
+					this.accessor = accessor;
+					accessorIndex = i;
+					return;
+				}
+			}
+		}
+
+		@Null Object get (Object object) throws ReflectionException {
+			if (accessor != null) return accessor.get(object, accessorIndex);
+			return field.get(object);
+		}
+
+		void set (Object object, @Null Object value) throws ReflectionException {
+			if (accessor != null)
+				accessor.set(object, accessorIndex, value);
+			else
+				field.set(object, value);
+		}
+
+		String quotedName (OutputType outputType) {
+			String quotedName = quotedNames[outputType.ordinal()];
+			if (quotedName == null) {
+				quotedName = outputType.quoteName(field.getName());
+				quotedNames[outputType.ordinal()] = quotedName;
+			}
+			return quotedName;
+		}
+	}
+
+	/** Steps through the entries of a UBJSON object or array, leaving each value in the stream for the caller to read. */
+	static private class UBJsonContainer {
+		final UBJsonReader reader;
+		final DataInputStream input;
+		final boolean object;
+		byte valueType, marker;
+		int size = -1, count;
+		@Null String key;
+
+		/** Reads the optimized container header, if any. The container's start marker has already been read. */
+		UBJsonContainer (UBJsonReader reader, DataInputStream input, boolean object) throws IOException {
+			this.reader = reader;
+			this.input = input;
+			this.object = object;
+			marker = input.readByte();
+			if (marker == '$') {
+				valueType = input.readByte();
+				marker = input.readByte();
+			}
+			if (marker == '#') {
+				size = (int)reader.parseSize(input, false, -1);
+				if (size < 0) throw new SerializationException("Invalid UBJSON container size.");
+				if (size == 0)
+					marker = end();
+				else
+					marker = object || valueType == 0 ? input.readByte() : valueType;
+			}
+		}
+
+		boolean hasNext () {
+			return marker != end();
+		}
+
+		/** Returns the name of the current object entry without consuming it. */
+		String peekKey () throws IOException {
+			if (key == null) key = reader.parseString(input, true, marker);
+			return key;
+		}
+
+		String key () throws IOException {
+			String key = peekKey();
+			this.key = null;
+			return key;
+		}
+
+		/** Returns the type marker of the current object entry's value, after its name has been read. For arrays the marker is
+		 * {@link #marker}. */
+		byte valueMarker () throws IOException {
+			return valueType != 0 ? valueType : input.readByte();
+		}
+
+		/** Moves to the next entry, after the current value has been read. */
+		void next () throws IOException {
+			if (++count == size)
+				marker = end();
+			else
+				marker = object || valueType == 0 ? input.readByte() : valueType;
+		}
+
+		private byte end () {
+			return object ? (byte)'}' : (byte)']';
+		}
+	}
+
+	/** Writes the output of the {@link JsonWriter} methods used by {@link Json} as UBJSON. Like {@link JsonWriter#value(Object)},
+	 * numbers without a fractional part are written as integers, using the smallest integer type that holds the value. JSON text
+	 * written directly, eg by a {@link Serializer} using {@link Json#getWriter()}, is converted as it is written: each name,
+	 * value and bracket is written as UBJSON as soon as it ends, without parsing the text into {@link JsonValue} objects. */
+	static private class UBJsonAdapter extends JsonWriter {
+		private final UBJsonWriter ubjson;
+		private final BooleanArray objects = new BooleanArray();
+		private boolean named;
+		private final CharArray token = new CharArray();
+		private boolean quoted, escaped;
+		private int unicode = -1, unicodeValue;
+
+		UBJsonAdapter (UBJsonWriter ubjson) {
+			this.ubjson = ubjson;
+		}
+
+		public JsonWriter object () throws IOException {
+			requireValue();
+			objects.add(true);
+			ubjson.object();
+			return this;
+		}
+
+		public JsonWriter array () throws IOException {
+			requireValue();
+			objects.add(false);
+			ubjson.array();
+			return this;
+		}
+
+		public JsonWriter object (String name) throws IOException {
+			requireValue();
+			objects.add(true);
+			ubjson.object(name);
+			return this;
+		}
+
+		public JsonWriter array (String name) throws IOException {
+			requireValue();
+			objects.add(false);
+			ubjson.array(name);
+			return this;
+		}
+
+		public JsonWriter name (String name) throws IOException {
+			endText();
+			ubjson.name(name);
+			named = true;
+			return this;
+		}
+
+		public JsonWriter value (@Null Object value) throws IOException {
+			requireValue();
+			if (value == null)
+				ubjson.value();
+			else if (value instanceof Boolean)
+				ubjson.value(((Boolean)value).booleanValue());
+			else if (value instanceof Float || value instanceof Double) {
+				double number = ((Number)value).doubleValue();
+				long longValue = (long)number;
+				if (number == longValue)
+					value(longValue);
+				else if (value instanceof Float)
+					ubjson.value((float)number);
+				else
+					ubjson.value(number);
+			} else if (value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long)
+				value(((Number)value).longValue());
+			else if (value instanceof Character)
+				ubjson.value(((Character)value).charValue());
+			else
+				ubjson.value(value.toString());
+			return this;
+		}
+
+		public JsonWriter value (String value) throws IOException {
+			requireValue();
+			if (value == null)
+				ubjson.value();
+			else
+				ubjson.value(value);
+			return this;
+		}
+
+		public JsonWriter value (boolean value) throws IOException {
+			requireValue();
+			ubjson.value(value);
+			return this;
+		}
+
+		public JsonWriter value (int value) throws IOException {
+			return value((long)value);
+		}
+
+		public JsonWriter value (long value) throws IOException {
+			requireValue();
+			if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE)
+				ubjson.value((byte)value);
+			else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE)
+				ubjson.value((short)value);
+			else if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE)
+				ubjson.value((int)value);
+			else
+				ubjson.value(value);
+			return this;
+		}
+
+		public JsonWriter value (float value) throws IOException {
+			requireValue();
+			ubjson.value(value);
+			return this;
+		}
+
+		public JsonWriter value (double value) throws IOException {
+			requireValue();
+			ubjson.value(value);
+			return this;
+		}
+
+		public JsonWriter json (String json) throws IOException {
+			write(json);
+			endText();
+			return this;
+		}
+
+		public JsonWriter set (String name, Object value) throws IOException {
+			name(name);
+			return value(value);
+		}
+
+		public JsonWriter set (String name, String value) throws IOException {
+			name(name);
+			return value(value);
+		}
+
+		public JsonWriter set (String name, boolean value) throws IOException {
+			requireValue();
+			ubjson.set(name, value);
+			return this;
+		}
+
+		public JsonWriter set (String name, int value) throws IOException {
+			name(name);
+			return value((long)value);
+		}
+
+		public JsonWriter set (String name, long value) throws IOException {
+			name(name);
+			return value(value);
+		}
+
+		public JsonWriter set (String name, float value) throws IOException {
+			requireValue();
+			ubjson.set(name, value);
+			return this;
+		}
+
+		public JsonWriter set (String name, double value) throws IOException {
+			requireValue();
+			ubjson.set(name, value);
+			return this;
+		}
+
+		public JsonWriter json (String name, String json) throws IOException {
+			name(name);
+			return json(json);
+		}
+
+		public JsonWriter pop () throws IOException {
+			requireValue();
+			objects.pop();
+			ubjson.pop();
+			return this;
+		}
+
+		public void write (char[] cbuf, int off, int len) throws IOException {
+			for (int i = off, n = off + len; i < n; i++) {
+				char c = cbuf[i];
+				if (quoted) {
+					if (unicode != -1) {
+						unicodeValue = (unicodeValue << 4) | Character.digit(c, 16);
+						if (++unicode == 4) {
+							token.append((char)unicodeValue);
+							unicode = -1;
+						}
+					} else if (escaped) {
+						escaped = false;
+						switch (c) {
+						case 'b':
+							token.append('\b');
+							break;
+						case 'f':
+							token.append('\f');
+							break;
+						case 'n':
+							token.append('\n');
+							break;
+						case 'r':
+							token.append('\r');
+							break;
+						case 't':
+							token.append('\t');
+							break;
+						case 'u':
+							unicode = 0;
+							unicodeValue = 0;
+							break;
+						default:
+							token.append(c);
+						}
+					} else if (c == '\\')
+						escaped = true;
+					else if (c == '"') {
+						quoted = false;
+						endToken(true);
+					} else
+						token.append(c);
+					continue;
+				}
+				switch (c) {
+				case '"':
+					endText();
+					quoted = true;
+					break;
+				case '{':
+					object();
+					break;
+				case '[':
+					array();
+					break;
+				case '}':
+				case ']':
+					pop();
+					break;
+				case ',':
+				case ':':
+				case ' ':
+				case '\t':
+				case '\r':
+				case '\n':
+					endText();
+					break;
+				default:
+					token.append(c);
+				}
+			}
+		}
+
+		public void flush () throws IOException {
+			endText();
+			ubjson.flush();
+		}
+
+		public void close () throws IOException {
+			endText();
+			ubjson.close();
+		}
+
+		private void requireValue () throws IOException {
+			endText();
+			named = false;
+		}
+
+		/** Writes the unquoted token being written, if any. */
+		private void endText () throws IOException {
+			if (quoted) throw new SerializationException("Unterminated string in JSON text: " + token);
+			if (token.notEmpty()) endToken(false);
+		}
+
+		/** Writes a name or value written as text. In an object without a name, the token is the name. Unquoted tokens are
+		 * written as booleans, null or numbers when they are one. */
+		private void endToken (boolean quoted) throws IOException {
+			String text = token.toStringAndClear();
+			if (!named && objects.notEmpty() && objects.peek()) {
+				name(text);
+				return;
+			}
+			if (quoted) {
+				value(text);
+				return;
+			}
+			if (text.equals("true"))
+				value(true);
+			else if (text.equals("false"))
+				value(false);
+			else if (text.equals("null"))
+				value((Object)null);
+			else {
+				char first = text.charAt(0);
+				if ((first >= '0' && first <= '9') || first == '-') {
+					try {
+						value(Long.parseLong(text));
+						return;
+					} catch (NumberFormatException ignored) {
+					}
+					try {
+						value(Double.parseDouble(text));
+						return;
+					} catch (NumberFormatException ignored) {
+					}
+				}
+				value(text);
+			}
+		}
 	}
 
 	static public interface Serializer<T> {
@@ -1290,6 +2280,19 @@ public class Json {
 		public T read (Json json, JsonValue jsonData, Class type);
 	}
 
+	/** Gets and sets the fields of a class directly instead of using reflection. Implementations are usually generated at build
+	 * time by the gdx-json-processor annotation processor, which works on all backends, including GWT.
+	 * @see Json#setFieldAccessor(Class, FieldAccessor) */
+	static public interface FieldAccessor<T> {
+		/** Returns the names of the fields this accessor can get and set. The index of a name is passed to the other methods. */
+		public String[] getFieldNames ();
+
+		public @Null Object get (T object, int index);
+
+		/** @param value A boxed value for primitive fields. */
+		public void set (T object, int index, @Null Object value);
+	}
+
 	static abstract public class ReadOnlySerializer<T> implements Serializer<T> {
 		public void write (Json json, T object, Class knownType) {
 		}
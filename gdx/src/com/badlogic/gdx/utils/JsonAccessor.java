@@ -0,0 +1,18 @@
+package com.badlogic.gdx.utils;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/** Marks a class for the gdx-json-processor annotation processor, which generates a {@link Json.FieldAccessor} named
+ * <code>ClassName_FieldAccessor</code> in the same package. The accessor gets and sets the class' non-private, non-static,
+ * non-final, non-transient fields with plain Java code, so {@link Json} doesn't need reflection for them. Register it with
+ * {@link Json#setFieldAccessor(Class, Json.FieldAccessor)}. For a nested class the enclosing class names are part of the name,
+ * eg <code>Outer_Inner_FieldAccessor</code>. */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface JsonAccessor {
+}
@@ -18,6 +18,7 @@ package com.badlogic.gdx.utils;
 
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.JsonValue.ValueType;
@@ -168,7 +169,8 @@ public class JsonMatcher extends JsonSkimmer {
 	boolean stoppable = true;
 
 	int depth, captured;
-	char[] chars;
+	@Null char[] chars;
+	@Null ByteBuffer bytes;
 	final IntArray path = new IntArray();
 	Pattern processPattern;
 
@@ -195,7 +197,7 @@ public class JsonMatcher extends JsonSkimmer {
 	/** Adds a pattern for value extraction. The processor is invoked only for this pattern's matches.
 	 * @return The new pattern's index. */
 	public int addPattern (String pattern, @Null Processor processor) {
-		if (chars != null) throw new IllegalStateException();
+		if (chars != null || bytes != null) throw new IllegalStateException();
 		Pattern[] newPatterns = new Pattern[patterns.length + 1];
 		System.arraycopy(patterns, 0, newPatterns, 0, patterns.length);
 		Pattern newPattern;
@@ -214,12 +216,27 @@ public class JsonMatcher extends JsonSkimmer {
 
 	@Override
 	public void parse (char[] data, int offset, int length) {
-		if (chars != null) throw new IllegalStateException();
+		parse(data, null, offset, length);
+	}
+
+	/** The path segments reference the parsed bytes, so only the segments returned by {@link #path()} and {@link #parent()} are
+	 * decoded. */
+	@Override
+	public void parse (ByteBuffer data) {
+		parse(null, data, data.position(), data.limit());
+	}
+
+	private void parse (@Null char[] chars, @Null ByteBuffer bytes, int offset, int length) {
+		if (this.chars != null || this.bytes != null) throw new IllegalStateException();
 		parseStart();
 		captureRoot();
-		chars = data;
+		this.chars = chars;
+		this.bytes = bytes;
 		try {
-			super.parse(data, offset, length);
+			if (chars != null)
+				super.parse(chars, offset, length);
+			else
+				super.parse(bytes);
 			for (Pattern pattern : patterns)
 				process(pattern, false);
 			parseEnd();
@@ -229,7 +246,8 @@ public class JsonMatcher extends JsonSkimmer {
 			patterns = original;
 			depth = 0;
 			captured = 0;
-			chars = null;
+			this.chars = null;
+			this.bytes = null;
 			path.clear();
 		}
 	}
@@ -579,8 +597,10 @@ public class JsonMatcher extends JsonSkimmer {
 			int start = path.get(i), length = path.get(i + 1);
 			if (length == 0)
 				buffer.append(start == 0 ? "{}" : "[]");
-			else
+			else if (chars != null)
 				buffer.append(chars, start, length);
+			else
+				buffer.append(JsonToken.decode(bytes, start, length));
 		}
 		return buffer.toString();
 	}
@@ -592,7 +612,7 @@ public class JsonMatcher extends JsonSkimmer {
 		if (n == 0) return "";
 		int start = path.get(n - 2), length = path.get(n - 1);
 		if (length == 0) return start == 0 ? "{}" : "[]";
-		return new String(chars, start, length);
+		return segment(start, length);
 	}
 
 	/** Returns the segment of the JSON path up the specified segments from the end, starting at 0, or "" if there aren't enough
@@ -603,7 +623,11 @@ public class JsonMatcher extends JsonSkimmer {
 		if (i < 2) return "";
 		int start = path.get(i - 2), length = path.get(i - 1);
 		if (length == 0) return start == 0 ? "{}" : "[]";
-		return new String(chars, start, length);
+		return segment(start, length);
+	}
+
+	private String segment (int start, int length) {
+		return chars != null ? new String(chars, start, length) : JsonToken.decode(bytes, start, length);
 	}
 
 	/** @see PatternParser */
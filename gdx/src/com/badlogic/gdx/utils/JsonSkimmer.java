@@ -24,6 +24,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import com.badlogic.gdx.files.FileHandle;
@@ -93,14 +94,33 @@ public class JsonSkimmer {
 		}
 	}
 
+	/** Parses the file with {@link #parse(ByteBuffer)} after {@link FileHandle#map() memory mapping} it, so memory use doesn't
+	 * depend on the file size. Falls back to {@link #parse(FileHandle)} for files that can't be mapped, eg classpath files. */
+	public void parseMapped (FileHandle file) {
+		ByteBuffer data;
+		try {
+			data = file.map();
+		} catch (GdxRuntimeException ex) {
+			parse(file);
+			return;
+		}
+		try {
+			parse(data);
+		} catch (Exception ex) {
+			throw new SerializationException("Error parsing file: " + file, ex);
+		}
+	}
+
 	public void parse (char[] data, int offset, int length) {
 		stop = false;
-		int cs, p = offset, pe = length, eof = pe, top = 0;
+		int cs, p = offset, pe = offset + length, eof = pe, top = 0;
 		int[] stack = this.stack;
 
 		JsonToken nameString = this.nameString, value = this.value, string = value, name = null;
 		nameString.chars = data;
+		nameString.bytes = null;
 		value.chars = data;
+		value.bytes = null;
 		RuntimeException parseRuntimeEx = null;
 
 		boolean debug = false;
@@ -149,9 +169,9 @@ public class JsonSkimmer {
 									if (_upper < _lower) break;
 
 									_mid = _lower + ((_upper - _lower) >> 1);
-									if (data[p] < _json_trans_keys[_mid])
+									if ((charAt(data, p)) < _json_trans_keys[_mid])
 										_upper = _mid - 1;
-									else if (data[p] > _json_trans_keys[_mid])
+									else if ((charAt(data, p)) > _json_trans_keys[_mid])
 										_lower = _mid + 1;
 									else {
 										_trans += (_mid - _keys);
@@ -171,9 +191,9 @@ public class JsonSkimmer {
 									if (_upper < _lower) break;
 
 									_mid = _lower + (((_upper - _lower) >> 1) & ~1);
-									if (data[p] < _json_trans_keys[_mid])
+									if ((charAt(data, p)) < _json_trans_keys[_mid])
 										_upper = _mid - 2;
-									else if (data[p] > _json_trans_keys[_mid + 1])
+									else if ((charAt(data, p)) > _json_trans_keys[_mid + 1])
 										_lower = _mid + 2;
 									else {
 										_trans += ((_mid - _keys) >> 1);
@@ -258,16 +278,16 @@ public class JsonSkimmer {
 								// line 141 "JsonSkimmer.rl"
 								{
 									int start = p;
-									if (data[p++] == '/') {
-										while (p != eof && data[p] != '\n')
+									if (charAt(data, p++) == '/') {
+										while (p != eof && charAt(data, p) != '\n')
 											p++;
 										p--;
 									} else {
-										while (p + 1 < eof && (data[p] != '*' || data[p + 1] != '/'))
+										while (p + 1 < eof && (charAt(data, p) != '*' || charAt(data, p + 1) != '/'))
 											p++;
 										p++;
 									}
-									if (debug) System.out.println("comment " + new String(data, start - 1, p - start + 2));
+									if (debug) System.out.println("comment " + substring(data, start - 1, p - start + 2));
 								}
 									break;
 								case 5:
@@ -279,13 +299,13 @@ public class JsonSkimmer {
 									boolean ws = false;
 									outer:
 									while (true) {
-										switch (data[p]) {
+										switch (charAt(data, p)) {
 										case '\\':
 											string.unescape = true;
 											break;
 										case '/':
 											if (p + 1 == eof) break;
-											char c = data[p + 1];
+											char c = charAt(data, p + 1);
 											if (c == '/' || c == '*') break outer;
 											break;
 										case ' ':
@@ -297,14 +317,14 @@ public class JsonSkimmer {
 										case '\n':
 											break outer;
 										}
-										if (debug) System.out.println("name char: '" + data[p] + "'");
+										if (debug) System.out.println("name char: '" + charAt(data, p) + "'");
 										p++;
 										if (p == eof) break;
 									}
 									p--;
 									if (ws) {
 										while (true) {
-											switch (data[p]) {
+											switch (charAt(data, p)) {
 											case ' ':
 											case '\t':
 												p--;
@@ -325,13 +345,13 @@ public class JsonSkimmer {
 									boolean ws = false;
 									outer:
 									while (true) {
-										switch (data[p]) {
+										switch (charAt(data, p)) {
 										case '\\':
 											string.unescape = true;
 											break;
 										case '/':
 											if (p + 1 == eof) break;
-											char c = data[p + 1];
+											char c = charAt(data, p + 1);
 											if (c == '/' || c == '*') break outer;
 											break;
 										case ' ':
@@ -345,14 +365,14 @@ public class JsonSkimmer {
 										case ',':
 											break outer;
 										}
-										if (debug) System.out.println("value char: '" + data[p] + "'");
+										if (debug) System.out.println("value char: '" + charAt(data, p) + "'");
 										p++;
 										if (p == eof) break;
 									}
 									p--;
 									if (ws) {
 										while (true) {
-											switch (data[p]) {
+											switch (charAt(data, p)) {
 											case ' ':
 											case '\t':
 												p--;
@@ -364,14 +384,14 @@ public class JsonSkimmer {
 									string.length = p - start + 1;
 									string.type = TokenType.other;
 									if (string.length == 4) {
-										if (data[start] == 't' && data[start + 1] == 'r' && data[start + 2] == 'u'
-											&& data[start + 3] == 'e')
+										if (charAt(data, start) == 't' && charAt(data, start + 1) == 'r' && charAt(data, start + 2) == 'u'
+											&& charAt(data, start + 3) == 'e')
 											string.type = TokenType.trueValue;
-										else if (data[start] == 'n' && data[start + 1] == 'u' && data[start + 2] == 'l'
-											&& data[start + 3] == 'l') string.type = TokenType.nullValue;
+										else if (charAt(data, start) == 'n' && charAt(data, start + 1) == 'u' && charAt(data, start + 2) == 'l'
+											&& charAt(data, start + 3) == 'l') string.type = TokenType.nullValue;
 									} else if (string.length == 5) {
-										if (data[start] == 'f' && data[start + 1] == 'a' && data[start + 2] == 'l' && data[start + 3] == 's'
-											&& data[start + 4] == 'e') string.type = TokenType.falseValue;
+										if (charAt(data, start) == 'f' && charAt(data, start + 1) == 'a' && charAt(data, start + 2) == 'l' && charAt(data, start + 3) == 's'
+											&& charAt(data, start + 4) == 'e') string.type = TokenType.falseValue;
 									}
 								}
 									break;
@@ -382,7 +402,7 @@ public class JsonSkimmer {
 									string.start = ++p;
 									outer:
 									while (true) {
-										switch (data[p]) {
+										switch (charAt(data, p)) {
 										case '\\':
 											string.unescape = true;
 											p++;
@@ -390,7 +410,7 @@ public class JsonSkimmer {
 										case '"':
 											break outer;
 										}
-										if (debug) System.out.println("quoted char: '" + data[p] + "'");
+										if (debug) System.out.println("quoted char: '" + charAt(data, p) + "'");
 										p++;
 										if (p == eof) break;
 									}
@@ -476,15 +496,450 @@ public class JsonSkimmer {
 
 		if (p < pe) {
 			int lineNumber = 1;
-			for (int i = 0; i < p; i++)
+			for (int i = offset; i < p; i++)
 				if (data[i] == '\n') lineNumber++;
-			int start = Math.max(0, p - 32);
-			throw new SerializationException("Error parsing JSON on line " + lineNumber + " near: "
-				+ new String(data, start, p - start) + "*ERROR*" + new String(data, p, Math.min(64, pe - p)), parseRuntimeEx);
+			throw new SerializationException("Error parsing JSON on line " + lineNumber + " near: " + near(data, offset, p, pe),
+				parseRuntimeEx);
 		}
 		if (parseRuntimeEx != null) throw new SerializationException("Error parsing JSON: " + new String(data), parseRuntimeEx);
 	}
 
+	/** Parses UTF-8 JSON from the buffer's position to its limit. The bytes are decoded as they are parsed, so the JSON is never
+	 * copied. This can be used with a {@link FileHandle#map() memory mapped} file to parse a large file without loading it on the
+	 * heap, see {@link #parseMapped(FileHandle)}. The buffer's position is not changed. */
+	public void parse (ByteBuffer data) {
+		stop = false;
+		int cs, offset = data.position(), p = offset, pe = data.limit(), eof = pe, top = 0;
+		int[] stack = this.stack;
+
+		JsonToken nameString = this.nameString, value = this.value, string = value, name = null;
+		nameString.chars = null;
+		nameString.bytes = data;
+		value.chars = null;
+		value.bytes = data;
+		RuntimeException parseRuntimeEx = null;
+
+		boolean debug = false;
+		if (debug) System.out.println();
+
+		try {
+
+			// line 110 "../../../../../src/com/badlogic/gdx/utils/JsonSkimmer.java"
+			{
+				cs = json_start;
+				top = 0;
+			}
+
+			// line 115 "../../../../../src/com/badlogic/gdx/utils/JsonSkimmer.java"
+			{
+				int _klen;
+				int _trans = 0;
+				int _acts;
+				int _nacts;
+				int _keys;
+				int _goto_targ = 0;
+
+				_goto:
+				while (true) {
+					switch (_goto_targ) {
+					case 0:
+						if (p == pe) {
+							_goto_targ = 4;
+							continue _goto;
+						}
+						if (cs == 0) {
+							_goto_targ = 5;
+							continue _goto;
+						}
+					case 1:
+						_match:
+						do {
+							_keys = _json_key_offsets[cs];
+							_trans = _json_index_offsets[cs];
+							_klen = _json_single_lengths[cs];
+							if (_klen > 0) {
+								int _lower = _keys;
+								int _mid;
+								int _upper = _keys + _klen - 1;
+								while (true) {
+									if (_upper < _lower) break;
+
+									_mid = _lower + ((_upper - _lower) >> 1);
+									if ((charAt(data, p)) < _json_trans_keys[_mid])
+										_upper = _mid - 1;
+									else if ((charAt(data, p)) > _json_trans_keys[_mid])
+										_lower = _mid + 1;
+									else {
+										_trans += (_mid - _keys);
+										break _match;
+									}
+								}
+								_keys += _klen;
+								_trans += _klen;
+							}
+
+							_klen = _json_range_lengths[cs];
+							if (_klen > 0) {
+								int _lower = _keys;
+								int _mid;
+								int _upper = _keys + (_klen << 1) - 2;
+								while (true) {
+									if (_upper < _lower) break;
+
+									_mid = _lower + (((_upper - _lower) >> 1) & ~1);
+									if ((charAt(data, p)) < _json_trans_keys[_mid])
+										_upper = _mid - 2;
+									else if ((charAt(data, p)) > _json_trans_keys[_mid + 1])
+										_lower = _mid + 2;
+									else {
+										_trans += ((_mid - _keys) >> 1);
+										break _match;
+									}
+								}
+								_trans += _klen;
+							}
+						} while (false);
+
+						_trans = _json_indicies[_trans];
+						cs = _json_trans_targs[_trans];
+
+						if (_json_trans_actions[_trans] != 0) {
+							_acts = _json_trans_actions[_trans];
+							_nacts = (int)_json_actions[_acts++];
+							while (_nacts-- > 0) {
+								switch (_json_actions[_acts++]) {
+								case 0:
+								// line 115 "JsonSkimmer.rl"
+								{
+									if (debug) System.out.println("startObject: " + name);
+									push(name, true);
+									if (stop) return;
+									name = null;
+									{
+										if (top == stack.length) stack = this.stack = Arrays.copyOf(stack, stack.length << 1);
+										{
+											stack[top++] = cs;
+											cs = 4;
+											_goto_targ = 2;
+											if (true) continue _goto;
+										}
+									}
+								}
+									break;
+								case 1:
+								// line 122 "JsonSkimmer.rl"
+								{
+									if (debug) System.out.println("endObject");
+									pop();
+									if (stop) return;
+									{
+										cs = stack[--top];
+										_goto_targ = 2;
+										if (true) continue _goto;
+									}
+								}
+									break;
+								case 2:
+								// line 128 "JsonSkimmer.rl"
+								{
+									if (debug) System.out.println("startArray: " + name);
+									push(name, false);
+									if (stop) return;
+									name = null;
+									{
+										if (top == stack.length) stack = this.stack = Arrays.copyOf(stack, stack.length << 1);
+										{
+											stack[top++] = cs;
+											cs = 20;
+											_goto_targ = 2;
+											if (true) continue _goto;
+										}
+									}
+								}
+									break;
+								case 3:
+								// line 135 "JsonSkimmer.rl"
+								{
+									if (debug) System.out.println("endArray");
+									pop();
+									if (stop) return;
+									{
+										cs = stack[--top];
+										_goto_targ = 2;
+										if (true) continue _goto;
+									}
+								}
+									break;
+								case 4:
+								// line 141 "JsonSkimmer.rl"
+								{
+									int start = p;
+									if (charAt(data, p++) == '/') {
+										while (p != eof && charAt(data, p) != '\n')
+											p++;
+										p--;
+									} else {
+										while (p + 1 < eof && (charAt(data, p) != '*' || charAt(data, p + 1) != '/'))
+											p++;
+										p++;
+									}
+									if (debug) System.out.println("comment " + substring(data, start - 1, p - start + 2));
+								}
+									break;
+								case 5:
+								// line 154 "JsonSkimmer.rl"
+								{
+									if (debug) System.out.println("unquotedName");
+									int start = p;
+									string.start = start;
+									boolean ws = false;
+									outer:
+									while (true) {
+										switch (charAt(data, p)) {
+										case '\\':
+											string.unescape = true;
+											break;
+										case '/':
+											if (p + 1 == eof) break;
+											char c = charAt(data, p + 1);
+											if (c == '/' || c == '*') break outer;
+											break;
+										case ' ':
+										case '\t':
+											ws = true;
+											break;
+										case ':':
+										case '\r':
+										case '\n':
+											break outer;
+										}
+										if (debug) System.out.println("name char: '" + charAt(data, p) + "'");
+										p++;
+										if (p == eof) break;
+									}
+									p--;
+									if (ws) {
+										while (true) {
+											switch (charAt(data, p)) {
+											case ' ':
+											case '\t':
+												p--;
+												continue;
+											}
+											break;
+										}
+									}
+									string.length = p - start + 1;
+								}
+									break;
+								case 6:
+								// line 197 "JsonSkimmer.rl"
+								{
+									if (debug) System.out.println("unquotedValue");
+									int start = p;
+									string.start = start;
+									boolean ws = false;
+									outer:
+									while (true) {
+										switch (charAt(data, p)) {
+										case '\\':
+											string.unescape = true;
+											break;
+										case '/':
+											if (p + 1 == eof) break;
+											char c = charAt(data, p + 1);
+											if (c == '/' || c == '*') break outer;
+											break;
+										case ' ':
+										case '\t':
+											ws = true;
+											break;
+										case '\r':
+										case '\n':
+										case '}':
+										case ']':
+										case ',':
+											break outer;
+										}
+										if (debug) System.out.println("value char: '" + charAt(data, p) + "'");
+										p++;
+										if (p == eof) break;
+									}
+									p--;
+									if (ws) {
+										while (true) {
+											switch (charAt(data, p)) {
+											case ' ':
+											case '\t':
+												p--;
+												continue;
+											}
+											break;
+										}
+									}
+									string.length = p - start + 1;
+									string.type = TokenType.other;
+									if (string.length == 4) {
+										if (charAt(data, start) == 't' && charAt(data, start + 1) == 'r' && charAt(data, start + 2) == 'u'
+											&& charAt(data, start + 3) == 'e')
+											string.type = TokenType.trueValue;
+										else if (charAt(data, start) == 'n' && charAt(data, start + 1) == 'u' && charAt(data, start + 2) == 'l'
+											&& charAt(data, start + 3) == 'l') string.type = TokenType.nullValue;
+									} else if (string.length == 5) {
+										if (charAt(data, start) == 'f' && charAt(data, start + 1) == 'a' && charAt(data, start + 2) == 'l' && charAt(data, start + 3) == 's'
+											&& charAt(data, start + 4) == 'e') string.type = TokenType.falseValue;
+									}
+								}
+									break;
+								case 7:
+								// line 252 "JsonSkimmer.rl"
+								{
+									if (debug) System.out.println("quotedString");
+									string.start = ++p;
+									outer:
+									while (true) {
+										switch (charAt(data, p)) {
+										case '\\':
+											string.unescape = true;
+											p++;
+											break;
+										case '"':
+											break outer;
+										}
+										if (debug) System.out.println("quoted char: '" + charAt(data, p) + "'");
+										p++;
+										if (p == eof) break;
+									}
+									string.length = p - string.start;
+								}
+									break;
+								case 8:
+								// line 271 "JsonSkimmer.rl"
+								{
+									name = nameString; // Next element has a name.
+									string = nameString; // Parse next string to nameString.
+									if (debug) System.out.println("name start " + p);
+								}
+									break;
+								case 9:
+								// line 276 "JsonSkimmer.rl"
+								{
+									if (debug) System.out.println("name: " + p + ", " + name);
+									nameString.unescape = false;
+									string = value;
+								}
+									break;
+								case 10:
+								// line 281 "JsonSkimmer.rl"
+								{
+									if (debug) System.out.println("value: " + name + "=" + value);
+									value(name, value);
+									if (stop) return;
+									value.unescape = false;
+									value.type = TokenType.other;
+									name = null;
+									string = value;
+								}
+									break;
+								// line 407 "../../../../../src/com/badlogic/gdx/utils/JsonSkimmer.java"
+								}
+							}
+						}
+
+					case 2:
+						if (cs == 0) {
+							_goto_targ = 5;
+							continue _goto;
+						}
+						if (++p != pe) {
+							_goto_targ = 1;
+							continue _goto;
+						}
+					case 4:
+						if (p == eof) {
+							int __acts = _json_eof_actions[cs];
+							int __nacts = (int)_json_actions[__acts++];
+							while (__nacts-- > 0) {
+								switch (_json_actions[__acts++]) {
+								case 10:
+								// line 281 "JsonSkimmer.rl"
+								{
+									if (debug) System.out.println("value: " + name + "=" + value);
+									value(name, value);
+									if (stop) return;
+									value.unescape = false;
+									value.type = TokenType.other;
+									name = null;
+									string = value;
+								}
+									break;
+								// line 440 "../../../../../src/com/badlogic/gdx/utils/JsonSkimmer.java"
+								}
+							}
+						}
+
+					case 5:
+					}
+					break;
+				}
+			}
+
+			// line 306 "JsonSkimmer.rl"
+
+		} catch (RuntimeException ex) {
+			parseRuntimeEx = ex;
+		}
+
+		if (p < pe) {
+			int lineNumber = 1;
+			for (int i = offset; i < p; i++)
+				if (data.get(i) == '\n') lineNumber++;
+			throw new SerializationException("Error parsing JSON on line " + lineNumber + " near: " + near(data, offset, p, pe),
+				parseRuntimeEx);
+		}
+		// Unlike for chars, the whole input isn't included since it may be a large mapped file.
+		if (parseRuntimeEx != null)
+			throw new SerializationException("Error parsing JSON near: " + near(data, offset, p, pe), parseRuntimeEx);
+	}
+
+	static private char charAt (char[] data, int index) {
+		return data[index];
+	}
+
+	/** Returns the byte at the index as an unsigned value. Every byte of a multi-byte UTF-8 sequence is >= 0x80, so the state
+	 * machine handles each like a single non-ASCII char. */
+	static private char charAt (ByteBuffer data, int index) {
+		return (char)(data.get(index) & 0xff);
+	}
+
+	static private String substring (char[] data, int start, int length) {
+		return new String(data, start, length);
+	}
+
+	static private String substring (ByteBuffer data, int start, int length) {
+		return JsonToken.decode(data, start, length);
+	}
+
+	/** Returns up to 32 chars before the index and 64 after it, with "*ERROR*" at the index. */
+	static private String near (char[] data, int offset, int index, int end) {
+		index = Math.min(index, end);
+		int start = Math.max(offset, index - 32);
+		return substring(data, start, index - start) + "*ERROR*" + substring(data, index, Math.min(64, end - index));
+	}
+
+	/** Returns up to 32 bytes before the index and 64 after it, with "*ERROR*" at the index. Only this window is decoded, so a
+	 * large input is not copied to report an error. */
+	static private String near (ByteBuffer data, int offset, int index, int end) {
+		index = Math.min(index, end);
+		int start = Math.max(offset, index - 32);
+		// Don't split multi-byte UTF-8 sequences.
+		while (start < index && (data.get(start) & 0xc0) == 0x80)
+			start++;
+		while (index > start && index < end && (data.get(index) & 0xc0) == 0x80)
+			index--;
+		return substring(data, start, index - start) + "*ERROR*" + substring(data, index, Math.min(64, end - index));
+	}
+
 	// line 466 "../../../../../src/com/badlogic/gdx/utils/JsonSkimmer.java"
 	private static byte[] init__json_actions_0 () {
 		return new byte[] {0, 1, 0, 1, 1, 1, 2, 1, 3, 1, 4, 1, 6, 1, 7, 1, 9, 1, 10, 2, 8, 5, 2, 8, 7, 2, 10, 1, 2, 10, 3};
@@ -605,6 +1060,8 @@ public class JsonSkimmer {
 	static public class JsonToken {
 		final CharArray buffer;
 		public char[] chars;
+		/** When not null, the token is UTF-8 in this buffer and {@link #chars} is null. */
+		public @Null ByteBuffer bytes;
 
 		public int start, length;
 		public boolean unescape;
@@ -619,6 +1076,16 @@ public class JsonSkimmer {
 			if (string == null) return false;
 			if (unescape) return toString().equals(string);
 			int n = length;
+			if (bytes != null) {
+				ByteBuffer bytes = this.bytes;
+				if (string.length() > n) return false;
+				for (int b = start, s = 0; s < n; b++, s++) {
+					int c = bytes.get(b);
+					if (c < 0) return toString().equals(string); // Not ASCII.
+					if (s == string.length() || c != string.charAt(s)) return false;
+				}
+				return string.length() == n;
+			}
 			if (string.length() != n) return false;
 			char[] chars = this.chars;
 			for (int c = start, s = 0; s < n; c++, s++)
@@ -630,7 +1097,13 @@ public class JsonSkimmer {
 		 * @return "null" if this token represents null. */
 		public String toString () {
 			if (type == TokenType.nullValue) return "null";
-			return unescape ? unescape() : new String(chars, start, length);
+			if (bytes != null) {
+				String string = decode(bytes, start, length);
+				if (!unescape) return string;
+				char[] chars = string.toCharArray();
+				return unescape(chars, 0, chars.length);
+			}
+			return unescape ? unescape(chars, start, length) : new String(chars, start, length);
 		}
 
 		/** Returns a new JsonValue with {@link ValueType} of null, boolean, or string. */
@@ -655,8 +1128,7 @@ public class JsonSkimmer {
 			return true;
 		}
 
-		private String unescape () {
-			char[] chars = this.chars;
+		private String unescape (char[] chars, int start, int length) {
 			buffer.size = 0;
 			buffer.ensureCapacity(length + 16);
 			outer:
@@ -705,6 +1177,29 @@ public class JsonSkimmer {
 			return buffer.toString();
 		}
 
+		/** Decodes UTF-8 bytes. */
+		static String decode (ByteBuffer bytes, int start, int length) {
+			char[] chars = new char[length];
+			int count = 0;
+			for (int i = start, n = start + length; i < n;) {
+				int b = bytes.get(i++) & 0xff;
+				int extra = b < 0x80 ? 0 : b < 0xe0 ? 1 : b < 0xf0 ? 2 : 3;
+				if (i + extra > n) break; // Truncated sequence.
+				if (b < 0x80)
+					chars[count++] = (char)b;
+				else if (b < 0xe0)
+					chars[count++] = (char)((b & 0x1f) << 6 | bytes.get(i++) & 0x3f);
+				else if (b < 0xf0)
+					chars[count++] = (char)((b & 0x0f) << 12 | (bytes.get(i++) & 0x3f) << 6 | bytes.get(i++) & 0x3f);
+				else {
+					int codePoint = (b & 0x07) << 18 | (bytes.get(i++) & 0x3f) << 12 | (bytes.get(i++) & 0x3f) << 6
+						| bytes.get(i++) & 0x3f;
+					count += Character.toChars(codePoint, chars, count);
+				}
+			}
+			return new String(chars, 0, count);
+		}
+
 		static public enum TokenType {
 			nullValue, trueValue, falseValue, other
 		}
@@ -55,6 +55,10 @@ public class JsonWriter extends Writer {
 		this.outputType = outputType;
 	}
 
+	public OutputType getOutputType () {
+		return outputType;
+	}
+
 	/** When true, long, double, BigInteger, BigDecimal types are output as strings to prevent truncation in languages like
 	 * JavaScript and PHP. This is not necessary when using libgdx, which handles these types without truncation. Default is
 	 * false. */
@@ -162,13 +166,25 @@ public class JsonWriter extends Writer {
 		return this;
 	}
 
+	/** Sets the name of the next value, which has already been quoted with {@link OutputType#quoteName(String)} for the current
+	 * output type. */
+	JsonWriter quotedName (String quotedName) throws IOException {
+		quotedNameValue(quotedName);
+		named = true;
+		return this;
+	}
+
 	private void nameValue (String name) throws IOException {
+		quotedNameValue(outputType.quoteName(name));
+	}
+
+	private void quotedNameValue (String quotedName) throws IOException {
 		if ((current & isObject) == 0) throw new IllegalStateException("Current item must be an object.");
 		if ((current & needsComma) != 0)
 			writer.write(',');
 		else
 			current |= needsComma;
-		writer.write(outputType.quoteName(name));
+		writer.write(quotedName);
 		writer.write(':');
 	}
 
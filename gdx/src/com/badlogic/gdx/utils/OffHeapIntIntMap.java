@@ -0,0 +1,667 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/** An unordered map where the keys and values are unboxed ints, like {@link IntIntMap}, but the table is stored in native memory
+ * allocated with {@link BufferUtils#newUnsafeByteBuffer(int)} instead of Java arrays. Very large maps don't add to the Java heap,
+ * so they don't increase garbage collection time. Each key is stored next to its value, so a lookup usually touches a single
+ * cache line.
+ * <p>
+ * The table is stored in segments of {@link #segmentSize} entries, so it is not limited by the int capacity of a single buffer
+ * and the size and indices are longs. A table no larger than one segment uses a single buffer of the table's size. The table
+ * size is limited to {@link #maxTableSize}.
+ * <p>
+ * The native memory is not freed by the garbage collector, {@link #dispose()} must be called when the map is no longer used. The
+ * map must not be used after it is disposed.
+ * <p>
+ * This implementation uses linear probing with the backward shift algorithm for removal and Fibonacci hashing, the same as
+ * {@link IntIntMap}. */
+public class OffHeapIntIntMap implements Iterable<IntIntMap.Entry>, Disposable {
+	/** The number of entries in a full segment, 8 MB of native memory. */
+	static public final int segmentSize = 1 << 20;
+	/** The largest number of entries the table can have, including the empty entries needed by the load factor. Adding more
+	 * items than the load factor allows for this table size throws IllegalArgumentException. */
+	static public final long maxTableSize = 1L << 40;
+
+	public long size;
+
+	/** The keys and values, interleaved, in segments. Null after {@link #dispose()}. */
+	IntBuffer[] segments;
+	private ByteBuffer[] buffers;
+	private long tableSize;
+	final int segmentShift, segmentMask;
+
+	int zeroValue;
+	boolean hasZeroValue;
+
+	private final float loadFactor;
+	private long threshold;
+
+	/** See {@link IntIntMap#shift}. */
+	protected int shift;
+
+	/** See {@link IntIntMap#mask}. */
+	protected long mask;
+
+	private transient Entries entries1, entries2;
+	private transient Values values1, values2;
+	private transient Keys keys1, keys2;
+
+	/** Creates a new map with an initial capacity of 51 and a load factor of 0.8. */
+	public OffHeapIntIntMap () {
+		this(51, 0.8f);
+	}
+
+	/** Creates a new map with a load factor of 0.8.
+	 * @param initialCapacity The table size is initialCapacity / loadFactor, increased to the next power of two. */
+	public OffHeapIntIntMap (long initialCapacity) {
+		this(initialCapacity, 0.8f);
+	}
+
+	/** Creates a new map with the specified initial capacity and load factor. This map will hold initialCapacity items before
+	 * growing the table.
+	 * @param initialCapacity The table size is initialCapacity / loadFactor, increased to the next power of two. */
+	public OffHeapIntIntMap (long initialCapacity, float loadFactor) {
+		this(initialCapacity, loadFactor, 20);
+	}
+
+	/** @param segmentShift The segment size is 1 << segmentShift entries. Smaller segments let tests cross segment boundaries. */
+	OffHeapIntIntMap (long initialCapacity, float loadFactor, int segmentShift) {
+		if (loadFactor <= 0f || loadFactor >= 1f)
+			throw new IllegalArgumentException("loadFactor must be > 0 and < 1: " + loadFactor);
+		this.loadFactor = loadFactor;
+		this.segmentShift = segmentShift;
+		segmentMask = (1 << segmentShift) - 1;
+		resize(tableSize(initialCapacity, loadFactor));
+	}
+
+	/** See {@link IntIntMap#place(int)}. */
+	protected long place (int item) {
+		return item * 0x9E3779B97F4A7C15L >>> shift;
+	}
+
+	/** Returns the index of the key if already present, else -(index + 1) for the next empty index. */
+	private long locateKey (int key) {
+		for (long i = place(key);; i = i + 1 & mask) {
+			int other = key(i);
+			if (other == 0) return -(i + 1); // Empty space is available.
+			if (other == key) return i; // Same key was found.
+		}
+	}
+
+	int key (long index) {
+		return segments[(int)(index >>> segmentShift)].get(((int)index & segmentMask) << 1);
+	}
+
+	int value (long index) {
+		return segments[(int)(index >>> segmentShift)].get((((int)index & segmentMask) << 1) + 1);
+	}
+
+	private void setKey (long index, int key) {
+		segments[(int)(index >>> segmentShift)].put(((int)index & segmentMask) << 1, key);
+	}
+
+	private void setValue (long index, int value) {
+		segments[(int)(index >>> segmentShift)].put((((int)index & segmentMask) << 1) + 1, value);
+	}
+
+	public void put (int key, int value) {
+		if (key == 0) {
+			zeroValue = value;
+			if (!hasZeroValue) {
+				hasZeroValue = true;
+				size++;
+			}
+			return;
+		}
+		long i = locateKey(key);
+		if (i >= 0) { // Existing key was found.
+			setValue(i, value);
+			return;
+		}
+		i = -(i + 1); // Empty space was found.
+		setKey(i, key);
+		setValue(i, value);
+		if (++size >= threshold) resize(tableSize << 1);
+	}
+
+	/** Returns the old value associated with the specified key, or the specified default value. */
+	public int put (int key, int value, int defaultValue) {
+		if (key == 0) {
+			int oldValue = zeroValue;
+			zeroValue = value;
+			if (!hasZeroValue) {
+				hasZeroValue = true;
+				size++;
+				return defaultValue;
+			}
+			return oldValue;
+		}
+		long i = locateKey(key);
+		if (i >= 0) { // Existing key was found.
+			int oldValue = value(i);
+			setValue(i, value);
+			return oldValue;
+		}
+		i = -(i + 1); // Empty space was found.
+		setKey(i, key);
+		setValue(i, value);
+		if (++size >= threshold) resize(tableSize << 1);
+		return defaultValue;
+	}
+
+	public void putMissing (int key, int value) {
+		if (key == 0) {
+			if (!hasZeroValue) {
+				zeroValue = value;
+				hasZeroValue = true;
+				size++;
+			}
+			return;
+		}
+		long i = locateKey(key);
+		if (i >= 0) return; // Existing key was found.
+		i = -(i + 1); // Empty space was found.
+		setKey(i, key);
+		setValue(i, value);
+		if (++size >= threshold) resize(tableSize << 1);
+	}
+
+	public void putAll (IntIntMap map) {
+		ensureCapacity(map.size);
+		if (map.hasZeroValue) put(0, map.zeroValue);
+		int[] keyTable = map.keyTable;
+		int[] valueTable = map.valueTable;
+		for (int i = 0, n = keyTable.length; i < n; i++) {
+			int key = keyTable[i];
+			if (key != 0) put(key, valueTable[i]);
+		}
+	}
+
+	/** Skips checks for existing keys, doesn't increment size, doesn't need to handle key 0. */
+	private void putResize (int key, int value) {
+		for (long i = place(key);; i = (i + 1) & mask) {
+			if (key(i) == 0) {
+				setKey(i, key);
+				setValue(i, value);
+				return;
+			}
+		}
+	}
+
+	public int get (int key, int defaultValue) {
+		if (key == 0) return hasZeroValue ? zeroValue : defaultValue;
+		long i = locateKey(key);
+		return i >= 0 ? value(i) : defaultValue;
+	}
+
+	/** Returns the key's current value and increments the stored value. If the key is not in the map, defaultValue + increment is
+	 * put into the map and defaultValue is returned. */
+	public int getAndIncrement (int key, int defaultValue, int increment) {
+		if (key == 0) {
+			if (!hasZeroValue) {
+				hasZeroValue = true;
+				zeroValue = defaultValue + increment;
+				size++;
+				return defaultValue;
+			}
+			int oldValue = zeroValue;
+			zeroValue += increment;
+			return oldValue;
+		}
+		long i = locateKey(key);
+		if (i >= 0) { // Existing key was found.
+			int oldValue = value(i);
+			setValue(i, oldValue + increment);
+			return oldValue;
+		}
+		i = -(i + 1); // Empty space was found.
+		setKey(i, key);
+		setValue(i, defaultValue + increment);
+		if (++size >= threshold) resize(tableSize << 1);
+		return defaultValue;
+	}
+
+	/** Returns the value for the removed key, or the default value if the key is not in the map. */
+	public int remove (int key, int defaultValue) {
+		if (key == 0) {
+			if (!hasZeroValue) return defaultValue;
+			hasZeroValue = false;
+			size--;
+			return zeroValue;
+		}
+
+		long i = locateKey(key);
+		if (i < 0) return defaultValue;
+		int oldValue = value(i);
+		removeIndex(i);
+		size--;
+		return oldValue;
+	}
+
+	/** Removes the entry at the index, shifting back the entries after it. Returns the index that was emptied. */
+	long removeIndex (long i) {
+		long mask = this.mask, next = i + 1 & mask;
+		int key;
+		while ((key = key(next)) != 0) {
+			long placement = place(key);
+			if ((next - placement & mask) > (i - placement & mask)) {
+				setKey(i, key);
+				setValue(i, value(next));
+				i = next;
+			}
+			next = next + 1 & mask;
+		}
+		setKey(i, 0);
+		return i;
+	}
+
+	/** Returns true if the map has one or more items. */
+	public boolean notEmpty () {
+		return size > 0;
+	}
+
+	/** Returns true if the map is empty. */
+	public boolean isEmpty () {
+		return size == 0;
+	}
+
+	/** Reduces the size of the table to be the specified capacity / loadFactor, or less. If the capacity is already less, nothing
+	 * is done. If the map contains more items than the specified capacity, the next highest power of two capacity is used
+	 * instead. */
+	public void shrink (long maximumCapacity) {
+		if (maximumCapacity < 0) throw new IllegalArgumentException("maximumCapacity must be >= 0: " + maximumCapacity);
+		long tableSize = tableSize(Math.max(maximumCapacity, size), loadFactor);
+		if (this.tableSize > tableSize) resize(tableSize);
+	}
+
+	/** Clears the map and reduces the size of the table to be the specified capacity / loadFactor, if it is larger. */
+	public void clear (long maximumCapacity) {
+		long tableSize = tableSize(maximumCapacity, loadFactor);
+		if (this.tableSize <= tableSize) {
+			clear();
+			return;
+		}
+		size = 0;
+		hasZeroValue = false;
+		resize(tableSize);
+	}
+
+	public void clear () {
+		if (size == 0) return;
+		for (ByteBuffer buffer : buffers)
+			BufferUtils.clear(buffer, buffer.capacity());
+		size = 0;
+		hasZeroValue = false;
+	}
+
+	/** Returns true if the specified value is in the map. Note this traverses the entire map and compares every value, which may
+	 * be an expensive operation. */
+	public boolean containsValue (int value) {
+		if (hasZeroValue && zeroValue == value) return true;
+		for (long i = tableSize - 1; i >= 0; i--)
+			if (key(i) != 0 && value(i) == value) return true;
+		return false;
+	}
+
+	public boolean containsKey (int key) {
+		if (key == 0) return hasZeroValue;
+		return locateKey(key) >= 0;
+	}
+
+	/** Returns the key for the specified value, or notFound if it is not in the map. Note this traverses the entire map and
+	 * compares every value, which may be an expensive operation. */
+	public int findKey (int value, int notFound) {
+		if (hasZeroValue && zeroValue == value) return 0;
+		for (long i = tableSize - 1; i >= 0; i--) {
+			int key = key(i);
+			if (key != 0 && value(i) == value) return key;
+		}
+		return notFound;
+	}
+
+	/** Increases the size of the table to accommodate the specified number of additional items / loadFactor. Useful before adding
+	 * many items to avoid multiple table resizes. */
+	public void ensureCapacity (long additionalCapacity) {
+		long tableSize = tableSize(size + additionalCapacity, loadFactor);
+		if (this.tableSize < tableSize) resize(tableSize);
+	}
+
+	private void resize (long newSize) {
+		if (newSize > maxTableSize) throw new IllegalArgumentException("The required table size is too large: " + newSize);
+		long oldSize = tableSize;
+		tableSize = newSize;
+		threshold = (long)(newSize * (double)loadFactor);
+		mask = newSize - 1;
+		shift = Long.numberOfLeadingZeros(mask);
+
+		ByteBuffer[] oldBuffers = buffers;
+		IntBuffer[] oldSegments = segments;
+
+		int segmentCount = (int)((newSize + segmentMask) >>> segmentShift);
+		int entries = (int)Math.min(newSize, segmentMask + 1);
+		buffers = new ByteBuffer[segmentCount];
+		segments = new IntBuffer[segmentCount];
+		for (int s = 0; s < segmentCount; s++) {
+			ByteBuffer buffer = BufferUtils.newUnsafeByteBuffer(entries << 3);
+			BufferUtils.clear(buffer, buffer.capacity());
+			buffers[s] = buffer;
+			segments[s] = buffer.asIntBuffer();
+		}
+
+		if (oldBuffers != null) {
+			if (size > 0) {
+				for (int s = 0, n = oldSegments.length; s < n; s++) {
+					IntBuffer segment = oldSegments[s];
+					for (int i = 0, nn = segment.capacity(); i < nn; i += 2) {
+						int key = segment.get(i);
+						if (key != 0) putResize(key, segment.get(i + 1));
+					}
+				}
+			}
+			for (ByteBuffer buffer : oldBuffers)
+				BufferUtils.disposeUnsafeByteBuffer(buffer);
+		}
+	}
+
+	/** Returns the number of bytes of native memory used by the table. */
+	public long getNativeBytes () {
+		return tableSize << 3;
+	}
+
+	/** Frees the native memory. The map must not be used afterward. */
+	public void dispose () {
+		if (buffers == null) return;
+		for (ByteBuffer buffer : buffers)
+			BufferUtils.disposeUnsafeByteBuffer(buffer);
+		buffers = null;
+		segments = null;
+		tableSize = 0;
+		size = 0;
+		hasZeroValue = false;
+	}
+
+	public int hashCode () {
+		int h = (int)size;
+		if (hasZeroValue) h += zeroValue;
+		for (long i = 0, n = tableSize; i < n; i++) {
+			int key = key(i);
+			if (key != 0) h += key * 31 + value(i);
+		}
+		return h;
+	}
+
+	public boolean equals (Object obj) {
+		if (obj == this) return true;
+		if (!(obj instanceof OffHeapIntIntMap)) return false;
+		OffHeapIntIntMap other = (OffHeapIntIntMap)obj;
+		if (other.size != size) return false;
+		if (other.hasZeroValue != hasZeroValue) return false;
+		if (hasZeroValue) {
+			if (other.zeroValue != zeroValue) return false;
+		}
+		for (long i = 0, n = tableSize; i < n; i++) {
+			int key = key(i);
+			if (key != 0) {
+				int otherValue = other.get(key, 0);
+				if (otherValue == 0 && !other.containsKey(key)) return false;
+				if (otherValue != value(i)) return false;
+			}
+		}
+		return true;
+	}
+
+	public String toString () {
+		if (size == 0) return "[]";
+		java.lang.StringBuilder buffer = new java.lang.StringBuilder(32);
+		buffer.append('[');
+		boolean first = true;
+		if (hasZeroValue) {
+			buffer.append("0=");
+			buffer.append(zeroValue);
+			first = false;
+		}
+		for (long i = tableSize - 1; i >= 0; i--) {
+			int key = key(i);
+			if (key == 0) continue;
+			if (!first) buffer.append(", ");
+			first = false;
+			buffer.append(key);
+			buffer.append('=');
+			buffer.append(value(i));
+		}
+		buffer.append(']');
+		return buffer.toString();
+	}
+
+	public Iterator<IntIntMap.Entry> iterator () {
+		return entries();
+	}
+
+	/** Returns an iterator for the entries in the map. Remove is supported.
+	 * <p>
+	 * If {@link Collections#allocateIterators} is false, the same iterator instance is returned each time this method is called.
+	 * Use the {@link Entries} constructor for nested or multithreaded iteration. */
+	public Entries entries () {
+		if (Collections.allocateIterators) return new Entries(this);
+		if (entries1 == null) {
+			entries1 = new Entries(this);
+			entries2 = new Entries(this);
+		}
+		if (!entries1.valid) {
+			entries1.reset();
+			entries1.valid = true;
+			entries2.valid = false;
+			return entries1;
+		}
+		entries2.reset();
+		entries2.valid = true;
+		entries1.valid = false;
+		return entries2;
+	}
+
+	/** Returns an iterator for the values in the map. Remove is supported.
+	 * <p>
+	 * If {@link Collections#allocateIterators} is false, the same iterator instance is returned each time this method is called.
+	 * Use the {@link Values} constructor for nested or multithreaded iteration. */
+	public Values values () {
+		if (Collections.allocateIterators) return new Values(this);
+		if (values1 == null) {
+			values1 = new Values(this);
+			values2 = new Values(this);
+		}
+		if (!values1.valid) {
+			values1.reset();
+			values1.valid = true;
+			values2.valid = false;
+			return values1;
+		}
+		values2.reset();
+		values2.valid = true;
+		values1.valid = false;
+		return values2;
+	}
+
+	/** Returns an iterator for the keys in the map. Remove is supported.
+	 * <p>
+	 * If {@link Collections#allocateIterators} is false, the same iterator instance is returned each time this method is called.
+	 * Use the {@link Keys} constructor for nested or multithreaded iteration. */
+	public Keys keys () {
+		if (Collections.allocateIterators) return new Keys(this);
+		if (keys1 == null) {
+			keys1 = new Keys(this);
+			keys2 = new Keys(this);
+		}
+		if (!keys1.valid) {
+			keys1.reset();
+			keys1.valid = true;
+			keys2.valid = false;
+			return keys1;
+		}
+		keys2.reset();
+		keys2.valid = true;
+		keys1.valid = false;
+		return keys2;
+	}
+
+	static long tableSize (long capacity, float loadFactor) {
+		if (capacity < 0) throw new IllegalArgumentException("capacity must be >= 0: " + capacity);
+		long tableSize = Math.max(2, (long)Math.ceil(capacity / (double)loadFactor));
+		if (tableSize > maxTableSize) throw new IllegalArgumentException("The required capacity is too large: " + capacity);
+		return Long.highestOneBit(tableSize - 1) << 1;
+	}
+
+	static private class MapIterator {
+		static private final int INDEX_ILLEGAL = -2;
+		static final int INDEX_ZERO = -1;
+
+		public boolean hasNext;
+
+		final OffHeapIntIntMap map;
+		long nextIndex, currentIndex;
+		boolean valid = true;
+
+		public MapIterator (OffHeapIntIntMap map) {
+			this.map = map;
+			reset();
+		}
+
+		public void reset () {
+			currentIndex = INDEX_ILLEGAL;
+			nextIndex = INDEX_ZERO;
+			if (map.hasZeroValue)
+				hasNext = true;
+			else
+				findNextIndex();
+		}
+
+		void findNextIndex () {
+			for (long n = map.tableSize; ++nextIndex < n;) {
+				if (map.key(nextIndex) != 0) {
+					hasNext = true;
+					return;
+				}
+			}
+			hasNext = false;
+		}
+
+		public void remove () {
+			long i = currentIndex;
+			if (i == INDEX_ZERO && map.hasZeroValue) {
+				map.hasZeroValue = false;
+			} else if (i < 0) {
+				throw new IllegalStateException("next must be called before remove.");
+			} else {
+				if (map.removeIndex(i) != currentIndex) --nextIndex;
+			}
+			currentIndex = INDEX_ILLEGAL;
+			map.size--;
+		}
+	}
+
+	static public class Entries extends MapIterator implements Iterable<IntIntMap.Entry>, Iterator<IntIntMap.Entry> {
+		private final IntIntMap.Entry entry = new IntIntMap.Entry();
+
+		public Entries (OffHeapIntIntMap map) {
+			super(map);
+		}
+
+		/** Note the same entry instance is returned each time this method is called. */
+		public IntIntMap.Entry next () {
+			if (!hasNext) throw new NoSuchElementException();
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			if (nextIndex == INDEX_ZERO) {
+				entry.key = 0;
+				entry.value = map.zeroValue;
+			} else {
+				entry.key = map.key(nextIndex);
+				entry.value = map.value(nextIndex);
+			}
+			currentIndex = nextIndex;
+			findNextIndex();
+			return entry;
+		}
+
+		public boolean hasNext () {
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			return hasNext;
+		}
+
+		public Iterator<IntIntMap.Entry> iterator () {
+			return this;
+		}
+	}
+
+	static public class Values extends MapIterator {
+		public Values (OffHeapIntIntMap map) {
+			super(map);
+		}
+
+		public boolean hasNext () {
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			return hasNext;
+		}
+
+		public int next () {
+			if (!hasNext) throw new NoSuchElementException();
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			int value = nextIndex == INDEX_ZERO ? map.zeroValue : map.value(nextIndex);
+			currentIndex = nextIndex;
+			findNextIndex();
+			return value;
+		}
+
+		/** Adds the remaining values to the specified array. */
+		public IntArray toArray (IntArray array) {
+			while (hasNext)
+				array.add(next());
+			return array;
+		}
+	}
+
+	static public class Keys extends MapIterator {
+		public Keys (OffHeapIntIntMap map) {
+			super(map);
+		}
+
+		public boolean hasNext () {
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			return hasNext;
+		}
+
+		public int next () {
+			if (!hasNext) throw new NoSuchElementException();
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			int key = nextIndex == INDEX_ZERO ? 0 : map.key(nextIndex);
+			currentIndex = nextIndex;
+			findNextIndex();
+			return key;
+		}
+
+		/** Adds the remaining keys to the specified array. */
+		public IntArray toArray (IntArray array) {
+			while (hasNext)
+				array.add(next());
+			return array;
+		}
+	}
+}
@@ -0,0 +1,432 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+
+/** A resizable, ordered or unordered long array like {@link LongArray}, but the items are stored in native memory allocated with
+ * {@link BufferUtils#newUnsafeByteBuffer(int)} instead of a Java array. Very large arrays don't add to the Java heap, so they
+ * don't increase garbage collection time.
+ * <p>
+ * The items are stored in segments of {@link #segmentSize} items, so the array is not limited by the int capacity of a single
+ * buffer and indices are longs. Only the last segment is smaller than the segment size, so small arrays don't use more memory
+ * than needed. The capacity is limited to {@link #maxCapacity} items.
+ * <p>
+ * The native memory is not freed by the garbage collector, {@link #dispose()} must be called when the array is no longer used.
+ * The array must not be used after it is disposed. */
+public class OffHeapLongArray implements Disposable {
+	/** The number of items in a full segment, 8 MB of native memory. */
+	static public final int segmentSize = 1 << 20;
+	/** The largest number of items an array can hold. */
+	static public final long maxCapacity = (long)(Integer.MAX_VALUE - 8) * segmentSize;
+
+	public long size;
+	public boolean ordered;
+
+	/** The items in segments, each full except the last. Null after {@link #dispose()}. */
+	LongBuffer[] segments;
+	private ByteBuffer[] buffers;
+	private long capacity;
+	final int segmentShift, segmentMask;
+
+	/** Creates an ordered array with a capacity of 16. */
+	public OffHeapLongArray () {
+		this(true, 16);
+	}
+
+	/** Creates an ordered array with the specified capacity. */
+	public OffHeapLongArray (long capacity) {
+		this(true, capacity);
+	}
+
+	/** @param ordered If false, methods that remove elements may change the order of other elements in the array, which avoids a
+	 *           memory copy.
+	 * @param capacity Any elements added beyond this will cause more native memory to be allocated. */
+	public OffHeapLongArray (boolean ordered, long capacity) {
+		this(ordered, capacity, 20);
+	}
+
+	/** @param segmentShift The segment size is 1 << segmentShift items. Smaller segments let tests cross segment boundaries. */
+	OffHeapLongArray (boolean ordered, long capacity, int segmentShift) {
+		this.ordered = ordered;
+		this.segmentShift = segmentShift;
+		segmentMask = (1 << segmentShift) - 1;
+		segments = new LongBuffer[0];
+		buffers = new ByteBuffer[0];
+		resize(capacity);
+	}
+
+	public void add (long value) {
+		if (size == capacity) resize(grow(size + 1));
+		put(size++, value);
+	}
+
+	public void addAll (LongArray array) {
+		addAll(array.items, 0, array.size);
+	}
+
+	public void addAll (OffHeapLongArray array) {
+		long count = array.size, sizeNeeded = size + count;
+		if (sizeNeeded > capacity) resize(grow(sizeNeeded));
+		// Read the source segments after resizing, in case the array was added to itself.
+		copy(array, 0, this, size, count);
+		size = sizeNeeded;
+	}
+
+	public void addAll (long... array) {
+		addAll(array, 0, array.length);
+	}
+
+	public void addAll (long[] array, int offset, int length) {
+		long sizeNeeded = size + length;
+		if (sizeNeeded > capacity) resize(grow(sizeNeeded));
+		long index = size;
+		while (length > 0) {
+			LongBuffer segment = segments[(int)(index >>> segmentShift)];
+			int start = (int)index & segmentMask, count = Math.min(length, segment.capacity() - start);
+			segment.position(start);
+			segment.put(array, offset, count);
+			segment.position(0);
+			index += count;
+			offset += count;
+			length -= count;
+		}
+		size = sizeNeeded;
+	}
+
+	public long get (long index) {
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		return segments[(int)(index >>> segmentShift)].get((int)index & segmentMask);
+	}
+
+	public void set (long index, long value) {
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		segments[(int)(index >>> segmentShift)].put((int)index & segmentMask, value);
+	}
+
+	public void incr (long index, long value) {
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		LongBuffer segment = segments[(int)(index >>> segmentShift)];
+		int i = (int)index & segmentMask;
+		segment.put(i, segment.get(i) + value);
+	}
+
+	public void insert (long index, long value) {
+		if (index > size) throw new IndexOutOfBoundsException("index can't be > size: " + index + " > " + size);
+		if (size == capacity) resize(grow(size + 1));
+		if (ordered)
+			copy(this, index, this, index + 1, size - index);
+		else if (index < size) //
+			put(size, fetch(index));
+		size++;
+		put(index, value);
+	}
+
+	public void swap (long first, long second) {
+		if (first >= size) throw new IndexOutOfBoundsException("first can't be >= size: " + first + " >= " + size);
+		if (second >= size) throw new IndexOutOfBoundsException("second can't be >= size: " + second + " >= " + size);
+		long firstValue = fetch(first);
+		put(first, fetch(second));
+		put(second, firstValue);
+	}
+
+	public boolean contains (long value) {
+		return lastIndexOf(value) != -1;
+	}
+
+	public long indexOf (long value) {
+		LongBuffer[] segments = this.segments;
+		long index = 0;
+		for (int s = 0; index < size; s++) {
+			LongBuffer segment = segments[s];
+			for (int i = 0, n = (int)Math.min(segment.capacity(), size - index); i < n; i++)
+				if (segment.get(i) == value) return index + i;
+			index += segment.capacity();
+		}
+		return -1;
+	}
+
+	public long lastIndexOf (long value) {
+		if (size == 0) return -1;
+		LongBuffer[] segments = this.segments;
+		for (int s = (int)((size - 1) >>> segmentShift); s >= 0; s--) {
+			LongBuffer segment = segments[s];
+			long start = (long)s << segmentShift;
+			for (int i = (int)Math.min(segment.capacity(), size - start) - 1; i >= 0; i--)
+				if (segment.get(i) == value) return start + i;
+		}
+		return -1;
+	}
+
+	public boolean removeValue (long value) {
+		long index = indexOf(value);
+		if (index == -1) return false;
+		removeIndex(index);
+		return true;
+	}
+
+	/** Removes and returns the item at the specified index. */
+	public long removeIndex (long index) {
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		long value = fetch(index);
+		size--;
+		if (ordered)
+			copy(this, index + 1, this, index, size - index);
+		else
+			put(index, fetch(size));
+		return value;
+	}
+
+	/** Removes the items between the specified indices, inclusive. */
+	public void removeRange (long start, long end) {
+		long n = size;
+		if (end >= n) throw new IndexOutOfBoundsException("end can't be >= size: " + end + " >= " + size);
+		if (start > end) throw new IndexOutOfBoundsException("start can't be > end: " + start + " > " + end);
+		long count = end - start + 1, lastIndex = n - count;
+		if (ordered)
+			copy(this, start + count, this, start, n - (start + count));
+		else {
+			long i = Math.max(lastIndex, end + 1);
+			copy(this, i, this, start, n - i);
+		}
+		size = n - count;
+	}
+
+	/** Removes and returns the last item. */
+	public long pop () {
+		if (size <= 0) throw new IllegalStateException("Array is empty.");
+		return fetch(--size);
+	}
+
+	/** Returns the last item. */
+	public long peek () {
+		if (size <= 0) throw new IllegalStateException("Array is empty.");
+		return fetch(size - 1);
+	}
+
+	/** Returns the first item. */
+	public long first () {
+		if (size == 0) throw new IllegalStateException("Array is empty.");
+		return segments[0].get(0);
+	}
+
+	/** Returns true if the array has one or more items. */
+	public boolean notEmpty () {
+		return size > 0;
+	}
+
+	/** Returns true if the array is empty. */
+	public boolean isEmpty () {
+		return size == 0;
+	}
+
+	public void clear () {
+		size = 0;
+	}
+
+	/** Returns the number of items the array can hold before more native memory is allocated. */
+	public long capacity () {
+		return capacity;
+	}
+
+	/** Reduces the native memory to the size of the actual items. This is useful to release memory when many items have been
+	 * removed, or if it is known that more items will not be added. */
+	public void shrink () {
+		if (capacity != size) resize(size);
+	}
+
+	/** Increases the native memory to accommodate the specified number of additional items. Useful before adding many items to
+	 * avoid multiple resizes. */
+	public void ensureCapacity (long additionalCapacity) {
+		if (additionalCapacity < 0) throw new IllegalArgumentException("additionalCapacity must be >= 0: " + additionalCapacity);
+		long sizeNeeded = size + additionalCapacity;
+		if (sizeNeeded > capacity) resize(grow(sizeNeeded));
+	}
+
+	/** Sets the array size, leaving any values beyond the current size undefined. */
+	public void setSize (long newSize) {
+		if (newSize < 0) throw new IllegalArgumentException("newSize must be >= 0: " + newSize);
+		if (newSize > capacity) resize(Math.max(8, newSize));
+		size = newSize;
+	}
+
+	/** Reduces the size of the array to the specified size. If the array is already smaller than the specified size, no action is
+	 * taken. */
+	public void truncate (long newSize) {
+		if (newSize < 0) throw new IllegalArgumentException("newSize must be >= 0: " + newSize);
+		if (size > newSize) size = newSize;
+	}
+
+	public void reverse () {
+		for (long i = 0, lastIndex = size - 1, n = size / 2; i < n; i++) {
+			long ii = lastIndex - i;
+			long temp = fetch(i);
+			put(i, fetch(ii));
+			put(ii, temp);
+		}
+	}
+
+	/** @throws IllegalStateException if the array has more items than a Java array can hold. */
+	public long[] toArray () {
+		if (size > Integer.MAX_VALUE - 8) throw new IllegalStateException("Array is too large for a Java array: " + size);
+		long[] array = new long[(int)size];
+		for (int s = 0, offset = 0; offset < size; s++) {
+			LongBuffer segment = segments[s];
+			int count = (int)Math.min(segment.capacity(), size - offset);
+			segment.get(array, offset, count);
+			segment.position(0);
+			offset += count;
+		}
+		return array;
+	}
+
+	/** Returns the number of bytes of native memory used by the segments. */
+	public long getNativeBytes () {
+		if (buffers == null) return 0;
+		long bytes = 0;
+		for (ByteBuffer buffer : buffers)
+			bytes += buffer.capacity();
+		return bytes;
+	}
+
+	private long fetch (long index) {
+		return segments[(int)(index >>> segmentShift)].get((int)index & segmentMask);
+	}
+
+	private void put (long index, long value) {
+		segments[(int)(index >>> segmentShift)].put((int)index & segmentMask, value);
+	}
+
+	private long grow (long sizeNeeded) {
+		return Math.min(maxCapacity, Math.max(Math.max(8, sizeNeeded), (long)(size * 1.75f)));
+	}
+
+	/** Sets the capacity, keeping full segments and reallocating only the segments whose size changes. */
+	protected void resize (long newCapacity) {
+		if (newCapacity < 0 || newCapacity > maxCapacity)
+			throw new IllegalArgumentException("Capacity must be >= 0 and <= " + maxCapacity + ": " + newCapacity);
+		newCapacity = Math.max(1, newCapacity);
+		int segmentSize = segmentMask + 1;
+		int segmentCount = (int)((newCapacity + segmentMask) >>> segmentShift);
+		LongBuffer[] oldSegments = segments, newSegments = new LongBuffer[segmentCount];
+		ByteBuffer[] oldBuffers = buffers, newBuffers = new ByteBuffer[segmentCount];
+		for (int s = 0; s < segmentCount; s++) {
+			int newSize = (int)Math.min(segmentSize, newCapacity - ((long)s << segmentShift));
+			if (s < oldSegments.length && oldSegments[s].capacity() == newSize) {
+				newSegments[s] = oldSegments[s];
+				newBuffers[s] = oldBuffers[s];
+				continue;
+			}
+			newBuffers[s] = BufferUtils.newUnsafeByteBuffer(newSize << 3);
+			newSegments[s] = newBuffers[s].asLongBuffer();
+			if (s < oldSegments.length) {
+				long used = Math.max(0, size - ((long)s << segmentShift));
+				move(oldSegments[s], 0, newSegments[s], 0, (int)Math.min(used, Math.min(newSize, oldSegments[s].capacity())));
+			}
+		}
+		for (int s = 0; s < oldSegments.length; s++)
+			if (s >= segmentCount || newBuffers[s] != oldBuffers[s]) BufferUtils.disposeUnsafeByteBuffer(oldBuffers[s]);
+		segments = newSegments;
+		buffers = newBuffers;
+		capacity = newCapacity;
+	}
+
+	/** Copies items between arrays, or within an array, like {@link System#arraycopy(Object, int, Object, int, int)}. The items
+	 * are copied a piece at a time, each within a single source and destination segment. When the ranges overlap in the same
+	 * array the pieces are copied back to front if needed, so each piece is read before it is overwritten. */
+	static void copy (OffHeapLongArray source, long sourceIndex, OffHeapLongArray dest, long destIndex, long count) {
+		if (count <= 0) return;
+		LongBuffer[] sourceSegments = source.segments, destSegments = dest.segments;
+		int sourceShift = source.segmentShift, sourceMask = source.segmentMask;
+		int destShift = dest.segmentShift, destMask = dest.segmentMask;
+		if (source != dest || destIndex <= sourceIndex || destIndex >= sourceIndex + count) {
+			while (count > 0) {
+				int sourceOffset = (int)sourceIndex & sourceMask, destOffset = (int)destIndex & destMask;
+				int n = (int)Math.min(count, Math.min(sourceMask + 1 - sourceOffset, destMask + 1 - destOffset));
+				move(sourceSegments[(int)(sourceIndex >>> sourceShift)], sourceOffset,
+					destSegments[(int)(destIndex >>> destShift)], destOffset, n);
+				sourceIndex += n;
+				destIndex += n;
+				count -= n;
+			}
+		} else {
+			long sourceEnd = sourceIndex + count, destEnd = destIndex + count;
+			while (count > 0) {
+				int n = (int)Math.min(count, Math.min(((sourceEnd - 1) & sourceMask) + 1, ((destEnd - 1) & destMask) + 1));
+				sourceEnd -= n;
+				destEnd -= n;
+				move(sourceSegments[(int)(sourceEnd >>> sourceShift)], (int)sourceEnd & sourceMask,
+					destSegments[(int)(destEnd >>> destShift)], (int)destEnd & destMask, n);
+				count -= n;
+			}
+		}
+	}
+
+	/** Copies items like {@link System#arraycopy(Object, int, Object, int, int)}: if source and dest are the same buffer and the
+	 * ranges overlap, the result is as if the source items were first copied to a temporary buffer. Different buffers must not
+	 * share memory. */
+	static void move (LongBuffer source, int sourceIndex, LongBuffer dest, int destIndex, int count) {
+		if (count <= 0) return;
+		int distance = destIndex - sourceIndex;
+		if (source != dest || Math.abs(distance) >= count)
+			copy(source, sourceIndex, dest, destIndex, count);
+		else if (distance > 0) {
+			// Copy backward in pieces no larger than the distance, so each piece is read before it is overwritten.
+			for (int end = sourceIndex + count; end > sourceIndex; end -= distance) {
+				int start = Math.max(sourceIndex, end - distance);
+				copy(source, start, dest, start + distance, end - start);
+			}
+		} else if (distance < 0) {
+			// Copy forward in pieces no larger than the distance.
+			for (int start = sourceIndex, end = sourceIndex + count; start < end; start -= distance)
+				copy(source, start, dest, start + distance, Math.min(-distance, end - start));
+		}
+	}
+
+	/** Copies items between ranges that don't overlap. */
+	static private void copy (LongBuffer source, int sourceIndex, LongBuffer dest, int destIndex, int count) {
+		LongBuffer from = source.duplicate(), to = dest.duplicate();
+		from.limit(sourceIndex + count).position(sourceIndex);
+		to.position(destIndex);
+		to.put(from);
+	}
+
+	/** Frees the native memory. The array must not be used afterward. */
+	public void dispose () {
+		if (buffers == null) return;
+		for (ByteBuffer buffer : buffers)
+			BufferUtils.disposeUnsafeByteBuffer(buffer);
+		buffers = null;
+		segments = null;
+		capacity = 0;
+		size = 0;
+	}
+
+	public String toString () {
+		if (size == 0) return "[]";
+		StringBuilder buffer = new StringBuilder(32);
+		buffer.append('[');
+		buffer.append(fetch(0));
+		for (long i = 1; i < size; i++) {
+			buffer.append(", ");
+			buffer.append(fetch(i));
+		}
+		buffer.append(']');
+		return buffer.toString();
+	}
+}
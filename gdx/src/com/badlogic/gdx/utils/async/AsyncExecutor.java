@@ -21,6 +21,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
@@ -31,6 +32,7 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
  * @author badlogic */
 public class AsyncExecutor implements Disposable {
 	private final ExecutorService executor;
+	private final int maxConcurrent;
 
 	/** Creates a new AsyncExecutor with the name "AsyncExecutor-Thread". */
 	public AsyncExecutor (int maxConcurrent) {
@@ -41,10 +43,11 @@ public class AsyncExecutor implements Disposable {
 	 * @param maxConcurrent
 	 * @param name The name of the threads. */
 	public AsyncExecutor (int maxConcurrent, final String name) {
+		this.maxConcurrent = maxConcurrent;
 		executor = Executors.newFixedThreadPool(maxConcurrent, new ThreadFactory() {
 			@Override
 			public Thread newThread (Runnable r) {
-				Thread thread = new Thread(r, name);
+				Thread thread = new ExecutorThread(r, name, AsyncExecutor.this);
 				thread.setDaemon(true);
 				return thread;
 			}
@@ -66,6 +69,56 @@ public class AsyncExecutor implements Disposable {
 		}));
 	}
 
+	/** Returns the maximum number of tasks that run in parallel. */
+	public int getMaxConcurrent () {
+		return maxConcurrent;
+	}
+
+	/** Returns true if the calling thread is one of this executor's threads. A task running on the executor must not wait for
+	 * tasks it submits to the same executor, since they may never run when all threads are waiting. */
+	public boolean isExecutorThread () {
+		Thread thread = Thread.currentThread();
+		return thread instanceof ExecutorThread && ((ExecutorThread)thread).executor == this;
+	}
+
+	/** Runs the task for the indices from 0 to count - 1, in chunks of at most chunkSize indices. The calling thread and up to
+	 * {@link #getMaxConcurrent()} of the executor's threads take chunks until none remain, and the method returns when all chunks
+	 * are done. When there is only one chunk, or when called on one of the executor's threads, all indices are run on the calling
+	 * thread.
+	 * <p>
+	 * If a chunk throws an exception, no more chunks are started. The method still waits for the chunks that are running, then
+	 * throws the first exception. */
+	public void parallelFor (int count, int chunkSize, RangeTask task) {
+		if (count <= 0) return;
+		chunkSize = Math.max(1, chunkSize);
+		// Waiting on the executor's own thread for tasks submitted to it can deadlock.
+		int tasks = isExecutorThread() ? 0 : Math.min((count - 1) / chunkSize, maxConcurrent);
+		if (tasks == 0) {
+			task.run(0, count);
+			return;
+		}
+		ParallelFor parallelFor = new ParallelFor(task, count, chunkSize);
+		AsyncResult[] results = new AsyncResult[tasks];
+		int submitted = 0;
+		Throwable error = null;
+		try {
+			for (; submitted < tasks; submitted++)
+				results[submitted] = submit(parallelFor);
+			parallelFor.call();
+		} catch (Throwable ex) {
+			error = ex;
+		}
+		for (int i = 0; i < submitted; i++) {
+			try {
+				results[i].get();
+			} catch (Throwable ex) {
+				if (error == null) error = ex;
+			}
+		}
+		if (error instanceof RuntimeException) throw (RuntimeException)error;
+		if (error instanceof Error) throw (Error)error;
+	}
+
 	/** Waits for running {@link AsyncTask} instances to finish, then destroys any resources like threads. Can not be used after
 	 * this method is called. */
 	@Override
@@ -77,4 +130,47 @@ public class AsyncExecutor implements Disposable {
 			throw new GdxRuntimeException("Couldn't shutdown loading thread", e);
 		}
 	}
+
+	/** A task run for ranges of indices by {@link AsyncExecutor#parallelFor(int, int, RangeTask)}. */
+	static public interface RangeTask {
+		/** Called for each chunk, possibly on multiple threads at the same time.
+		 * @param end The index after the last index of the chunk. */
+		public void run (int start, int end);
+	}
+
+	static private class ParallelFor implements AsyncTask<Void> {
+		final AtomicInteger next = new AtomicInteger();
+		final RangeTask task;
+		final int count, chunkSize;
+		volatile boolean failed;
+
+		ParallelFor (RangeTask task, int count, int chunkSize) {
+			this.task = task;
+			this.count = count;
+			this.chunkSize = chunkSize;
+		}
+
+		public Void call () {
+			try {
+				for (long start; !failed && (start = (long)next.getAndIncrement() * chunkSize) < count;)
+					task.run((int)start, (int)Math.min(start + chunkSize, count));
+			} catch (RuntimeException ex) {
+				failed = true;
+				throw ex;
+			} catch (Error ex) {
+				failed = true;
+				throw ex;
+			}
+			return null;
+		}
+	}
+
+	static private class ExecutorThread extends Thread {
+		final AsyncExecutor executor;
+
+		ExecutorThread (Runnable runnable, String name, AsyncExecutor executor) {
+			super(runnable, name);
+			this.executor = executor;
+		}
+	}
 }
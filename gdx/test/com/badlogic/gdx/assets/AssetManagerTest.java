@@ -0,0 +1,248 @@
+package com.badlogic.gdx.assets;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.SynchronousAssetLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+
+public class AssetManagerTest {
+	static final FileHandleResolver resolver = new FileHandleResolver() {
+		public FileHandle resolve (String fileName) {
+			return new FileHandle(fileName);
+		}
+	};
+
+	@Test
+	public void priorityTest () {
+		TestLoader loader = new TestLoader(false);
+		AssetManager manager = newManager(loader, 1);
+		manager.load("low", String.class, null, -1);
+		manager.load("first", String.class);
+		manager.load("high", String.class, null, 5);
+		manager.load("second", String.class);
+		finish(manager);
+		assertEquals("[high, first, second, low]", loader.loaded.toString());
+		manager.dispose();
+	}
+
+	@Test
+	public void concurrentTest () {
+		TestLoader loader = new TestLoader(true);
+		loader.delay = 50;
+		AssetManager manager = newManager(loader, 4);
+		for (int i = 0; i < 8; i++)
+			manager.load("asset" + i, String.class);
+		finish(manager);
+		assertEquals(8, loader.loaded.size);
+		assertTrue(loader.maxLoading.get() > 1);
+		assertTrue(loader.maxLoading.get() <= 4);
+		manager.dispose();
+	}
+
+	@Test
+	public void notConcurrentTest () {
+		TestLoader loader = new TestLoader(false);
+		loader.delay = 10;
+		AssetManager manager = newManager(loader, 4);
+		for (int i = 0; i < 8; i++)
+			manager.load("asset" + i, String.class);
+		finish(manager);
+		assertEquals(8, loader.loaded.size);
+		assertEquals(1, loader.maxLoading.get());
+		manager.dispose();
+	}
+
+	@Test
+	public void sharedDependencyTest () {
+		TestLoader loader = new TestLoader(true);
+		loader.delay = 10;
+		loader.dependencies.put("a", new String[] {"shared", "b"});
+		loader.dependencies.put("b", new String[] {"shared"});
+		loader.dependencies.put("c", new String[] {"shared"});
+		AssetManager manager = newManager(loader, 3);
+		manager.load("a", String.class);
+		manager.load("c", String.class);
+		manager.load("shared", String.class);
+		finish(manager);
+
+		assertEquals(4, loader.loaded.size);
+		assertTrue(loader.loaded.indexOf("shared", false) < loader.loaded.indexOf("b", false));
+		assertTrue(loader.loaded.indexOf("b", false) < loader.loaded.indexOf("a", false));
+		assertTrue(loader.loaded.indexOf("shared", false) < loader.loaded.indexOf("c", false));
+		assertEquals(4, manager.getReferenceCount("shared"));
+		assertEquals(1, manager.getReferenceCount("b"));
+		assertEquals(1f, manager.getProgress(), 0);
+
+		manager.unload("a");
+		assertFalse(manager.isLoaded("b"));
+		assertEquals(2, manager.getReferenceCount("shared"));
+		manager.unload("c");
+		manager.unload("shared");
+		assertFalse(manager.isLoaded("shared"));
+		manager.dispose();
+	}
+
+	@Test
+	public void frameBudgetTest () {
+		TestLoader loader = new TestLoader(true);
+		loader.syncSteps = 5;
+		AssetManager manager = newManager(loader, 1);
+		manager.load("asset", String.class);
+		finish(manager);
+		assertEquals(1, loader.syncCalls);
+
+		manager.setFrameBudget(1000);
+		manager.load("budgeted", String.class);
+		finish(manager);
+		assertEquals(1 + 5, loader.syncCalls);
+		assertTrue(manager.updateTime.count > 0);
+		assertTrue(manager.updateTime.total > 0);
+		manager.dispose();
+	}
+
+	@Test
+	public void syncUnloadTest () {
+		TestLoader loader = new TestLoader(true);
+		SyncLoader syncLoader = new SyncLoader();
+		syncLoader.dependencies.put("unloaded", new String[] {"dependency"});
+		syncLoader.dependencies.put("broken", new String[] {"fail"});
+		AssetManager manager = newManager(loader, 1);
+		manager.setLoader(Integer.class, syncLoader);
+		manager.setErrorListener(new AssetErrorListener() {
+			public void error (AssetDescriptor asset, Throwable throwable) {
+			}
+		});
+
+		// Unloaded after getDependencies, before load.
+		manager.load("unloaded", Integer.class);
+		while (!syncLoader.kept.contains("unloaded"))
+			manager.update();
+		manager.unload("unloaded");
+		finish(manager);
+		assertFalse(manager.isLoaded("unloaded"));
+		assertEquals(0, syncLoader.kept.size);
+
+		// A dependency fails to load.
+		manager.load("broken", Integer.class);
+		finish(manager);
+		assertFalse(manager.isLoaded("broken"));
+		assertEquals(0, syncLoader.kept.size);
+
+		syncLoader.dependencies.clear();
+		manager.load("loaded", Integer.class);
+		finish(manager);
+		assertTrue(manager.isLoaded("loaded"));
+		manager.dispose();
+	}
+
+	private AssetManager newManager (TestLoader loader, int maxConcurrent) {
+		AssetManager manager = new AssetManager(resolver, false, maxConcurrent);
+		manager.setLoader(String.class, loader);
+		return manager;
+	}
+
+	private void finish (AssetManager manager) {
+		long timeout = System.currentTimeMillis() + 10000;
+		while (!manager.update()) {
+			assertTrue("Loading timed out.", System.currentTimeMillis() < timeout);
+			try {
+				Thread.sleep(1);
+			} catch (InterruptedException ignored) {
+			}
+		}
+	}
+
+	static class TestLoader extends AsynchronousAssetLoader<String, AssetLoaderParameters<String>> {
+		final boolean concurrent;
+		final ObjectMap<String, String[]> dependencies = new ObjectMap();
+		final Array<String> loaded = new Array();
+		final AtomicInteger loading = new AtomicInteger(), maxLoading = new AtomicInteger();
+		int delay, syncSteps, syncCalls, syncStep;
+
+		TestLoader (boolean concurrent) {
+			super(resolver);
+			this.concurrent = concurrent;
+		}
+
+		public Array<AssetDescriptor> getDependencies (String fileName, FileHandle file, AssetLoaderParameters<String> parameter) {
+			String[] names = dependencies.get(fileName);
+			if (names == null) return null;
+			Array<AssetDescriptor> descriptors = new Array();
+			for (String name : names)
+				descriptors.add(new AssetDescriptor(name, String.class));
+			return descriptors;
+		}
+
+		public void loadAsync (AssetManager manager, String fileName, FileHandle file, AssetLoaderParameters<String> parameter) {
+			int count = loading.incrementAndGet();
+			while (true) {
+				int max = maxLoading.get();
+				if (count <= max || maxLoading.compareAndSet(max, count)) break;
+			}
+			try {
+				Thread.sleep(delay);
+			} catch (InterruptedException ignored) {
+			}
+			loading.decrementAndGet();
+		}
+
+		public String loadSync (AssetManager manager, String fileName, FileHandle file, AssetLoaderParameters<String> parameter) {
+			syncCalls++;
+			// Pretend the work doesn't fit in one frame when the frame time is limited.
+			if (manager.getFrameTimeRemaining() != Long.MAX_VALUE && ++syncStep < syncSteps) return null;
+			syncStep = 0;
+			if (fileName.startsWith("fail")) throw new GdxRuntimeException("Failed: " + fileName);
+			String[] names = dependencies.get(fileName);
+			if (names != null) {
+				for (String name : names)
+					assertTrue(manager.isLoaded(name));
+			}
+			loaded.add(fileName);
+			return fileName;
+		}
+
+		public boolean isConcurrent () {
+			return concurrent;
+		}
+	}
+
+	/** Keeps state between getDependencies and load, which must be released if load isn't called. */
+	static class SyncLoader extends SynchronousAssetLoader<Integer, AssetLoaderParameters<Integer>> {
+		final ObjectMap<String, String[]> dependencies = new ObjectMap();
+		final ObjectSet<String> kept = new ObjectSet();
+
+		SyncLoader () {
+			super(resolver);
+		}
+
+		public Array<AssetDescriptor> getDependencies (String fileName, FileHandle file, AssetLoaderParameters<Integer> parameter) {
+			kept.add(fileName);
+			Array<AssetDescriptor> descriptors = new Array();
+			String[] names = dependencies.get(fileName);
+			if (names != null) {
+				for (String name : names)
+					descriptors.add(new AssetDescriptor(name, String.class));
+			}
+			return descriptors;
+		}
+
+		public Integer load (AssetManager manager, String fileName, FileHandle file, AssetLoaderParameters<Integer> parameter) {
+			assertTrue(kept.remove(fileName));
+			return fileName.length();
+		}
+
+		public void unload (AssetManager manager, String fileName, FileHandle file, AssetLoaderParameters<Integer> parameter) {
+			assertTrue(kept.remove(fileName));
+		}
+	}
+}
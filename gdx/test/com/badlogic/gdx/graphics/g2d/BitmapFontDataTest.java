@@ -0,0 +1,153 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+
+/** Loads the same font from the BMFont text format and from the BMFont binary format, as written by the BMFont tool, and
+ * compares the results. */
+public class BitmapFontDataTest {
+	static private final String text = "" //
+		+ "info face=\"Test\" size=16 bold=0 italic=0 charset=\"\" unicode=1 stretchH=100 smooth=1 aa=1 padding=1,2,3,4 spacing=1,1\n"
+		+ "common lineHeight=18 base=14 scaleW=64 scaleH=64 pages=2 packed=0\n" //
+		+ "page id=0 file=\"test0.png\"\n" //
+		+ "page id=1 file=\"test1.png\"\n" //
+		+ "chars count=5\n" //
+		+ "char id=0 x=0 y=0 width=6 height=10 xoffset=0 yoffset=4 xadvance=7 page=0 chnl=0\n" //
+		+ "char id=32 x=0 y=0 width=0 height=0 xoffset=0 yoffset=0 xadvance=5 page=0 chnl=0\n" //
+		+ "char id=65 x=10 y=0 width=9 height=12 xoffset=-1 yoffset=2 xadvance=10 page=0 chnl=0\n" //
+		+ "char id=103 x=20 y=0 width=7 height=13 xoffset=0 yoffset=5 xadvance=8 page=1 chnl=0\n" //
+		+ "char id=120 x=30 y=0 width=7 height=8 xoffset=1 yoffset=6 xadvance=8 page=1 chnl=0\n" //
+		+ "kernings count=2\n" //
+		+ "kerning first=65 second=103 amount=-1\n" //
+		+ "kerning first=120 second=65 amount=2\n";
+
+	/** The glyphs of {@link #text}: id, x, y, width, height, xoffset, yoffset, xadvance, page. */
+	static private final int[][] chars = { //
+		{0, 0, 0, 6, 10, 0, 4, 7, 0}, //
+		{32, 0, 0, 0, 0, 0, 0, 5, 0}, //
+		{65, 10, 0, 9, 12, -1, 2, 10, 0}, //
+		{103, 20, 0, 7, 13, 0, 5, 8, 1}, //
+		{120, 30, 0, 7, 8, 1, 6, 8, 1}};
+
+	/** The kernings of {@link #text}: first, second, amount. */
+	static private final int[][] kernings = {{65, 103, -1}, {120, 65, 2}};
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testBinary () throws IOException {
+		FileHandle textFile = write("text.fnt", text.getBytes("UTF-8"));
+		FileHandle binaryFile = write("binary.fnt", binary(false));
+		assertSameFont(new BitmapFontData(textFile, false), new BitmapFontData(binaryFile, false));
+		assertSameFont(new BitmapFontData(textFile, true), new BitmapFontData(binaryFile, true));
+	}
+
+	@Test
+	public void testBinaryMetrics () throws IOException {
+		String metrics = "metrics ascent=1.5 descent=-2.5 down=-20 capHeight=11 lineHeight=20 spaceXAdvance=6 xHeight=7\n";
+		FileHandle textFile = write("text.fnt", (text + metrics).getBytes("UTF-8"));
+		FileHandle binaryFile = write("binary.fnt", binary(true));
+		BitmapFontData data = new BitmapFontData(binaryFile, false);
+		assertSameFont(new BitmapFontData(textFile, false), data);
+		Assert.assertEquals(1.5f, data.ascent, 0);
+		Assert.assertEquals(-20, data.down, 0);
+	}
+
+	private FileHandle write (String name, byte[] bytes) throws IOException {
+		File file = folder.newFile(name);
+		FileHandle handle = new FileHandle(file);
+		handle.writeBytes(bytes, false);
+		return handle;
+	}
+
+	/** Returns {@link #text} in the BMFont binary format, optionally with the metrics block written by BitmapFontWriter. */
+	static private byte[] binary (boolean metrics) {
+		ByteBuffer buffer = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.put(new byte[] {'B', 'M', 'F', 3});
+
+		buffer.put((byte)1).putInt(14 + 5); // info
+		buffer.putShort((short)16).put((byte)2).put((byte)0).putShort((short)100).put((byte)1);
+		buffer.put(new byte[] {1, 2, 3, 4, 1, 1, 0}); // padding, spacing, outline
+		buffer.put(new byte[] {'T', 'e', 's', 't', 0});
+
+		buffer.put((byte)2).putInt(15); // common
+		buffer.putShort((short)18).putShort((short)14).putShort((short)64).putShort((short)64).putShort((short)2);
+		buffer.put(new byte[] {0, 0, 0, 0, 0});
+
+		buffer.put((byte)3).putInt(20); // pages
+		buffer.put("test0.png\0test1.png\0".getBytes());
+
+		buffer.put((byte)4).putInt(chars.length * 20); // chars
+		for (int[] c : chars) {
+			buffer.putInt(c[0]);
+			for (int i = 1; i < 8; i++)
+				buffer.putShort((short)c[i]);
+			buffer.put((byte)c[8]).put((byte)15);
+		}
+
+		buffer.put((byte)5).putInt(kernings.length * 10); // kerning pairs
+		for (int[] k : kernings)
+			buffer.putInt(k[0]).putInt(k[1]).putShort((short)k[2]);
+
+		if (metrics) {
+			buffer.put((byte)6).putInt(7 * 4);
+			buffer.putFloat(1.5f).putFloat(-2.5f).putFloat(-20).putFloat(11).putFloat(20).putFloat(6).putFloat(7);
+		}
+
+		byte[] bytes = new byte[buffer.position()];
+		buffer.flip();
+		buffer.get(bytes);
+		return bytes;
+	}
+
+	static void assertSameFont (BitmapFontData expected, BitmapFontData actual) {
+		Assert.assertArrayEquals(expected.imagePaths, actual.imagePaths);
+		Assert.assertEquals(expected.padTop, actual.padTop, 0);
+		Assert.assertEquals(expected.padRight, actual.padRight, 0);
+		Assert.assertEquals(expected.padBottom, actual.padBottom, 0);
+		Assert.assertEquals(expected.padLeft, actual.padLeft, 0);
+		Assert.assertEquals(expected.lineHeight, actual.lineHeight, 0);
+		Assert.assertEquals(expected.capHeight, actual.capHeight, 0);
+		Assert.assertEquals(expected.ascent, actual.ascent, 0);
+		Assert.assertEquals(expected.descent, actual.descent, 0);
+		Assert.assertEquals(expected.down, actual.down, 0);
+		Assert.assertEquals(expected.spaceXadvance, actual.spaceXadvance, 0);
+		Assert.assertEquals(expected.xHeight, actual.xHeight, 0);
+		assertSameGlyph(expected.missingGlyph, actual.missingGlyph);
+		for (int ch = 1; ch <= Character.MAX_VALUE; ch++) {
+			Glyph glyph = expected.getGlyph((char)ch);
+			assertSameGlyph(glyph, actual.getGlyph((char)ch));
+			if (glyph == null) continue;
+			for (int[] k : kernings)
+				Assert.assertEquals(glyph.getKerning((char)k[1]), actual.getGlyph((char)ch).getKerning((char)k[1]));
+		}
+	}
+
+	static private void assertSameGlyph (Glyph expected, Glyph actual) {
+		if (expected == null) {
+			Assert.assertNull(actual);
+			return;
+		}
+		Assert.assertNotNull(actual);
+		Assert.assertEquals(expected.id, actual.id);
+		Assert.assertEquals(expected.srcX, actual.srcX);
+		Assert.assertEquals(expected.srcY, actual.srcY);
+		Assert.assertEquals(expected.width, actual.width);
+		Assert.assertEquals(expected.height, actual.height);
+		Assert.assertEquals(expected.xoffset, actual.xoffset);
+		Assert.assertEquals(expected.yoffset, actual.yoffset);
+		Assert.assertEquals(expected.xadvance, actual.xadvance);
+		Assert.assertEquals(expected.page, actual.page);
+	}
+}
@@ -0,0 +1,167 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout.GlyphRun;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Justify;
+
+public class GlyphLayoutCacheTest {
+	private final BitmapFont font = createFont();
+
+	@Test
+	public void testEviction () {
+		GlyphLayoutCache cache = new GlyphLayoutCache(2);
+		GlyphLayout layout = new GlyphLayout();
+		setText(cache, layout, "one");
+		setText(cache, layout, "two");
+		Assert.assertEquals(2, cache.misses);
+		Assert.assertEquals(2, cache.getSize());
+
+		// "one" becomes the most recently used, so "two" is evicted by "six".
+		setText(cache, layout, "one");
+		Assert.assertEquals(1, cache.hits);
+		setText(cache, layout, "six");
+		Assert.assertEquals(3, cache.misses);
+		Assert.assertEquals(2, cache.getSize());
+
+		setText(cache, layout, "one");
+		Assert.assertEquals(2, cache.hits);
+		setText(cache, layout, "six");
+		Assert.assertEquals(3, cache.hits);
+		setText(cache, layout, "two");
+		Assert.assertEquals(4, cache.misses);
+		Assert.assertEquals(2, cache.getSize());
+
+		cache.clear();
+		Assert.assertEquals(0, cache.getSize());
+		setText(cache, layout, "six");
+		Assert.assertEquals(5, cache.misses);
+	}
+
+	@Test
+	public void testCachedLayout () {
+		GlyphLayoutCache cache = new GlyphLayoutCache();
+		GlyphLayout layout = new GlyphLayout(), cached = new GlyphLayout();
+		setText(cache, layout, "ab cd");
+		setText(cache, layout, "abc");
+		setText(cache, cached, "xab cdx", 1, 6);
+		Assert.assertEquals(1, cache.hits);
+		layout.setText(font, "ab cd");
+		assertSameLayout(layout, cached);
+	}
+
+	@Test
+	public void testKeyEquals () {
+		BitmapFontData data = font.getData();
+		GlyphLayoutCache.Key key = key(data, "abc", 0, 3), other = key(data, "xabcx", 1, 4);
+		Assert.assertEquals(key, other);
+		Assert.assertEquals(key.hashCode(), other.hashCode());
+
+		Assert.assertFalse(key.equals(key(data, "abd", 0, 3)));
+		Assert.assertFalse(key.equals(key(data, "abcd", 0, 4)));
+		other.set(data, "abc", 0, 3, Color.RED.toIntBits(), 0, Align.left, false, Justify.None, null);
+		Assert.assertFalse(key.equals(other));
+		other.set(data, "abc", 0, 3, Color.WHITE.toIntBits(), 10, Align.left, false, Justify.None, null);
+		Assert.assertFalse(key.equals(other));
+		other.set(data, "abc", 0, 3, Color.WHITE.toIntBits(), 0, Align.center, false, Justify.None, null);
+		Assert.assertFalse(key.equals(other));
+		other.set(data, "abc", 0, 3, Color.WHITE.toIntBits(), 0, Align.left, true, Justify.None, null);
+		Assert.assertFalse(key.equals(other));
+		other.set(data, "abc", 0, 3, Color.WHITE.toIntBits(), 0, Align.left, false, Justify.None, "");
+		Assert.assertFalse(key.equals(other));
+		other.set(data, "abc", 0, 3, Color.WHITE.toIntBits(), 0, Align.left, false, Justify.None, null);
+		Assert.assertEquals(key, other);
+
+		data.setScale(2);
+		try {
+			Assert.assertFalse(key.equals(key(data, "abc", 0, 3)));
+		} finally {
+			data.setScale(1);
+		}
+	}
+
+	@Test
+	public void testUpdateText () {
+		GlyphLayout layout = new GlyphLayout(), expected = new GlyphLayout();
+		layout.setText(font, "abc", 0, 3, Color.WHITE, 100, Align.center, false, null);
+		Assert.assertTrue(layout.updateText(font, "abbd", 0, 4, Color.WHITE, 100, Align.center));
+		expected.setText(font, "abbd", 0, 4, Color.WHITE, 100, Align.center, false, null);
+		assertSameLayout(expected, layout);
+
+		// Only the kerning of the last kept glyph changes.
+		Assert.assertTrue(layout.updateText(font, "ab", 0, 2, Color.WHITE, 100, Align.center));
+		expected.setText(font, "ab", 0, 2, Color.WHITE, 100, Align.center, false, null);
+		assertSameLayout(expected, layout);
+		Assert.assertTrue(layout.updateText(font, "xa ax", 1, 4, Color.WHITE, 0, Align.left));
+		expected.setText(font, "a a", 0, 3, Color.WHITE, 0, Align.left, false, null);
+		assertSameLayout(expected, layout);
+
+		Assert.assertFalse(layout.updateText(font, "ba", 0, 2, Color.WHITE, 0, Align.left));
+		Assert.assertFalse(layout.updateText(font, "a\nb", 0, 3, Color.WHITE, 0, Align.left));
+		Assert.assertFalse(layout.updateText(font, "ab", 0, 2, Color.RED, 0, Align.left));
+		assertSameLayout(expected, layout);
+
+		layout.setText(font, "ab cd", 0, 5, Color.WHITE, 20, Align.left, true, null);
+		Assert.assertFalse(layout.updateText(font, "ab", 0, 2, Color.WHITE, 20, Align.left));
+	}
+
+	private void setText (GlyphLayoutCache cache, GlyphLayout layout, String text) {
+		setText(cache, layout, text, 0, text.length());
+	}
+
+	private void setText (GlyphLayoutCache cache, GlyphLayout layout, String text, int start, int end) {
+		cache.setText(layout, font, text, start, end, Color.WHITE, 0, Align.left, false, null);
+	}
+
+	static private GlyphLayoutCache.Key key (BitmapFontData data, String text, int start, int end) {
+		GlyphLayoutCache.Key key = new GlyphLayoutCache.Key();
+		key.set(data, text, start, end, Color.WHITE.toIntBits(), 0, Align.left, false, Justify.None, null);
+		return key;
+	}
+
+	static private void assertSameLayout (GlyphLayout expected, GlyphLayout actual) {
+		Assert.assertEquals(expected.runs.size, actual.runs.size);
+		for (int i = 0; i < expected.runs.size; i++) {
+			GlyphRun expectedRun = expected.runs.get(i), actualRun = actual.runs.get(i);
+			Assert.assertEquals(expectedRun.glyphs, actualRun.glyphs);
+			Assert.assertArrayEquals(expectedRun.xAdvances.toArray(), actualRun.xAdvances.toArray(), 0.0001f);
+			Assert.assertEquals(expectedRun.x, actualRun.x, 0.0001f);
+			Assert.assertEquals(expectedRun.y, actualRun.y, 0.0001f);
+			Assert.assertEquals(expectedRun.width, actualRun.width, 0.0001f);
+		}
+		Assert.assertEquals(expected.colors, actual.colors);
+		Assert.assertEquals(expected.glyphCount, actual.glyphCount);
+		Assert.assertEquals(expected.width, actual.width, 0.0001f);
+		Assert.assertEquals(expected.height, actual.height, 0.0001f);
+	}
+
+	/** Creates a font with fixed size glyphs for a few characters and kerning between "a" and "b", without a texture. */
+	static private BitmapFont createFont () {
+		BitmapFontData data = new BitmapFontData();
+		for (char ch : "abcdefghijklmnopqrstuvwxyz ".toCharArray()) {
+			Glyph glyph = new Glyph();
+			glyph.id = ch;
+			glyph.width = ch == ' ' ? 0 : 8;
+			glyph.height = 10;
+			glyph.xadvance = 10;
+			data.setGlyph(ch, glyph);
+		}
+		data.getGlyph('a').setKerning('b', -2);
+		data.spaceXadvance = 10;
+		data.xHeight = 6;
+		data.capHeight = 10;
+		data.lineHeight = 12;
+		data.down = -12;
+		data.missingGlyph = data.getGlyph(' ');
+		return new BitmapFont(data, Array.with(new TextureRegion()), false) {
+			protected void load (BitmapFontData data) {
+			}
+		};
+	}
+}
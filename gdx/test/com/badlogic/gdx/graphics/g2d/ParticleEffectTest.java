@@ -0,0 +1,128 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.ParticleEffectPool.PooledEffect;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+
+public class ParticleEffectTest {
+	/** A texture that doesn't need GL. */
+	private final Texture texture = new Texture() {
+		public int getWidth () {
+			return 16;
+		}
+
+		public int getHeight () {
+			return 16;
+		}
+	};
+
+	@Test
+	public void testSimulate () {
+		assertSameAsUpdates(1, 1 / 30f, 30, 0);
+		assertSameAsUpdates(1.25f, 0.5f, 2, 0.25f);
+		assertSameAsUpdates(0.1f, 1, 0, 0.1f);
+	}
+
+	/** Checks simulating the time with the step gives the same effect as the specified updates. */
+	private void assertSameAsUpdates (float time, float step, int steps, float remainder) {
+		ParticleEffect simulated = newEffect();
+		MathUtils.random.setSeed(1);
+		simulated.start();
+		simulated.simulate(time, step);
+		long simulatedRandom = MathUtils.random.nextLong();
+
+		ParticleEffect updated = newEffect();
+		MathUtils.random.setSeed(1);
+		updated.start();
+		for (int i = 0; i < steps; i++)
+			updated.update(step);
+		if (remainder > 0) updated.update(remainder);
+		long updatedRandom = MathUtils.random.nextLong();
+
+		ParticleEmitter simulatedEmitter = simulated.getEmitters().first(), updatedEmitter = updated.getEmitters().first();
+		assertTrue(updatedEmitter.getActiveCount() > 0);
+		assertEquals(updatedEmitter.getActiveCount(), simulatedEmitter.getActiveCount());
+		assertEquals(updatedEmitter.getPercentComplete(), simulatedEmitter.getPercentComplete(), 0);
+		BoundingBox simulatedBounds = simulated.getBoundingBox(), updatedBounds = updated.getBoundingBox();
+		assertEquals(updatedBounds.min, simulatedBounds.min);
+		assertEquals(updatedBounds.max, simulatedBounds.max);
+		// The same random numbers were used, so the same updates were made.
+		assertEquals(updatedRandom, simulatedRandom);
+	}
+
+	@Test
+	public void testPrewarm () {
+		final int[] created = new int[1];
+		ParticleEffect template = newEffect();
+		ParticleEffectPool pool = newPool(template, created);
+		pool.prewarm(6);
+		assertEquals(6, created[0]);
+		assertEquals(6, pool.getFree());
+		pool.prewarm(6);
+		assertEquals(6, created[0]);
+		for (int i = 0; i < 6; i++)
+			pool.obtain();
+		assertEquals(6, created[0]);
+
+		// Obtaining the effects and emitting every particle allocates nothing.
+		if (!(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean)) return; // Can't count allocations on this JVM.
+		ThreadMXBean threads = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+		PooledEffect[] effects = new PooledEffect[6];
+		for (int attempt = 0;; attempt++) {
+			pool = newPool(template, created);
+			pool.prewarm(6);
+			long before = threads.getThreadAllocatedBytes(thread);
+			long after = threads.getThreadAllocatedBytes(thread);
+			long overhead = after - before;
+			before = threads.getThreadAllocatedBytes(thread);
+			for (int i = 0; i < 6; i++)
+				effects[i] = pool.obtain();
+			for (int i = 0; i < 6; i++)
+				effects[i].update(0.5f);
+			after = threads.getThreadAllocatedBytes(thread);
+			for (int i = 0; i < 6; i++)
+				assertEquals(20, effects[i].getEmitters().first().getActiveCount());
+			if (after - before == overhead) break;
+			// Allocations by the JVM itself, such as for compilation, are counted too, so only fail if it is repeatable.
+			assertTrue("Allocated: " + (after - before - overhead), attempt < 3);
+		}
+	}
+
+	private ParticleEffectPool newPool (ParticleEffect template, final int[] created) {
+		return new ParticleEffectPool(template, 4, 10) {
+			protected PooledEffect newObject () {
+				created[0]++;
+				return super.newObject();
+			}
+		};
+	}
+
+	private ParticleEffect newEffect () {
+		ParticleEmitter emitter = new ParticleEmitter();
+		emitter.setMaxParticleCount(20);
+		emitter.setSprites(new Array(new Sprite[] {new Sprite(texture)}));
+		emitter.setContinuous(true);
+		emitter.getDuration().setLow(1000);
+		emitter.getEmission().setHigh(100);
+		emitter.getLife().setHigh(500, 1000);
+		emitter.getXScale().setHigh(4, 8);
+		emitter.getVelocity().setActive(true);
+		emitter.getVelocity().setHigh(10, 100);
+		emitter.getAngle().setActive(true);
+		emitter.getAngle().setHigh(0, 360);
+		ParticleEffect effect = new ParticleEffect();
+		effect.getEmitters().add(emitter);
+		return effect;
+	}
+}
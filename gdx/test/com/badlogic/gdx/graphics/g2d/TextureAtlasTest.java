@@ -0,0 +1,85 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.utils.Array;
+
+public class TextureAtlasTest {
+	/** A texture that doesn't need GL. */
+	private final Texture texture = new Texture() {
+		public int getWidth () {
+			return 256;
+		}
+
+		public int getHeight () {
+			return 256;
+		}
+	};
+
+	@Test
+	public void testFindRegion () {
+		TextureAtlas atlas = new TextureAtlas();
+		AtlasRegion a = atlas.addRegion("a", texture, 0, 0, 1, 1);
+		Assert.assertNull(atlas.findRegion("b"));
+		AtlasRegion b = atlas.addRegion("b", texture, 0, 0, 1, 1);
+		Assert.assertSame(a, atlas.findRegion("a"));
+		Assert.assertSame(b, atlas.findRegion("b"));
+
+		// More than 8 regions with the same name are found by index using a map.
+		for (int i = 0; i < 20; i++)
+			atlas.addRegion("frame", texture, i, 0, 1, 1).index = 19 - i;
+		Assert.assertEquals(0, atlas.findRegion("frame", 19).getRegionX());
+		Assert.assertEquals(19, atlas.findRegion("frame", 0).getRegionX());
+		Assert.assertNull(atlas.findRegion("frame", 20));
+		AtlasRegion added = atlas.addRegion("frame", texture, 100, 0, 1, 1);
+		added.index = 20;
+		atlas.updateRegionIndex();
+		Assert.assertSame(added, atlas.findRegion("frame", 20));
+		Assert.assertEquals(21, atlas.findRegions("frame").size);
+	}
+
+	@Test
+	public void testGetRegions () {
+		TextureAtlas atlas = new TextureAtlas();
+		AtlasRegion a = atlas.addRegion("a", texture, 0, 0, 1, 1);
+		AtlasRegion b = atlas.addRegion("b", texture, 0, 0, 1, 1);
+		Assert.assertSame(a, atlas.findRegion("a"));
+
+		// Removed and added through the array.
+		Array<AtlasRegion> regions = atlas.getRegions();
+		regions.removeValue(b, true);
+		Assert.assertNull(atlas.findRegion("b"));
+		AtlasRegion c = new AtlasRegion(b);
+		c.name = "c";
+		regions.add(c);
+		Assert.assertSame(c, atlas.findRegion("c"));
+
+		// Renamed or replaced without changing the number of regions.
+		regions.first().name = "d";
+		AtlasRegion e = new AtlasRegion(b);
+		e.name = "e";
+		regions.set(1, e);
+		atlas.updateRegionIndex();
+		Assert.assertNull(atlas.findRegion("a"));
+		Assert.assertNull(atlas.findRegion("c"));
+		Assert.assertSame(a, atlas.findRegion("d"));
+		Assert.assertSame(e, atlas.findRegion("e"));
+	}
+
+	@Test
+	public void testFindRegionChangedIndex () {
+		TextureAtlas atlas = new TextureAtlas();
+		for (int i = 0; i < 20; i++)
+			atlas.addRegion("frame", texture, i, 0, 1, 1).index = i;
+		atlas.updateRegionIndex();
+		Assert.assertEquals(5, atlas.findRegion("frame", 5).getRegionX());
+
+		// Changed after indexing, the map entries are stale but the regions are still found.
+		atlas.getRegions().get(5).index = 100;
+		Assert.assertNull(atlas.findRegion("frame", 5));
+		Assert.assertEquals(5, atlas.findRegion("frame", 100).getRegionX());
+	}
+}
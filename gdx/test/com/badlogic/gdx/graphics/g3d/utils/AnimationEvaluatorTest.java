@@ -0,0 +1,147 @@
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import java.util.Iterator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.model.Animation;
+import com.badlogic.gdx.graphics.g3d.model.Node;
+import com.badlogic.gdx.graphics.g3d.model.NodeAnimation;
+import com.badlogic.gdx.graphics.g3d.model.NodeKeyframe;
+import com.badlogic.gdx.graphics.g3d.utils.AnimationEvaluator.Skeleton;
+import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+public class AnimationEvaluatorTest {
+
+	@Test
+	public void testSkeleton () {
+		Skeleton skeleton = new Skeleton(createModel());
+		Assert.assertArrayEquals(new String[] {"root", "arm", "hand", "head"}, skeleton.ids);
+		Assert.assertArrayEquals(new int[] {-1, 0, 1, 0}, skeleton.parents);
+		Assert.assertEquals(2, skeleton.indexOf("hand"));
+		Assert.assertEquals(-1, skeleton.indexOf("tail"));
+	}
+
+	@Test
+	public void testSameAsAnimationController () {
+		assertSameAsAnimationController(null);
+	}
+
+	@Test
+	public void testSameAsAnimationControllerParallel () {
+		AsyncExecutor executor = new AsyncExecutor(4);
+		try {
+			assertSameAsAnimationController(executor);
+		} finally {
+			executor.dispose();
+		}
+	}
+
+	private void assertSameAsAnimationController (AsyncExecutor executor) {
+		Model model = createModel();
+		Skeleton skeleton = new Skeleton(model);
+		AnimationEvaluator evaluator = new AnimationEvaluator();
+		evaluator.controllersPerTask = 3;
+		int count = 20;
+		AnimationController[] expected = new AnimationController[count];
+		AnimationController[] actual = new AnimationController[count];
+		for (int i = 0; i < count; i++) {
+			expected[i] = new AnimationController(new ModelInstance(model));
+			actual[i] = new AnimationController(new ModelInstance(model));
+			evaluator.add(actual[i], skeleton);
+			float offset = i * 0.05f;
+			expected[i].setAnimation("wave", offset, -1, -1, 1, null);
+			actual[i].setAnimation("wave", offset, -1, -1, 1, null);
+		}
+
+		for (int frame = 0; frame < 30; frame++) {
+			if (frame == 10) {
+				for (int i = 0; i < count; i++) {
+					expected[i].animate("nod", -1, 1, null, 0.5f);
+					actual[i].animate("nod", -1, 1, null, 0.5f);
+				}
+			}
+			for (int i = 0; i < count; i++) {
+				expected[i].update(0.05f);
+				actual[i].target.cullingBounds.set(Vector3.Zero, Vector3.Zero);
+			}
+			evaluator.update(0.05f, executor);
+			for (int i = 0; i < count; i++) {
+				assertSameTransforms(expected[i].target.nodes, actual[i].target.nodes);
+				Assert.assertFalse(actual[i].target.cullingBounds.isValid());
+			}
+		}
+
+		Assert.assertTrue(evaluator.remove(actual[0]));
+		Assert.assertFalse(evaluator.remove(actual[0]));
+		Assert.assertEquals(count - 1, evaluator.size());
+	}
+
+	private static void assertSameTransforms (Iterable<Node> expected, Iterable<Node> actual) {
+		Iterator<Node> actualNodes = actual.iterator();
+		for (Node node : expected) {
+			Node other = actualNodes.next();
+			Assert.assertArrayEquals(node.localTransform.val, other.localTransform.val, 0.0001f);
+			Assert.assertArrayEquals(node.globalTransform.val, other.globalTransform.val, 0.0001f);
+			assertSameTransforms(node.getChildren(), other.getChildren());
+		}
+	}
+
+	private static Model createModel () {
+		Model model = new Model();
+		Node root = node("root", 0, 0, 0);
+		Node arm = node("arm", 1, 0, 0);
+		Node hand = node("hand", 1, 0, 0);
+		Node head = node("head", 0, 1, 0);
+		arm.addChild(hand);
+		root.addChild(arm);
+		root.addChild(head);
+		model.nodes.add(root);
+
+		Animation wave = new Animation();
+		wave.id = "wave";
+		wave.duration = 1;
+		NodeAnimation armAnimation = new NodeAnimation();
+		armAnimation.node = arm;
+		armAnimation.rotation = new Array<NodeKeyframe<Quaternion>>();
+		armAnimation.rotation.add(new NodeKeyframe<Quaternion>(0, new Quaternion(Vector3.Z, 0)));
+		armAnimation.rotation.add(new NodeKeyframe<Quaternion>(0.5f, new Quaternion(Vector3.Z, 90)));
+		armAnimation.rotation.add(new NodeKeyframe<Quaternion>(1, new Quaternion(Vector3.Z, 0)));
+		wave.nodeAnimations.add(armAnimation);
+		NodeAnimation handAnimation = new NodeAnimation();
+		handAnimation.node = hand;
+		handAnimation.scaling = new Array<NodeKeyframe<Vector3>>();
+		handAnimation.scaling.add(new NodeKeyframe<Vector3>(0, new Vector3(1, 1, 1)));
+		handAnimation.scaling.add(new NodeKeyframe<Vector3>(1, new Vector3(2, 2, 2)));
+		wave.nodeAnimations.add(handAnimation);
+		model.animations.add(wave);
+
+		Animation nod = new Animation();
+		nod.id = "nod";
+		nod.duration = 0.8f;
+		NodeAnimation headAnimation = new NodeAnimation();
+		headAnimation.node = head;
+		headAnimation.translation = new Array<NodeKeyframe<Vector3>>();
+		headAnimation.translation.add(new NodeKeyframe<Vector3>(0, new Vector3(0, 1, 0)));
+		headAnimation.translation.add(new NodeKeyframe<Vector3>(0.8f, new Vector3(0, 1.5f, 0.5f)));
+		headAnimation.rotation = new Array<NodeKeyframe<Quaternion>>();
+		headAnimation.rotation.add(new NodeKeyframe<Quaternion>(0, new Quaternion(Vector3.X, 0)));
+		headAnimation.rotation.add(new NodeKeyframe<Quaternion>(0.8f, new Quaternion(Vector3.X, 45)));
+		nod.nodeAnimations.add(headAnimation);
+		model.animations.add(nod);
+		return model;
+	}
+
+	private static Node node (String id, float x, float y, float z) {
+		Node node = new Node();
+		node.id = id;
+		node.translation.set(x, y, z);
+		return node;
+	}
+}
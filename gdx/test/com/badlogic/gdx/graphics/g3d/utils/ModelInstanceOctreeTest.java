@@ -0,0 +1,278 @@
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.model.Animation;
+import com.badlogic.gdx.graphics.g3d.model.MeshPart;
+import com.badlogic.gdx.graphics.g3d.model.Node;
+import com.badlogic.gdx.graphics.g3d.model.NodeAnimation;
+import com.badlogic.gdx.graphics.g3d.model.NodeKeyframe;
+import com.badlogic.gdx.graphics.g3d.model.NodePart;
+import com.badlogic.gdx.math.Frustum;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ArrayMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.Pool;
+
+public class ModelInstanceOctreeTest {
+	private final Array<Renderable> renderables = new Array<Renderable>();
+	private final CountingPool pool = new CountingPool();
+	/** A frustum containing the cube from -10 to 10 on each axis. */
+	private final Frustum frustum = new Frustum();
+	{
+		frustum.planes[0].set(1, 0, 0, 10);
+		frustum.planes[1].set(-1, 0, 0, 10);
+		frustum.planes[2].set(0, 1, 0, 10);
+		frustum.planes[3].set(0, -1, 0, 10);
+		frustum.planes[4].set(0, 0, 1, 10);
+		frustum.planes[5].set(0, 0, -1, 10);
+	}
+
+	@Test
+	public void testCullInstance () {
+		Model model = createModel(0);
+		ModelInstance inside = new ModelInstance(model, 5, 0, 0);
+		ModelInstance outside = new ModelInstance(model, 50, 0, 0);
+		ModelInstance scaled = new ModelInstance(model, 15, 0, 0);
+		scaled.transform.scale(10, 10, 10);
+
+		inside.getRenderables(renderables, pool, frustum);
+		Assert.assertEquals(1, renderables.size);
+		Assert.assertTrue(inside.cullingBounds.isValid());
+		outside.getRenderables(renderables, pool, frustum);
+		Assert.assertEquals(1, renderables.size);
+		Assert.assertEquals(1, pool.obtained);
+		scaled.getRenderables(renderables, pool, frustum);
+		Assert.assertEquals(2, renderables.size);
+
+		outside.getRenderables(renderables, pool);
+		Assert.assertEquals(3, renderables.size);
+	}
+
+	@Test
+	public void testCullNodes () {
+		Model model = createModel(0, 30, -8);
+		ModelInstance instance = new ModelInstance(model);
+		instance.getRenderables(renderables, pool, frustum);
+		Assert.assertEquals(2, renderables.size);
+		Assert.assertEquals(2, pool.obtained);
+
+		instance.transform.setToTranslation(20, 0, 0);
+		instance.getRenderables(renderables, pool, frustum);
+		Assert.assertEquals(2, renderables.size);
+
+		instance.transform.setToTranslation(-25, 0, 0);
+		instance.getRenderables(renderables, pool, frustum);
+		Assert.assertEquals(3, renderables.size);
+	}
+
+	@Test
+	public void testOctree () {
+		Model model = createModel(0);
+		ModelInstanceOctree octree = new ModelInstanceOctree(new Vector3(-100, -100, -100), new Vector3(100, 100, 100), 4, 4);
+		Array<ModelInstance> instances = new Array<ModelInstance>();
+		for (int x = -95; x <= 95; x += 10) {
+			for (int z = -95; z <= 95; z += 10) {
+				ModelInstance instance = new ModelInstance(model, x, 0, z);
+				instances.add(instance);
+				octree.add(instance);
+			}
+		}
+		Assert.assertEquals(400, octree.size());
+
+		octree.getRenderables(renderables, pool);
+		Assert.assertEquals(400, renderables.size);
+		renderables.clear();
+
+		octree.getRenderables(renderables, pool, frustum);
+		Assert.assertEquals(4, renderables.size);
+		Assert.assertEquals(404, pool.obtained);
+		renderables.clear();
+
+		ModelInstance moved = instances.first();
+		moved.transform.setToTranslation(0, 0, 0);
+		moved.userData = "moved";
+		octree.update(moved);
+		Assert.assertTrue(octree.remove(instances.get(1)));
+		Assert.assertFalse(octree.remove(instances.get(1)));
+		octree.getRenderables(renderables, pool, frustum);
+		Assert.assertEquals(5, renderables.size);
+		boolean found = false;
+		for (Renderable renderable : renderables)
+			found |= renderable.userData == moved.userData;
+		Assert.assertTrue(found);
+	}
+
+	@Test
+	public void testOutsideOctree () {
+		Model model = createModel(0);
+		ModelInstanceOctree octree = new ModelInstanceOctree(new Vector3(20, -100, -100), new Vector3(100, 100, 100), 4, 4);
+		ModelInstance inside = new ModelInstance(model, 50, 0, 0);
+		ModelInstance outside = new ModelInstance(model, 5, 0, 0);
+		ModelInstance crossing = new ModelInstance(model, 20, 0, 0);
+		ModelInstance culled = new ModelInstance(model, -50, 0, 0);
+		octree.add(inside);
+		octree.add(outside);
+		octree.add(crossing);
+		octree.add(culled);
+		Assert.assertEquals(4, octree.size());
+		ObjectSet<ModelInstance> stored = octree.octree.getAll(new ObjectSet<ModelInstance>());
+		Assert.assertEquals(1, stored.size);
+		Assert.assertTrue(stored.contains(inside));
+
+		octree.getRenderables(renderables, pool);
+		Assert.assertEquals(4, renderables.size);
+		renderables.clear();
+
+		octree.getRenderables(renderables, pool, frustum);
+		Assert.assertEquals(1, renderables.size);
+		renderables.clear();
+
+		outside.transform.setToTranslation(-50, 0, 0);
+		culled.transform.setToTranslation(-5, 0, 0);
+		culled.userData = "culled";
+		octree.update(outside);
+		octree.update(culled);
+		octree.getRenderables(renderables, pool, frustum);
+		Assert.assertEquals(1, renderables.size);
+		Assert.assertSame(culled.userData, renderables.first().userData);
+		renderables.clear();
+
+		Assert.assertTrue(octree.remove(culled));
+		octree.getRenderables(renderables, pool, frustum);
+		Assert.assertEquals(0, renderables.size);
+	}
+
+	@Test
+	public void testCalculateTransformsInvalidatesBounds () {
+		Model model = createModel(0);
+		ModelInstance instance = new ModelInstance(model);
+		instance.getRenderables(renderables, pool, frustum);
+		Assert.assertEquals(1, renderables.size);
+		Assert.assertTrue(instance.cullingBounds.isValid());
+
+		instance.nodes.first().translation.set(50, 0, 0);
+		instance.calculateTransforms();
+		Assert.assertFalse(instance.cullingBounds.isValid());
+		instance.getRenderables(renderables, pool, frustum);
+		Assert.assertEquals(1, renderables.size);
+		Assert.assertEquals(50, instance.cullingBounds.getCenterX(), 0.0001f);
+	}
+
+	@Test
+	public void testCopyCullsInstance () {
+		Model model = createModel(0);
+		ModelInstance original = new ModelInstance(model, 50, 0, 0);
+		ModelInstance copy = original.copy();
+		Assert.assertFalse(copy.cullingBounds.isValid());
+		copy.getRenderables(renderables, pool, frustum);
+		Assert.assertEquals(0, renderables.size);
+		Assert.assertEquals(0, pool.obtained);
+
+		original.calculateCullingBounds();
+		copy = original.copy();
+		Assert.assertEquals(original.cullingBounds.min, copy.cullingBounds.min);
+		Assert.assertEquals(original.cullingBounds.max, copy.cullingBounds.max);
+		copy.getRenderables(renderables, pool, frustum);
+		Assert.assertEquals(0, renderables.size);
+		copy.transform.setToTranslation(5, 0, 0);
+		copy.getRenderables(renderables, pool, frustum);
+		Assert.assertEquals(1, renderables.size);
+	}
+
+	@Test
+	public void testCullAnimatedInstance () {
+		Model model = createModel(0);
+		NodeAnimation nodeAnimation = new NodeAnimation();
+		nodeAnimation.node = model.nodes.first();
+		nodeAnimation.translation = new Array<NodeKeyframe<Vector3>>();
+		nodeAnimation.translation.add(new NodeKeyframe<Vector3>(0, new Vector3(50, 0, 0)));
+		Animation animation = new Animation();
+		animation.id = "move";
+		animation.duration = 1;
+		animation.nodeAnimations.add(nodeAnimation);
+		model.animations.add(animation);
+
+		ModelInstance instance = new ModelInstance(model);
+		instance.getRenderables(renderables, pool, frustum);
+		Assert.assertEquals(1, renderables.size);
+
+		AnimationController controller = new AnimationController(instance);
+		controller.setAnimation("move", -1);
+		controller.update(0.5f);
+		instance.getRenderables(renderables, pool, frustum);
+		Assert.assertEquals(1, renderables.size);
+		Assert.assertEquals(50, instance.cullingBounds.getCenterX(), 0.0001f);
+	}
+
+	@Test
+	public void testCullSkinnedPart () {
+		Model model = createModel(0);
+		Node bone = new Node();
+		bone.id = "bone";
+		model.nodes.add(bone);
+		NodePart part = model.nodes.first().parts.first();
+		part.invBoneBindTransforms = new ArrayMap<Node, Matrix4>(Node.class, Matrix4.class);
+		part.invBoneBindTransforms.put(bone, new Matrix4());
+		part.bones = new Matrix4[] {new Matrix4()};
+		ModelInstance instance = new ModelInstance(model);
+		instance.getRenderables(renderables, pool, frustum);
+		Assert.assertEquals(1, renderables.size);
+
+		// Skinned parts are culled with the bounds moved by their bones.
+		instance.getNode("bone").translation.set(50, 0, 0);
+		instance.calculateTransforms();
+		instance.getRenderables(renderables, pool, frustum);
+		Assert.assertEquals(1, renderables.size);
+		Assert.assertEquals(50, instance.cullingBounds.getCenterX(), 0.0001f);
+
+		// The instance is visible, but the skinned part is not.
+		Node node = new Node();
+		node.parts.add(new NodePart(part.meshPart, part.material));
+		instance.nodes.add(node);
+		instance.getNode("bone").translation.set(30, 0, 0);
+		instance.calculateTransforms();
+		instance.getRenderables(renderables, pool, frustum);
+		Assert.assertEquals(2, renderables.size);
+		Assert.assertNull(renderables.peek().bones);
+	}
+
+	/** Creates a model with a node at each x with a unit cube part at the node. */
+	private static Model createModel (float... xs) {
+		Model model = new Model();
+		MeshPart meshPart = new MeshPart();
+		meshPart.primitiveType = GL20.GL_TRIANGLES;
+		meshPart.halfExtents.set(0.5f, 0.5f, 0.5f);
+		meshPart.radius = meshPart.halfExtents.len();
+		Material material = new Material();
+		for (float x : xs) {
+			Node node = new Node();
+			node.id = "node" + x;
+			node.translation.set(x, 0, 0);
+			node.parts.add(new NodePart(meshPart, material));
+			model.nodes.add(node);
+		}
+		return model;
+	}
+
+	static private class CountingPool extends Pool<Renderable> {
+		int obtained;
+
+		protected Renderable newObject () {
+			return new Renderable();
+		}
+
+		public Renderable obtain () {
+			obtained++;
+			return super.obtain();
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+
+public class RadixRenderableSorterTest {
+	@Test
+	public void order () {
+		Camera camera = newCamera();
+		camera.far = 1000;
+		Material[] opaque = {new Material("a", ColorAttribute.createDiffuse(Color.RED)),
+			new Material("b", ColorAttribute.createDiffuse(Color.GREEN))};
+		Material blended = new Material("c", new BlendingAttribute(0.5f));
+
+		Array<Renderable> renderables = new Array();
+		for (int i = 0; i < 500; i++) {
+			Renderable renderable = new Renderable();
+			renderable.material = MathUtils.randomBoolean(0.3f) ? blended : opaque[MathUtils.random(1)];
+			renderable.worldTransform.setTranslation(0, 0, -MathUtils.random(1, 900));
+			renderables.add(renderable);
+		}
+		new RadixRenderableSorter().sort(camera, renderables);
+
+		int materialChanges = 0;
+		for (int i = 1; i < renderables.size; i++) {
+			Renderable previous = renderables.get(i - 1), renderable = renderables.get(i);
+			if (previous.material == blended) {
+				assertSame(blended, renderable.material);
+				assertTrue(distance(previous) >= distance(renderable));
+			} else if (previous.material != renderable.material)
+				materialChanges++;
+			else
+				assertTrue(distance(previous) <= distance(renderable));
+		}
+		assertEquals(2, materialChanges);
+	}
+
+	@Test
+	public void stable () {
+		Camera camera = newCamera();
+		Material material = new Material();
+		Array<Renderable> renderables = new Array();
+		for (int i = 0; i < 100; i++) {
+			Renderable renderable = new Renderable();
+			renderable.material = material;
+			renderables.add(renderable);
+		}
+		Array<Renderable> expected = new Array(renderables);
+		new RadixRenderableSorter().sort(camera, renderables);
+		assertEquals(expected, renderables);
+	}
+
+	/** Camera#update() is not needed by the sorter and would require natives. */
+	private Camera newCamera () {
+		return new Camera() {
+			public void update () {
+			}
+
+			public void update (boolean updateFrustum) {
+			}
+		};
+	}
+
+	/** The camera is at the origin looking down -z. */
+	private float distance (Renderable renderable) {
+		return -renderable.worldTransform.getTranslation(new Vector3()).z;
+	}
+}
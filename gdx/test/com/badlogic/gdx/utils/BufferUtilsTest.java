@@ -0,0 +1,95 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.math.Matrix3;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+public class BufferUtilsTest {
+	@Test
+	public void transformRanges () {
+		Matrix4 matrix = new Matrix4().setToRotation(Vector3.Y, 30).scl(2, 3, 4).trn(5, -6, 7);
+		int stride = 5, vertices = 1000;
+		float[] data = new float[vertices * stride];
+		for (int i = 0; i < data.length; i++)
+			data[i] = i * 0.25f - 100;
+		// Two ranges, the first skips vertex 0 and both leave vertices between them untouched.
+		int[] ranges = {1 * stride * 4, 400, 500 * stride * 4, 450};
+
+		float[] expected = data.clone();
+		Vector3 tmp = new Vector3();
+		for (int r = 0; r < 4; r += 2) {
+			for (int v = ranges[r] / 4 / stride, n = v + ranges[r + 1]; v < n; v++) {
+				int i = v * stride + 1;
+				tmp.set(expected[i], expected[i + 1], expected[i + 2]).mul(matrix);
+				expected[i] = tmp.x;
+				expected[i + 1] = tmp.y;
+				expected[i + 2] = tmp.z;
+			}
+		}
+
+		// Offset the ranges to the second float of each vertex.
+		int[] offsetRanges = {ranges[0] + 4, ranges[1], ranges[2] + 4, ranges[3]};
+		float[] actual = data.clone();
+		BufferUtils.transform(actual, 3, stride * 4, offsetRanges, 2, matrix, null);
+		assertArrayEquals(expected, actual, 0.001f);
+
+		AsyncExecutor executor = new AsyncExecutor(3);
+		int chunkSize = BufferUtils.transformChunkSize;
+		BufferUtils.transformChunkSize = 64;
+		try {
+			float[] parallel = data.clone();
+			BufferUtils.transform(parallel, 3, stride * 4, offsetRanges, 2, matrix, executor);
+			assertArrayEquals(actual, parallel, 0);
+		} finally {
+			BufferUtils.transformChunkSize = chunkSize;
+			executor.dispose();
+		}
+	}
+
+	@Test
+	public void transformOnExecutorThread () {
+		// Waiting for chunks submitted to a single thread executor from its own thread would never return.
+		final AsyncExecutor executor = new AsyncExecutor(1);
+		final Matrix4 matrix = new Matrix4().translate(1, 2, 3);
+		final float[] data = new float[3 * 1000];
+		int chunkSize = BufferUtils.transformChunkSize;
+		BufferUtils.transformChunkSize = 64;
+		try {
+			executor.submit(new AsyncTask<Void>() {
+				public Void call () {
+					assertTrue(executor.isExecutorThread());
+					BufferUtils.transform(data, 3, 12, new int[] {0, 1000}, 1, matrix, executor);
+					return null;
+				}
+			}).get();
+		} finally {
+			BufferUtils.transformChunkSize = chunkSize;
+			executor.dispose();
+		}
+		assertFalse(executor.isExecutorThread());
+		for (int i = 0; i < data.length; i += 3) {
+			assertEquals(1, data[i], 0);
+			assertEquals(2, data[i + 1], 0);
+			assertEquals(3, data[i + 2], 0);
+		}
+	}
+
+	@Test
+	public void transformMatrix3 () {
+		Matrix3 matrix = new Matrix3().setToRotation(45).scale(2, 3).translate(4, 5);
+		float[] data = {1, 2, 3, 4, 5, 6};
+		BufferUtils.transform(data, 2, 8, new int[] {0, 3}, 1, matrix, null);
+		for (int i = 0; i < 3; i++) {
+			Vector2 expected = new Vector2(i * 2 + 1, i * 2 + 2).mul(matrix);
+			assertEquals(expected.x, data[i * 2], 0.0001f);
+			assertEquals(expected.y, data[i * 2 + 1], 0.0001f);
+		}
+	}
+}
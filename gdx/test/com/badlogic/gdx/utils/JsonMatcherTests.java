@@ -5,6 +5,7 @@ import static org.junit.Assert.*;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.stream.Collectors;
 
@@ -1258,6 +1259,25 @@ public class JsonMatcherTests {
 		assertEquals("d", parents2.get(5));
 	}
 
+	@Test
+	public void pathsBytes () throws Exception {
+		String json = "{\"\u00e9t\u00e9\":{\u4e2d:{value:1}},list:[{value:\"\u00fc\"}]}";
+		Array chars = new Array(), bytes = new Array();
+		JsonMatcher matcher = new JsonMatcher();
+		Array[] results = new Array[1];
+		matcher.addPattern("**@/(value)", value -> results[0]
+			.add(matcher.path() + " " + matcher.parent() + " " + matcher.parent(1) + " " + value.toJson(OutputType.minimal)));
+		results[0] = chars;
+		matcher.parse(json);
+		results[0] = bytes;
+		matcher.parse(ByteBuffer.wrap(json.getBytes("UTF-8")));
+
+		assertValueCount(2, chars);
+		assertEquals("{}/\u00e9t\u00e9/\u4e2d \u4e2d \u00e9t\u00e9 1", chars.first());
+		assertEquals("{}/list/{} {} list \u00fc", chars.get(1));
+		assertEquals(chars, bytes);
+	}
+
 	@Test
 	public void dataTypes () {
 		JsonMatcher matcher = new JsonMatcher();
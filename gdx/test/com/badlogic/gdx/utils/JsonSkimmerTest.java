@@ -0,0 +1,114 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+public class JsonSkimmerTest {
+	@Test
+	public void bytesMatchChars () {
+		String[] tests = { //
+			"{a:1,b:[true,false,null],c:{d:\"e\"}}", //
+			"{ \"name\" : \"value\" , list: [ 1, 2.5, -3e4 ] }", //
+			"{unicode:\"\u00e9\u4e2d\ud83d\ude00\",\"\u00fc\":x}", //
+			"{escaped:\"a\\\"b\\\\c\\u00e9\\n\"}", //
+			"// comment\n{a:1 /* block */, b : unquoted value , c:[]}", //
+			"[1,2,[3,[4]],{}]", //
+			"\"root\"", //
+		};
+		for (String json : tests)
+			assertEquals(json, events(json, false), events(json, true));
+	}
+
+	@Test
+	public void equalsString () {
+		final Array<Boolean> results = new Array();
+		JsonSkimmer skimmer = new JsonSkimmer() {
+			protected void value (JsonToken name, JsonToken value) {
+				results.add(name.equalsString("\u00e9t\u00e9") && value.equalsString("ab") && !value.equalsString("a")
+					&& !value.equalsString("abc") && !name.equalsString("\u00e9t"));
+			}
+		};
+		skimmer.parse(utf8("{\"\u00e9t\u00e9\":ab}"));
+		assertEquals(1, results.size);
+		assertTrue(results.first());
+	}
+
+	@Test
+	public void bufferPosition () {
+		ByteBuffer buffer = utf8("xx{a:1}yy");
+		buffer.position(2);
+		buffer.limit(7);
+		assertEquals(events("{a:1}", false), events(buffer));
+		assertEquals(2, buffer.position());
+	}
+
+	@Test(expected = SerializationException.class)
+	public void error () {
+		new JsonSkimmer().parse(utf8("{a:1,b:[}"));
+	}
+
+	@Test
+	public void errorNear () {
+		StringBuilder buffer = new StringBuilder("{a:[");
+		for (int i = 0; i < 1000; i++)
+			buffer.append("\u00e9,");
+		String json = buffer.append("}").toString();
+		// Only a window around the error is in the message. For bytes it doesn't start within a multi-byte sequence.
+		assertEquals("Error parsing JSON on line 1 near: " + json.substring(json.length() - 33, json.length() - 1) + "*ERROR*}",
+			errorMessage(json, false));
+		assertEquals("Error parsing JSON on line 1 near: " + json.substring(json.length() - 22, json.length() - 1) + "*ERROR*}",
+			errorMessage(json, true));
+	}
+
+	private String errorMessage (String json, boolean bytes) {
+		try {
+			if (bytes)
+				new JsonSkimmer().parse(utf8(json));
+			else
+				new JsonSkimmer().parse(json);
+		} catch (SerializationException ex) {
+			return ex.getMessage();
+		}
+		throw new AssertionError("Expected an error.");
+	}
+
+	private String events (String json, boolean bytes) {
+		if (bytes) return events(utf8(json));
+		final StringBuilder buffer = new StringBuilder();
+		newSkimmer(buffer).parse(json);
+		return buffer.toString();
+	}
+
+	private String events (ByteBuffer json) {
+		StringBuilder buffer = new StringBuilder();
+		newSkimmer(buffer).parse(json);
+		return buffer.toString();
+	}
+
+	private JsonSkimmer newSkimmer (final StringBuilder buffer) {
+		return new JsonSkimmer() {
+			protected void push (JsonToken name, boolean object) {
+				buffer.append(name).append(object ? "{" : "[");
+			}
+
+			protected void pop () {
+				buffer.append("}");
+			}
+
+			protected void value (JsonToken name, JsonToken value) {
+				buffer.append(name).append('=').append(value).append(':').append(value.type).append(',');
+			}
+		};
+	}
+
+	private ByteBuffer utf8 (String json) {
+		try {
+			return ByteBuffer.wrap(json.getBytes("UTF-8"));
+		} catch (Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+}
@@ -1,6 +1,11 @@
 
 package com.badlogic.gdx.utils;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+
 import org.junit.Test;
 
 import static org.junit.Assert.*;
@@ -121,4 +126,246 @@ public class JsonTest {
 		LongArray numbers2 = json.fromJson(LongArray.class, data);
 		assertEquals(numbers, numbers2);
 	}
+
+	@Test
+	public void testCacheFields () {
+		Array<Fields> values = new Array();
+		for (int i = 0; i < 20; i++) {
+			Fields fields = new Fields();
+			fields.i = i * 1000;
+			fields.f = i * 0.5f;
+			fields.d = i / 3.0;
+			fields.l = i * 1234567890L;
+			fields.s = (short)-i;
+			fields.b = (byte)i;
+			fields.bool = i % 2 == 0;
+			fields.c = (char)('a' + i);
+			fields.string = i % 3 == 0 ? null : "text \"" + i + "\"";
+			fields.boxed = i % 4 == 0 ? null : (float)i;
+			fields.array = new int[] {i};
+			values.add(fields);
+		}
+		for (JsonWriter.OutputType outputType : JsonWriter.OutputType.values()) {
+			for (boolean quoteLongValues : new boolean[] {false, true}) {
+				Json json = new Json(outputType);
+				json.setQuoteLongValues(quoteLongValues);
+				String expected = json.toJson(values, Array.class, Fields.class);
+				json.setCacheFields(true);
+				assertEquals(expected, json.toJson(values, Array.class, Fields.class));
+				assertEquals(expected, json.toJson(json.fromJson(Array.class, Fields.class, expected), Array.class, Fields.class));
+			}
+		}
+
+		Json json = new Json();
+		json.setCacheFields(true);
+		Fields fields = json.fromJson(Fields.class, "{string:a,i:1,\"boxed\":\"2\",f:3,i:4,l:\"5\"}");
+		assertEquals("a", fields.string);
+		assertEquals(4, fields.i);
+		assertEquals(2f, fields.boxed, 0);
+		assertEquals(3f, fields.f, 0);
+		assertEquals(5, fields.l);
+	}
+
+	@Test
+	public void testUBJson () {
+		Array<Fields> values = new Array();
+		for (int i = 0; i < 10; i++) {
+			Fields fields = new Fields();
+			fields.i = -i * 100000;
+			fields.f = i * 0.5f;
+			fields.d = i / 3.0;
+			fields.l = i * 1234567890123L;
+			fields.s = (short)(i * 1000);
+			fields.b = (byte)-i;
+			fields.bool = i % 2 == 0;
+			fields.c = (char)('a' + i);
+			fields.string = i % 3 == 0 ? null : "text\u00e9" + i;
+			fields.boxed = i % 4 == 0 ? null : (float)i;
+			fields.array = new int[] {i, -i};
+			values.add(fields);
+		}
+		ObjectMap<String, Object> map = new ObjectMap();
+		map.put("values", values);
+		map.put("enum", JsonWriter.OutputType.minimal);
+		map.put("size", values.size);
+
+		Json json = new Json();
+		json.setElementType(Fields.class, "array", int.class);
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		json.toUBJson(map, output);
+		ObjectMap<String, Object> read = json.fromUBJson(ObjectMap.class, new ByteArrayInputStream(output.toByteArray()));
+		assertEquals(json.toJson(map), json.toJson(read));
+		assertEquals(json.toJson(values.get(1)), json.toJson(((Array)read.get("values")).get(1)));
+	}
+
+	@Test
+	public void testUBJsonText () {
+		Json json = new Json();
+		json.setSerializer(Fields.class, new Json.Serializer<Fields>() {
+			public void write (Json json, Fields object, Class knownType) {
+				try {
+					json.writeObjectStart();
+					json.getWriter().write("\"i\":" + object.i + ",\"array\":[1,2]");
+					json.writeValue("string", object.string);
+					json.getWriter().name("f").write(Float.toString(object.f));
+					json.writeObjectEnd();
+				} catch (IOException ex) {
+					throw new SerializationException(ex);
+				}
+			}
+
+			public Fields read (Json json, JsonValue jsonData, Class type) {
+				Fields fields = new Fields();
+				json.readFields(fields, jsonData);
+				return fields;
+			}
+		});
+		json.setElementType(Fields.class, "array", int.class);
+		Array<Fields> values = new Array();
+		for (int i = 0; i < 3; i++) {
+			Fields fields = new Fields();
+			fields.i = i;
+			fields.f = i + 0.5f;
+			fields.string = "s" + i;
+			values.add(fields);
+		}
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		json.toUBJson(values, output);
+		Array<Fields> read = json.fromUBJson(Array.class, Fields.class, new ByteArrayInputStream(output.toByteArray()));
+		assertEquals(3, read.size);
+		assertEquals(2, read.get(2).i);
+		assertEquals(2.5f, read.get(2).f, 0);
+		assertEquals("s2", read.get(2).string);
+		assertArrayEquals(new int[] {1, 2}, read.get(2).array);
+	}
+
+	@Test
+	public void testUBJsonArray () throws Exception {
+		Json json = new Json();
+		Fields[] values = new Fields[5];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = new Fields();
+			values[i].i = i;
+			values[i].string = "s" + i;
+		}
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		json.toUBJson(values, output);
+		byte[] bytes = output.toByteArray();
+
+		Fields[] array = json.fromUBJson(Fields[].class, new ByteArrayInputStream(bytes));
+		assertEquals(json.toJson(values), json.toJson(array));
+		Array<Fields> list = json.fromUBJson(Array.class, Fields.class, new ByteArrayInputStream(bytes));
+		assertEquals("s4", list.get(4).string);
+		ArrayList<Fields> collection = json.fromUBJson(ArrayList.class, Fields.class,
+			new ByteArrayInputStream(bytes));
+		assertEquals(3, collection.get(3).i);
+		Array untyped = json.fromUBJson(null, new ByteArrayInputStream(bytes));
+		assertEquals(5, untyped.size);
+
+		// Typed and counted arrays written by UBJsonWriter.
+		output.reset();
+		UBJsonWriter writer = new UBJsonWriter(output);
+		writer.value(new int[] {1, -2, 300});
+		writer.close();
+		assertArrayEquals(new int[] {1, -2, 300}, json.fromUBJson(int[].class, new ByteArrayInputStream(output.toByteArray())));
+		output = new ByteArrayOutputStream();
+		writer = new UBJsonWriter(output);
+		writer.value(new int[0]);
+		writer.close();
+		assertEquals(0, json.fromUBJson(Array.class, new ByteArrayInputStream(output.toByteArray())).size);
+	}
+
+	@Test
+	public void testUBJsonObjects () {
+		Json json = new Json();
+		json.setElementType(Fields.class, "array", int.class);
+		Holder holder = new Holder();
+		Fields fields = new Fields();
+		fields.i = 7;
+		fields.string = "tab\tquote\"";
+		holder.any = fields;
+		holder.ints.put(3, "three");
+		holder.ints.put(-40000, "big");
+		holder.set.add("a");
+		holder.set.add("b");
+		holder.queue.addLast(1.5f);
+		holder.queue.addLast(-2f);
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		json.toUBJson(holder, output);
+		Holder read = json.fromUBJson(Holder.class, new ByteArrayInputStream(output.toByteArray()));
+		assertEquals(json.toJson(holder), json.toJson(read));
+		assertEquals("tab\tquote\"", ((Fields)read.any).string);
+
+		// Fields the class doesn't have are skipped without reading the rest of the object wrong.
+		output.reset();
+		UBJsonWriter writer = new UBJsonWriter(output);
+		try {
+			writer.object().set("unknown", 1).object("nested").array("values").value(1).value("x").pop().pop().set("i", 5).pop();
+			writer.close();
+		} catch (IOException ex) {
+			throw new RuntimeException(ex);
+		}
+		byte[] bytes = output.toByteArray();
+		try {
+			json.fromUBJson(Fields.class, new ByteArrayInputStream(bytes));
+			fail();
+		} catch (SerializationException expected) {
+			assertTrue(expected.getMessage().contains("Field not found: unknown"));
+		}
+		json.setIgnoreUnknownFields(true);
+		assertEquals(5, json.fromUBJson(Fields.class, new ByteArrayInputStream(bytes)).i);
+	}
+
+	@Test
+	public void testUBJsonWriterText () {
+		Json json = new Json();
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		json.toUBJson(new RawText(), output);
+		JsonValue read = json.fromUBJson(null, new ByteArrayInputStream(output.toByteArray()));
+		assertEquals(1, read.getInt("a"));
+		assertEquals(3, read.get("b").size);
+		assertTrue(read.get("b").get(1).isNull());
+		assertEquals(-2.5, read.get("b").getDouble(2), 0);
+		assertEquals("x\u00e9\n", read.getString("c"));
+		assertTrue(read.get("d").get("e").isObject());
+		assertEquals("f", read.getString("g"));
+	}
+
+	static public class RawText implements Json.Serializable {
+		public void write (Json json) {
+			try {
+				JsonWriter writer = json.getWriter();
+				writer.write("\"a\" : 1, \"b\":[true,null,-2.5],");
+				writer.write("\"c\":\"x\\u00e9\\n\"");
+				writer.json("d", "{\"e\":{}}");
+				writer.write(",g:f");
+			} catch (IOException ex) {
+				throw new SerializationException(ex);
+			}
+		}
+
+		public void read (Json json, JsonValue jsonData) {
+		}
+	}
+
+	static public class Holder {
+		public Object any;
+		public IntMap<String> ints = new IntMap();
+		public ObjectSet<String> set = new ObjectSet();
+		public Queue<Float> queue = new Queue();
+	}
+
+	static public class Fields {
+		public int i;
+		public float f;
+		public double d;
+		public long l;
+		public short s;
+		public byte b;
+		public boolean bool;
+		public char c;
+		public String string;
+		public Float boxed;
+		public int[] array;
+	}
 }
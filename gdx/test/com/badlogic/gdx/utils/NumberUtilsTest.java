@@ -0,0 +1,49 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class NumberUtilsTest {
+	@Test
+	public void testHalfRoundTrip () {
+		for (int i = 0; i < 0x10000; i++) {
+			short half = (short)i;
+			float value = NumberUtils.halfToFloat(half);
+			if (Float.isNaN(value))
+				assertTrue(Float.isNaN(NumberUtils.halfToFloat(NumberUtils.floatToHalf(value))));
+			else
+				assertEquals(Integer.toHexString(i), half, NumberUtils.floatToHalf(value));
+		}
+	}
+
+	@Test
+	public void testFloatToHalf () {
+		assertEquals(0x3c00, NumberUtils.floatToHalf(1));
+		assertEquals((short)0xc000, NumberUtils.floatToHalf(-2));
+		assertEquals(0x7bff, NumberUtils.floatToHalf(65504));
+		assertEquals(0x7bff, NumberUtils.floatToHalf(65519));
+		assertEquals(0x7c00, NumberUtils.floatToHalf(65520));
+		assertEquals(0x7c00, NumberUtils.floatToHalf(Float.MAX_VALUE));
+		assertEquals(1, NumberUtils.floatToHalf(0x1p-24f));
+		assertEquals(0, NumberUtils.floatToHalf(0x1p-25f));
+		assertEquals(1, NumberUtils.floatToHalf(0x1.8p-25f));
+		assertEquals(2, NumberUtils.floatToHalf(0x1.8p-24f));
+		assertEquals(0x400, NumberUtils.floatToHalf(0x1p-14f));
+		// Ties round to even.
+		assertEquals(0x3c00, NumberUtils.floatToHalf(1 + 0x1p-11f));
+		assertEquals(0x3c02, NumberUtils.floatToHalf(1 + 0x3p-11f));
+
+		Random random = new Random(1);
+		for (int i = 0; i < 100000; i++) {
+			float value = (random.nextFloat() * 2 - 1) * (float)Math.pow(2, random.nextInt(44) - 28);
+			short half = NumberUtils.floatToHalf(value);
+			float error = Math.abs(NumberUtils.halfToFloat(half) - value);
+			// The neighbors with the same sign are no closer.
+			if ((half & 0x7fff) != 0x7bff) assertTrue(error <= Math.abs(NumberUtils.halfToFloat((short)(half + 1)) - value));
+			if ((half & 0x7fff) != 0) assertTrue(error <= Math.abs(NumberUtils.halfToFloat((short)(half - 1)) - value));
+		}
+	}
+}
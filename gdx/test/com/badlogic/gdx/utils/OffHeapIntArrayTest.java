@@ -0,0 +1,191 @@
+package com.badlogic.gdx.utils;
+
+import java.nio.IntBuffer;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+public class OffHeapIntArrayTest {
+	@BeforeClass
+	static public void loadNatives () {
+		GdxNativesLoader.load();
+	}
+
+	@Test
+	public void testMove () {
+		int[] expected = new int[40];
+		IntBuffer buffer = IntBuffer.allocate(expected.length), other = IntBuffer.allocate(expected.length);
+		RandomXS128 random = new RandomXS128(1);
+		for (int i = 0; i < 2000; i++) {
+			for (int ii = 0; ii < expected.length; ii++) {
+				expected[ii] = random.nextInt();
+				buffer.put(ii, expected[ii]);
+			}
+			int count = random.nextInt(expected.length + 1);
+			int sourceIndex = random.nextInt(expected.length - count + 1), destIndex = random.nextInt(expected.length - count + 1);
+			System.arraycopy(expected, sourceIndex, expected, destIndex, count);
+			OffHeapIntArray.move(buffer, sourceIndex, buffer, destIndex, count);
+			Assert.assertArrayEquals(expected, buffer.array());
+
+			other.clear();
+			OffHeapIntArray.move(buffer, sourceIndex, other, destIndex, count);
+			for (int ii = 0; ii < count; ii++)
+				Assert.assertEquals(buffer.get(sourceIndex + ii), other.get(destIndex + ii));
+			Assert.assertEquals(0, buffer.position());
+			Assert.assertEquals(0, other.position());
+		}
+	}
+
+	@Test
+	public void testOrdered () {
+		testSameAsIntArray(true, 20);
+	}
+
+	@Test
+	public void testUnordered () {
+		testSameAsIntArray(false, 20);
+	}
+
+	/** Uses segments of 8 items, so most operations cross segment boundaries. */
+	@Test
+	public void testSegmented () {
+		testSameAsIntArray(true, 3);
+		testSameAsIntArray(false, 3);
+	}
+
+	/** Applies random operations to an OffHeapIntArray and an IntArray and compares them after each. */
+	private void testSameAsIntArray (boolean ordered, int segmentShift) {
+		OffHeapIntArray array = new OffHeapIntArray(ordered, 1, segmentShift);
+		IntArray expected = new IntArray(ordered, 1);
+		RandomXS128 random = new RandomXS128(ordered ? 2 : 3);
+		try {
+			for (int i = 0; i < 5000; i++) {
+				int value = random.nextInt(1000);
+				switch (random.nextInt(10)) {
+				case 0:
+				case 1:
+					array.add(value);
+					expected.add(value);
+					break;
+				case 2: {
+					int index = random.nextInt(expected.size + 1);
+					array.insert(index, value);
+					expected.insert(index, value);
+					break;
+				}
+				case 3: {
+					if (expected.size == 0) break;
+					int index = random.nextInt(expected.size);
+					Assert.assertEquals(expected.removeIndex(index), array.removeIndex(index));
+					break;
+				}
+				case 4: {
+					if (expected.size == 0) break;
+					int end = random.nextInt(expected.size), start = random.nextInt(end + 1);
+					array.removeRange(start, end);
+					expected.removeRange(start, end);
+					break;
+				}
+				case 5: {
+					int[] values = {value, value + 1, value + 2};
+					array.addAll(values);
+					expected.addAll(values);
+					break;
+				}
+				case 6:
+					if (expected.size > 100) break;
+					array.addAll(array);
+					expected.addAll(expected);
+					break;
+				case 7:
+					Assert.assertEquals(expected.removeValue(value), array.removeValue(value));
+					break;
+				case 8:
+					array.shrink();
+					Assert.assertEquals(array.size, Math.max(1, array.capacity()));
+					break;
+				case 9:
+					array.ensureCapacity(value);
+					Assert.assertTrue(array.capacity() >= array.size + value);
+					break;
+				}
+				assertSame(expected, array);
+			}
+
+			array.truncate(3);
+			expected.truncate(3);
+			assertSame(expected, array);
+			array.clear();
+			Assert.assertTrue(array.isEmpty());
+		} finally {
+			array.dispose();
+		}
+		Assert.assertNull(array.segments);
+		Assert.assertEquals(0, array.getNativeBytes());
+	}
+
+	@Test
+	public void testResize () {
+		OffHeapIntArray array = new OffHeapIntArray(0);
+		try {
+			for (int i = 0; i < 1000; i++)
+				array.add(i);
+			Assert.assertTrue(array.getNativeBytes() >= 4000);
+			array.setSize(2000);
+			Assert.assertEquals(2000, array.size);
+			for (int i = 0; i < 1000; i++)
+				Assert.assertEquals(i, array.get(i));
+			array.truncate(10);
+			array.shrink();
+			Assert.assertEquals(40, array.getNativeBytes());
+			Assert.assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, array.toArray());
+			array.reverse();
+			Assert.assertEquals(9, array.first());
+			Assert.assertEquals(0, array.pop());
+			Assert.assertEquals(1, array.peek());
+		} finally {
+			array.dispose();
+		}
+	}
+
+	@Test
+	public void testSegmentedResize () {
+		OffHeapIntArray array = new OffHeapIntArray(true, 0, 4);
+		try {
+			for (int i = 0; i < 100; i++)
+				array.add(i);
+			Assert.assertEquals((array.capacity() + 15) / 16, array.segments.length);
+			Assert.assertEquals(99, array.get(99));
+			array.insert(3, -1);
+			Assert.assertEquals(-1, array.get(3));
+			Assert.assertEquals(99, array.get(100));
+			Assert.assertEquals(3, array.removeIndex(4));
+			array.removeRange(10, 40);
+			Assert.assertEquals(69, array.size);
+			Assert.assertEquals(41, array.get(10));
+			Assert.assertEquals(63, array.indexOf(94));
+			Assert.assertEquals(-1, array.lastIndexOf(3));
+			array.shrink();
+			Assert.assertEquals(69 * 4, array.getNativeBytes());
+			Assert.assertEquals(5, array.segments.length);
+			Assert.assertEquals(99, array.peek());
+			array.setSize(16);
+			array.shrink();
+			Assert.assertEquals(1, array.segments.length);
+			Assert.assertEquals(9, array.get(9));
+			Assert.assertEquals(46, array.get(15));
+		} finally {
+			array.dispose();
+		}
+	}
+
+	static private void assertSame (IntArray expected, OffHeapIntArray actual) {
+		Assert.assertEquals(expected.size, actual.size);
+		Assert.assertArrayEquals(expected.toArray(), actual.toArray());
+		for (IntBuffer segment : actual.segments)
+			Assert.assertEquals(0, segment.position());
+	}
+}
@@ -0,0 +1,153 @@
+package com.badlogic.gdx.utils;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+public class OffHeapIntIntMapTest {
+	@BeforeClass
+	static public void loadNatives () {
+		GdxNativesLoader.load();
+	}
+
+	@Test
+	public void testSameAsIntIntMap () {
+		testSameAsIntIntMap(new OffHeapIntIntMap(1));
+	}
+
+	/** Uses segments of 8 entries, so probing and removal cross segment boundaries. */
+	@Test
+	public void testSegmented () {
+		testSameAsIntIntMap(new OffHeapIntIntMap(1, 0.8f, 3));
+	}
+
+	/** Applies random operations to an OffHeapIntIntMap and an IntIntMap and compares them after each. Few keys are used so keys
+	 * are often removed and put again, and the small initial capacity causes many rehashes. */
+	private void testSameAsIntIntMap (OffHeapIntIntMap map) {
+		IntIntMap expected = new IntIntMap(1);
+		RandomXS128 random = new RandomXS128(1);
+		try {
+			for (int i = 0; i < 20000; i++) {
+				int key = random.nextInt(300) - 10, value = random.nextInt();
+				switch (random.nextInt(6)) {
+				case 0:
+					map.put(key, value);
+					expected.put(key, value);
+					break;
+				case 1:
+					Assert.assertEquals(expected.put(key, value, -1), map.put(key, value, -1));
+					break;
+				case 2:
+					Assert.assertEquals(expected.remove(key, -1), map.remove(key, -1));
+					break;
+				case 3:
+					Assert.assertEquals(expected.getAndIncrement(key, 5, 2), map.getAndIncrement(key, 5, 2));
+					break;
+				case 4:
+					map.putMissing(key, value);
+					expected.putMissing(key, value);
+					break;
+				case 5:
+					if (random.nextInt(50) == 0) {
+						map.shrink(expected.size);
+						expected.shrink(expected.size);
+					}
+					break;
+				}
+				Assert.assertEquals(expected.size, map.size);
+				Assert.assertEquals(expected.get(key, -1), map.get(key, -1));
+				Assert.assertEquals(expected.containsKey(key), map.containsKey(key));
+			}
+			assertSame(expected, map);
+		} finally {
+			map.dispose();
+		}
+		Assert.assertEquals(0, map.getNativeBytes());
+	}
+
+	@Test
+	public void testRehash () {
+		testRehash(new OffHeapIntIntMap(4));
+		testRehash(new OffHeapIntIntMap(4, 0.8f, 5));
+	}
+
+	private void testRehash (OffHeapIntIntMap map) {
+		try {
+			long bytes = map.getNativeBytes();
+			for (int i = -5000; i < 5000; i++)
+				map.put(i * 7919, i);
+			Assert.assertEquals(10000, map.size);
+			Assert.assertTrue(map.getNativeBytes() > bytes);
+			for (int i = -5000; i < 5000; i++)
+				Assert.assertEquals(i, map.get(i * 7919, Integer.MIN_VALUE));
+
+			// Remove every other key, so the remaining keys must be found past the emptied entries.
+			for (int i = -5000; i < 5000; i += 2)
+				Assert.assertEquals(i, map.remove(i * 7919, Integer.MIN_VALUE));
+			Assert.assertEquals(5000, map.size);
+			map.shrink(0);
+			for (int i = -4999; i < 5000; i += 2)
+				Assert.assertEquals(i, map.get(i * 7919, Integer.MIN_VALUE));
+			Assert.assertFalse(map.containsKey(0));
+
+			map.ensureCapacity(100000);
+			Assert.assertTrue(map.getNativeBytes() >= 100000 * 8);
+			Assert.assertEquals(5000, map.size);
+			map.clear(10);
+			Assert.assertTrue(map.isEmpty());
+			Assert.assertEquals(-1, map.get(7919, -1));
+		} finally {
+			map.dispose();
+		}
+	}
+
+	@Test
+	public void testIteratorRemove () {
+		OffHeapIntIntMap map = new OffHeapIntIntMap();
+		IntIntMap expected = new IntIntMap();
+		try {
+			for (int i = 0; i < 1000; i++) {
+				map.put(i * 31, i);
+				expected.put(i * 31, i);
+			}
+			OffHeapIntIntMap.Keys keys = map.keys();
+			while (keys.hasNext()) {
+				int key = keys.next();
+				if (key % 3 == 0) {
+					keys.remove();
+					expected.remove(key, 0);
+				}
+			}
+			assertSame(expected, map);
+
+			OffHeapIntIntMap other = new OffHeapIntIntMap();
+			try {
+				for (IntIntMap.Entry entry : expected)
+					other.put(entry.key, entry.value);
+				Assert.assertEquals(map, other);
+				Assert.assertEquals(map.hashCode(), other.hashCode());
+				other.put(1, 1);
+				Assert.assertFalse(map.equals(other));
+			} finally {
+				other.dispose();
+			}
+		} finally {
+			map.dispose();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMaxTableSize () {
+		OffHeapIntIntMap.tableSize(OffHeapIntIntMap.maxTableSize, 0.8f);
+	}
+
+	static private void assertSame (IntIntMap expected, OffHeapIntIntMap actual) {
+		Assert.assertEquals(expected.size, actual.size);
+		for (IntIntMap.Entry entry : expected)
+			Assert.assertEquals(entry.value, actual.get(entry.key, ~entry.value));
+		for (IntIntMap.Entry entry : actual)
+			Assert.assertEquals(entry.value, expected.get(entry.key, ~entry.value));
+	}
+}
@@ -0,0 +1,86 @@
+package com.badlogic.gdx.utils.async;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.async.AsyncExecutor.RangeTask;
+
+public class AsyncExecutorTest {
+	@Test
+	public void parallelForRunsEachIndexOnce () {
+		AsyncExecutor executor = new AsyncExecutor(3);
+		try {
+			for (int count : new int[] {0, 1, 7, 64, 1001}) {
+				final AtomicIntegerArray runs = new AtomicIntegerArray(Math.max(1, count));
+				executor.parallelFor(count, 10, new RangeTask() {
+					public void run (int start, int end) {
+						assertTrue(end - start <= 10);
+						for (int i = start; i < end; i++)
+							runs.incrementAndGet(i);
+					}
+				});
+				for (int i = 0; i < count; i++)
+					assertEquals(1, runs.get(i));
+			}
+		} finally {
+			executor.dispose();
+		}
+	}
+
+	@Test
+	public void parallelForOnExecutorThread () {
+		// Waiting for chunks submitted to a single thread executor from its own thread would never return.
+		final AsyncExecutor executor = new AsyncExecutor(1);
+		final AtomicInteger sum = new AtomicInteger();
+		try {
+			executor.submit(new AsyncTask<Void>() {
+				public Void call () {
+					executor.parallelFor(100, 1, new RangeTask() {
+						public void run (int start, int end) {
+							sum.addAndGet(end - start);
+						}
+					});
+					return null;
+				}
+			}).get();
+		} finally {
+			executor.dispose();
+		}
+		assertEquals(100, sum.get());
+	}
+
+	@Test
+	public void parallelForWaitsAfterFailure () {
+		AsyncExecutor executor = new AsyncExecutor(3);
+		final AtomicInteger running = new AtomicInteger(), started = new AtomicInteger();
+		try {
+			executor.parallelFor(1000, 1, new RangeTask() {
+				public void run (int start, int end) {
+					running.incrementAndGet();
+					started.incrementAndGet();
+					try {
+						if (start == 0) throw new IllegalStateException("chunk 0");
+						Thread.sleep(1);
+					} catch (InterruptedException ignored) {
+					} finally {
+						running.decrementAndGet();
+					}
+				}
+			});
+			fail();
+		} catch (IllegalStateException ex) {
+			assertEquals("chunk 0", ex.getMessage());
+		} catch (RuntimeException ex) {
+			// Thrown on an executor thread, the exception is wrapped.
+			assertEquals("chunk 0", ex.getCause().getMessage());
+		} finally {
+			executor.dispose();
+		}
+		assertEquals(0, running.get());
+		assertTrue(started.get() < 1000);
+	}
+}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.model.Animation;
+import com.badlogic.gdx.graphics.g3d.model.Node;
+import com.badlogic.gdx.graphics.g3d.model.NodeAnimation;
+import com.badlogic.gdx.graphics.g3d.model.NodeKeyframe;
+import com.badlogic.gdx.graphics.g3d.utils.AnimationController;
+import com.badlogic.gdx.graphics.g3d.utils.AnimationEvaluator;
+import com.badlogic.gdx.graphics.g3d.utils.AnimationEvaluator.Skeleton;
+import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+/** Compares animating a crowd of skeletons by updating each {@link AnimationController}, with an {@link AnimationEvaluator}, and
+ * with an AnimationEvaluator on all cores. The skeleton has a spine and four limbs, every bone is rotated by the animation. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnimationEvaluatorBenchmark {
+	static final float delta = 1 / 60f;
+	static final int boneCount = 4;
+
+	@Param({"100", "1000"}) public int instances;
+
+	Model model;
+	final Array<AnimationController> controllers = new Array();
+	AnimationEvaluator evaluator, threadedEvaluator;
+	AsyncExecutor executor;
+
+	@Setup
+	public void setup () {
+		model = new Model();
+		Animation animation = new Animation();
+		animation.id = "walk";
+		animation.duration = 1;
+		Node root = new Node();
+		root.id = "root";
+		animate(animation, root);
+		Node spine = chain(animation, root, "spine", 0, 1, 0);
+		chain(animation, spine, "armLeft", -1, 0, 0);
+		chain(animation, spine, "armRight", 1, 0, 0);
+		chain(animation, root, "legLeft", -0.5f, -1, 0);
+		chain(animation, root, "legRight", 0.5f, -1, 0);
+		model.nodes.add(root);
+		model.animations.add(animation);
+
+		Skeleton skeleton = new Skeleton(model);
+		evaluator = new AnimationEvaluator();
+		threadedEvaluator = new AnimationEvaluator();
+		for (int i = 0; i < instances * 3; i++) {
+			AnimationController controller = new AnimationController(new ModelInstance(model));
+			controller.setAnimation("walk", i % instances / (float)instances, -1, -1, 1, null);
+			if (i < instances)
+				controllers.add(controller);
+			else if (i < instances * 2)
+				evaluator.add(controller, skeleton);
+			else
+				threadedEvaluator.add(controller, skeleton);
+		}
+		executor = new AsyncExecutor(Runtime.getRuntime().availableProcessors());
+	}
+
+	/** Adds a chain of {@link #boneCount} bones to the parent, each offset by x, y, z from its parent, and returns the last. */
+	private Node chain (Animation animation, Node parent, String id, float x, float y, float z) {
+		for (int i = 0; i < boneCount; i++) {
+			Node node = new Node();
+			node.id = id + i;
+			node.translation.set(x, y, z);
+			parent.addChild(node);
+			animate(animation, node);
+			parent = node;
+		}
+		return parent;
+	}
+
+	private void animate (Animation animation, Node node) {
+		NodeAnimation nodeAnimation = new NodeAnimation();
+		nodeAnimation.node = node;
+		nodeAnimation.rotation = new Array<NodeKeyframe<Quaternion>>();
+		nodeAnimation.rotation.add(new NodeKeyframe<Quaternion>(0, new Quaternion(Vector3.X, -20)));
+		nodeAnimation.rotation.add(new NodeKeyframe<Quaternion>(0.5f, new Quaternion(Vector3.X, 20)));
+		nodeAnimation.rotation.add(new NodeKeyframe<Quaternion>(1, new Quaternion(Vector3.X, -20)));
+		animation.nodeAnimations.add(nodeAnimation);
+	}
+
+	@TearDown
+	public void dispose () {
+		executor.dispose();
+	}
+
+	@Benchmark
+	public Array<AnimationController> animationController () {
+		for (AnimationController controller : controllers)
+			controller.update(delta);
+		return controllers;
+	}
+
+	@Benchmark
+	public AnimationEvaluator animationEvaluator () {
+		evaluator.update(delta, null);
+		return evaluator;
+	}
+
+	@Benchmark
+	public AnimationEvaluator animationEvaluatorThreaded () {
+		threadedEvaluator.update(delta, executor);
+		return threadedEvaluator;
+	}
+}
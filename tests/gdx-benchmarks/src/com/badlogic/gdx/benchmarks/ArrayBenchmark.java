@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.badlogic.gdx.utils.Array;
+
+/** Compares {@link Array} to {@link ArrayList}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayBenchmark {
+	@Param({"100", "10000"}) public int size;
+
+	Integer[] values;
+	Array<Integer> gdxArray;
+	ArrayList<Integer> javaList;
+
+	@Setup
+	public void setup () {
+		values = new Integer[size];
+		gdxArray = new Array(size);
+		javaList = new ArrayList(size);
+		for (int i = 0; i < size; i++) {
+			values[i] = i;
+			gdxArray.add(values[i]);
+			javaList.add(values[i]);
+		}
+	}
+
+	@Benchmark
+	public Array gdxAdd () {
+		Array<Integer> array = new Array();
+		for (Integer value : values)
+			array.add(value);
+		return array;
+	}
+
+	@Benchmark
+	public ArrayList javaAdd () {
+		ArrayList<Integer> list = new ArrayList();
+		for (Integer value : values)
+			list.add(value);
+		return list;
+	}
+
+	@Benchmark
+	public void gdxGet (Blackhole blackhole) {
+		for (int i = 0, n = gdxArray.size; i < n; i++)
+			blackhole.consume(gdxArray.get(i));
+	}
+
+	@Benchmark
+	public void javaGet (Blackhole blackhole) {
+		for (int i = 0, n = javaList.size(); i < n; i++)
+			blackhole.consume(javaList.get(i));
+	}
+
+	@Benchmark
+	public void gdxIterate (Blackhole blackhole) {
+		for (Integer value : gdxArray)
+			blackhole.consume(value);
+	}
+
+	@Benchmark
+	public void javaIterate (Blackhole blackhole) {
+		for (Integer value : javaList)
+			blackhole.consume(value);
+	}
+
+	@Benchmark
+	public boolean gdxContains () {
+		return gdxArray.contains(values[values.length - 1], false);
+	}
+
+	@Benchmark
+	public boolean javaContains () {
+		return javaList.contains(values[values.length - 1]);
+	}
+
+	@Benchmark
+	public Array gdxRemoveFirst () {
+		Array<Integer> array = new Array(gdxArray);
+		while (array.size > 0)
+			array.removeIndex(0);
+		return array;
+	}
+
+	@Benchmark
+	public ArrayList javaRemoveFirst () {
+		ArrayList<Integer> list = new ArrayList(javaList);
+		while (!list.isEmpty())
+			list.remove(0);
+		return list;
+	}
+}
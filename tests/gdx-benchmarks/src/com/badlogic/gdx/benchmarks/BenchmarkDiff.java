@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.benchmarks;
+
+import java.io.File;
+import java.util.Locale;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.OrderedMap;
+
+/** Compares two JMH JSON result files and prints the change of each benchmark score. Exits with 1 if any benchmark is slower
+ * than the baseline by more than the threshold percentage.
+ * <p>
+ * Usage: BenchmarkDiff baseline.json results.json [thresholdPercent] */
+public class BenchmarkDiff {
+	static public void main (String[] args) throws Exception {
+		if (args.length < 2) {
+			System.out.println("Usage: BenchmarkDiff baseline.json results.json [thresholdPercent]");
+			System.exit(2);
+		}
+		File baselineFile = new File(args[0]);
+		if (!baselineFile.exists()) {
+			System.out.println("No baseline to compare to: " + baselineFile.getAbsolutePath());
+			System.exit(2);
+		}
+		float threshold = args.length > 2 ? Float.parseFloat(args[2]) : 10;
+
+		OrderedMap<String, JsonValue> baseline = read(baselineFile);
+		OrderedMap<String, JsonValue> results = read(new File(args[1]));
+
+		int regressions = 0;
+		System.out.println(String.format(Locale.ROOT, "%-70s %14s %14s %9s", "Benchmark", "Baseline", "Result", "Change"));
+		for (String name : results.orderedKeys()) {
+			JsonValue result = results.get(name).get("primaryMetric");
+			JsonValue base = baseline.containsKey(name) ? baseline.get(name).get("primaryMetric") : null;
+			float score = result.getFloat("score");
+			if (base == null) {
+				System.out.println(String.format(Locale.ROOT, "%-70s %14s %14.3f %9s", name, "-", score, "new"));
+				continue;
+			}
+			float baseScore = base.getFloat("score");
+			// Positive change is faster: throughput is higher or time is lower.
+			float change = (score - baseScore) / baseScore * 100;
+			if (!results.get(name).getString("mode").equals("thrpt")) change = -change;
+			String flag = "";
+			if (change < -threshold) {
+				flag = " REGRESSION";
+				regressions++;
+			}
+			System.out.println(String.format(Locale.ROOT, "%-70s %14.3f %14.3f %+8.1f%%%s", name, baseScore, score, change, flag));
+		}
+		for (String name : baseline.orderedKeys())
+			if (!results.containsKey(name)) System.out.println(String.format(Locale.ROOT, "%-70s %14s %14s %9s", name, "", "-", "removed"));
+
+		System.out.println();
+		if (regressions > 0) {
+			System.out.println(regressions + " benchmark(s) slower than the baseline by more than " + threshold + "%.");
+			System.exit(1);
+		}
+		System.out.println("No benchmark is slower than the baseline by more than " + threshold + "%.");
+	}
+
+	/** Returns the results by benchmark name and parameters. */
+	static private OrderedMap<String, JsonValue> read (File file) {
+		OrderedMap<String, JsonValue> results = new OrderedMap();
+		for (JsonValue result : new JsonReader().parse(new FileHandle(file))) {
+			String name = result.getString("benchmark");
+			name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+			JsonValue params = result.get("params");
+			if (params != null) {
+				for (JsonValue param : params)
+					name += " " + param.name + "=" + param.asString();
+			}
+			results.put(name, result);
+		}
+		return results;
+	}
+}
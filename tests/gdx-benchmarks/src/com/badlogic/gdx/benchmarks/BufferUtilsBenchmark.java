@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.benchmarks;
+
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+/** Compares transforming the positions of many meshes in one vertex array with a native call per mesh, with one call for all
+ * ranges, and with all ranges split across threads. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BufferUtilsBenchmark {
+	static final int stride = 8;
+
+	@Param({"16", "1024"}) public int meshes;
+	@Param({"1024"}) public int verticesPerMesh;
+
+	final Matrix4 matrix = new Matrix4().setToRotation(Vector3.Y, 1);
+	float[] vertices;
+	FloatBuffer buffer;
+	int[] ranges;
+	AsyncExecutor executor;
+
+	@Setup
+	public void setup () {
+		GdxNativesLoader.load();
+		vertices = new float[meshes * verticesPerMesh * stride];
+		for (int i = 0; i < vertices.length; i++)
+			vertices[i] = i % 100;
+		buffer = BufferUtils.newFloatBuffer(vertices.length);
+		buffer.put(vertices).flip();
+		ranges = new int[meshes * 2];
+		for (int i = 0; i < meshes; i++) {
+			ranges[i * 2] = i * verticesPerMesh * stride * 4;
+			ranges[i * 2 + 1] = verticesPerMesh;
+		}
+		executor = new AsyncExecutor(Runtime.getRuntime().availableProcessors());
+	}
+
+	@TearDown
+	public void dispose () {
+		executor.dispose();
+	}
+
+	@Benchmark
+	public float[] arrayEach () {
+		for (int i = 0; i < meshes; i++)
+			BufferUtils.transform(vertices, 3, stride * 4, verticesPerMesh, matrix, ranges[i * 2]);
+		return vertices;
+	}
+
+	@Benchmark
+	public float[] arrayRanges () {
+		BufferUtils.transform(vertices, 3, stride * 4, ranges, meshes, matrix, null);
+		return vertices;
+	}
+
+	@Benchmark
+	public float[] arrayRangesThreaded () {
+		BufferUtils.transform(vertices, 3, stride * 4, ranges, meshes, matrix, executor);
+		return vertices;
+	}
+
+	@Benchmark
+	public FloatBuffer bufferEach () {
+		for (int i = 0; i < meshes; i++)
+			BufferUtils.transform(buffer, 3, stride * 4, verticesPerMesh, matrix, ranges[i * 2]);
+		return buffer;
+	}
+
+	@Benchmark
+	public FloatBuffer bufferRangesThreaded () {
+		BufferUtils.transform(buffer, 3, stride * 4, ranges, meshes, matrix, executor);
+		return buffer;
+	}
+}
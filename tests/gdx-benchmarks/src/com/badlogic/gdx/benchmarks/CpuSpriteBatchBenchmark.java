@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.CpuSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+/** Compares computing the vertices of many sprites in a {@link CpuSpriteBatch} with a draw call per sprite, with one call for all
+ * sprites, and with one call split across threads. GL calls do nothing, see {@link NoopGL}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CpuSpriteBatchBenchmark {
+	static final int size = CpuSpriteBatch.SPRITE_TRANSFORM_SIZE;
+
+	@Param({"1000", "100000"}) public int sprites;
+
+	CpuSpriteBatch batch;
+	Texture texture;
+	TextureRegion[] regions;
+	float[] transforms;
+	AsyncExecutor executor;
+
+	@Setup
+	public void setup () {
+		NoopGL.install();
+		batch = new CpuSpriteBatch(8191);
+		texture = NoopGL.texture(512, 64);
+		regions = TextureRegion.split(texture, 64, 64)[0];
+		transforms = new float[sprites * size];
+		MathUtils.random.setSeed(0);
+		for (int i = 0; i < transforms.length; i += size) {
+			transforms[i] = MathUtils.random(1024);
+			transforms[i + 1] = MathUtils.random(768);
+			transforms[i + 2] = MathUtils.random(360f);
+			transforms[i + 3] = transforms[i + 4] = MathUtils.random(0.1f, 0.4f);
+			transforms[i + 5] = MathUtils.random(regions.length - 1);
+		}
+		executor = new AsyncExecutor(Runtime.getRuntime().availableProcessors());
+	}
+
+	@TearDown
+	public void dispose () {
+		batch.dispose();
+		texture.dispose();
+		executor.dispose();
+	}
+
+	@Benchmark
+	public CpuSpriteBatch each () {
+		batch.begin();
+		float[] transforms = this.transforms;
+		for (int i = 0; i < transforms.length; i += size) {
+			TextureRegion region = regions[(int)transforms[i + 5]];
+			float width = region.getRegionWidth(), height = region.getRegionHeight();
+			batch.draw(region, transforms[i] - width / 2, transforms[i + 1] - height / 2, width / 2, height / 2, width, height,
+				transforms[i + 3], transforms[i + 4], transforms[i + 2]);
+		}
+		batch.end();
+		return batch;
+	}
+
+	@Benchmark
+	public CpuSpriteBatch bulk () {
+		batch.begin();
+		batch.draw(regions, transforms, 0, sprites, null);
+		batch.end();
+		return batch;
+	}
+
+	@Benchmark
+	public CpuSpriteBatch bulkThreaded () {
+		batch.begin();
+		batch.draw(regions, transforms, 0, sprites, executor);
+		batch.end();
+		return batch;
+	}
+}
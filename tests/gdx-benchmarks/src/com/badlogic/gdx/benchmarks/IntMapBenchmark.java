@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.benchmarks;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.IntMap;
+
+/** Compares {@link IntMap} to {@link HashMap} with boxed integer keys. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntMapBenchmark {
+	@Param({"100", "10000"}) public int size;
+
+	int[] keys;
+	IntMap<Integer> gdxMap;
+	HashMap<Integer, Integer> javaMap;
+
+	@Setup
+	public void setup () {
+		RandomXS128 random = new RandomXS128(123);
+		keys = new int[size];
+		gdxMap = new IntMap();
+		javaMap = new HashMap();
+		for (int i = 0; i < size; i++) {
+			keys[i] = random.nextInt();
+			gdxMap.put(keys[i], i);
+			javaMap.put(keys[i], i);
+		}
+	}
+
+	@Benchmark
+	public void gdxGet (Blackhole blackhole) {
+		for (int key : keys)
+			blackhole.consume(gdxMap.get(key));
+	}
+
+	@Benchmark
+	public void javaGet (Blackhole blackhole) {
+		for (int key : keys)
+			blackhole.consume(javaMap.get(key));
+	}
+
+	@Benchmark
+	public IntMap gdxPut () {
+		IntMap<Integer> map = new IntMap();
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], i);
+		return map;
+	}
+
+	@Benchmark
+	public HashMap javaPut () {
+		HashMap<Integer, Integer> map = new HashMap();
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], i);
+		return map;
+	}
+
+	@Benchmark
+	public void gdxPutRemove () {
+		for (int key : keys) {
+			gdxMap.remove(key);
+			gdxMap.put(key, key);
+		}
+	}
+
+	@Benchmark
+	public void javaPutRemove () {
+		for (int key : keys) {
+			javaMap.remove(key);
+			javaMap.put(key, key);
+		}
+	}
+}
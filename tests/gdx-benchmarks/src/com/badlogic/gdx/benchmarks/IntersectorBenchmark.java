@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.Plane;
+import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.math.collision.Ray;
+
+/** Measures common {@link Intersector} tests, each with a hit. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntersectorBenchmark {
+	final Ray ray = new Ray(new Vector3(-10, 0.5f, 0.5f), new Vector3(1, 0, 0));
+	final BoundingBox box = new BoundingBox(new Vector3(-1, -1, -1), new Vector3(1, 1, 1));
+	final Vector3 t1 = new Vector3(0, -1, -1), t2 = new Vector3(0, 2, -1), t3 = new Vector3(0, -1, 2);
+	final Vector3 start = new Vector3(0, -5, 0), end = new Vector3(0, 5, 0), intersection = new Vector3();
+	final Plane plane = new Plane(Vector3.Y, 0);
+	final float[] polygon = {0, 0, 10, 0, 12, 5, 10, 10, 5, 12, 0, 10, -2, 5};
+	final Polygon p1 = new Polygon(polygon), p2 = new Polygon(polygon);
+
+	public IntersectorBenchmark () {
+		p2.setPosition(5, 5);
+	}
+
+	@Benchmark
+	public boolean rayBounds () {
+		return Intersector.intersectRayBounds(ray, box, intersection);
+	}
+
+	@Benchmark
+	public boolean rayTriangle () {
+		return Intersector.intersectRayTriangle(ray, t1, t2, t3, intersection);
+	}
+
+	@Benchmark
+	public boolean segmentPlane () {
+		return Intersector.intersectSegmentPlane(start, end, plane, intersection);
+	}
+
+	@Benchmark
+	public boolean pointInPolygon () {
+		return Intersector.isPointInPolygon(polygon, 0, polygon.length, 5, 5);
+	}
+
+	@Benchmark
+	public boolean convexPolygons () {
+		return Intersector.overlapConvexPolygons(p1, p2);
+	}
+}
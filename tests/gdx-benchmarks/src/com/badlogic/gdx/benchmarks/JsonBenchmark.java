@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+/** Measures writing and reading an array of objects with {@link Json}, as JSON and UBJSON. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+	@Param({"false", "true"}) public boolean cacheFields;
+
+	Json json;
+	Array<Item> items;
+	String text;
+	byte[] ubjson;
+	JsonValue root;
+
+	@Setup
+	public void setup () {
+		json = new Json();
+		json.setCacheFields(cacheFields);
+		json.setElementType(Item.class, "children", Child.class);
+		items = new Array();
+		for (int i = 0; i < 1000; i++) {
+			Item item = new Item();
+			item.id = i;
+			item.x = i * 0.5f;
+			item.y = -i;
+			item.name = "item" + i;
+			item.visible = i % 2 == 0;
+			item.time = i * 1000L;
+			item.tags = new int[] {i, i + 1, i + 2};
+			for (int ii = 0; ii < 3; ii++) {
+				Child child = new Child();
+				child.index = ii;
+				child.label = "child" + ii;
+				item.children.add(child);
+			}
+			items.add(item);
+		}
+		text = json.toJson(items, Array.class, Item.class);
+		root = new JsonReader().parse(text);
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		json.toUBJson(items, Array.class, Item.class, output);
+		ubjson = output.toByteArray();
+	}
+
+	@Benchmark
+	public String toJson () {
+		return json.toJson(items, Array.class, Item.class);
+	}
+
+	@Benchmark
+	public Object fromJson () {
+		return json.fromJson(Array.class, Item.class, text);
+	}
+
+	/** Maps the already parsed JSON, without the cost of parsing. */
+	@Benchmark
+	public Object readValue () {
+		return json.readValue(Array.class, Item.class, root);
+	}
+
+	@Benchmark
+	public int toUBJson () {
+		ByteArrayOutputStream output = new ByteArrayOutputStream(ubjson.length);
+		json.toUBJson(items, Array.class, Item.class, output);
+		return output.size();
+	}
+
+	@Benchmark
+	public Object fromUBJson () {
+		return json.fromUBJson(Array.class, Item.class, new ByteArrayInputStream(ubjson));
+	}
+
+	static public class Item {
+		public int id;
+		public float x, y;
+		public String name;
+		public boolean visible;
+		public long time;
+		public int[] tags;
+		public Array<Child> children = new Array();
+	}
+
+	static public class Child {
+		public int index;
+		public String label;
+	}
+}
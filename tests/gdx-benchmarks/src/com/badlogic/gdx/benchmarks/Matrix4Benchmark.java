@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Vector3;
+
+/** Measures the {@link Matrix4} operations used for every transform update. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Matrix4Benchmark {
+	final Matrix4 a = new Matrix4(), b = new Matrix4(), result = new Matrix4();
+	final Vector3 vector = new Vector3(1, 2, 3);
+
+	@Setup
+	public void setup () {
+		a.set(new Vector3(1, 2, 3), new Quaternion(Vector3.Y, 30), new Vector3(2, 2, 2));
+		b.setToLookAt(new Vector3(5, 5, 5), Vector3.Zero, Vector3.Y);
+	}
+
+	@Benchmark
+	public Matrix4 mul () {
+		return result.set(a).mul(b);
+	}
+
+	@Benchmark
+	public Matrix4 mulStatic () {
+		result.set(a);
+		Matrix4.mul(result.val, b.val);
+		return result;
+	}
+
+	@Benchmark
+	public Matrix4 inv () {
+		return result.set(a).inv();
+	}
+
+	@Benchmark
+	public Vector3 mulVector () {
+		return vector.set(1, 2, 3).mul(a);
+	}
+
+	@Benchmark
+	public Vector3 prj () {
+		return vector.set(1, 2, 3).prj(b);
+	}
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
+import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
+import com.badlogic.gdx.graphics.g3d.utils.RadixRenderableSorter;
+import com.badlogic.gdx.utils.Array;
+
+/** Measures the CPU side of rendering many instances that share a few models and materials with a {@link ModelBatch}: sorting,
+ * and binding materials, meshes and uniforms in the shader. GL calls do nothing, see {@link NoopGL}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBatchBenchmark {
+	@Param({"default", "radix"}) public String sorter;
+	@Param({"1000"}) public int instances;
+
+	PerspectiveCamera camera;
+	Environment environment;
+	ModelBatch batch;
+	final Array<Model> models = new Array();
+	final Array<ModelInstance> modelInstances = new Array();
+
+	@Setup
+	public void setup () {
+		NoopGL.install();
+		batch = sorter.equals("radix") ? new ModelBatch(new RadixRenderableSorter()) : new ModelBatch();
+
+		environment = new Environment();
+		environment.set(new ColorAttribute(ColorAttribute.AmbientLight, .4f, .4f, .4f, 1f));
+		environment.add(new DirectionalLight().set(0.8f, 0.8f, 0.8f, -1f, -0.8f, -0.2f));
+
+		camera = new PerspectiveCamera(67, 1024, 768);
+		camera.position.set(30f, 30f, 30f);
+		camera.lookAt(0, 0, 0);
+		camera.near = 1f;
+		camera.far = 300f;
+		camera.update();
+
+		ModelBuilder modelBuilder = new ModelBuilder();
+		for (Color color : new Color[] {Color.RED, Color.GREEN, Color.BLUE}) {
+			Material material = new Material(ColorAttribute.createDiffuse(color));
+			models.add(modelBuilder.createBox(1f, 1f, 1f, material, Usage.Position | Usage.Normal));
+			models.add(modelBuilder.createSphere(1f, 1f, 1f, 8, 8, material, Usage.Position | Usage.Normal));
+		}
+		int size = (int)Math.ceil(Math.sqrt(instances));
+		for (int i = 0; i < instances; i++) {
+			int x = i % size, z = i / size;
+			modelInstances.add(new ModelInstance(models.get((x + z) % models.size), x * 2 - size, 0, z * 2 - size));
+		}
+	}
+
+	@TearDown
+	public void dispose () {
+		batch.dispose();
+		for (Model model : models)
+			model.dispose();
+	}
+
+	@Benchmark
+	public ModelBatch render () {
+		batch.begin(camera);
+		batch.render(modelInstances, environment);
+		batch.end();
+		return batch;
+	}
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
+import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
+import com.badlogic.gdx.graphics.g3d.utils.ModelInstanceOctree;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+
+/** Compares rendering a large field of models with a {@link ModelBatch} that draws all of them, that
+ * {@link ModelBatch#setCulling(boolean) culls} each instance, and that culls through a {@link ModelInstanceOctree}. The camera
+ * sees a small part of the field. GL calls do nothing, see {@link NoopGL}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBatchCullingBenchmark {
+	static final float spacing = 4f;
+
+	@Param({"100"}) public int size;
+
+	PerspectiveCamera camera;
+	Environment environment;
+	ModelBatch batch;
+	final Array<Model> models = new Array();
+	final Array<ModelInstance> instances = new Array();
+	ModelInstanceOctree octree;
+
+	@Setup
+	public void setup () {
+		NoopGL.install();
+		batch = new ModelBatch();
+
+		environment = new Environment();
+		environment.set(new ColorAttribute(ColorAttribute.AmbientLight, .4f, .4f, .4f, 1f));
+		environment.add(new DirectionalLight().set(0.8f, 0.8f, 0.8f, -1f, -0.8f, -0.2f));
+
+		camera = new PerspectiveCamera(67, 1024, 768);
+		camera.position.set(0f, 10f, 0f);
+		camera.lookAt(20f, 0f, 20f);
+		camera.near = 1f;
+		camera.far = 150f;
+		camera.update();
+
+		ModelBuilder modelBuilder = new ModelBuilder();
+		for (Color color : new Color[] {Color.RED, Color.GREEN, Color.BLUE}) {
+			Material material = new Material(ColorAttribute.createDiffuse(color));
+			models.add(modelBuilder.createBox(1f, 1f, 1f, material, Usage.Position | Usage.Normal));
+			models.add(modelBuilder.createSphere(1f, 1f, 1f, 8, 8, material, Usage.Position | Usage.Normal));
+		}
+
+		float half = size * spacing / 2;
+		octree = new ModelInstanceOctree(new Vector3(-half, -half, -half), new Vector3(half, half, half), 6, 16);
+		for (int x = 0; x < size; x++) {
+			for (int z = 0; z < size; z++) {
+				ModelInstance instance = new ModelInstance(models.get((x + z) % models.size), x * spacing - half + spacing / 2, 0,
+					z * spacing - half + spacing / 2);
+				instances.add(instance);
+				octree.add(instance);
+			}
+		}
+	}
+
+	@TearDown
+	public void dispose () {
+		batch.dispose();
+		for (Model model : models)
+			model.dispose();
+	}
+
+	@Benchmark
+	public ModelBatch noCulling () {
+		batch.setCulling(false);
+		batch.begin(camera);
+		batch.render(instances, environment);
+		batch.end();
+		return batch;
+	}
+
+	@Benchmark
+	public ModelBatch instanceCulling () {
+		batch.setCulling(true);
+		batch.begin(camera);
+		batch.render(instances, environment);
+		batch.end();
+		return batch;
+	}
+
+	@Benchmark
+	public ModelBatch octreeCulling () {
+		batch.setCulling(true);
+		batch.begin(camera);
+		batch.render(octree, environment);
+		batch.end();
+		return batch;
+	}
+}
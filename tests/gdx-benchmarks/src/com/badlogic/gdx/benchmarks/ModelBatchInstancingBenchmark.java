@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
+import com.badlogic.gdx.graphics.g3d.shaders.DefaultShader;
+import com.badlogic.gdx.graphics.g3d.utils.DefaultShaderProvider;
+import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
+import com.badlogic.gdx.graphics.g3d.utils.RadixRenderableSorter;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+
+/** Compares rendering many instances of a two part model with a {@link ModelBatch} that draws every part separately and with one
+ * that uses instanced draw calls, see {@link DefaultShader.Config#maxInstances}. GL calls do nothing, see {@link NoopGL}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBatchInstancingBenchmark {
+	@Param({"false", "true"}) public boolean instanced;
+	@Param({"10000"}) public int trees;
+
+	PerspectiveCamera camera;
+	Environment environment;
+	ModelBatch batch;
+	Model tree;
+	final Array<ModelInstance> instances = new Array();
+
+	@Setup
+	public void setup () {
+		NoopGL.install(true);
+		DefaultShader.Config config = new DefaultShader.Config();
+		if (instanced) config.maxInstances = 1024;
+		batch = new ModelBatch(new DefaultShaderProvider(config), new RadixRenderableSorter());
+
+		environment = new Environment();
+		environment.set(new ColorAttribute(ColorAttribute.AmbientLight, .4f, .4f, .4f, 1f));
+		environment.add(new DirectionalLight().set(0.8f, 0.8f, 0.8f, -1f, -0.8f, -0.2f));
+
+		camera = new PerspectiveCamera(67, 1024, 768);
+		camera.position.set(60f, 40f, 60f);
+		camera.lookAt(0, 0, 0);
+		camera.near = 1f;
+		camera.far = 500f;
+		camera.update();
+
+		ModelBuilder modelBuilder = new ModelBuilder();
+		modelBuilder.begin();
+		long attributes = Usage.Position | Usage.Normal;
+		modelBuilder.node();
+		modelBuilder.part("trunk", GL20.GL_TRIANGLES, attributes, new Material(ColorAttribute.createDiffuse(Color.BROWN)))
+			.cylinder(0.3f, 2f, 0.3f, 8);
+		modelBuilder.node().translation.set(0, 2.5f, 0);
+		modelBuilder.part("crown", GL20.GL_TRIANGLES, attributes, new Material(ColorAttribute.createDiffuse(Color.FOREST)))
+			.cone(2f, 3f, 2f, 12);
+		tree = modelBuilder.end();
+
+		MathUtils.random.setSeed(0);
+		for (int i = 0; i < trees; i++) {
+			ModelInstance instance = new ModelInstance(tree, MathUtils.random(-100f, 100f), 1f, MathUtils.random(-100f, 100f));
+			instance.transform.rotate(0, 1, 0, MathUtils.random(360f)).scale(1, MathUtils.random(0.7f, 1.3f), 1);
+			instances.add(instance);
+		}
+	}
+
+	@TearDown
+	public void dispose () {
+		batch.dispose();
+		tree.dispose();
+	}
+
+	@Benchmark
+	public ModelBatch render () {
+		batch.begin(camera);
+		batch.render(instances, environment);
+		batch.end();
+		return batch;
+	}
+}
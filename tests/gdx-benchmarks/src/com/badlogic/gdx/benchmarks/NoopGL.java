@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.benchmarks;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.GLOnlyTextureData;
+import com.badlogic.gdx.utils.Null;
+
+/** A {@link GL30} that does nothing, so benchmarks can measure the CPU work of classes that need GL, such as building vertices in
+ * a batch. Shaders compile and link without active attributes or uniforms, all handles and locations are 1, and integer
+ * queries such as the number of texture units return 16. */
+public class NoopGL implements InvocationHandler {
+	static private @Null GL30 gl;
+
+	/** Starts a headless application, if not started yet, and sets {@link Gdx#gl} and {@link Gdx#gl20}. {@link Gdx#gl30} is
+	 * null. */
+	static public void install () {
+		install(false);
+	}
+
+	/** Starts a headless application, if not started yet, and sets {@link Gdx#gl} and {@link Gdx#gl20}.
+	 * @param gl30 If true, {@link Gdx#gl30} is set too, so classes take their GL30 code paths, such as instanced drawing. */
+	static public synchronized void install (boolean gl30) {
+		if (gl == null) {
+			HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+			config.updatesPerSecond = -1;
+			new HeadlessApplication(new ApplicationAdapter() {}, config);
+			gl = (GL30)Proxy.newProxyInstance(GL30.class.getClassLoader(), new Class[] {GL30.class}, new NoopGL());
+		}
+		Gdx.gl = Gdx.gl20 = gl;
+		Gdx.gl30 = gl30 ? gl : null;
+	}
+
+	/** Returns a texture without pixel data. */
+	static public Texture texture (int width, int height) {
+		return new Texture(new GLOnlyTextureData(width, height, 0, GL20.GL_RGBA, GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE));
+	}
+
+	public Object invoke (Object proxy, Method method, Object[] args) {
+		String name = method.getName();
+		if (name.equals("glGetShaderiv") || name.equals("glGetProgramiv")) {
+			int pname = (Integer)args[1];
+			((IntBuffer)args[2]).put(0, pname == GL20.GL_ACTIVE_ATTRIBUTES || pname == GL20.GL_ACTIVE_UNIFORMS ? 0 : 1);
+			return null;
+		}
+		if (name.equals("glGetIntegerv")) {
+			((IntBuffer)args[1]).put(0, 16);
+			return null;
+		}
+		Class type = method.getReturnType();
+		if (type == int.class) return name.equals("glGetError") ? GL20.GL_NO_ERROR : 1;
+		if (type == boolean.class) return false;
+		if (type == String.class) return "";
+		return null;
+	}
+}
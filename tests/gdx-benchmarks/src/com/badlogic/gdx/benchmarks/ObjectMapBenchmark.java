@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.benchmarks;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** Compares {@link ObjectMap} to {@link HashMap} with string keys. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectMapBenchmark {
+	@Param({"100", "10000"}) public int size;
+
+	String[] keys, missing;
+	ObjectMap<String, Integer> gdxMap;
+	HashMap<String, Integer> javaMap;
+
+	@Setup
+	public void setup () {
+		keys = new String[size];
+		missing = new String[size];
+		gdxMap = new ObjectMap();
+		javaMap = new HashMap();
+		for (int i = 0; i < size; i++) {
+			keys[i] = "key" + i;
+			missing[i] = "missing" + i;
+			gdxMap.put(keys[i], i);
+			javaMap.put(keys[i], i);
+		}
+	}
+
+	@Benchmark
+	public void gdxGet (Blackhole blackhole) {
+		for (String key : keys)
+			blackhole.consume(gdxMap.get(key));
+	}
+
+	@Benchmark
+	public void javaGet (Blackhole blackhole) {
+		for (String key : keys)
+			blackhole.consume(javaMap.get(key));
+	}
+
+	@Benchmark
+	public void gdxGetMissing (Blackhole blackhole) {
+		for (String key : missing)
+			blackhole.consume(gdxMap.get(key));
+	}
+
+	@Benchmark
+	public void javaGetMissing (Blackhole blackhole) {
+		for (String key : missing)
+			blackhole.consume(javaMap.get(key));
+	}
+
+	@Benchmark
+	public ObjectMap gdxPut () {
+		ObjectMap<String, Integer> map = new ObjectMap();
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], i);
+		return map;
+	}
+
+	@Benchmark
+	public HashMap javaPut () {
+		HashMap<String, Integer> map = new HashMap();
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], i);
+		return map;
+	}
+
+	@Benchmark
+	public void gdxIterate (Blackhole blackhole) {
+		for (ObjectMap.Entry<String, Integer> entry : gdxMap.entries())
+			blackhole.consume(entry.value);
+	}
+
+	@Benchmark
+	public void javaIterate (Blackhole blackhole) {
+		for (java.util.Map.Entry<String, Integer> entry : javaMap.entrySet())
+			blackhole.consume(entry.getValue());
+	}
+}
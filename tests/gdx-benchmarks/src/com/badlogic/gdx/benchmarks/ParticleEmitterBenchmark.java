@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.ArrayParticleEmitter;
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+/** Compares updating a full, continuous emitter with {@link ParticleEmitter}, with {@link ArrayParticleEmitter}, and with
+ * ArrayParticleEmitter updating on all cores. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParticleEmitterBenchmark {
+	static final float delta = 1 / 60f;
+
+	@Param({"1000", "20000"}) public int particles;
+
+	Texture texture;
+	ParticleEmitter emitter;
+	ArrayParticleEmitter arrayEmitter, threadedEmitter;
+	AsyncExecutor executor;
+
+	@Setup
+	public void setup () {
+		NoopGL.install();
+		texture = NoopGL.texture(32, 32);
+		emitter = new ParticleEmitter();
+		emitter.setMaxParticleCount(particles);
+		emitter.setSprites(new Array(new Sprite[] {new Sprite(texture)}));
+		emitter.setContinuous(true);
+		emitter.getDuration().setLow(1000);
+		emitter.getEmission().setHigh(particles);
+		emitter.getLife().setHigh(1000, 2000);
+		emitter.getXScale().setHigh(8, 16);
+		emitter.getTransparency().setHigh(1);
+		emitter.getTransparency().setScaling(new float[] {1, 0});
+		emitter.getTransparency().setTimeline(new float[] {0, 1});
+		emitter.getVelocity().setActive(true);
+		emitter.getVelocity().setHigh(50, 150);
+		emitter.getAngle().setActive(true);
+		emitter.getAngle().setHigh(0, 360);
+		emitter.getRotation().setActive(true);
+		emitter.getRotation().setHigh(0, 360);
+		emitter.getGravity().setActive(true);
+		emitter.getGravity().setHigh(-20);
+
+		arrayEmitter = new ArrayParticleEmitter(emitter);
+		threadedEmitter = new ArrayParticleEmitter(emitter);
+		executor = new AsyncExecutor(Runtime.getRuntime().availableProcessors());
+		threadedEmitter.setExecutor(executor);
+		for (ParticleEmitter emitter : new ParticleEmitter[] {emitter, arrayEmitter, threadedEmitter}) {
+			emitter.start();
+			// Fill the emitter, particles live up to 2 seconds.
+			for (int i = 0; i < 180; i++)
+				emitter.update(delta);
+		}
+	}
+
+	@TearDown
+	public void dispose () {
+		texture.dispose();
+		executor.dispose();
+	}
+
+	@Benchmark
+	public ParticleEmitter particleEmitter () {
+		emitter.update(delta);
+		return emitter;
+	}
+
+	@Benchmark
+	public ParticleEmitter arrayParticleEmitter () {
+		arrayEmitter.update(delta);
+		return arrayEmitter;
+	}
+
+	@Benchmark
+	public ParticleEmitter arrayParticleEmitterThreaded () {
+		threadedEmitter.update(delta);
+		return threadedEmitter;
+	}
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+import com.badlogic.gdx.math.MathUtils;
+
+/** Compares computing the vertices of many rectangles, circles and lines with a {@link ShapeRenderer} call per shape and with the
+ * bulk methods. GL calls do nothing, see {@link NoopGL}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShapeRendererBenchmark {
+	@Param({"20000"}) public int shapes;
+	@Param({"1", "2"}) public int buffers;
+
+	ShapeRenderer renderer;
+	float[] rects, circles, lines;
+
+	@Setup
+	public void setup () {
+		NoopGL.install();
+		renderer = new ShapeRenderer(100000, null, buffers);
+		rects = new float[shapes * 4];
+		circles = new float[shapes * 3];
+		lines = new float[shapes * 4];
+		MathUtils.random.setSeed(0);
+		for (int i = 0; i < shapes; i++) {
+			rects[i * 4] = MathUtils.random(1024);
+			rects[i * 4 + 1] = MathUtils.random(768);
+			rects[i * 4 + 2] = rects[i * 4 + 3] = MathUtils.random(2f, 8f);
+			circles[i * 3] = MathUtils.random(1024);
+			circles[i * 3 + 1] = MathUtils.random(768);
+			circles[i * 3 + 2] = MathUtils.random(2f, 6f);
+			lines[i * 4] = MathUtils.random(1024);
+			lines[i * 4 + 1] = MathUtils.random(768);
+			lines[i * 4 + 2] = lines[i * 4] + MathUtils.random(-10f, 10f);
+			lines[i * 4 + 3] = lines[i * 4 + 1] + MathUtils.random(-10f, 10f);
+		}
+	}
+
+	@TearDown
+	public void dispose () {
+		renderer.dispose();
+	}
+
+	@Benchmark
+	public ShapeRenderer each () {
+		float[] rects = this.rects, circles = this.circles, lines = this.lines;
+		renderer.begin(ShapeType.Filled);
+		for (int i = 0; i < rects.length; i += 4)
+			renderer.rect(rects[i], rects[i + 1], rects[i + 2], rects[i + 3]);
+		for (int i = 0; i < circles.length; i += 3)
+			renderer.circle(circles[i], circles[i + 1], circles[i + 2], 12);
+		renderer.end();
+		renderer.begin(ShapeType.Line);
+		for (int i = 0; i < lines.length; i += 4)
+			renderer.line(lines[i], lines[i + 1], lines[i + 2], lines[i + 3]);
+		renderer.end();
+		return renderer;
+	}
+
+	@Benchmark
+	public ShapeRenderer bulk () {
+		renderer.begin(ShapeType.Filled);
+		renderer.rects(rects, 0, rects.length);
+		renderer.circles(circles, 0, circles.length, 12);
+		renderer.end();
+		renderer.begin(ShapeType.Line);
+		renderer.lines(lines, 0, lines.length);
+		renderer.end();
+		return renderer;
+	}
+}
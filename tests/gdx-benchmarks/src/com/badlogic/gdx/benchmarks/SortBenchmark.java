@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Sort;
+
+/** Compares {@link Sort} and {@link Array#sort()} to {@link Arrays#sort(Object[])} and {@link Collections#sort(java.util.List)}.
+ * Each operation sorts a copy of the same shuffled values. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortBenchmark {
+	@Param({"100", "10000"}) public int size;
+
+	Integer[] values, copy;
+	Array<Integer> gdxArray;
+	ArrayList<Integer> javaList;
+
+	@Setup
+	public void setup () {
+		RandomXS128 random = new RandomXS128(123);
+		values = new Integer[size];
+		for (int i = 0; i < size; i++)
+			values[i] = random.nextInt();
+		copy = new Integer[size];
+		gdxArray = new Array(size);
+		javaList = new ArrayList(size);
+	}
+
+	@Benchmark
+	public Object[] gdxSort () {
+		System.arraycopy(values, 0, copy, 0, size);
+		Sort.instance().sort(copy);
+		return copy;
+	}
+
+	@Benchmark
+	public Object[] javaSort () {
+		System.arraycopy(values, 0, copy, 0, size);
+		Arrays.sort(copy);
+		return copy;
+	}
+
+	@Benchmark
+	public Array gdxArraySort () {
+		gdxArray.clear();
+		gdxArray.addAll(values);
+		gdxArray.sort();
+		return gdxArray;
+	}
+
+	@Benchmark
+	public ArrayList javaListSort () {
+		javaList.clear();
+		Collections.addAll(javaList, values);
+		Collections.sort(javaList);
+		return javaList;
+	}
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.ArrayParticleEffect;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.ParticleEffect;
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+/** Draws the same effect file with many particles using {@link ParticleEffect} and {@link ArrayParticleEffect}, which should look
+ * alike. Touch to cycle between ParticleEffect, ArrayParticleEffect and ArrayParticleEffect updating on all cores. Update times
+ * are compared by ParticleEmitterBenchmark. */
+public class ArrayParticleEmitterTest extends GdxTest {
+	static private final int PARTICLES = 5000;
+	static private final String[] modes = {"ParticleEffect", "ArrayParticleEffect", "ArrayParticleEffect, all cores"};
+
+	SpriteBatch batch;
+	BitmapFont font;
+	ParticleEffect effect;
+	ArrayParticleEffect arrayEffect;
+	AsyncExecutor executor;
+	int mode;
+
+	@Override
+	public void create () {
+		batch = new SpriteBatch();
+		font = new BitmapFont();
+		executor = new AsyncExecutor(Runtime.getRuntime().availableProcessors(), "ArrayParticleEmitterTest");
+
+		effect = new ParticleEffect();
+		effect.load(Gdx.files.internal("data/test.p"), Gdx.files.internal("data"));
+		arrayEffect = new ArrayParticleEffect();
+		arrayEffect.load(Gdx.files.internal("data/test.p"), Gdx.files.internal("data"));
+		for (ParticleEffect effect : new ParticleEffect[] {effect, arrayEffect}) {
+			for (ParticleEmitter emitter : effect.getEmitters()) {
+				emitter.setMaxParticleCount(PARTICLES);
+				emitter.setContinuous(true);
+				emitter.getEmission().setHigh(PARTICLES / emitter.getLife().getHighMax() * 1000);
+			}
+			effect.setPosition(Gdx.graphics.getWidth() / 2, Gdx.graphics.getHeight() / 2);
+			effect.start();
+		}
+	}
+
+	@Override
+	public void render () {
+		ScreenUtils.clear(0, 0, 0, 1);
+		if (Gdx.input.justTouched()) {
+			mode = (mode + 1) % modes.length;
+			arrayEffect.setExecutor(mode == 2 ? executor : null);
+		}
+		ParticleEffect effect = mode == 0 ? this.effect : arrayEffect;
+
+		batch.begin();
+		effect.update(Gdx.graphics.getDeltaTime());
+		effect.draw(batch);
+		font.draw(batch, modes[mode], 10, 20);
+		batch.end();
+	}
+
+	@Override
+	public void dispose () {
+		batch.dispose();
+		font.dispose();
+		effect.dispose();
+		arrayEffect.dispose();
+		executor.dispose();
+	}
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.CpuSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+/** Draws many sprites with {@link CpuSpriteBatch#draw(TextureRegion[], float[], int, int, AsyncExecutor)}. Touch to toggle
+ * between computing the vertices on the render thread and on all cores, which should look the same. CpuSpriteBatchBenchmark in
+ * gdx-benchmarks measures the time. */
+public class CpuSpriteBatchBulkTest extends GdxTest {
+	static private final int SPRITES = 10000, SIZE = CpuSpriteBatch.SPRITE_TRANSFORM_SIZE;
+
+	CpuSpriteBatch batch;
+	Texture texture;
+	TextureRegion[] regions;
+	AsyncExecutor executor;
+	final float[] transforms = new float[SPRITES * SIZE];
+	final float[] velocities = new float[SPRITES * 3];
+	boolean parallel = true;
+
+	@Override
+	public void create () {
+		batch = new CpuSpriteBatch(8191);
+		texture = new Texture(Gdx.files.internal("data/walkanim.png"));
+		TextureRegion[][] split = TextureRegion.split(texture, 64, 64);
+		regions = split[0];
+		executor = new AsyncExecutor(Runtime.getRuntime().availableProcessors(), "CpuSpriteBatchBulkTest");
+
+		for (int i = 0, t = 0, v = 0; i < SPRITES; i++, t += SIZE, v += 3) {
+			transforms[t] = MathUtils.random(Gdx.graphics.getWidth());
+			transforms[t + 1] = MathUtils.random(Gdx.graphics.getHeight());
+			transforms[t + 2] = MathUtils.random(360f);
+			transforms[t + 3] = transforms[t + 4] = MathUtils.random(0.1f, 0.4f);
+			transforms[t + 5] = MathUtils.random(regions.length - 1);
+			velocities[v] = MathUtils.random(-50f, 50f);
+			velocities[v + 1] = MathUtils.random(-50f, 50f);
+			velocities[v + 2] = MathUtils.random(-90f, 90f);
+		}
+	}
+
+	@Override
+	public void render () {
+		ScreenUtils.clear(0.2f, 0.2f, 0.2f, 1);
+		if (Gdx.input.justTouched()) parallel = !parallel;
+
+		float delta = Gdx.graphics.getDeltaTime();
+		int width = Gdx.graphics.getWidth(), height = Gdx.graphics.getHeight();
+		for (int i = 0, t = 0, v = 0; i < SPRITES; i++, t += SIZE, v += 3) {
+			transforms[t] = (transforms[t] + velocities[v] * delta + width) % width;
+			transforms[t + 1] = (transforms[t + 1] + velocities[v + 1] * delta + height) % height;
+			transforms[t + 2] += velocities[v + 2] * delta;
+		}
+
+		batch.begin();
+		batch.draw(regions, transforms, 0, SPRITES, parallel ? executor : null);
+		batch.end();
+	}
+
+	@Override
+	public void dispose () {
+		batch.dispose();
+		texture.dispose();
+		executor.dispose();
+	}
+}
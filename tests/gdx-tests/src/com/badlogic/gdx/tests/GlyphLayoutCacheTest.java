@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.GlyphLayoutCache;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+
+/** Many labels showing counters that change every frame. Timers only change at the end, so they are laid out incrementally, and
+ * the status labels cycle through a few values, so their layouts are found in a shared {@link GlyphLayoutCache}. */
+public class GlyphLayoutCacheTest extends GdxTest {
+	static private final String[] states = {"Idle", "Walking", "Running", "Jumping"};
+
+	Skin skin;
+	Stage stage;
+	GlyphLayoutCache layoutCache;
+	Label[] timers, statuses;
+	Label stats;
+	float time;
+
+	@Override
+	public void create () {
+		skin = new Skin(Gdx.files.internal("data/uiskin.json"));
+		stage = new Stage(new ScreenViewport());
+		layoutCache = new GlyphLayoutCache();
+
+		Table table = new Table();
+		table.setFillParent(true);
+		table.top().left().pad(10);
+		stage.addActor(table);
+
+		stats = new Label("", skin);
+		table.add(stats).colspan(8).left().row();
+		timers = new Label[80];
+		statuses = new Label[80];
+		for (int i = 0; i < timers.length; i++) {
+			timers[i] = new Label("", skin);
+			statuses[i] = new Label("", skin);
+			statuses[i].setLayoutCache(layoutCache);
+			table.add(timers[i]).width(90).left();
+			table.add(statuses[i]).width(70).left();
+			if (i % 4 == 3) table.row();
+		}
+	}
+
+	@Override
+	public void render () {
+		ScreenUtils.clear(0, 0, 0, 1);
+		time += Gdx.graphics.getDeltaTime();
+		for (int i = 0; i < timers.length; i++) {
+			timers[i].setText("Time: " + (int)(time * 1000 + i * 37));
+			if (MathUtils.randomBoolean(0.1f)) statuses[i].setText(states[MathUtils.random(states.length - 1)]);
+		}
+		stats.setText("Layout cache hits: " + layoutCache.hits + ", misses: " + layoutCache.misses + ", size: "
+			+ layoutCache.getSize());
+		stage.act();
+		stage.draw();
+	}
+
+	@Override
+	public void resize (int width, int height) {
+		stage.getViewport().update(width, height, true);
+	}
+
+	@Override
+	public void dispose () {
+		stage.dispose();
+		skin.dispose();
+	}
+}
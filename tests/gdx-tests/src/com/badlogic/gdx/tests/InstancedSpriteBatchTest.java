@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.InstancedSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.tests.utils.GdxTestConfig;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/** Draws the same sprites with a SpriteBatch on the left and an InstancedSpriteBatch on the right, using each kind of draw
+ * method. Both halves should look the same. Touch to switch between the packed and unpacked InstancedSpriteBatch. */
+@GdxTestConfig(requireGL30 = true)
+public class InstancedSpriteBatchTest extends GdxTest {
+	SpriteBatch spriteBatch;
+	InstancedSpriteBatch instancedBatch, packedBatch;
+	boolean packed;
+	Texture texture;
+	TextureRegion region, rotatedRegion;
+	Sprite sprite;
+	BitmapFont font;
+	final Affine2 transform = new Affine2();
+	float rotation;
+
+	@Override
+	public void create () {
+		spriteBatch = new SpriteBatch();
+		instancedBatch = new InstancedSpriteBatch();
+		packedBatch = new InstancedSpriteBatch(1000, null, true);
+		texture = new Texture(Gdx.files.internal("data/walkanim.png"));
+		region = new TextureRegion(texture, 64, 0, 64, 64);
+		rotatedRegion = new TextureRegion(texture, 128, 0, 64, 64);
+		sprite = new Sprite(region);
+		sprite.setColor(Color.ORANGE);
+		font = new BitmapFont();
+	}
+
+	@Override
+	public void render () {
+		ScreenUtils.clear(0.2f, 0.2f, 0.2f, 1);
+		rotation += Gdx.graphics.getDeltaTime() * 45;
+		int half = Gdx.graphics.getWidth() / 2;
+		if (Gdx.input.justTouched()) packed = !packed;
+		InstancedSpriteBatch batch = packed ? packedBatch : instancedBatch;
+
+		drawSprites(spriteBatch, 0);
+		drawSprites(batch, half);
+
+		spriteBatch.begin();
+		font.draw(spriteBatch, "SpriteBatch", 10, 20);
+		font.draw(spriteBatch, (packed ? "Packed " : "") + "InstancedSpriteBatch, render calls: " + batch.renderCalls, half + 10,
+			20);
+		spriteBatch.end();
+	}
+
+	private void drawSprites (Batch batch, float x) {
+		batch.begin();
+		batch.setColor(Color.WHITE);
+		batch.draw(texture, x + 10, 40, 0, 0, 64, 64);
+		batch.draw(texture, x + 80, 40, 64, 64, 0, 0, 64, 64, true, false);
+		batch.draw(texture, x + 150, 40, 32, 32, 64, 64, 1.5f, 1, rotation, 64, 0, 64, 64, false, true);
+		batch.draw(texture, x + 10, 120, 128, 32, 0, 1, 0.25f, 0);
+		batch.draw(region, x + 150, 120);
+		batch.setColor(0.5f, 1, 0.5f, 0.75f);
+		batch.draw(region, x + 10, 200, 32, 32, 64, 64, 1, 1, rotation);
+		batch.draw(rotatedRegion, x + 90, 200, 32, 32, 64, 64, 1, 1, rotation, true);
+		batch.draw(rotatedRegion, x + 170, 200, 32, 32, 64, 64, 1, 1, -rotation, false);
+		transform.setToTranslation(x + 60, 300).rotate(rotation).shear(0.5f, 0);
+		batch.draw(region, 64, 64, transform);
+		sprite.setPosition(x + 150, 300);
+		sprite.setRotation(-rotation);
+		sprite.draw(batch);
+		batch.end();
+	}
+
+	@Override
+	public void dispose () {
+		spriteBatch.dispose();
+		instancedBatch.dispose();
+		packedBatch.dispose();
+		texture.dispose();
+		font.dispose();
+	}
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.MultiTextureSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/** Draws sprites that alternate between textures, with a SpriteBatch on the left and a MultiTextureSpriteBatch on the right. Both
+ * halves should look the same, with the MultiTextureSpriteBatch using far fewer draw calls. */
+public class MultiTextureSpriteBatchTest extends GdxTest {
+	static private final String[] files = {"data/badlogic.jpg", "data/egg.png", "data/planet_earth.png", "data/stones.jpg",
+		"data/walkanim.png"};
+
+	Texture[] textures;
+	SpriteBatch spriteBatch;
+	MultiTextureSpriteBatch multiBatch;
+	BitmapFont font;
+	GLProfiler profiler;
+	int spriteBatchCalls, multiBatchCalls;
+
+	@Override
+	public void create () {
+		textures = new Texture[files.length];
+		for (int i = 0; i < files.length; i++)
+			textures[i] = new Texture(Gdx.files.internal(files[i]));
+		spriteBatch = new SpriteBatch();
+		multiBatch = new MultiTextureSpriteBatch();
+		font = new BitmapFont();
+		profiler = new GLProfiler(Gdx.graphics);
+		profiler.enable();
+	}
+
+	@Override
+	public void render () {
+		ScreenUtils.clear(0.2f, 0.2f, 0.2f, 1);
+		int half = Gdx.graphics.getWidth() / 2;
+
+		profiler.reset();
+		drawSprites(spriteBatch, 0, half);
+		spriteBatchCalls = profiler.getDrawCalls();
+
+		profiler.reset();
+		drawSprites(multiBatch, half, half);
+		multiBatchCalls = profiler.getDrawCalls();
+
+		spriteBatch.begin();
+		font.draw(spriteBatch, "SpriteBatch draw calls: " + spriteBatchCalls, 10, 40);
+		font.draw(spriteBatch, "MultiTextureSpriteBatch draw calls: " + multiBatchCalls + ", flushes avoided: "
+			+ multiBatch.flushesAvoided + ", textures: " + multiBatch.getMaxTextures(), 10, 20);
+		spriteBatch.end();
+	}
+
+	private void drawSprites (Batch batch, int x, int width) {
+		int size = 16, height = Gdx.graphics.getHeight() - 60;
+		batch.begin();
+		for (int i = 0, columns = width / size, count = columns * (height / size); i < count; i++)
+			batch.draw(textures[i % textures.length], x + i % columns * size, 60 + i / columns * size, size, size);
+		batch.end();
+	}
+
+	@Override
+	public void dispose () {
+		profiler.disable();
+		for (Texture texture : textures)
+			texture.dispose();
+		spriteBatch.dispose();
+		multiBatch.dispose();
+		font.dispose();
+	}
+}
@@ -60,6 +60,7 @@ public class ParticleEmittersTest extends GdxTest {
 		effect.load(Gdx.files.internal("data/singleTextureAllAdditive.p"), Gdx.files.internal("data"));
 		effect.setPosition(Gdx.graphics.getWidth() / 2, Gdx.graphics.getHeight() / 2);
 		effectPool = new ParticleEffectPool(effect, 20, 20);
+		effectPool.prewarm(20);
 
 		setupUI();
 
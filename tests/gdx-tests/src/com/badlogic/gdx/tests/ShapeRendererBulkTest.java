@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/** Draws many rectangles, circles and lines with the ShapeRenderer bulk methods. Touch to toggle between the bulk methods and
+ * drawing each shape separately, the output should not change. See ShapeRendererBenchmark for timings. */
+public class ShapeRendererBulkTest extends GdxTest {
+	static private final int SHAPES = 2000;
+
+	ShapeRenderer renderer;
+	final float[] rects = new float[SHAPES * 4], circles = new float[SHAPES * 3], lines = new float[SHAPES * 4];
+	boolean bulk = true;
+
+	@Override
+	public void create () {
+		renderer = new ShapeRenderer(100000, null, 2);
+		int width = Gdx.graphics.getWidth(), height = Gdx.graphics.getHeight();
+		for (int i = 0; i < SHAPES; i++) {
+			rects[i * 4] = MathUtils.random(width);
+			rects[i * 4 + 1] = MathUtils.random(height);
+			rects[i * 4 + 2] = rects[i * 4 + 3] = MathUtils.random(2f, 8f);
+			circles[i * 3] = MathUtils.random(width);
+			circles[i * 3 + 1] = MathUtils.random(height);
+			circles[i * 3 + 2] = MathUtils.random(2f, 6f);
+			lines[i * 4] = MathUtils.random(width);
+			lines[i * 4 + 1] = MathUtils.random(height);
+			lines[i * 4 + 2] = lines[i * 4] + MathUtils.random(-10f, 10f);
+			lines[i * 4 + 3] = lines[i * 4 + 1] + MathUtils.random(-10f, 10f);
+		}
+	}
+
+	@Override
+	public void render () {
+		ScreenUtils.clear(0.2f, 0.2f, 0.2f, 1);
+		if (Gdx.input.justTouched()) bulk = !bulk;
+
+		renderer.begin(ShapeType.Filled);
+		renderer.setColor(Color.SKY);
+		if (bulk)
+			renderer.rects(rects, 0, rects.length);
+		else {
+			for (int i = 0; i < rects.length; i += 4)
+				renderer.rect(rects[i], rects[i + 1], rects[i + 2], rects[i + 3]);
+		}
+		renderer.setColor(Color.ORANGE);
+		if (bulk)
+			renderer.circles(circles, 0, circles.length, 12);
+		else {
+			for (int i = 0; i < circles.length; i += 3)
+				renderer.circle(circles[i], circles[i + 1], circles[i + 2], 12);
+		}
+		renderer.end();
+
+		renderer.begin(ShapeType.Line);
+		renderer.setColor(Color.WHITE);
+		if (bulk)
+			renderer.lines(lines, 0, lines.length);
+		else {
+			for (int i = 0; i < lines.length; i += 4)
+				renderer.line(lines[i], lines[i + 1], lines[i + 2], lines[i + 3]);
+		}
+		renderer.end();
+	}
+
+	@Override
+	public void dispose () {
+		renderer.dispose();
+	}
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/** Caches a grid of tiles once, then each frame replaces a few of them with a different region, color, and offset using
+ * {@link SpriteCache#beginUpdate(int, int)}. */
+public class SpriteCacheUpdateTest extends GdxTest {
+	static private final int COLUMNS = 40, ROWS = 30, TILE_SIZE = 16, UPDATES_PER_FRAME = 20;
+
+	SpriteCache cache;
+	Texture texture;
+	TextureRegion[] regions;
+	final Color color = new Color();
+	int cacheID;
+
+	@Override
+	public void create () {
+		texture = new Texture(Gdx.files.internal("data/walkanim.png"));
+		regions = TextureRegion.split(texture, 64, 64)[0];
+
+		cache = new SpriteCache(COLUMNS * ROWS, true);
+		cache.beginCache();
+		for (int i = 0; i < COLUMNS * ROWS; i++)
+			cache.add(regions[0], tileX(i), tileY(i), TILE_SIZE, TILE_SIZE);
+		cacheID = cache.endCache();
+	}
+
+	private float tileX (int image) {
+		return image % COLUMNS * TILE_SIZE;
+	}
+
+	private float tileY (int image) {
+		return image / COLUMNS * TILE_SIZE;
+	}
+
+	@Override
+	public void render () {
+		ScreenUtils.clear(0.2f, 0.2f, 0.2f, 1);
+
+		cache.beginUpdate(cacheID, 0);
+		for (int i = 0; i < UPDATES_PER_FRAME; i++) {
+			int image = MathUtils.random(COLUMNS * ROWS - 1);
+			cache.setUpdateImage(image);
+			cache.setColor(color.fromHsv(MathUtils.random(360f), 0.5f, 1));
+			cache.add(regions[MathUtils.random(regions.length - 1)], tileX(image) + MathUtils.random(-2, 2),
+				tileY(image) + MathUtils.random(-2, 2), TILE_SIZE, TILE_SIZE);
+		}
+		cache.endUpdate();
+
+		cache.begin();
+		cache.draw(cacheID);
+		cache.end();
+	}
+
+	@Override
+	public void dispose () {
+		cache.dispose();
+		texture.dispose();
+	}
+}
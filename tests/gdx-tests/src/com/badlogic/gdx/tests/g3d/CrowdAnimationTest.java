@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.g3d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.InputMultiplexer;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
+import com.badlogic.gdx.graphics.g3d.loader.G3dModelLoader;
+import com.badlogic.gdx.graphics.g3d.utils.AnimationController;
+import com.badlogic.gdx.graphics.g3d.utils.AnimationEvaluator;
+import com.badlogic.gdx.graphics.g3d.utils.AnimationEvaluator.Skeleton;
+import com.badlogic.gdx.graphics.g3d.utils.CameraInputController;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.UBJsonReader;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+/** Animates a crowd of knights. Touch to toggle between updating each {@link AnimationController} on the render thread and
+ * updating all of them with an {@link AnimationEvaluator} on all cores, the knights should keep moving the same way.
+ * AnimationEvaluatorBenchmark compares the update times. */
+public class CrowdAnimationTest extends GdxTest {
+	static private final int ROWS = 20, COLUMNS = 20;
+	static private final float SPACING = 40f;
+
+	PerspectiveCamera cam;
+	CameraInputController inputController;
+	ModelBatch modelBatch;
+	Environment environment;
+	Model model;
+	Array<ModelInstance> instances = new Array();
+	Array<AnimationController> controllers = new Array();
+	Skeleton skeleton;
+	AnimationEvaluator evaluator;
+	AsyncExecutor executor;
+	boolean useEvaluator = true;
+
+	@Override
+	public void create () {
+		modelBatch = new ModelBatch();
+		environment = new Environment();
+		environment.set(new ColorAttribute(ColorAttribute.AmbientLight, .4f, .4f, .4f, 1f));
+		environment.add(new DirectionalLight().set(0.8f, 0.8f, 0.8f, -1f, -0.8f, -0.2f));
+
+		cam = new PerspectiveCamera(67, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+		cam.position.set(0, ROWS * SPACING * 0.5f, ROWS * SPACING);
+		cam.lookAt(0, 0, 0);
+		cam.near = 1f;
+		cam.far = ROWS * SPACING * 3;
+		cam.update();
+
+		model = new G3dModelLoader(new UBJsonReader()).loadModel(Gdx.files.internal("data/g3d/knight.g3db"));
+		skeleton = new Skeleton(model);
+		evaluator = new AnimationEvaluator();
+		executor = new AsyncExecutor(Runtime.getRuntime().availableProcessors(), "CrowdAnimationTest");
+		for (int row = 0; row < ROWS; row++) {
+			for (int column = 0; column < COLUMNS; column++) {
+				ModelInstance instance = new ModelInstance(model, (column - COLUMNS / 2) * SPACING, 0,
+					(row - ROWS / 2) * SPACING);
+				AnimationController controller = new AnimationController(instance);
+				String id = model.animations.get(MathUtils.random(model.animations.size - 1)).id;
+				controller.setAnimation(id, -1);
+				controller.update(MathUtils.random(2f));
+				instances.add(instance);
+				controllers.add(controller);
+				evaluator.add(controller, skeleton);
+			}
+		}
+
+		Gdx.input.setInputProcessor(new InputMultiplexer(this, inputController = new CameraInputController(cam)));
+	}
+
+	@Override
+	public void render () {
+		inputController.update();
+		if (Gdx.input.justTouched()) {
+			useEvaluator = !useEvaluator;
+			if (useEvaluator) {
+				for (AnimationController controller : controllers)
+					evaluator.add(controller, skeleton);
+			} else
+				evaluator.clear();
+		}
+
+		float delta = Gdx.graphics.getDeltaTime();
+		if (useEvaluator)
+			evaluator.update(delta, executor);
+		else {
+			for (AnimationController controller : controllers)
+				controller.update(delta);
+		}
+
+		Gdx.gl.glViewport(0, 0, Gdx.graphics.getBackBufferWidth(), Gdx.graphics.getBackBufferHeight());
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT | GL20.GL_DEPTH_BUFFER_BIT);
+		modelBatch.begin(cam);
+		modelBatch.render(instances, environment);
+		modelBatch.end();
+	}
+
+	@Override
+	public void dispose () {
+		modelBatch.dispose();
+		model.dispose();
+		executor.dispose();
+	}
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.g3d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.InputMultiplexer;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
+import com.badlogic.gdx.graphics.g3d.utils.CameraInputController;
+import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
+import com.badlogic.gdx.graphics.g3d.utils.ModelInstanceOctree;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+
+/** Renders a large field of boxes and spheres. Touch to cycle between rendering them without culling, with
+ * {@link ModelBatch#setCulling(boolean) culling} of each instance and with culling through a {@link ModelInstanceOctree}. All three must
+ * show the same boxes and spheres, ModelBatchCullingBenchmark measures how long each takes. */
+public class ModelBatchCullingTest extends GdxTest {
+	static private final int SIZE = 100;
+	static private final float SPACING = 4f;
+	static private final String[] modes = {"No culling", "ModelInstance culling", "ModelInstanceOctree culling"};
+
+	PerspectiveCamera cam;
+	CameraInputController inputController;
+	ModelBatch modelBatch;
+	SpriteBatch batch;
+	BitmapFont font;
+	Array<Model> models = new Array();
+	Array<ModelInstance> instances = new Array();
+	ModelInstanceOctree octree;
+	Environment environment;
+	int mode = 2;
+
+	@Override
+	public void create () {
+		modelBatch = new ModelBatch();
+		batch = new SpriteBatch();
+		font = new BitmapFont();
+
+		environment = new Environment();
+		environment.set(new ColorAttribute(ColorAttribute.AmbientLight, .4f, .4f, .4f, 1f));
+		environment.add(new DirectionalLight().set(0.8f, 0.8f, 0.8f, -1f, -0.8f, -0.2f));
+
+		cam = new PerspectiveCamera(67, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+		cam.position.set(0f, 10f, 0f);
+		cam.lookAt(20f, 0f, 20f);
+		cam.near = 1f;
+		cam.far = 150f;
+		cam.update();
+
+		ModelBuilder modelBuilder = new ModelBuilder();
+		Color[] colors = {Color.RED, Color.GREEN, Color.BLUE};
+		for (Color color : colors) {
+			Material material = new Material(ColorAttribute.createDiffuse(color));
+			models.add(modelBuilder.createBox(1f, 1f, 1f, material, Usage.Position | Usage.Normal));
+			models.add(modelBuilder.createSphere(1f, 1f, 1f, 8, 8, material, Usage.Position | Usage.Normal));
+		}
+
+		float half = SIZE * SPACING / 2;
+		octree = new ModelInstanceOctree(new Vector3(-half, -half, -half), new Vector3(half, half, half), 6, 16);
+		for (int x = 0; x < SIZE; x++) {
+			for (int z = 0; z < SIZE; z++) {
+				ModelInstance instance = new ModelInstance(models.get((x + z) % models.size), x * SPACING - half + SPACING / 2, 0,
+					z * SPACING - half + SPACING / 2);
+				instances.add(instance);
+				octree.add(instance);
+			}
+		}
+
+		Gdx.input.setInputProcessor(new InputMultiplexer(this, inputController = new CameraInputController(cam)));
+	}
+
+	@Override
+	public void render () {
+		inputController.update();
+		if (Gdx.input.justTouched()) mode = (mode + 1) % modes.length;
+
+		Gdx.gl.glViewport(0, 0, Gdx.graphics.getBackBufferWidth(), Gdx.graphics.getBackBufferHeight());
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT | GL20.GL_DEPTH_BUFFER_BIT);
+
+		modelBatch.setCulling(mode != 0);
+		modelBatch.begin(cam);
+		if (mode == 2)
+			modelBatch.render(octree, environment);
+		else
+			modelBatch.render(instances, environment);
+		modelBatch.end();
+
+		batch.begin();
+		font.draw(batch, modes[mode], 10, 20);
+		batch.end();
+	}
+
+	@Override
+	public void dispose () {
+		modelBatch.dispose();
+		batch.dispose();
+		font.dispose();
+		for (Model model : models)
+			model.dispose();
+	}
+}
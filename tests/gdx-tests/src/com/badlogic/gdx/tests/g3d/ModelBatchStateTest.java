@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.g3d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.InputMultiplexer;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
+import com.badlogic.gdx.graphics.g3d.utils.CameraInputController;
+import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
+import com.badlogic.gdx.graphics.g3d.utils.RadixRenderableSorter;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+
+/** Renders many boxes that share a few models and materials. Touch to toggle between the {@link RadixRenderableSorter}, which
+ * groups them by material and mesh, and the default sorter. Skipping redundant binds must not change the image. The CPU time is
+ * measured by ModelBatchBenchmark. */
+public class ModelBatchStateTest extends GdxTest {
+	PerspectiveCamera cam;
+	CameraInputController inputController;
+	ModelBatch defaultBatch, radixBatch;
+	Array<Model> models = new Array();
+	Array<ModelInstance> instances = new Array();
+	Environment environment;
+	boolean radix = true;
+
+	@Override
+	public void create () {
+		defaultBatch = new ModelBatch();
+		radixBatch = new ModelBatch(new RadixRenderableSorter());
+
+		environment = new Environment();
+		environment.set(new ColorAttribute(ColorAttribute.AmbientLight, .4f, .4f, .4f, 1f));
+		environment.add(new DirectionalLight().set(0.8f, 0.8f, 0.8f, -1f, -0.8f, -0.2f));
+
+		cam = new PerspectiveCamera(67, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+		cam.position.set(30f, 30f, 30f);
+		cam.lookAt(0, 0, 0);
+		cam.near = 1f;
+		cam.far = 300f;
+		cam.update();
+
+		ModelBuilder modelBuilder = new ModelBuilder();
+		Color[] colors = {Color.RED, Color.GREEN, Color.BLUE};
+		for (Color color : colors) {
+			Material material = new Material(ColorAttribute.createDiffuse(color));
+			models.add(modelBuilder.createBox(1f, 1f, 1f, material, Usage.Position | Usage.Normal));
+			models.add(modelBuilder.createSphere(1f, 1f, 1f, 8, 8, material, Usage.Position | Usage.Normal));
+		}
+		for (int x = -20; x <= 20; x += 2)
+			for (int z = -20; z <= 20; z += 2)
+				instances.add(new ModelInstance(models.get((x + z + 40) / 2 % models.size), x, 0, z));
+
+		Gdx.input.setInputProcessor(new InputMultiplexer(this, inputController = new CameraInputController(cam)));
+	}
+
+	@Override
+	public void render () {
+		inputController.update();
+		if (Gdx.input.justTouched()) radix = !radix;
+
+		Gdx.gl.glViewport(0, 0, Gdx.graphics.getBackBufferWidth(), Gdx.graphics.getBackBufferHeight());
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT | GL20.GL_DEPTH_BUFFER_BIT);
+
+		ModelBatch modelBatch = radix ? radixBatch : defaultBatch;
+		modelBatch.begin(cam);
+		modelBatch.render(instances, environment);
+		modelBatch.end();
+	}
+
+	@Override
+	public void dispose () {
+		defaultBatch.dispose();
+		radixBatch.dispose();
+		for (Model model : models)
+			model.dispose();
+	}
+}
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.gles3;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.InputMultiplexer;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
+import com.badlogic.gdx.graphics.g3d.shaders.DefaultShader;
+import com.badlogic.gdx.graphics.g3d.utils.CameraInputController;
+import com.badlogic.gdx.graphics.g3d.utils.DefaultShaderProvider;
+import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
+import com.badlogic.gdx.graphics.g3d.utils.RadixRenderableSorter;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.tests.utils.GdxTestConfig;
+import com.badlogic.gdx.utils.Array;
+
+/** Renders a forest of trees, each a ModelInstance with a trunk and a crown. Touch to toggle between a ModelBatch that draws the
+ * trees with instanced draw calls and one that draws every part separately, the forest should look the same. See
+ * ModelBatchInstancingBenchmark for the CPU time of both. */
+@GdxTestConfig(requireGL30 = true)
+public class ModelBatchInstancingTest extends GdxTest {
+	static private final int TREES = 10000;
+
+	PerspectiveCamera cam;
+	CameraInputController inputController;
+	ModelBatch instancedBatch, modelBatch;
+	Model tree;
+	Array<ModelInstance> trees = new Array();
+	Environment environment;
+	boolean instanced = true;
+
+	@Override
+	public void create () {
+		DefaultShader.Config config = new DefaultShader.Config();
+		config.maxInstances = 1024;
+		instancedBatch = new ModelBatch(new DefaultShaderProvider(config), new RadixRenderableSorter());
+		modelBatch = new ModelBatch(new RadixRenderableSorter());
+
+		environment = new Environment();
+		environment.set(new ColorAttribute(ColorAttribute.AmbientLight, .4f, .4f, .4f, 1f));
+		environment.add(new DirectionalLight().set(0.8f, 0.8f, 0.8f, -1f, -0.8f, -0.2f));
+
+		cam = new PerspectiveCamera(67, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+		cam.position.set(60f, 40f, 60f);
+		cam.lookAt(0, 0, 0);
+		cam.near = 1f;
+		cam.far = 500f;
+		cam.update();
+
+		ModelBuilder modelBuilder = new ModelBuilder();
+		modelBuilder.begin();
+		long attributes = Usage.Position | Usage.Normal;
+		modelBuilder.node();
+		modelBuilder.part("trunk", GL20.GL_TRIANGLES, attributes, new Material(ColorAttribute.createDiffuse(Color.BROWN)))
+			.cylinder(0.3f, 2f, 0.3f, 8);
+		modelBuilder.node().translation.set(0, 2.5f, 0);
+		modelBuilder.part("crown", GL20.GL_TRIANGLES, attributes, new Material(ColorAttribute.createDiffuse(Color.FOREST)))
+			.cone(2f, 3f, 2f, 12);
+		tree = modelBuilder.end();
+
+		for (int i = 0; i < TREES; i++) {
+			ModelInstance instance = new ModelInstance(tree, MathUtils.random(-100f, 100f), 1f, MathUtils.random(-100f, 100f));
+			instance.transform.rotate(0, 1, 0, MathUtils.random(360f)).scale(1, MathUtils.random(0.7f, 1.3f), 1);
+			trees.add(instance);
+		}
+
+		Gdx.input.setInputProcessor(new InputMultiplexer(this, inputController = new CameraInputController(cam)));
+	}
+
+	@Override
+	public void render () {
+		inputController.update();
+		if (Gdx.input.justTouched()) instanced = !instanced;
+
+		Gdx.gl.glViewport(0, 0, Gdx.graphics.getBackBufferWidth(), Gdx.graphics.getBackBufferHeight());
+		Gdx.gl.glClearColor(0.5f, 0.7f, 0.9f, 1);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT | GL20.GL_DEPTH_BUFFER_BIT);
+
+		ModelBatch batch = instanced ? instancedBatch : modelBatch;
+		batch.begin(cam);
+		batch.render(trees, environment);
+		batch.end();
+	}
+
+	@Override
+	public void dispose () {
+		instancedBatch.dispose();
+		modelBatch.dispose();
+		tree.dispose();
+	}
+}
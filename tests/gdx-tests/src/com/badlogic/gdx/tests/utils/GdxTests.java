@@ -54,6 +54,7 @@ import com.badlogic.gdx.tests.g3d.AnisotropyTest;
 import com.badlogic.gdx.tests.g3d.Basic3DSceneTest;
 import com.badlogic.gdx.tests.g3d.Basic3DTest;
 import com.badlogic.gdx.tests.g3d.Benchmark3DTest;
+import com.badlogic.gdx.tests.g3d.CrowdAnimationTest;
 import com.badlogic.gdx.tests.g3d.FogTest;
 import com.badlogic.gdx.tests.g3d.FrameBufferCubemapTest;
 import com.badlogic.gdx.tests.g3d.HeightMapTest;
@@ -61,6 +62,8 @@ import com.badlogic.gdx.tests.g3d.LightsTest;
 import com.badlogic.gdx.tests.g3d.MaterialEmissiveTest;
 import com.badlogic.gdx.tests.g3d.MaterialTest;
 import com.badlogic.gdx.tests.g3d.MeshBuilderTest;
+import com.badlogic.gdx.tests.g3d.ModelBatchCullingTest;
+import com.badlogic.gdx.tests.g3d.ModelBatchStateTest;
 import com.badlogic.gdx.tests.g3d.ModelCacheTest;
 import com.badlogic.gdx.tests.g3d.ModelTest;
 import com.badlogic.gdx.tests.g3d.MultipleRenderTargetTest;
@@ -85,6 +88,7 @@ import com.badlogic.gdx.tests.gles3.GL30FrameBufferMultisampleTest;
 import com.badlogic.gdx.tests.gles3.GL30Texture3DTest;
 import com.badlogic.gdx.tests.gles3.InstancedRenderingSpriteTest;
 import com.badlogic.gdx.tests.gles3.InstancedRenderingTest;
+import com.badlogic.gdx.tests.gles3.ModelBatchInstancingTest;
 import com.badlogic.gdx.tests.gles3.ModelInstancedRenderingTest;
 import com.badlogic.gdx.tests.gles3.NonPowerOfTwoTest;
 import com.badlogic.gdx.tests.gles3.PixelBufferObjectTest;
@@ -122,6 +126,7 @@ public class GdxTests {
 		AnimationTest.class,
 		AnisotropyTest.class,
 		AnnotationTest.class,
+		ArrayParticleEmitterTest.class,
 		AssetManagerTest.class,
 		AtlasIssueTest.class,
 		AudioChangeDeviceTest.class,
@@ -150,7 +155,9 @@ public class GdxTests {
 		ColorTest.class,
 		ContainerTest.class,
 		CoordinatesTest.class,
+		CpuSpriteBatchBulkTest.class,
 		CpuSpriteBatchTest.class,
+		CrowdAnimationTest.class,
 		CullTest.class,
 		CursorTest.class,
 		DecalTest.class,
@@ -188,6 +195,7 @@ public class GdxTests {
 		GL32MultipleRenderTargetsBlendingTest.class,
 		GL32OffsetElementsTest.class,
 		GlTexImage2D.class,
+		GlyphLayoutCacheTest.class,
 		GLProfilerErrorTest.class,
 		GroupCullingTest.class,
 		GroupFadeTest.class,
@@ -203,6 +211,7 @@ public class GdxTests {
 		IndexBufferObjectShaderTest.class,
 		InputTest.class,
 		InstancedRenderingTest.class,
+		InstancedSpriteBatchTest.class,
         InstancedRenderingSpriteTest.class,
 		IntegerBitmapFontTest.class,
 		InterpolationTest.class,
@@ -222,11 +231,15 @@ public class GdxTests {
 		MeshShaderTest.class,
 		MeshWithCustomAttributesTest.class,
 		MipMapTest.class,
+		ModelBatchCullingTest.class,
+		ModelBatchStateTest.class,
 		ModelTest.class,
 		ModelCacheTest.class,
 		ModelInstancedRenderingTest.class,
+		ModelBatchInstancingTest.class,
 		MoveSpriteExample.class,
 		MultipleRenderTargetTest.class,
+		MultiTextureSpriteBatchTest.class,
 		MultitouchTest.class,
 		MusicTest.class,
 		NetAPITest.class,
@@ -275,6 +288,7 @@ public class GdxTests {
 		ShadowMappingTextureTest.class,
 		ShapeRendererTest.class,
 		ShapeRendererAlphaTest.class,
+		ShapeRendererBulkTest.class,
 		SimpleAnimationTest.class,
 		SimpleDecalTest.class,
 		SimpleStageCullingTest.class,
@@ -289,6 +303,7 @@ public class GdxTests {
 		SpriteBatchTest.class,
 		SpriteCacheOffsetTest.class,
 		SpriteCacheTest.class,
+		SpriteCacheUpdateTest.class,
 		StageDebugTest.class,
 		StagePerformanceTest.class,
 		StageTest.class,